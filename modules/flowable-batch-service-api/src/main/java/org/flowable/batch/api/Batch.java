@@ -36,4 +36,19 @@ public interface Batch {
     
     String getTenantId();
 
+    /**
+     * @return the number of parts of this batch.
+     */
+    int getPartCount();
+
+    /**
+     * @return the number of parts of this batch that have been completed, either successfully or not.
+     */
+    int getCompletedPartCount();
+
+    /**
+     * @return the number of completed parts of this batch that failed.
+     */
+    int getFailedPartCount();
+
 }
\ No newline at end of file
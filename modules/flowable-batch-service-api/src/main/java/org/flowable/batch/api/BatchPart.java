@@ -43,4 +43,9 @@ public interface BatchPart {
     String getResultDocumentJson();
     
     String getTenantId();
+
+    /**
+     * @return the partition of the batch this part belongs to. Parts of the same partition are executed together.
+     */
+    int getPartition();
 }
\ No newline at end of file
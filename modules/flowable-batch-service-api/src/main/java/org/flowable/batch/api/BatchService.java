@@ -49,6 +49,32 @@ public interface BatchService {
     
     BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType);
     
+    BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType, int partition);
+    
     BatchPart completeBatchPart(String batchPartId, String status, String resultJson);
+
+    /**
+     * Returns the parts of the given partition that are not completed yet.
+     */
+    List<BatchPart> findIncompleteBatchPartsByBatchIdAndPartition(String batchId, int partition);
+
+    /**
+     * Puts a completed batch part back in the given partition, so that it can be executed again.
+     */
+    BatchPart resetBatchPart(String batchPartId, String status, int partition);
+
+    /**
+     * Adds the given deltas to the part counters of the batch. The counters are updated directly in the database,
+     * so concurrent part executions do not need to lock or load the batch.
+     */
+    void updateBatchPartCounts(String batchId, int partCountDelta, int completedPartCountDelta, int failedPartCountDelta);
+
+    /**
+     * Sets the status and complete time of the batch when all its parts are completed according to the part counters
+     * and the batch is not completed yet. The check and the update are done in a single statement on the database.
+     *
+     * @return true if the batch was completed by this call.
+     */
+    boolean completeBatchIfAllPartsCompleted(String batchId, String status);
     
 }
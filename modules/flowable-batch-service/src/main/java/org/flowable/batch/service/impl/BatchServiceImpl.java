@@ -105,10 +105,35 @@ public class BatchServiceImpl extends CommonServiceImpl<BatchServiceConfiguratio
         return getBatchPartEntityManager().createBatchPart((BatchEntity) batch, status, scopeId, subScopeId, scopeType);
     }
     
+    @Override
+    public BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType, int partition) {
+        return getBatchPartEntityManager().createBatchPart((BatchEntity) batch, status, scopeId, subScopeId, scopeType, partition);
+    }
+    
     @Override
     public BatchPart completeBatchPart(String batchPartId, String status, String resultJson) {
         return getBatchPartEntityManager().completeBatchPart(batchPartId, status, resultJson);
     }
+
+    @Override
+    public List<BatchPart> findIncompleteBatchPartsByBatchIdAndPartition(String batchId, int partition) {
+        return getBatchPartEntityManager().findIncompleteBatchPartsByBatchIdAndPartition(batchId, partition);
+    }
+
+    @Override
+    public BatchPart resetBatchPart(String batchPartId, String status, int partition) {
+        return getBatchPartEntityManager().resetBatchPart(batchPartId, status, partition);
+    }
+
+    @Override
+    public void updateBatchPartCounts(String batchId, int partCountDelta, int completedPartCountDelta, int failedPartCountDelta) {
+        getBatchEntityManager().updateBatchPartCounts(batchId, partCountDelta, completedPartCountDelta, failedPartCountDelta);
+    }
+
+    @Override
+    public boolean completeBatchIfAllPartsCompleted(String batchId, String status) {
+        return getBatchEntityManager().completeBatchIfAllPartsCompleted(batchId, status);
+    }
     
     public Batch createBatch(BatchBuilder batchBuilder) {
         return getBatchEntityManager().createBatch(batchBuilder);
@@ -34,6 +34,9 @@ public class BatchEntityImpl extends AbstractBatchServiceEntity implements Batch
     protected String status;
     protected ByteArrayRef batchDocRefId;
     protected String tenantId;
+    protected int partCount;
+    protected int completedPartCount;
+    protected int failedPartCount;
 
     @Override
     public Object getPersistentState() {
@@ -77,6 +80,7 @@ public class BatchEntityImpl extends AbstractBatchServiceEntity implements Batch
         return completeTime;
     }
 
+    @Override
     public void setCompleteTime(Date completeTime) {
         this.completeTime = completeTime;
     }
@@ -146,6 +150,36 @@ public class BatchEntityImpl extends AbstractBatchServiceEntity implements Batch
         this.tenantId = tenantId;
     }
 
+    @Override
+    public int getPartCount() {
+        return partCount;
+    }
+
+    @Override
+    public void setPartCount(int partCount) {
+        this.partCount = partCount;
+    }
+
+    @Override
+    public int getCompletedPartCount() {
+        return completedPartCount;
+    }
+
+    @Override
+    public void setCompletedPartCount(int completedPartCount) {
+        this.completedPartCount = completedPartCount;
+    }
+
+    @Override
+    public int getFailedPartCount() {
+        return failedPartCount;
+    }
+
+    @Override
+    public void setFailedPartCount(int failedPartCount) {
+        this.failedPartCount = failedPartCount;
+    }
+
     private static ByteArrayRef setByteArrayRef(ByteArrayRef byteArrayRef, String name, String value) {
         if (byteArrayRef == null) {
             byteArrayRef = new ByteArrayRef();
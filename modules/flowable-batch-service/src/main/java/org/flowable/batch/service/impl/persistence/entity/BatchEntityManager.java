@@ -30,4 +30,8 @@ public interface BatchEntityManager extends EntityManager<BatchEntity> {
     long findBatchCountByQueryCriteria(BatchQueryImpl batchQuery);
 
     Batch createBatch(BatchBuilder batchBuilder);
+
+    void updateBatchPartCounts(String batchId, int partCountDelta, int completedPartCountDelta, int failedPartCountDelta);
+
+    boolean completeBatchIfAllPartsCompleted(String batchId, String status);
 }
\ No newline at end of file
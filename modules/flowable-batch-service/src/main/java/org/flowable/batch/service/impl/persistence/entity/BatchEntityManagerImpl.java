@@ -68,6 +68,16 @@ public class BatchEntityManagerImpl
         return batchEntity;
     }
 
+    @Override
+    public void updateBatchPartCounts(String batchId, int partCountDelta, int completedPartCountDelta, int failedPartCountDelta) {
+        dataManager.updateBatchPartCounts(batchId, partCountDelta, completedPartCountDelta, failedPartCountDelta);
+    }
+
+    @Override
+    public boolean completeBatchIfAllPartsCompleted(String batchId, String status) {
+        return dataManager.completeBatchIfAllPartsCompleted(batchId, status, getClock().getCurrentTime());
+    }
+
     @Override
     public void delete(String batchId) {
         BatchEntity batch = dataManager.findById(batchId);
@@ -49,5 +49,7 @@ public interface BatchPartEntity extends BatchPart, Entity, HasRevision {
     void setResultDocumentJson(String resultDocumentJson);
     
     void setTenantId(String tenantId);
+
+    void setPartition(int partition);
 }
 
@@ -38,6 +38,7 @@ public class BatchPartEntityImpl extends AbstractBatchServiceEntity implements B
     protected String status;
     protected ByteArrayRef resultDocRefId;
     protected String tenantId;
+    protected int partition;
 
     @Override
     public Object getPersistentState() {
@@ -53,6 +54,7 @@ public class BatchPartEntityImpl extends AbstractBatchServiceEntity implements B
         persistentState.put("batchSearchKey2", batchSearchKey2);
         persistentState.put("status", status);
         persistentState.put("tenantId", tenantId);
+        persistentState.put("partition", partition);
         
         if (resultDocRefId != null) {
             persistentState.put("resultDocRefId", resultDocRefId);
@@ -201,6 +203,16 @@ public class BatchPartEntityImpl extends AbstractBatchServiceEntity implements B
         this.tenantId = tenantId;
     }
 
+    @Override
+    public int getPartition() {
+        return partition;
+    }
+
+    @Override
+    public void setPartition(int partition) {
+        this.partition = partition;
+    }
+
     private static ByteArrayRef setByteArrayRef(ByteArrayRef byteArrayRef, String name, String value) {
         if (byteArrayRef == null) {
             byteArrayRef = new ByteArrayRef();
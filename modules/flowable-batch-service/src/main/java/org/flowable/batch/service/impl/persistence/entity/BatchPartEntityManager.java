@@ -25,9 +25,15 @@ public interface BatchPartEntityManager extends EntityManager<BatchPartEntity> {
     
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
 
+    List<BatchPart> findIncompleteBatchPartsByBatchIdAndPartition(String batchId, int partition);
+
     BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType);
+
+    BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType, int partition);
     
     BatchPartEntity completeBatchPart(String batchPartId, String status, String resultJson);
 
+    BatchPartEntity resetBatchPart(String batchPartId, String status, int partition);
+
     void deleteBatchPartEntityAndResources(BatchPartEntity batchPartEntity);
 }
\ No newline at end of file
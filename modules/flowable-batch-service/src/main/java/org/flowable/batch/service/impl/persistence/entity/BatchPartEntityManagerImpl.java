@@ -44,8 +44,18 @@ public class BatchPartEntityManagerImpl
         return dataManager.findBatchPartsByScopeIdAndType(scopeId, scopeType);
     }
 
+    @Override
+    public List<BatchPart> findIncompleteBatchPartsByBatchIdAndPartition(String batchId, int partition) {
+        return dataManager.findIncompleteBatchPartsByBatchIdAndPartition(batchId, partition);
+    }
+
     @Override
     public BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType) {
+        return createBatchPart(parentBatch, status, scopeId, subScopeId, scopeType, 0);
+    }
+
+    @Override
+    public BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType, int partition) {
         BatchPartEntity batchPartEntity = dataManager.create();
         batchPartEntity.setBatchId(parentBatch.getId());
         batchPartEntity.setBatchType(parentBatch.getBatchType());
@@ -56,6 +66,7 @@ public class BatchPartEntityManagerImpl
         batchPartEntity.setBatchSearchKey2(parentBatch.getBatchSearchKey2());
         batchPartEntity.setStatus(status);
         batchPartEntity.setCreateTime(getClock().getCurrentTime());
+        batchPartEntity.setPartition(partition);
         insert(batchPartEntity);
         
         return batchPartEntity;
@@ -71,6 +82,17 @@ public class BatchPartEntityManagerImpl
         return batchPartEntity;
     }
 
+    @Override
+    public BatchPartEntity resetBatchPart(String batchPartId, String status, int partition) {
+        BatchPartEntity batchPartEntity = getBatchPartEntityManager().findById(batchPartId);
+        batchPartEntity.setCompleteTime(null);
+        batchPartEntity.setStatus(status);
+        batchPartEntity.setResultDocumentJson(null);
+        batchPartEntity.setPartition(partition);
+
+        return batchPartEntity;
+    }
+
     @Override
     public void deleteBatchPartEntityAndResources(BatchPartEntity batchPartEntity) {
         ByteArrayRef resultDocRefId = batchPartEntity.getResultDocRefId();
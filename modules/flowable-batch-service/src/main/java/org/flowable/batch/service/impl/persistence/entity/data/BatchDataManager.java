@@ -12,6 +12,7 @@
  */
 package org.flowable.batch.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.batch.api.Batch;
@@ -28,4 +29,8 @@ public interface BatchDataManager extends DataManager<BatchEntity> {
     List<Batch> findBatchesByQueryCriteria(BatchQueryImpl batchQuery);
     
     long findBatchCountByQueryCriteria(BatchQueryImpl batchQuery);
+
+    void updateBatchPartCounts(String batchId, int partCountDelta, int completedPartCountDelta, int failedPartCountDelta);
+
+    boolean completeBatchIfAllPartsCompleted(String batchId, String status, Date completeTime);
 }
@@ -25,4 +25,6 @@ public interface BatchPartDataManager extends DataManager<BatchPartEntity> {
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
+
+    List<BatchPart> findIncompleteBatchPartsByBatchIdAndPartition(String batchId, int partition);
 }
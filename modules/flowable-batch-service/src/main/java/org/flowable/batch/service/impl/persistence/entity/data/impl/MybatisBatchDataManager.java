@@ -12,6 +12,7 @@
  */
 package org.flowable.batch.service.impl.persistence.entity.data.impl;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 
@@ -60,4 +61,25 @@ public class MybatisBatchDataManager extends AbstractDataManager<BatchEntity> im
     public long findBatchCountByQueryCriteria(BatchQueryImpl batchQuery) {
         return (Long) getDbSqlSession().selectOne("selectBatchCountByQueryCriteria", batchQuery);
     }
+
+    @Override
+    public void updateBatchPartCounts(String batchId, int partCountDelta, int completedPartCountDelta, int failedPartCountDelta) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        params.put("partCountDelta", partCountDelta);
+        params.put("completedPartCountDelta", completedPartCountDelta);
+        params.put("failedPartCountDelta", failedPartCountDelta);
+
+        getDbSqlSession().update("updateBatchPartCounts", params);
+    }
+
+    @Override
+    public boolean completeBatchIfAllPartsCompleted(String batchId, String status, Date completeTime) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        params.put("status", status);
+        params.put("completeTime", completeTime);
+
+        return getDbSqlSession().update("completeBatchIfAllPartsCompleted", params) > 0;
+    }
 }
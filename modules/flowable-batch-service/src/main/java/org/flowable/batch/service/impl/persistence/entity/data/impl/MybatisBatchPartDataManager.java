@@ -61,4 +61,14 @@ public class MybatisBatchPartDataManager extends AbstractDataManager<BatchPartEn
         
         return getDbSqlSession().selectList("selectBatchPartsByScopeIdAndType", params);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BatchPart> findIncompleteBatchPartsByBatchIdAndPartition(String batchId, int partition) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        params.put("partition", partition);
+
+        return getDbSqlSession().selectList("selectIncompleteBatchPartsByBatchIdAndPartition", params);
+    }
 }
@@ -9,6 +9,9 @@ create table FLW_RU_BATCH (
     STATUS_ varchar(255),
     BATCH_DOC_ID_ varchar(64),
     TENANT_ID_ varchar(255) default '',
+    PART_COUNT_ integer,
+    COMPLETED_PART_COUNT_ integer,
+    FAILED_PART_COUNT_ integer,
     primary key (ID_)
 );
 
@@ -27,14 +30,16 @@ create table FLW_RU_BATCH_PART (
     STATUS_ varchar(255),
     RESULT_DOC_ID_ varchar(64),
     TENANT_ID_ varchar(255) default '',
+    PARTITION_ integer,
     primary key (ID_)
 );
 
 create index FLW_IDX_BATCH_PART on FLW_RU_BATCH_PART(BATCH_ID_);
+create index FLW_IDX_BATCH_PART_PARTITION on FLW_RU_BATCH_PART(BATCH_ID_, PARTITION_);
 
 alter table FLW_RU_BATCH_PART
     add constraint FLW_FK_BATCH_PART_PARENT
     foreign key (BATCH_ID_)
     references FLW_RU_BATCH (ID_);
 
-insert into ACT_GE_PROPERTY values ('batch.schema.version', '6.5.1.5', 1);
+insert into ACT_GE_PROPERTY values ('batch.schema.version', '6.5.1.6', 1);
@@ -1,4 +1,5 @@
 drop index FLW_IDX_BATCH_PART;
+drop index FLW_IDX_BATCH_PART_PARTITION;
 
 drop table FLW_RU_BATCH_PART;
 drop table FLW_RU_BATCH;
\ No newline at end of file
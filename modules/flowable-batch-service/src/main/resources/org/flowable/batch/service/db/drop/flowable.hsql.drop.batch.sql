@@ -1,4 +1,5 @@
 drop table if exists FLW_RU_BATCH_PART cascade constraints;
 drop table if exists FLW_RU_BATCH cascade constraints;
 
-drop index if exists FLW_IDX_BATCH_PART;
\ No newline at end of file
+drop index if exists FLW_IDX_BATCH_PART;
+drop index if exists FLW_IDX_BATCH_PART_PARTITION;
\ No newline at end of file
@@ -1,4 +1,5 @@
 IF EXISTS (SELECT name FROM sysindexes WHERE name = 'FLW_IDX_BATCH_PART') drop index FLW_RU_BATCH_PART.FLW_IDX_BATCH_PART;
+IF EXISTS (SELECT name FROM sysindexes WHERE name = 'FLW_IDX_BATCH_PART_PARTITION') drop index FLW_RU_BATCH_PART.FLW_IDX_BATCH_PART_PARTITION;
 
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'FLW_RU_BATCH_PART') drop table FLW_RU_BATCH_PART;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'FLW_RU_BATCH') drop table FLW_RU_BATCH;
\ No newline at end of file
@@ -0,0 +1 @@
+update ACT_GE_PROPERTY set VALUE_ = '6.5.1.6' where NAME_ = 'batch.schema.version';
@@ -0,0 +1,6 @@
+alter table FLW_RU_BATCH add column PART_COUNT_ integer;
+alter table FLW_RU_BATCH add column COMPLETED_PART_COUNT_ integer;
+alter table FLW_RU_BATCH add column FAILED_PART_COUNT_ integer;
+alter table FLW_RU_BATCH_PART add column PARTITION_ integer;
+
+create index FLW_IDX_BATCH_PART_PARTITION on FLW_RU_BATCH_PART(BATCH_ID_, PARTITION_);
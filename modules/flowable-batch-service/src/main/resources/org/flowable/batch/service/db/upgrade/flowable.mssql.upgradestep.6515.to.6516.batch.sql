@@ -0,0 +1,6 @@
+alter table FLW_RU_BATCH add PART_COUNT_ int;
+alter table FLW_RU_BATCH add COMPLETED_PART_COUNT_ int;
+alter table FLW_RU_BATCH add FAILED_PART_COUNT_ int;
+alter table FLW_RU_BATCH_PART add PARTITION_ int;
+
+create index FLW_IDX_BATCH_PART_PARTITION on FLW_RU_BATCH_PART(BATCH_ID_, PARTITION_);
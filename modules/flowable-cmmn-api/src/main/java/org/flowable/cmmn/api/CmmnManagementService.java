@@ -235,6 +235,12 @@ public interface CmmnManagementService {
     String getExternalWorkerJobErrorDetails(String jobId);
     
     void handleHistoryCleanupTimerJob();
+
+    /**
+     * Recreates the task candidate index (ACT_RU_TASK_CANDIDATE) from the candidate identity links of all runtime tasks.
+     * Needed when the task candidate index is enabled on a database that already contains tasks.
+     */
+    void rebuildTaskCandidateIndex();
     
     /**
      * Returns a new HistoryJobQuery implementation, that can be used to dynamically query the history jobs.
@@ -16,6 +16,7 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.query.DeleteQuery;
 import org.flowable.common.engine.api.query.Query;
@@ -321,4 +322,11 @@ public interface HistoricCaseInstanceQuery extends Query<HistoricCaseInstanceQue
     HistoricCaseInstanceQuery orderByEndTime();
     HistoricCaseInstanceQuery orderByTenantId();
     
+
+    /**
+     * Executes the query and returns the historic case instances as a stream, ordered by id, that fetches them in batches while it is consumed.
+     * Each batch is fetched in its own transaction, so that large results can be processed without holding them in memory.
+     * No other order than the id order can be used.
+     */
+    Stream<HistoricCaseInstance> stream();
 }
@@ -15,6 +15,7 @@ package org.flowable.cmmn.api.runtime;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.query.Query;
 
@@ -227,4 +228,10 @@ public interface CaseInstanceQuery extends Query<CaseInstanceQuery, CaseInstance
     CaseInstanceQuery orderByStartTime();
     CaseInstanceQuery orderByTenantId();
 
+    /**
+     * Executes the query and returns the case instances as a stream, ordered by id, that fetches them in batches while it is consumed.
+     * Each batch is fetched in its own transaction, so that large results can be processed without holding them in memory.
+     * No other order than the id order can be used.
+     */
+    Stream<CaseInstance> stream();
 }
@@ -374,6 +374,14 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
             planItem.getExitDependencies().forEach(exitDependency -> exitDependency.addExitDependentPlanItem(planItem));
         }
 
+        // Reverse index from source plan item and transition to the criteria listening to it, used to limit sentry evaluation at runtime
+        // (the plan item criteria also contain the criteria generated for timer start triggers)
+        processDependentCriteria(conversionHelper.getEntryCriteria());
+        processDependentCriteria(conversionHelper.getExitCriteria());
+        for (PlanItem planItem : conversionHelper.getPlanItems()) {
+            processDependentCriteria(planItem.getEntryCriteria());
+        }
+
         processCriteria(cmmnModel, conversionHelper.getEntryCriteria());
         processCriteria(cmmnModel, conversionHelper.getExitCriteria());
 
@@ -425,6 +433,20 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
         }
     }
 
+    protected void processDependentCriteria(List<Criterion> criteria) {
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry != null) {
+                for (SentryOnPart onPart : sentry.getOnParts()) {
+                    PlanItem source = onPart.getSource();
+                    if (source != null && onPart.getStandardEvent() != null) {
+                        source.addDependentCriterion(onPart.getStandardEvent(), criterion);
+                    }
+                }
+            }
+        }
+    }
+
     protected void processCriteria(CmmnModel cmmnModel, List<Criterion> criteria) {
         for (Criterion criterion : criteria) {
             // Every criterion is potentially a target of an association
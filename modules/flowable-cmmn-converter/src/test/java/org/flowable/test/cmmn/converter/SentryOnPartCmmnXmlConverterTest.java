@@ -81,6 +81,12 @@ public class SentryOnPartCmmnXmlConverterTest extends AbstractConverterTest {
                         tuple("sentryOnPart1", "planItem1", "occur")
                 );
 
+        assertThat(planItemTimer.getDependentCriteria("occur"))
+                .extracting(Criterion::getId)
+                .containsExactly("timedTaskExitSentry");
+        assertThat(planItemTimer.getDependentCriteria("create")).isEmpty();
+        assertThat(planItemTimedTask.getDependentCriteria()).isEmpty();
+
         assertThat(cmmnModel.getAssociations())
                 .extracting(Association::getId, Association::getSourceRef, Association::getTargetRef, Association::getTransitionEvent)
                 .containsOnly(
@@ -99,6 +99,12 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
 
             processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager()
                     .registerScopedInternalJobManager(ScopeTypes.CMMN, cmmnEngineConfiguration.getJobServiceConfiguration().getInternalJobManager());
+
+            // Long-poll acquisitions through either engine should be woken up by external worker jobs created by both engines.
+            // The shared notifier is shut down when the process engine is closed.
+            cmmnEngineConfiguration.getJobServiceConfiguration()
+                    .setExternalWorkerJobNotifier(processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobNotifier())
+                    .setShutdownExternalWorkerJobNotifierOnClose(false);
         }
 
         JobServiceConfiguration engineJobServiceConfiguration = getJobServiceConfiguration(engineConfiguration);
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngines;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.api.AcquiredExternalWorkerJob;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
+import org.junit.Test;
+
+public class CmmnEngineConfiguratorExternalWorkerNotifierTest {
+
+    @Test
+    public void testCloseEnginesWhileAcquisitionWaits() throws Exception {
+        ProcessEngine processEngine = ProcessEngineConfiguration.createProcessEngineConfigurationFromResource("flowable.async.cfg.xml").buildProcessEngine();
+        CmmnEngine cmmnEngine = CmmnEngines.getDefaultCmmnEngine();
+
+        ExternalWorkerJobNotifier notifier = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration())
+                .getJobServiceConfiguration().getExternalWorkerJobNotifier();
+        assertThat(cmmnEngine.getCmmnEngineConfiguration().getJobServiceConfiguration().getExternalWorkerJobNotifier()).isSameAs(notifier);
+
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = cmmnEngine.getCmmnManagementService()
+                .createExternalWorkerJobAcquireBuilder()
+                .topic("notifierCloseTopic", Duration.ofMinutes(30))
+                .acquireAndLockAsync(4, "testWorker", 5, Duration.ofMinutes(10));
+        assertThat(acquiredJobsFuture).isNotDone();
+
+        // The notifier is shared with the process engine, closing the cmmn engine does not shut it down
+        cmmnEngine.close();
+        assertThat(notifier.isShutdown()).isFalse();
+        assertThat(acquiredJobsFuture).isNotDone();
+
+        processEngine.close();
+        assertThat(notifier.isShutdown()).isTrue();
+        assertThat(acquiredJobsFuture.get(10, TimeUnit.SECONDS)).isEmpty();
+        assertThat(notifier.getScheduledExecutorService().awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+}
@@ -388,6 +388,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int caseDefinitionCacheLimit = -1;
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
+    /**
+     * When a case definition is not found in the case definition cache, by default only the CMMN resource of that case definition is fetched and parsed.
+     * When set to true, the complete deployment is redeployed instead (all resources are fetched and all deployers are invoked).
+     */
+    protected boolean redeployOnCaseDefinitionCacheMiss;
+
     protected CmmnParser cmmnParser;
     protected List<CmmnParseHandler> preCmmnParseHandlers;
     protected List<CmmnParseHandler> postCmmnParseHandlers;
@@ -453,6 +459,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected InternalTaskAssignmentManager internalTaskAssignmentManager;
     protected IdentityLinkEventHandler identityLinkEventHandler;
     protected boolean isEnableTaskRelationshipCounts = true;
+    protected boolean enableTaskCandidateIndex;
     protected int taskQueryLimit = 20000;
     protected int historicTaskQueryLimit = 20000;
 
@@ -778,6 +785,29 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     
     protected EventRegistryEventConsumer eventRegistryEventConsumer;
 
+    /**
+     * When enabled, sentry if-parts (in the default trigger mode) of plan item instances that existed before the current transaction
+     * are only evaluated again when they read a variable written in the current transaction, as their outcome can't have changed otherwise.
+     * Conditions of which not every identifier is a variable (e.g. beans, 'planItemInstance' or functions) are always evaluated.
+     * Note that changes made to a variable value object in place, without setting the variable, can't be detected.
+     */
+    protected boolean sentryIfPartEvaluationOnVariableChangeOnly;
+
+    /**
+     * When enabled, a node-local index of the event subscriptions is kept, so that events received through the event registry
+     * without any matching event subscription don't need to query the event subscription table.
+     * Event subscriptions created by other nodes are only taken into account after the next reconciliation of the index,
+     * events matching only such event subscriptions are not delivered until then. Hence this is disabled by default and should
+     * only be enabled when all event subscriptions are created by the same node, or when other nodes call
+     * {@link org.flowable.eventsubscription.service.impl.EventSubscriptionIndex#invalidate()} on every node after creating event subscriptions.
+     */
+    protected boolean enableEventSubscriptionIndex;
+
+    /**
+     * The interval (in milliseconds) after which the event subscription index is reconciled with the database.
+     */
+    protected long eventSubscriptionIndexReconciliationInterval = 60000L;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -1541,6 +1571,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
+        this.taskServiceConfiguration.setEnableTaskCandidateIndex(this.enableTaskCandidateIndex);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
 
@@ -1565,6 +1596,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.identityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
         this.identityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.identityLinkServiceConfiguration.setIdentityLinkEventHandler(this.identityLinkEventHandler);
+        this.identityLinkServiceConfiguration.setEnableTaskCandidateIndex(this.enableTaskCandidateIndex);
 
         this.identityLinkServiceConfiguration.init();
 
@@ -1600,6 +1632,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        this.eventSubscriptionServiceConfiguration.setEnableEventSubscriptionIndex(this.enableEventSubscriptionIndex);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionIndexReconciliationInterval(this.eventSubscriptionIndexReconciliationInterval);
         
         this.eventSubscriptionServiceConfiguration.init();
 
@@ -2432,6 +2466,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isRedeployOnCaseDefinitionCacheMiss() {
+        return redeployOnCaseDefinitionCacheMiss;
+    }
+
+    public CmmnEngineConfiguration setRedeployOnCaseDefinitionCacheMiss(boolean redeployOnCaseDefinitionCacheMiss) {
+        this.redeployOnCaseDefinitionCacheMiss = redeployOnCaseDefinitionCacheMiss;
+        return this;
+    }
+
     public ProcessInstanceService getProcessInstanceService() {
         return processInstanceService;
     }
@@ -2762,6 +2805,19 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    /**
+     * Maintains the ACT_RU_TASK_CANDIDATE index table for candidate users and groups of tasks and uses it for candidate task queries.
+     * Should be enabled on all engines sharing the database; existing candidates can be indexed with CmmnManagementService#rebuildTaskCandidateIndex().
+     */
+    public CmmnEngineConfiguration setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+        return this;
+    }
+
     public int getTaskQueryLimit() {
         return taskQueryLimit;
     }
@@ -3736,6 +3792,38 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isSentryIfPartEvaluationOnVariableChangeOnly() {
+        return sentryIfPartEvaluationOnVariableChangeOnly;
+    }
+
+    public CmmnEngineConfiguration setSentryIfPartEvaluationOnVariableChangeOnly(boolean sentryIfPartEvaluationOnVariableChangeOnly) {
+        this.sentryIfPartEvaluationOnVariableChangeOnly = sentryIfPartEvaluationOnVariableChangeOnly;
+        return this;
+    }
+
+    @Override
+    public boolean isVariableChangeTrackingEnabled() {
+        return sentryIfPartEvaluationOnVariableChangeOnly;
+    }
+
+    public boolean isEnableEventSubscriptionIndex() {
+        return enableEventSubscriptionIndex;
+    }
+
+    public CmmnEngineConfiguration setEnableEventSubscriptionIndex(boolean enableEventSubscriptionIndex) {
+        this.enableEventSubscriptionIndex = enableEventSubscriptionIndex;
+        return this;
+    }
+
+    public long getEventSubscriptionIndexReconciliationInterval() {
+        return eventSubscriptionIndexReconciliationInterval;
+    }
+
+    public CmmnEngineConfiguration setEventSubscriptionIndexReconciliationInterval(long eventSubscriptionIndexReconciliationInterval) {
+        this.eventSubscriptionIndexReconciliationInterval = eventSubscriptionIndexReconciliationInterval;
+        return this;
+    }
+
     public TaskPostProcessor getTaskPostProcessor() {
         return taskPostProcessor;
     }
@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl;
 
+import java.util.stream.Collectors;
+
 import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.api.CmmnManagementService;
 import org.flowable.cmmn.api.CmmnMigrationService;
@@ -19,12 +21,14 @@ import org.flowable.cmmn.api.CmmnRepositoryService;
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
 import org.flowable.cmmn.api.DynamicCmmnService;
+import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.engine.CmmnEngine;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.CmmnEngines;
 import org.flowable.cmmn.engine.impl.cmd.ClearCaseInstanceLockTimesCmd;
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.deploy.DefinitionCacheWarmUp;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +72,14 @@ public class CmmnEngineImpl implements CmmnEngine {
             commandExecutor.execute(cmmnEngineConfiguration.getSchemaCommandConfig(), cmmnEngineConfiguration.getSchemaManagementCmd());
         }
 
+        if (cmmnEngineConfiguration.isEnableDefinitionCacheWarmUp()) {
+            new DefinitionCacheWarmUp(cmmnEngineConfiguration, "case definition",
+                    () -> cmmnRepositoryService.createCaseDefinitionQuery().latestVersion().list().stream()
+                            .map(CaseDefinition::getId)
+                            .collect(Collectors.toList()),
+                    cmmnRepositoryService::getCmmnModel).start();
+        }
+
         LOGGER.info("CmmnEngine {} created", name);
         
         CmmnEngines.registerCmmnEngine(this);
@@ -119,6 +131,9 @@ public class CmmnEngineImpl implements CmmnEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (cmmnEngineConfiguration.getJobServiceConfiguration() != null) {
+            cmmnEngineConfiguration.getJobServiceConfiguration().close();
+        }
 
         cmmnEngineConfiguration.close();
 
@@ -21,6 +21,7 @@ import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.cmd.GetTableCountsCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetTableNamesCmd;
 import org.flowable.cmmn.engine.impl.cmd.HandleHistoryCleanupTimerJobCmd;
+import org.flowable.cmmn.engine.impl.cmd.RebuildTaskCandidateIndexCmd;
 import org.flowable.cmmn.engine.impl.runtime.CmmnExternalWorkerTransitionBuilderImpl;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -196,6 +197,11 @@ public class CmmnManagementServiceImpl extends CommonEngineServiceImpl<CmmnEngin
     public void handleHistoryCleanupTimerJob() {
         commandExecutor.execute(new HandleHistoryCleanupTimerJobCmd());
     }
+
+    @Override
+    public void rebuildTaskCandidateIndex() {
+        commandExecutor.execute(new RebuildTaskCandidateIndexCmd());
+    }
     
     @Override
     public HistoryJobQuery createHistoryJobQuery() {
@@ -204,7 +210,7 @@ public class CmmnManagementServiceImpl extends CommonEngineServiceImpl<CmmnEngin
 
     @Override
     public ExternalWorkerJobAcquireBuilder createExternalWorkerJobAcquireBuilder() {
-        return new ExternalWorkerJobAcquireBuilderImpl(commandExecutor);
+        return new ExternalWorkerJobAcquireBuilderImpl(commandExecutor, configuration.getJobServiceConfiguration());
     }
 
     @Override
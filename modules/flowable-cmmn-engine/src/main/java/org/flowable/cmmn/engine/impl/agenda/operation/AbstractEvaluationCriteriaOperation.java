@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,6 +28,7 @@ import org.flowable.cmmn.converter.util.CriterionUtil;
 import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
+import org.flowable.cmmn.engine.impl.cmd.EvaluateCriteriaCmd;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
@@ -56,6 +58,7 @@ import org.flowable.cmmn.model.SignalEventListener;
 import org.flowable.cmmn.model.Stage;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.VariableChangeTrackingUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -485,9 +488,59 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return false;
     }
 
+    /**
+     * Uses the reverse index of the plan item of the current life cycle event (see {@link PlanItem#getDependentCriteria(String)}), built at
+     * deployment time, to determine whether evaluating the given criteria could have any effect. A criterion is affected when its sentry has
+     * an if-part, when one of its on-parts listens to the current life cycle event or when it has on-parts satisfied before
+     * (which is only looked up when known to be cheap, otherwise the criterion is considered affected).
+     *
+     * @return false, if none of the criteria can become satisfied in this evaluation and evaluating them can be skipped
+     */
+    protected boolean isAnyCriterionAffected(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria) {
+        List<Criterion> criteriaDependingOnEvent = null;
+        if (planItemLifeCycleEvent != null) {
+            criteriaDependingOnEvent = planItemLifeCycleEvent.getPlanItem().getDependentCriteria(planItemLifeCycleEvent.getTransition());
+        }
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry == null || sentry.getSentryIfPart() != null || sentry.getOnParts().isEmpty()) {
+                return true;
+            }
+
+            if (criteriaDependingOnEvent != null && containsCriterion(criteriaDependingOnEvent, criterion)) {
+                return true;
+            }
+
+            if (sentry.getOnParts().size() > 1 && !hasNoSatisfiedSentryParts(entityWithSentryPartInstances)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean containsCriterion(List<Criterion> criteria, Criterion criterion) {
+        for (Criterion candidate : criteria) {
+            // generated criteria (e.g. for timer start triggers) don't have an id
+            if (candidate == criterion || (candidate.getId() != null && candidate.getId().equals(criterion.getId()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasNoSatisfiedSentryParts(EntityWithSentryPartInstances entityWithSentryPartInstances) {
+        // only for plan item instances the count of persisted sentry parts is known without fetching them
+        if (entityWithSentryPartInstances instanceof CountingPlanItemInstanceEntity) {
+            return ((CountingPlanItemInstanceEntity) entityWithSentryPartInstances).getSentryPartInstanceCount() == 0
+                && entityWithSentryPartInstances.getSatisfiedSentryPartInstances().isEmpty();
+        }
+        return false;
+    }
+
     protected Criterion evaluateEntryCriteria(PlanItemInstanceEntity planItemInstanceEntity, PlanItem planItem) {
         List<Criterion> criteria = planItem.getEntryCriteria();
-        if (criteria != null && !criteria.isEmpty()) {
+        if (criteria != null && !criteria.isEmpty() && isAnyCriterionAffected(planItemInstanceEntity, criteria)) {
             return evaluateCriteria(planItemInstanceEntity, criteria);
         }
         return null;
@@ -496,7 +549,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     // EntityWithSentryPartInstances -> can be used for both case instance and plan item instance
     protected Criterion evaluateExitCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, HasExitCriteria hasExitCriteria) {
         List<Criterion> criteria = hasExitCriteria.getExitCriteria();
-        if (criteria != null && !criteria.isEmpty()) {
+        if (criteria != null && !criteria.isEmpty() && isAnyCriterionAffected(entityWithSentryPartInstances, criteria)) {
             return evaluateCriteria(entityWithSentryPartInstances, criteria);
         }
         return null;
@@ -718,6 +771,13 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected boolean evaluateSentryIfPart(EntityWithSentryPartInstances entityWithSentryPartInstances, Sentry sentry, VariableContainer variableContainer) {
         try {
             Expression conditionExpression = CommandContextUtil.getExpressionManager(commandContext).createExpression(sentry.getSentryIfPart().getCondition());
+            if (!isSentryIfPartAffectedByVariableChanges(entityWithSentryPartInstances, sentry, conditionExpression, variableContainer)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Skipping evaluation of sentry if condition {} for {}, none of its variables changed", sentry.getSentryIfPart().getCondition(), entityWithSentryPartInstances);
+                }
+                return false;
+            }
+
             Object result = conditionExpression.getValue(variableContainer);
 
             if (LOGGER.isDebugEnabled()) {
@@ -737,6 +797,39 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return false;
     }
 
+    /**
+     * When {@link CmmnEngineConfiguration#isSentryIfPartEvaluationOnVariableChangeOnly()} is enabled, an if-part that was evaluated (to false)
+     * in a previous transaction doesn't need to be evaluated again when none of the variables it reads has changed since.
+     * An explicit evaluation through {@link EvaluateCriteriaCmd} always evaluates all if-parts.
+     */
+    protected boolean isSentryIfPartAffectedByVariableChanges(EntityWithSentryPartInstances entityWithSentryPartInstances, Sentry sentry,
+            Expression conditionExpression, VariableContainer variableContainer) {
+
+        // only plan item instances are known to have been evaluated before: sentries resolved against the case instance
+        // might belong to plan items that don't have an instance yet
+        if (!CommandContextUtil.getCmmnEngineConfiguration(commandContext).isSentryIfPartEvaluationOnVariableChangeOnly()
+                || commandContext.getAttribute(EvaluateCriteriaCmd.ATTRIBUTE_EXPLICIT_CRITERIA_EVALUATION) != null
+                || !sentry.isDefaultTriggerMode()
+                || !(entityWithSentryPartInstances instanceof PlanItemInstanceEntity)) {
+            return true;
+        }
+
+        // a plan item instance created or moved to another state in this transaction didn't have its criteria evaluated in that state yet
+        PlanItemInstanceEntity planItemInstanceEntity = (PlanItemInstanceEntity) entityWithSentryPartInstances;
+        Object originalPersistentState = planItemInstanceEntity.getOriginalPersistentState();
+        if (planItemInstanceEntity.isInserted() || !(originalPersistentState instanceof Map)
+                || !Objects.equals(((Map<?, ?>) originalPersistentState).get("state"), planItemInstanceEntity.getState())) {
+            return true;
+        }
+
+        // a repetition might depend on other variables than the if-part, so the satisfied if-part is needed for the next instance
+        if (ExpressionUtil.hasRepetitionRule(planItemInstanceEntity)) {
+            return true;
+        }
+
+        return VariableChangeTrackingUtil.isAffectedByVariableChanges(conditionExpression, variableContainer, commandContext);
+    }
+
     protected Criterion evaluateDependentPlanItemEntryCriteria(PlanItem entryDependentPlanItem) {
         List<Criterion> entryCriteria = entryDependentPlanItem.getEntryCriteria();
         if (!entryCriteria.isEmpty()) {
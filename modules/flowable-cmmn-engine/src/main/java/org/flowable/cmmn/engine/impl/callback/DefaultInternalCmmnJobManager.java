@@ -13,8 +13,15 @@
 package org.flowable.cmmn.engine.impl.callback;
 
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
@@ -23,6 +30,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManage
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.logging.CmmnLoggingSessionConstants;
@@ -32,6 +40,7 @@ import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -52,6 +61,50 @@ public class DefaultInternalCmmnJobManager extends ScopeAwareInternalJobManager
         return null;
     }
 
+    @Override
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(List<Job> jobs, Collection<String> variableNames) {
+        // The variables visible from a plan item instance are its local variables and the variables of its case instance,
+        // which are fetched for all jobs in one query
+        Set<String> caseInstanceIds = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getSubScopeId() != null && job.getScopeId() != null) {
+                caseInstanceIds.add(job.getScopeId());
+            }
+        }
+
+        if (caseInstanceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService()
+                .createInternalVariableInstanceQuery()
+                .scopeIds(caseInstanceIds)
+                .scopeType(ScopeTypes.CMMN)
+                .withoutTaskId()
+                .names(variableNames)
+                .list();
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        for (Job job : jobs) {
+            if (job.getSubScopeId() == null || job.getScopeId() == null) {
+                continue;
+            }
+
+            Map<String, Object> variables = new HashMap<>();
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                if (job.getScopeId().equals(variableInstance.getScopeId())) {
+                    String subScopeId = variableInstance.getSubScopeId();
+                    if (job.getSubScopeId().equals(subScopeId) || (subScopeId == null && !variables.containsKey(variableInstance.getName()))) {
+                        variables.put(variableInstance.getName(), variableInstance.getValue());
+                    }
+                }
+            }
+            variablesByJobId.put(job.getId(), variables);
+        }
+
+        return variablesByJobId;
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // Currently, nothing extra needed (but counting relationships can be added later here).
@@ -93,6 +146,12 @@ public class DefaultInternalCmmnJobManager extends ScopeAwareInternalJobManager
         }
     }
 
+    @Override
+    protected void extendJobScopeLockInternal(Job job) {
+        JobInfoEntity jobEntity = (JobInfoEntity) job;
+        cmmnEngineConfiguration.getCaseInstanceEntityManager().extendLockTime(job.getScopeId(), jobEntity.getLockOwner(), jobEntity.getLockExpirationTime());
+    }
+
     @Override
     protected void clearJobScopeLockInternal(Job job) {
         CaseInstanceEntityManager caseInstanceEntityManager = cmmnEngineConfiguration.getCaseInstanceEntityManager();
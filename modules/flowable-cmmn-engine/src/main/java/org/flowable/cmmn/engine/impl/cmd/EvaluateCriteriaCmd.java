@@ -20,6 +20,11 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
  * @author Joram Barrez
  */
 public class EvaluateCriteriaCmd implements Command<Void> {
+
+    /**
+     * Command context attribute marking an explicit evaluation, in which all sentry if-parts are evaluated.
+     */
+    public static final String ATTRIBUTE_EXPLICIT_CRITERIA_EVALUATION = "explicitCriteriaEvaluation";
     
     protected String caseInstanceId;
     
@@ -29,6 +34,7 @@ public class EvaluateCriteriaCmd implements Command<Void> {
 
     @Override
     public Void execute(CommandContext commandContext) {
+        commandContext.addAttribute(ATTRIBUTE_EXPLICIT_CRITERIA_EVALUATION, Boolean.TRUE);
         CommandContextUtil.getAgenda(commandContext).planEvaluateCriteriaOperation(caseInstanceId);
         return null;
     }
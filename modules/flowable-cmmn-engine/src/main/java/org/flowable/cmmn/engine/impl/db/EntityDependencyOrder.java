@@ -37,6 +37,7 @@ import org.flowable.eventsubscription.service.impl.persistence.entity.MessageEve
 import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
+import org.flowable.identitylink.service.impl.persistence.entity.TaskCandidateIndexEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityImpl;
@@ -75,6 +76,7 @@ public class EntityDependencyOrder {
         DELETE_ORDER.add(GenericEventSubscriptionEntityImpl.class);
         DELETE_ORDER.add(EventSubscriptionEntityImpl.class);
         DELETE_ORDER.add(EntityLinkEntityImpl.class);
+        DELETE_ORDER.add(TaskCandidateIndexEntityImpl.class);
         DELETE_ORDER.add(IdentityLinkEntityImpl.class);
         DELETE_ORDER.add(TaskEntityImpl.class);
         DELETE_ORDER.add(MilestoneInstanceEntityImpl.class);
@@ -98,6 +98,26 @@ public class CmmnDeployer implements EngineDeployer {
         updateCachingAndArtifacts(parseResult);
     }
 
+    /**
+     * Parses a single CMMN resource of an already persisted deployment and adds its case definitions to the cache.
+     * Contrary to {@link #deploy(EngineDeployment, Map)} with a deployment that is not new, the other resources of the deployment
+     * are not fetched nor parsed, which makes this suited for resolving a case definition after a cache miss.
+     */
+    public void resolveCaseDefinitionsOfResource(CmmnDeploymentEntity deployment, EngineResource resource) {
+        LOGGER.debug("Resolving case definitions of resource {} of deployment {}", resource.getName(), deployment.getId());
+
+        CmmnParseResult parseResult = new CmmnParseResult(deployment);
+        parseResult.merge(cmmnParser.parse(resource));
+
+        copyDeploymentValuesToCaseDefinitions(parseResult.getDeployment(), parseResult.getAllCaseDefinitions());
+        setResourceNamesOnCaseDefinitions(parseResult);
+
+        // The diagram resource name is taken from the persisted case definition, as determining it requires all deployment resources
+        makeCaseDefinitionsConsistentWithPersistedVersions(parseResult);
+
+        updateCachingAndArtifacts(parseResult);
+    }
+
     public static boolean isCmmnResource(String resourceName) {
         for (String suffix : CMMN_RESOURCE_SUFFIXES) {
             if (resourceName.endsWith(suffix)) {
@@ -230,6 +250,9 @@ public class CmmnDeployer implements EngineDeployer {
                 caseDefinition.setVersion(persistedCaseDefinition.getVersion());
                 caseDefinition.setHasStartFormKey(persistedCaseDefinition.hasStartFormKey());
                 caseDefinition.setHasGraphicalNotation(persistedCaseDefinition.hasGraphicalNotation());
+                if (caseDefinition.getDiagramResourceName() == null) {
+                    caseDefinition.setDiagramResourceName(persistedCaseDefinition.getDiagramResourceName());
+                }
             }
         }
     }
@@ -22,6 +22,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityManager;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionQueryImpl;
 import org.flowable.common.engine.api.FlowableException;
@@ -105,7 +106,9 @@ public class CmmnDeploymentManager {
         if (cachedCaseDefinition == null) {
             CmmnDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
-            deploy(deployment, null);
+            if (!resolveCaseDefinitionResource(deployment, caseDefinition)) {
+                deploy(deployment, null);
+            }
             cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
 
             if (cachedCaseDefinition == null) {
@@ -114,6 +117,28 @@ public class CmmnDeploymentManager {
         }
         return cachedCaseDefinition;
     }
+
+    /**
+     * Parses only the CMMN resource of the given case definition, instead of redeploying all resources of the deployment.
+     *
+     * @return false if the case definition could not be resolved this way and the complete deployment needs to be redeployed.
+     */
+    protected boolean resolveCaseDefinitionResource(CmmnDeploymentEntity deployment, CaseDefinition caseDefinition) {
+        CmmnDeployer cmmnDeployer = cmmnEngineConfiguration.getCmmnDeployer();
+        if (cmmnEngineConfiguration.isRedeployOnCaseDefinitionCacheMiss() || cmmnDeployer == null
+                || !deployers.contains(cmmnDeployer) || caseDefinition.getResourceName() == null) {
+            return false;
+        }
+
+        CmmnResourceEntity resource = cmmnEngineConfiguration.getCmmnResourceEntityManager()
+                .findResourceByDeploymentIdAndResourceName(deployment.getId(), caseDefinition.getResourceName());
+        if (resource == null) {
+            return false;
+        }
+
+        cmmnDeployer.resolveCaseDefinitionsOfResource(deployment, resource);
+        return caseDefinitionCache.contains(caseDefinition.getId());
+    }
     
     public void removeDeployment(String deploymentId) {
         removeDeployment(deploymentId, true);
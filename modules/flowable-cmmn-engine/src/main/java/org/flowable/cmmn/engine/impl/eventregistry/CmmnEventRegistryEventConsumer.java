@@ -16,6 +16,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.runtime.CaseInstanceBuilder;
@@ -31,6 +33,7 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,24 +59,13 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
     }
 
     @Override
-    protected void eventReceived(EventInstance eventInstance) {
-
-        // Fetching the event subscriptions happens in one transaction,
-        // executing them one per subscription. There is no overarching transaction.
-        // The reason for this is that the handling of one event subscription
-        // should not influence (i.e. roll back) the handling of another.
-
-        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
-        List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.CMMN, eventInstance, correlationKeys);
-        CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
-        for (EventSubscription eventSubscription : eventSubscriptions) {
-            handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys);
-        }
-
+    protected String getEventSubscriptionScopeType() {
+        return ScopeTypes.CMMN;
     }
 
-    protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
-            EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
 
         if (eventSubscription.getSubScopeId() != null) {
 
@@ -139,6 +131,17 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected boolean mightHaveEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        EventSubscriptionIndex eventSubscriptionIndex = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionIndex();
+        if (eventSubscriptionIndex == null) {
+            return true;
+        }
+
+        Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        return eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, eventInstance.getEventKey(), scopeType, correlationKeyValues);
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor);
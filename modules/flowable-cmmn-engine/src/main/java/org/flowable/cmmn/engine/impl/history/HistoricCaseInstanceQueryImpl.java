@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
@@ -468,6 +469,11 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
 
     // results ////////////////////////////////////////////////////
 
+    @Override
+    public Stream<HistoricCaseInstance> stream() {
+        return streamOrderedById(HistoricCaseInstance::getId);
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
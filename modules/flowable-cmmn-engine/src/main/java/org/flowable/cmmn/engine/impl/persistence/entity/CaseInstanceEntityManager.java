@@ -40,6 +40,13 @@ public interface CaseInstanceEntityManager extends EntityManager<CaseInstanceEnt
 
     void updateLockTime(String caseInstanceId, String lockOwner, Date lockTime);
 
+    /**
+     * Moves the lock time of a case instance that is locked by the given lock owner.
+     *
+     * @throws org.flowable.common.engine.api.FlowableOptimisticLockingException when the case instance is no longer locked by the lock owner
+     */
+    void extendLockTime(String caseInstanceId, String lockOwner, Date lockTime);
+
     void clearLockTime(String caseInstanceId);
 
     void clearAllLockTimes(String lockOwner);
@@ -224,6 +224,11 @@ public class CaseInstanceEntityManagerImpl
         dataManager.updateLockTime(caseInstanceId, lockTime, lockOwner, expirationTime);
     }
 
+    @Override
+    public void extendLockTime(String caseInstanceId, String lockOwner, Date lockTime) {
+        dataManager.extendLockTime(caseInstanceId, lockTime, lockOwner);
+    }
+
     @Override
     public void clearLockTime(String caseInstanceId) {
         dataManager.clearLockTime(caseInstanceId);
@@ -37,6 +37,8 @@ public interface CaseInstanceDataManager extends DataManager<CaseInstanceEntity>
 
     void updateLockTime(String caseInstanceId, Date lockDate, String lockOwner, Date expirationTime);
 
+    void extendLockTime(String caseInstanceId, Date lockDate, String lockOwner);
+
     void clearLockTime(String caseInstanceId);
 
     void clearAllLockTimes(String lockOwner);
@@ -220,6 +220,19 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         }
     }
 
+    @Override
+    public void extendLockTime(String caseInstanceId, Date lockDate, String lockOwner) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("id", caseInstanceId);
+        params.put("lockTime", lockDate);
+        params.put("lockOwner", lockOwner);
+
+        int result = getDbSqlSession().update("extendCaseInstanceLockTime", params);
+        if (result == 0) {
+            throw new FlowableOptimisticLockingException("Could not extend the lock of case instance " + caseInstanceId + ", it is no longer locked by " + lockOwner);
+        }
+    }
+
     @Override
     public void clearLockTime(String caseInstanceId) {
         HashMap<String, Object> params = new HashMap<>();
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.entry;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -159,6 +160,39 @@ public class ExternalWorkerServiceTaskTest extends FlowableCmmnTestCase {
                 .containsExactlyInAnyOrder("afterExternalWorkerCompleteTask");
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.cmmn")
+    public void testAcquireWithVariableNames() {
+        CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("description", "The frog")
+                .start();
+
+        CaseInstance caseInstance2 = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("simpleExternalWorker")
+                .variable("name", "fozzie")
+                .variable("description", "The bear")
+                .start();
+
+        ExternalWorkerJob externalWorkerJob2 = cmmnManagementService.createExternalWorkerJobQuery().caseInstanceId(caseInstance2.getId()).singleResult();
+        cmmnRuntimeService.setLocalVariable(externalWorkerJob2.getSubScopeId(), "name", "gonzo");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = cmmnManagementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Arrays.asList("name", "unknown"))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs).hasSize(2);
+        Map<String, Map<String, Object>> variablesByCaseInstanceId = new HashMap<>();
+        for (AcquiredExternalWorkerJob acquiredJob : acquiredJobs) {
+            variablesByCaseInstanceId.put(acquiredJob.getScopeId(), acquiredJob.getVariables());
+        }
+
+        assertThat(variablesByCaseInstanceId.get(caseInstance1.getId())).containsOnly(entry("name", "kermit"));
+        assertThat(variablesByCaseInstanceId.get(caseInstance2.getId())).containsOnly(entry("name", "gonzo"));
+    }
+
     @Test
     @CmmnDeployment(resources = "org/flowable/cmmn/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.cmmn")
     public void testSimpleSimpleWithVariables() {
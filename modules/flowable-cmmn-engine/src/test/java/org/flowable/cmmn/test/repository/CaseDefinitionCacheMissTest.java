@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CaseDefinitionCacheMissTest extends FlowableCmmnTestCase {
+
+    protected String deploymentId;
+
+    @Before
+    public void deployCases() {
+        deploymentId = cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/repository/simple-case.cmmn")
+                .addClasspathResource("org/flowable/cmmn/test/repository/simple-case2.cmmn")
+                .deploy()
+                .getId();
+    }
+
+    @After
+    public void deleteCases() {
+        cmmnEngineConfiguration.setRedeployOnCaseDefinitionCacheMiss(false);
+        cmmnRepositoryService.deleteDeployment(deploymentId, true);
+    }
+
+    @Test
+    public void testOnlyResourceOfCaseDefinitionIsResolved() {
+        DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache = cmmnEngineConfiguration.getCaseDefinitionCache();
+        CaseDefinition caseDefinition1 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("myCase").singleResult();
+        CaseDefinition caseDefinition2 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("myCase2").singleResult();
+
+        caseDefinitionCache.clear();
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").start();
+        assertThat(caseInstance.getCaseDefinitionId()).isEqualTo(caseDefinition1.getId());
+
+        assertThat(caseDefinitionCache.contains(caseDefinition1.getId())).isTrue();
+        assertThat(caseDefinitionCache.contains(caseDefinition2.getId())).isFalse();
+
+        assertThat(cmmnRepositoryService.getCmmnModel(caseDefinition2.getId()).getPrimaryCase().getId()).isEqualTo("myCase2");
+        CaseDefinition cachedCaseDefinition2 = caseDefinitionCache.get(caseDefinition2.getId()).getCaseDefinition();
+        assertThat(cachedCaseDefinition2.getVersion()).isEqualTo(caseDefinition2.getVersion());
+        assertThat(cachedCaseDefinition2.getResourceName()).isEqualTo("org/flowable/cmmn/test/repository/simple-case2.cmmn");
+        assertThat(cachedCaseDefinition2.getDiagramResourceName()).isEqualTo(caseDefinition2.getDiagramResourceName());
+    }
+
+    @Test
+    public void testRedeployOnCaseDefinitionCacheMiss() {
+        cmmnEngineConfiguration.setRedeployOnCaseDefinitionCacheMiss(true);
+
+        DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache = cmmnEngineConfiguration.getCaseDefinitionCache();
+        CaseDefinition caseDefinition1 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("myCase").singleResult();
+        CaseDefinition caseDefinition2 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("myCase2").singleResult();
+
+        caseDefinitionCache.clear();
+
+        cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").start();
+
+        assertThat(caseDefinitionCache.contains(caseDefinition1.getId())).isTrue();
+        assertThat(caseDefinitionCache.contains(caseDefinition2.getId())).isTrue();
+    }
+
+}
@@ -64,6 +64,30 @@ public class CaseInstanceQueryImplTest extends FlowableCmmnTestCase {
         cmmnRepositoryService.deleteDeployment(deplId, true);
     }
 
+    @Test
+    public void streamCaseInstancesInBatches() {
+        int originalQueryStreamBatchSize = cmmnEngineConfiguration.getQueryStreamBatchSize();
+        cmmnEngineConfiguration.setQueryStreamBatchSize(2);
+        try {
+            for (int i = 0; i < 4; i++) {
+                cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+            }
+
+            List<String> caseInstanceIds = cmmnRuntimeService.createCaseInstanceQuery().list().stream()
+                    .map(CaseInstance::getId)
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertThat(cmmnRuntimeService.createCaseInstanceQuery().stream().map(CaseInstance::getId).collect(Collectors.toList()))
+                    .hasSize(5)
+                    .isEqualTo(caseInstanceIds);
+            assertThat(cmmnRuntimeService.createCaseInstanceQuery().caseDefinitionKey("oneTaskCase").stream()).hasSize(4);
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseDefinitionKey("oneTaskCase").stream()).hasSize(4);
+
+        } finally {
+            cmmnEngineConfiguration.setQueryStreamBatchSize(originalQueryStreamBatchSize);
+        }
+    }
+
     @Test
     public void getCaseInstanceByCaseDefinitionKey() {
         CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
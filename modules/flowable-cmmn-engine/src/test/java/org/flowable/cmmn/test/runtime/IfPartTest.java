@@ -135,6 +135,54 @@ public class IfPartTest extends FlowableCmmnTestCase {
         assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().count()).isEqualTo(2);
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/IfPartTest.testManualEvaluateCriteria.cmmn")
+    public void testIfPartOnlyEvaluatedOnVariableChange() {
+        cmmnEngineConfiguration.setSentryIfPartEvaluationOnVariableChangeOnly(true);
+        try {
+            TestBean.RETURN_VALUE = false;
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("testManualEvaluateCriteria")
+                    .variable("someBean", new TestBean())
+                    .start();
+            assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().count()).isEqualTo(1);
+
+            // The variable read by the if-part didn't change, so the if-part isn't evaluated again
+            TestBean.RETURN_VALUE = true;
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "otherVariable", "test");
+            assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().count()).isEqualTo(1);
+
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "someBean", new TestBean());
+            assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().count()).isEqualTo(2);
+
+        } finally {
+            cmmnEngineConfiguration.setSentryIfPartEvaluationOnVariableChangeOnly(false);
+            TestBean.RETURN_VALUE = false;
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/IfPartTest.testManualEvaluateCriteria.cmmn")
+    public void testIfPartAlwaysEvaluatedOnExplicitEvaluation() {
+        cmmnEngineConfiguration.setSentryIfPartEvaluationOnVariableChangeOnly(true);
+        try {
+            TestBean.RETURN_VALUE = false;
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("testManualEvaluateCriteria")
+                    .variable("someBean", new TestBean())
+                    .start();
+            assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().count()).isEqualTo(1);
+
+            TestBean.RETURN_VALUE = true;
+            cmmnRuntimeService.evaluateCriteria(caseInstance.getId());
+            assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().count()).isEqualTo(2);
+
+        } finally {
+            cmmnEngineConfiguration.setSentryIfPartEvaluationOnVariableChangeOnly(false);
+            TestBean.RETURN_VALUE = false;
+        }
+    }
+
     @Test
     @CmmnDeployment
     public void testMultipleOnParts() {
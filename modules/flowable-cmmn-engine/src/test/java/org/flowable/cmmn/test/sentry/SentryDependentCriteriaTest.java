@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+/**
+ * Sentry evaluation is limited to the criteria listening to the transition that happened (see PlanItem#getDependentCriteria).
+ * These tests verify that criteria of plan items in other (nested) stages than the source of the transition are still evaluated.
+ */
+public class SentryDependentCriteriaTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment
+    public void testNestedStages() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("nestedStages").start();
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("A");
+
+        // Entry criterion of a stage, activating its nested stage
+        completeTask(caseInstance, "A");
+        assertThat(getActivePlanItemInstanceNames(caseInstance)).containsExactlyInAnyOrder("Stage 1", "Stage 2", "B", "E");
+
+        // Entry criterion within the nested stage
+        completeTask(caseInstance, "B");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("C", "E");
+
+        // Entry criterion in the case plan model, listening to a plan item of the nested stage
+        completeTask(caseInstance, "C");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("D", "E");
+        assertThat(getActivePlanItemInstanceNames(caseInstance)).containsExactlyInAnyOrder("Stage 1", "D", "E");
+
+        // Exit criterion of the outer stage, listening to a plan item of the case plan model
+        completeTask(caseInstance, "D");
+        assertThat(getActiveTaskNames(caseInstance)).isEmpty();
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    @Test
+    @CmmnDeployment
+    public void testCrossStageSentryWithMultipleOnParts() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("crossStageSentry").start();
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("W", "X", "Y");
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceName("Z").singleResult().getState())
+                .isEqualTo(PlanItemInstanceState.AVAILABLE);
+
+        // The first on-part is satisfied by a plan item of the case plan model, the sentry is only remembered
+        completeTask(caseInstance, "X");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("W", "Y");
+
+        // The second on-part is satisfied by a plan item of another stage
+        completeTask(caseInstance, "Y");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("W", "Z");
+
+        // Exit criterion of the case plan model, listening to a plan item two stages deep
+        completeTask(caseInstance, "Z");
+        assertThat(getActiveTaskNames(caseInstance)).isEmpty();
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected void completeTask(CaseInstance caseInstance, String name) {
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+        cmmnTaskService.complete(task.getId());
+    }
+
+    protected List<String> getActiveTaskNames(CaseInstance caseInstance) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list()
+                .stream().map(Task::getName).collect(Collectors.toList());
+    }
+
+    protected List<String> getActivePlanItemInstanceNames(CaseInstance caseInstance) {
+        return cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().list()
+                .stream().map(PlanItemInstance::getName).collect(Collectors.toList());
+    }
+
+}
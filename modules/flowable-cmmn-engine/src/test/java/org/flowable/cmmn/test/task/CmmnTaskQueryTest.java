@@ -13,6 +13,7 @@
 package org.flowable.cmmn.test.task;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +23,8 @@ import org.flowable.cmmn.api.repository.CmmnDeployment;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.api.query.ProjectionRecord;
+import org.flowable.common.engine.api.query.QueryProjection;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.task.api.Task;
 import org.junit.Before;
@@ -49,6 +52,26 @@ public class CmmnTaskQueryTest extends FlowableCmmnTestCase {
         assertThat(cmmnTaskService.createTaskQuery().list()).hasSize(NR_CASE_INSTANCES);
     }
 
+    @Test
+    public void testProjectionWithCaseVariables() {
+        List<CaseInstance> caseInstances = cmmnRuntimeService.createCaseInstanceQuery().list();
+        for (CaseInstance caseInstance : caseInstances) {
+            Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+            cmmnTaskService.setVariableLocal(task.getId(), "index", -1);
+        }
+
+        List<ProjectionRecord> records = cmmnTaskService.createTaskQuery()
+                .orderByTaskId().asc()
+                .listProjection(QueryProjection.select("name", "scopeId").variables("index"));
+
+        assertThat(records).hasSize(NR_CASE_INSTANCES);
+        for (ProjectionRecord record : records) {
+            String caseInstanceId = (String) record.getField("scopeId");
+            assertThat(record.getField("name")).isEqualTo("The Task");
+            assertThat(record.getVariables()).containsOnly(entry("index", cmmnRuntimeService.getVariable(caseInstanceId, "index")));
+        }
+    }
+
     @Test
     public void testQueryByCaseInstanceId() {
         List<CaseInstance> caseInstances = cmmnRuntimeService.createCaseInstanceQuery().list();
@@ -13,8 +13,11 @@
 package org.flowable.cmmn.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -55,6 +58,13 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
      * Said differently: this list of plan items have an exit criteria that references this plan item.
      */
     protected List<PlanItem> exitDependentPlanItems = new ArrayList<>();
+
+    /**
+     * A reverse index of all {@link Criterion}s (entry or exit, on any plan item, stage or the plan model) having an on-part
+     * that references this plan item, keyed by the standard event (transition) of that on-part.
+     * Said differently: when this plan item goes through a given transition, only these criteria can get a newly satisfied on-part.
+     */
+    protected Map<String, List<Criterion>> dependentCriteria = new HashMap<>();
     
     protected Object behavior;
 
@@ -208,6 +218,25 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
         }
     }
 
+    public Map<String, List<Criterion>> getDependentCriteria() {
+        return dependentCriteria;
+    }
+
+    public void setDependentCriteria(Map<String, List<Criterion>> dependentCriteria) {
+        this.dependentCriteria = dependentCriteria;
+    }
+
+    public List<Criterion> getDependentCriteria(String standardEvent) {
+        return dependentCriteria.getOrDefault(standardEvent, Collections.emptyList());
+    }
+
+    public void addDependentCriterion(String standardEvent, Criterion criterion) {
+        List<Criterion> criteria = dependentCriteria.computeIfAbsent(standardEvent, key -> new ArrayList<>());
+        if (!criteria.contains(criterion)) {
+            criteria.add(criterion);
+        }
+    }
+
     public List<PlanItem> getAllDependentPlanItems() {
         List<PlanItem> allDependentPlanItems = new ArrayList<>(entryDependentPlanItems.size() + exitDependentPlanItems.size());
         allDependentPlanItems.addAll(entryDependentPlanItems);
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPaginatedQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 
@@ -77,11 +78,22 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getAfterId() == null) {
+            paginateRequest.setAfterId(requestParams.get("afterId"));
+        }
+
+        if (paginateRequest.getAfterValue() == null) {
+            paginateRequest.setAfterValue(requestParams.get("afterValue"));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
     /**
      * Uses the pagination attributes perform the querying and render the response.
+     * When an {@code afterId} is given, the page after that result is returned (keyset pagination), the start is ignored
+     * and the total is the number of results after the given result, so it decreases from page to page.
+     * Clients that need the number of all results take the total of the first page, which is requested without {@code afterId}.
      *
      * @param paginateRequest The paginated request that is used to get the pagination parameters from
      * @param query The query to get the paged list from
@@ -130,6 +142,15 @@ public interface PaginateListUtil {
             }
         }
 
+        // Keyset pagination
+        if (paginateRequest.getAfterId() != null) {
+            if (!(query instanceof KeysetPaginatedQuery)) {
+                throw new FlowableIllegalArgumentException("Param 'afterId' is not supported for this resource");
+            }
+            ((KeysetPaginatedQuery<?>) query).after(paginateRequest.getAfterValue(), paginateRequest.getAfterId());
+            start = 0;
+        }
+
         DataResponse<RES> response = new DataResponse<>();
         response.setStart(start);
         response.setSort(sort);
@@ -29,6 +29,17 @@ public class PaginateRequest {
 
     protected String order;
 
+    /**
+     * The id of the last result of the previous page, for keyset pagination. When set, the start is ignored
+     * and the total of the response is the number of results after the given result instead of the number of all results.
+     */
+    protected String afterId;
+
+    /**
+     * The value of the sort property of the last result of the previous page, for keyset pagination.
+     */
+    protected String afterValue;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +71,20 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
+
+    public String getAfterValue() {
+        return afterValue;
+    }
+
+    public void setAfterValue(String afterValue) {
+        this.afterValue = afterValue;
+    }
 }
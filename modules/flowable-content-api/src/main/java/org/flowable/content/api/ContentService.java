@@ -27,6 +27,16 @@ public interface ContentService {
 
     InputStream getContentItemData(String contentItemId);
 
+    /**
+     * Returns a stream to read a range of the data of the content item, for example to serve HTTP range requests.
+     *
+     * @param start
+     *            the position of the first byte to read
+     * @param length
+     *            the maximum number of bytes to read, a negative value reads until the end of the data
+     */
+    InputStream getContentItemData(String contentItemId, long start, long length);
+
     void deleteContentItem(String contentItemId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.AbstractEngineConfigurator;
 import org.flowable.common.engine.impl.EngineDeployer;
+import org.flowable.common.engine.impl.IndependentEngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.content.engine.ContentEngine;
@@ -29,7 +30,7 @@ import org.flowable.content.engine.impl.db.EntityDependencyOrder;
  * @author Tijs Rademakers
  * @author Joram Barrez
  */
-public class ContentEngineConfigurator extends AbstractEngineConfigurator {
+public class ContentEngineConfigurator extends AbstractEngineConfigurator implements IndependentEngineConfigurator {
 
     protected ContentEngineConfiguration contentEngineConfiguration;
     
@@ -50,14 +51,24 @@ public class ContentEngineConfigurator extends AbstractEngineConfigurator {
 
     @Override
     public void configure(AbstractEngineConfiguration engineConfiguration) {
+        prepareEngineConfiguration(engineConfiguration);
+        buildEngine(engineConfiguration);
+    }
+
+    @Override
+    public AbstractEngineConfiguration prepareEngineConfiguration(AbstractEngineConfiguration engineConfiguration) {
         if (contentEngineConfiguration == null) {
             contentEngineConfiguration = new StandaloneContentEngineConfiguration();
         }
-        
+
         initialiseCommonProperties(engineConfiguration, contentEngineConfiguration);
+        return contentEngineConfiguration;
+    }
 
+    @Override
+    public void buildEngine(AbstractEngineConfiguration engineConfiguration) {
         initContentEngine();
-        
+
         initServiceConfigurations(engineConfiguration, contentEngineConfiguration);
     }
     
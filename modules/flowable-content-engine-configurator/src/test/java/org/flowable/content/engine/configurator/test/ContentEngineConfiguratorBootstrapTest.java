@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.configurator.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.flowable.common.engine.impl.LazyEngineConfigurationMap;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.content.api.ContentItem;
+import org.flowable.content.api.ContentService;
+import org.flowable.content.engine.ContentEngineConfiguration;
+import org.flowable.content.engine.configurator.ContentEngineConfigurator;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.junit.After;
+import org.junit.Test;
+
+public class ContentEngineConfiguratorBootstrapTest {
+
+    protected ProcessEngine processEngine;
+
+    @After
+    public void closeProcessEngine() {
+        if (processEngine != null) {
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testLazyContentEngine() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration("lazy");
+        processEngineConfiguration.setLazyEngineConfigurationKeys(Collections.singleton(EngineConfigurationConstants.KEY_CONTENT_ENGINE_CONFIG));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        LazyEngineConfigurationMap engineConfigurations = (LazyEngineConfigurationMap) processEngineConfiguration.getEngineConfigurations();
+        assertTrue(engineConfigurations.isLazyEnginePending(EngineConfigurationConstants.KEY_CONTENT_ENGINE_CONFIG));
+
+        ContentEngineConfiguration contentEngineConfiguration = (ContentEngineConfiguration) engineConfigurations
+                .get(EngineConfigurationConstants.KEY_CONTENT_ENGINE_CONFIG);
+        assertFalse(engineConfigurations.isLazyEnginePending(EngineConfigurationConstants.KEY_CONTENT_ENGINE_CONFIG));
+        assertContentServiceUsable(contentEngineConfiguration.getContentService());
+    }
+
+    @Test
+    public void testLazyContentEngineRetrievedWithinCommand() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration("lazyCommand");
+        processEngineConfiguration.setLazyEngineConfigurationKeys(Collections.singleton(EngineConfigurationConstants.KEY_CONTENT_ENGINE_CONFIG));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        // The engine is built on the retrieving thread, while the command of the process engine is open
+        ContentEngineConfiguration contentEngineConfiguration = processEngine.getManagementService().executeCommand(commandContext -> {
+            processEngine.getRuntimeService().createProcessInstanceQuery().count();
+            ContentEngineConfiguration configuration = (ContentEngineConfiguration) commandContext.getEngineConfigurations()
+                    .get(EngineConfigurationConstants.KEY_CONTENT_ENGINE_CONFIG);
+            assertSame(commandContext, Context.getCommandContext());
+            return configuration;
+        });
+
+        assertNotNull(contentEngineConfiguration);
+        assertContentServiceUsable(contentEngineConfiguration.getContentService());
+    }
+
+    @Test
+    public void testParallelConfiguratorInitialization() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration("parallel");
+        processEngineConfiguration.setParallelConfiguratorInitialization(true);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        ContentEngineConfiguration contentEngineConfiguration = (ContentEngineConfiguration) processEngineConfiguration.getEngineConfigurations()
+                .get(EngineConfigurationConstants.KEY_CONTENT_ENGINE_CONFIG);
+        assertNotNull(contentEngineConfiguration);
+        assertContentServiceUsable(contentEngineConfiguration.getContentService());
+    }
+
+    protected ProcessEngineConfigurationImpl createProcessEngineConfiguration(String name) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-content-" + name);
+        processEngineConfiguration.setEngineName(getClass().getName() + "-" + name);
+        processEngineConfiguration.setForceCloseMybatisConnectionPool(true);
+        processEngineConfiguration.addConfigurator(new ContentEngineConfigurator());
+        return processEngineConfiguration;
+    }
+
+    protected void assertContentServiceUsable(ContentService contentService) {
+        assertNotNull(contentService);
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("test");
+        contentService.saveContentItem(contentItem);
+        assertEquals(1, contentService.createContentItemQuery().count());
+        contentService.deleteContentItem(contentItem.getId());
+    }
+
+}
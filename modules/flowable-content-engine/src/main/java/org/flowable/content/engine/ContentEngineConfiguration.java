@@ -43,6 +43,7 @@ import org.flowable.content.engine.impl.cfg.StandaloneInMemContentEngineConfigur
 import org.flowable.content.engine.impl.cmd.SchemaOperationsContentEngineBuild;
 import org.flowable.content.engine.impl.db.ContentDbSchemaManager;
 import org.flowable.content.engine.impl.db.EntityDependencyOrder;
+import org.flowable.content.engine.impl.fs.ShardedFileSystemContentStorage;
 import org.flowable.content.engine.impl.fs.SimpleFileSystemContentStorage;
 import org.flowable.content.engine.impl.persistence.entity.ContentItemEntityManager;
 import org.flowable.content.engine.impl.persistence.entity.ContentItemEntityManagerImpl;
@@ -73,6 +74,12 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
     protected String contentRootFolder;
     protected boolean createContentRootFolder = true;
 
+    /**
+     * Whether the content is stored in hashed subfolders of the root folder (with deduplication of identical content)
+     * instead of in one folder per process instance, task or case. See {@link ShardedFileSystemContentStorage}.
+     */
+    protected boolean shardedContentStorage;
+
     // ENTITY MANAGERS /////////////////////////////////////////////////
     protected ContentItemEntityManager contentItemEntityManager;
 
@@ -188,7 +195,11 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
                 logger.info("Content file system root : {}", contentRootFile.getAbsolutePath());
             }
 
-            contentStorage = new SimpleFileSystemContentStorage(contentRootFile);
+            if (shardedContentStorage) {
+                contentStorage = new ShardedFileSystemContentStorage(contentRootFile);
+            } else {
+                contentStorage = new SimpleFileSystemContentStorage(contentRootFile);
+            }
         }
     }
 
@@ -459,6 +470,15 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
         return this;
     }
 
+    public boolean isShardedContentStorage() {
+        return shardedContentStorage;
+    }
+
+    public ContentEngineConfiguration setShardedContentStorage(boolean shardedContentStorage) {
+        this.shardedContentStorage = shardedContentStorage;
+        return this;
+    }
+
     @Override
     public ContentEngineConfiguration setSqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
         this.sqlSessionFactory = sqlSessionFactory;
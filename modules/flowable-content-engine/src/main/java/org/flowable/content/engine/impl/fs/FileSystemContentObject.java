@@ -15,8 +15,13 @@ package org.flowable.content.engine.impl.fs;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
+import org.apache.commons.io.input.BoundedInputStream;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorageException;
 
@@ -68,4 +73,27 @@ public class FileSystemContentObject implements ContentObject {
         return inputStream;
     }
 
+    /**
+     * @param start
+     *            the position of the first byte to read
+     * @param length
+     *            the maximum number of bytes to read, a negative value reads until the end of the content
+     * @return a new input stream reading the given range of the content. The caller should close the stream after usage.
+     */
+    public InputStream getContent(long start, long length) {
+        try {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            channel.position(start);
+            InputStream rangeStream = Channels.newInputStream(channel);
+            return length < 0 ? rangeStream : new BoundedInputStream(rangeStream, length);
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while opening file channel", e);
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
 }
@@ -0,0 +1,404 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.uuid.EthernetAddress;
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedGenerator;
+
+/**
+ * {@link ContentStorage} that spreads the content files over hashed subfolders of the root folder,
+ * so that the number of files per folder stays small, independent of the amount of content.
+ * <p>
+ * Every content object gets a new UUID as id. The folders of a content file are derived from a hash of that id,
+ * using two hexadecimal characters per level (for example {@code root/3f/a9/<id>} for a depth of 2).
+ * <p>
+ * Content is written and read through NIO file channels. While content is written, a SHA-256 digest is computed.
+ * When deduplication is enabled, a digest index is kept in the {@value #DIGEST_FOLDER} folder and content that is identical
+ * to already stored content is stored as a hard link to the existing file instead of as a new copy.
+ * Updating or deleting a content object only replaces or removes its own link, so the other content objects are not affected.
+ * When the file system doesn't support hard links, the content is stored without deduplication.
+ * <p>
+ * The content objects using a digest are tracked explicitly: every digest has a references folder with a marker file per content object,
+ * and every deduplicated content file has a sibling file holding its digest. The digest is removed together with its last reference,
+ * also when deduplication has been disabled in the meantime, without relying on file system specific link counts.
+ */
+public class ShardedFileSystemContentStorage implements ContentStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedFileSystemContentStorage.class);
+
+    private static TimeBasedGenerator UUID_GENERATOR = Generators.timeBasedGenerator(EthernetAddress.fromInterface());
+
+    public static final String DIGEST_FOLDER = "digests";
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final String TEMP_SUFFIX = "_TEMP";
+    private static final String LINK_SUFFIX = "_LINK";
+    private static final String DIGEST_SUFFIX = "_DIGEST";
+    public static final String DIGEST_REFERENCES_SUFFIX = "_REFS";
+
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
+    protected Path rootFolder;
+    protected int depth;
+    protected volatile boolean deduplication;
+
+    public ShardedFileSystemContentStorage(File contentFolderRoot) {
+        this(contentFolderRoot, 2, true);
+    }
+
+    /**
+     * @param contentFolderRoot
+     *            root folder where all content will be stored in
+     * @param depth
+     *            number of folder levels (at most 16) between the root folder and the content files, every level has at most 256 subfolders
+     * @param deduplication
+     *            whether identical content should be stored only once
+     */
+    public ShardedFileSystemContentStorage(File contentFolderRoot, int depth, boolean deduplication) {
+        if (depth < 0 || depth > 16) {
+            throw new FlowableIllegalArgumentException("The depth of the content folders must be between 0 and 16");
+        }
+        this.rootFolder = contentFolderRoot.toPath();
+        this.depth = depth;
+        this.deduplication = deduplication;
+    }
+
+    @Override
+    public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        String id = UUID_GENERATOR.generate().toString();
+        return storeContent(id, contentStream);
+    }
+
+    @Override
+    public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        getExistingContentPath(id);
+        return storeContent(id, contentStream);
+    }
+
+    @Override
+    public ContentObject getContentObject(String id) {
+        return new FileSystemContentObject(getExistingContentPath(id).toFile(), id);
+    }
+
+    @Override
+    public Map<String, Object> getMetaData() {
+        // Currently not yet supported
+        return null;
+    }
+
+    @Override
+    public void deleteContentObject(String id) {
+        Path contentPath = getExistingContentPath(id);
+        try {
+            releaseDigest(id, contentPath);
+            Files.delete(contentPath);
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while deleting content with id: " + id, e);
+        }
+    }
+
+    @Override
+    public String getContentStoreName() {
+        return "file";
+    }
+
+    /**
+     * Writes the content to a temporary file next to the content file and moves it in place once it is written completely,
+     * so that a failed write never leaves a partial content file behind.
+     * The digest of the replaced content is released before the new content is moved in place.
+     */
+    protected ContentObject storeContent(String id, InputStream contentStream) {
+        Path contentPath = getContentPath(id);
+        Path tempPath = contentPath.resolveSibling(id + TEMP_SUFFIX);
+        Path linkPath = contentPath.resolveSibling(id + LINK_SUFFIX);
+
+        try {
+            Files.createDirectories(contentPath.getParent());
+            try {
+                Files.createFile(tempPath);
+            } catch (FileAlreadyExistsException e) {
+                // Temporary file already exists, being updated by another thread
+                throw new ContentStorageException("Cannot update content with id: " + id + ", being updated by another user");
+            }
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while writing content with id: " + id, e);
+        }
+
+        try {
+            MessageDigest messageDigest = createMessageDigest();
+            long length = writeContent(new DigestInputStream(contentStream, messageDigest), tempPath);
+
+            String digest = toHex(messageDigest.digest());
+            releaseDigest(id, contentPath);
+
+            boolean linked = deduplication && linkToExistingContent(id, digest, linkPath, length);
+            Files.move(linked ? linkPath : tempPath, contentPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            boolean registered = !linked && deduplication && registerDigest(id, digest, contentPath);
+            if (linked || registered) {
+                Files.write(getDigestReferencePath(id, contentPath), digest.getBytes(StandardCharsets.UTF_8));
+            }
+
+            return new FileSystemContentObject(contentPath.toFile(), id, length);
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while writing content with id: " + id, e);
+
+        } finally {
+            deleteQuietly(tempPath);
+            deleteQuietly(linkPath);
+        }
+    }
+
+    protected long writeContent(InputStream contentStream, Path path) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(contentStream);
+                FileChannel target = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            long position = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * @return true if the written content is identical to already stored content and a link to that content was created at the link path
+     */
+    protected boolean linkToExistingContent(String id, String digest, Path linkPath, long length) throws IOException {
+        Path digestPath = getDigestPath(digest);
+        try {
+            if (!Files.exists(digestPath) || Files.size(digestPath) != length) {
+                return false;
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+
+        // The reference is added before linking, so that a concurrent release of the digest doesn't remove it
+        if (!addDigestReference(id, digest)) {
+            return false;
+        }
+
+        try {
+            Files.createLink(linkPath, digestPath);
+            return true;
+
+        } catch (NoSuchFileException e) {
+            // The digest was removed concurrently, the written content is stored instead
+            removeDigestReference(id, digest);
+            return false;
+
+        } catch (IOException | UnsupportedOperationException e) {
+            removeDigestReference(id, digest);
+            disableDeduplication(e);
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the content file was registered as the content of the digest
+     */
+    protected boolean registerDigest(String id, String digest, Path contentPath) throws IOException {
+        Path digestPath = getDigestPath(digest);
+        Files.createDirectories(digestPath.getParent());
+        if (!addDigestReference(id, digest)) {
+            return false;
+        }
+
+        try {
+            Files.createLink(digestPath, contentPath);
+            return true;
+
+        } catch (FileAlreadyExistsException | NoSuchFileException e) {
+            // Identical content was stored concurrently, this content simply isn't shared
+            removeDigestReference(id, digest);
+            return false;
+
+        } catch (IOException | UnsupportedOperationException e) {
+            removeDigestReference(id, digest);
+            disableDeduplication(e);
+            return false;
+        }
+    }
+
+    /**
+     * @return false if the reference could not be added because the digest was released concurrently
+     */
+    protected boolean addDigestReference(String id, String digest) throws IOException {
+        Path referencesPath = getDigestReferencesPath(digest);
+        try {
+            Files.createDirectories(referencesPath);
+            Files.createFile(referencesPath.resolve(id));
+            return true;
+
+        } catch (FileAlreadyExistsException e) {
+            return true;
+
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Releases the digest used by the given content file, if any. The digest itself is removed
+     * when the content file was the last content object using it.
+     */
+    protected void releaseDigest(String id, Path contentPath) throws IOException {
+        Path digestReferencePath = getDigestReferencePath(id, contentPath);
+        String digest;
+        try {
+            digest = new String(Files.readAllBytes(digestReferencePath), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            // The content isn't deduplicated
+            return;
+        }
+
+        removeDigestReference(id, digest);
+        Files.delete(digestReferencePath);
+    }
+
+    protected void removeDigestReference(String id, String digest) throws IOException {
+        Path referencesPath = getDigestReferencesPath(digest);
+        Files.deleteIfExists(referencesPath.resolve(id));
+
+        try (Stream<Path> references = Files.list(referencesPath)) {
+            if (references.findAny().isPresent()) {
+                return;
+            }
+        } catch (NoSuchFileException e) {
+            // Already released concurrently
+        }
+
+        Files.deleteIfExists(getDigestPath(digest));
+        try {
+            Files.deleteIfExists(referencesPath);
+        } catch (DirectoryNotEmptyException e) {
+            // Referenced concurrently, the reference is released when that content object is updated or deleted
+        }
+    }
+
+    protected void disableDeduplication(Exception e) {
+        if (deduplication) {
+            deduplication = false;
+            LOGGER.warn("Could not link content files in {}, content deduplication is disabled", rootFolder, e);
+        }
+    }
+
+    protected MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ContentStorageException("Digest algorithm " + DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    protected Path getExistingContentPath(String id) {
+        Path contentPath = getContentPath(id);
+        if (!Files.exists(contentPath)) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+        return contentPath;
+    }
+
+    protected Path getContentPath(String id) {
+        if (id == null || id.isEmpty() || id.contains("/") || id.contains("\\") || id.contains("..")) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+        return getShardedPath(rootFolder, hash(id)).resolve(id);
+    }
+
+    protected Path getDigestPath(String digest) {
+        return getShardedPath(rootFolder.resolve(DIGEST_FOLDER), digest).resolve(digest);
+    }
+
+    protected Path getDigestReferencesPath(String digest) {
+        return getShardedPath(rootFolder.resolve(DIGEST_FOLDER), digest).resolve(digest + DIGEST_REFERENCES_SUFFIX);
+    }
+
+    protected Path getDigestReferencePath(String id, Path contentPath) {
+        return contentPath.resolveSibling(id + DIGEST_SUFFIX);
+    }
+
+    protected Path getShardedPath(Path parent, String hash) {
+        Path path = parent;
+        for (int level = 0; level < depth; level++) {
+            path = path.resolve(hash.substring(level * 2, level * 2 + 2));
+        }
+        return path;
+    }
+
+    protected String hash(String id) {
+        try {
+            return toHex(MessageDigest.getInstance("MD5").digest(id.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new ContentStorageException("Digest algorithm MD5 is not available", e);
+        }
+    }
+
+    protected String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    protected void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // No need to throw, shouldn't cause an error if the temporary file cannot be deleted
+        }
+    }
+
+    public boolean isDeduplication() {
+        return deduplication;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+}
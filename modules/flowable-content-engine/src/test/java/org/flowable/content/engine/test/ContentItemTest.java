@@ -15,6 +15,7 @@ package org.flowable.content.engine.test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -157,6 +158,28 @@ public class ContentItemTest extends AbstractFlowableContentTest {
                 .isInstanceOf(FlowableObjectNotFoundException.class);
     }
 
+    @Test
+    public void getContentItemDataRange() throws Exception {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setMimeType("text/plain");
+        contentService.saveContentItem(contentItem, new ByteArrayInputStream("hello world".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, 3)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("wor");
+        }
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, -1)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("world");
+        }
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 8, 100)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("rld");
+        }
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
+
     @Test
     public void createAndDeleteUncategorizedContentTwice() throws Exception {
         createSimpleUncategorizedContentItemWithoutIdWithData();
@@ -0,0 +1,173 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.engine.impl.fs.FileSystemContentObject;
+import org.flowable.content.engine.impl.fs.ShardedFileSystemContentStorage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ShardedFileSystemContentStorageTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    protected File rootFolder;
+    protected ShardedFileSystemContentStorage contentStorage;
+
+    @Before
+    public void createContentStorage() throws Exception {
+        rootFolder = temporaryFolder.newFolder("content");
+        contentStorage = new ShardedFileSystemContentStorage(rootFolder);
+    }
+
+    @Test
+    public void createAndReadContent() throws Exception {
+        ContentObject contentObject = contentStorage.createContentObject(stream("hello world"), Collections.emptyMap());
+        assertThat(contentObject.getContentLength()).isEqualTo(11);
+
+        File contentFile = ((FileSystemContentObject) contentStorage.getContentObject(contentObject.getId())).getFile();
+        // root/xx/yy/id
+        assertThat(contentFile.getParentFile().getParentFile().getParentFile()).isEqualTo(rootFolder);
+        assertThat(contentFile.getParentFile().getName()).hasSize(2);
+
+        try (InputStream content = contentStorage.getContentObject(contentObject.getId()).getContent()) {
+            assertThat(IOUtils.toString(content, StandardCharsets.UTF_8)).isEqualTo("hello world");
+        }
+
+        try (InputStream content = ((FileSystemContentObject) contentStorage.getContentObject(contentObject.getId())).getContent(6, 3)) {
+            assertThat(IOUtils.toString(content, StandardCharsets.UTF_8)).isEqualTo("wor");
+        }
+
+        contentStorage.deleteContentObject(contentObject.getId());
+        assertThat(contentFile).doesNotExist();
+        assertThatThrownBy(() -> contentStorage.getContentObject(contentObject.getId()))
+                .isInstanceOf(ContentNotFoundException.class);
+    }
+
+    @Test
+    public void identicalContentIsStoredOnce() throws Exception {
+        ContentObject first = contentStorage.createContentObject(stream("same content"), Collections.emptyMap());
+        ContentObject second = contentStorage.createContentObject(stream("same content"), Collections.emptyMap());
+        ContentObject other = contentStorage.createContentObject(stream("other content"), Collections.emptyMap());
+
+        assertThat(first.getId()).isNotEqualTo(second.getId());
+        assertThat(Files.isSameFile(path(first), path(second))).isTrue();
+        assertThat(Files.isSameFile(path(first), path(other))).isFalse();
+        assertThat(countDigests()).isEqualTo(2);
+
+        // Updating one content object doesn't change the content of the other one
+        contentStorage.updateContentObject(second.getId(), stream("changed content"), Collections.emptyMap());
+        assertThat(Files.isSameFile(path(first), path(second))).isFalse();
+        try (InputStream content = contentStorage.getContentObject(first.getId()).getContent()) {
+            assertThat(IOUtils.toString(content, StandardCharsets.UTF_8)).isEqualTo("same content");
+        }
+        try (InputStream content = contentStorage.getContentObject(second.getId()).getContent()) {
+            assertThat(IOUtils.toString(content, StandardCharsets.UTF_8)).isEqualTo("changed content");
+        }
+
+        contentStorage.deleteContentObject(first.getId());
+        contentStorage.deleteContentObject(second.getId());
+        contentStorage.deleteContentObject(other.getId());
+        assertThat(countDigestFolderFiles()).isZero();
+    }
+
+    @Test
+    public void updateReleasesPreviousDigest() throws Exception {
+        ContentObject contentObject = contentStorage.createContentObject(stream("first content"), Collections.emptyMap());
+        assertThat(countDigests()).isEqualTo(1);
+
+        contentStorage.updateContentObject(contentObject.getId(), stream("second content"), Collections.emptyMap());
+        assertThat(countDigests()).isEqualTo(1);
+        ContentObject identical = contentStorage.createContentObject(stream("second content"), Collections.emptyMap());
+        assertThat(Files.isSameFile(path(contentObject), path(identical))).isTrue();
+
+        // Updating to the same content keeps sharing it
+        contentStorage.updateContentObject(contentObject.getId(), stream("second content"), Collections.emptyMap());
+        assertThat(countDigests()).isEqualTo(1);
+
+        contentStorage.updateContentObject(contentObject.getId(), stream("first content"), Collections.emptyMap());
+        assertThat(countDigests()).isEqualTo(2);
+
+        contentStorage.deleteContentObject(identical.getId());
+        assertThat(countDigests()).isEqualTo(1);
+        contentStorage.deleteContentObject(contentObject.getId());
+        assertThat(countDigestFolderFiles()).isZero();
+    }
+
+    @Test
+    public void deleteReleasesDigestWhenDeduplicationIsDisabled() throws Exception {
+        ContentObject first = contentStorage.createContentObject(stream("same content"), Collections.emptyMap());
+        ContentObject second = contentStorage.createContentObject(stream("same content"), Collections.emptyMap());
+        assertThat(countDigests()).isEqualTo(1);
+
+        contentStorage = new ShardedFileSystemContentStorage(rootFolder, 2, false);
+        contentStorage.updateContentObject(first.getId(), stream("other content"), Collections.emptyMap());
+        assertThat(countDigests()).isEqualTo(1);
+
+        contentStorage.deleteContentObject(second.getId());
+        contentStorage.deleteContentObject(first.getId());
+        assertThat(countDigestFolderFiles()).isZero();
+    }
+
+    @Test
+    public void updateUnknownContent() {
+        assertThatThrownBy(() -> contentStorage.updateContentObject("unknown", stream("content"), Collections.emptyMap()))
+                .isInstanceOf(ContentNotFoundException.class);
+        assertThatThrownBy(() -> contentStorage.getContentObject("../unknown"))
+                .isInstanceOf(ContentNotFoundException.class);
+    }
+
+    protected Path path(ContentObject contentObject) {
+        return ((FileSystemContentObject) contentStorage.getContentObject(contentObject.getId())).getFile().toPath();
+    }
+
+    protected long countDigests() throws Exception {
+        Path digestFolder = rootFolder.toPath().resolve(ShardedFileSystemContentStorage.DIGEST_FOLDER);
+        try (Stream<Path> paths = Files.walk(digestFolder)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getParent().getFileName().toString().endsWith(ShardedFileSystemContentStorage.DIGEST_REFERENCES_SUFFIX))
+                    .count();
+        }
+    }
+
+    protected long countDigestFolderFiles() throws Exception {
+        Path digestFolder = rootFolder.toPath().resolve(ShardedFileSystemContentStorage.DIGEST_FOLDER);
+        try (Stream<Path> paths = Files.walk(digestFolder)) {
+            // Digests as well as their references
+            return paths.filter(path -> !Files.isDirectory(path) || path.getFileName().toString().endsWith(ShardedFileSystemContentStorage.DIGEST_REFERENCES_SUFFIX))
+                    .count();
+        }
+    }
+
+    protected InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
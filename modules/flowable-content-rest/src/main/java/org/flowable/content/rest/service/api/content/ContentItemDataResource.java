@@ -13,7 +13,9 @@
 
 package org.flowable.content.rest.service.api.content;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -26,6 +28,7 @@ import org.flowable.content.api.ContentItem;
 import org.flowable.content.rest.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -56,44 +59,115 @@ public class ContentItemDataResource extends ContentItemBaseResource {
     protected ContentRestResponseFactory contentRestResponseFactory;
 
     @ApiOperation(value = "Get the data of a content item", tags = {"Content item" },
-            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type.")
+            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type. "
+                    + "A single byte range can be requested with the Range header, for example 'bytes=0-1023'.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the content item was found and the requested content is returned."),
-            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information.")
+            @ApiResponse(code = 206, message = "Indicates the content item was found and the requested range of the content is returned."),
+            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information."),
+            @ApiResponse(code = 416, message = "Indicates the requested range is not within the content of the content item.")
     })
     @GetMapping(value = "/content-service/content-items/{contentItemId}/data")
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId,
+            HttpServletRequest request, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
             throw new FlowableException("No data available for content item " + contentItemId);
         }
 
+        HttpHeaders responseHeaders = new HttpHeaders();
+        Long contentSize = contentItem.getContentSize();
+        if (contentSize != null) {
+            responseHeaders.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+            if (rangeHeader != null && writeContentItemDataRange(contentItem, contentSize, rangeHeader, response)) {
+                // The range response has been written directly
+                return null;
+            }
+        }
+
         InputStream dataStream = contentService.getContentItemData(contentItemId);
         if (dataStream == null) {
             throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
         }
 
-        HttpHeaders responseHeaders = new HttpHeaders();
-        MediaType mediaType = null;
-        if (contentItem.getMimeType() != null) {
+        setContentType(contentItem, responseHeaders);
+
+        try {
+            return new ResponseEntity<>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
+        } catch (Exception e) {
+            throw new FlowableException("Error getting content item data " + contentItemId, e);
+        }
+    }
+
+    /**
+     * Writes the requested range of the content to the response. The range is streamed from the content storage,
+     * so it is never held in memory as a whole.
+     *
+     * @return false when nothing was written and the full content should be returned, because the range header
+     *         is malformed or requests multiple ranges
+     */
+    protected boolean writeContentItemDataRange(ContentItem contentItem, long contentSize, String rangeHeader, HttpServletResponse response) {
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // A range header that cannot be parsed is ignored, as recommended by RFC 7233
+            return false;
+        }
+
+        if (ranges.size() != 1) {
+            return false;
+        }
+
+        long start = -1;
+        long end = -1;
+        if (contentSize > 0) {
             try {
-                mediaType = MediaType.valueOf(contentItem.getMimeType());
-                responseHeaders.set("Content-Type", contentItem.getMimeType());
-            } catch (Exception e) {
-                // ignore if unknown media type
+                start = ranges.get(0).getRangeStart(contentSize);
+                end = Math.min(ranges.get(0).getRangeEnd(contentSize), contentSize - 1);
+            } catch (IllegalArgumentException e) {
+                start = -1;
             }
         }
 
-        if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (start < 0 || start >= contentSize || end < start) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentSize);
+            return true;
         }
 
-        try {
-            return new ResponseEntity<>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
-            throw new FlowableException("Error getting content item data " + contentItemId, e);
+        long length = end - start + 1;
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        response.setContentType(getContentType(contentItem));
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentSize);
+        response.setContentLengthLong(length);
+
+        try (InputStream dataStream = contentService.getContentItemData(contentItem.getId(), start, length)) {
+            IOUtils.copyLarge(dataStream, response.getOutputStream());
+        } catch (IOException e) {
+            throw new FlowableException("Error getting content item data " + contentItem.getId(), e);
+        }
+        return true;
+    }
+
+    protected void setContentType(ContentItem contentItem, HttpHeaders responseHeaders) {
+        responseHeaders.set("Content-Type", getContentType(contentItem));
+    }
+
+    protected String getContentType(ContentItem contentItem) {
+        if (contentItem.getMimeType() != null) {
+            try {
+                MediaType.valueOf(contentItem.getMimeType());
+                return contentItem.getMimeType();
+            } catch (Exception e) {
+                // ignore if unknown media type
+            }
         }
+        return "application/octet-stream";
     }
 
     @ApiOperation(value = "Save the content item data", tags = { "Content item" }, notes = "Save the content item data with an attached file. "
@@ -104,6 +104,43 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
         }
     }
 
+    public void testGetContentItemDataRange() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null,
+                "12345", null, null, "test", "test2", binaryContent);
+
+        try {
+            String url = SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId);
+
+            HttpGet httpGet = new HttpGet(url);
+            httpGet.setHeader("Range", "bytes=8-13");
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+            assertThat(response.getFirstHeader("Content-Range").getValue()).isEqualTo("bytes 8-13/22");
+            try (InputStream contentStream = response.getEntity().getContent()) {
+                assertThat(contentStream).hasContent("binary");
+            }
+            closeResponse(response);
+
+            // A malformed range header is ignored
+            httpGet = new HttpGet(url);
+            httpGet.setHeader("Range", "bytes=abc");
+            response = executeRequest(httpGet, HttpStatus.SC_OK);
+            try (InputStream contentStream = response.getEntity().getContent()) {
+                assertThat(contentStream).hasContent("This is binary content");
+            }
+            closeResponse(response);
+
+            httpGet = new HttpGet(url);
+            httpGet.setHeader("Range", "bytes=50-60");
+            response = executeRequest(httpGet, HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            assertThat(response.getFirstHeader("Content-Range").getValue()).isEqualTo("bytes */22");
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
     public void testUpdateContentItem() throws Exception {
         String contentItemId = createContentItem("test.pdf", "application/pdf", null,
                 "12345", null, null, "test", "test2");
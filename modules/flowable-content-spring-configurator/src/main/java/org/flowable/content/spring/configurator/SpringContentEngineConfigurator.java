@@ -26,7 +26,7 @@ import org.flowable.content.spring.SpringContentEngineConfiguration;
 public class SpringContentEngineConfigurator extends ContentEngineConfigurator {
 
     @Override
-    public void configure(AbstractEngineConfiguration engineConfiguration) {
+    public AbstractEngineConfiguration prepareEngineConfiguration(AbstractEngineConfiguration engineConfiguration) {
         if (contentEngineConfiguration == null) {
             contentEngineConfiguration = new SpringContentEngineConfiguration();
         } else if (!(contentEngineConfiguration instanceof SpringContentEngineConfiguration)) {
@@ -36,10 +36,8 @@ public class SpringContentEngineConfigurator extends ContentEngineConfigurator {
         initialiseCommonProperties(engineConfiguration, contentEngineConfiguration);
         SpringEngineConfiguration springEngineConfiguration = (SpringEngineConfiguration) engineConfiguration;
         ((SpringContentEngineConfiguration) contentEngineConfiguration).setTransactionManager(springEngineConfiguration.getTransactionManager());
-        
-        initContentEngine();
-        
-        initServiceConfigurations(engineConfiguration, contentEngineConfiguration);
+
+        return contentEngineConfiguration;
     }
 
     @Override
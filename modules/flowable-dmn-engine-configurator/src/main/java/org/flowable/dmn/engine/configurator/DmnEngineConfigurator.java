@@ -19,6 +19,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.AbstractEngineConfigurator;
 import org.flowable.common.engine.impl.EngineDeployer;
+import org.flowable.common.engine.impl.IndependentEngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.dmn.engine.DmnEngine;
@@ -31,7 +32,7 @@ import org.flowable.dmn.engine.impl.db.EntityDependencyOrder;
  * @author Tijs Rademakers
  * @author Joram Barrez
  */
-public class DmnEngineConfigurator extends AbstractEngineConfigurator {
+public class DmnEngineConfigurator extends AbstractEngineConfigurator implements IndependentEngineConfigurator {
 
     protected DmnEngineConfiguration dmnEngineConfiguration;
     
@@ -54,14 +55,24 @@ public class DmnEngineConfigurator extends AbstractEngineConfigurator {
 
     @Override
     public void configure(AbstractEngineConfiguration engineConfiguration) {
+        prepareEngineConfiguration(engineConfiguration);
+        buildEngine(engineConfiguration);
+    }
+
+    @Override
+    public AbstractEngineConfiguration prepareEngineConfiguration(AbstractEngineConfiguration engineConfiguration) {
         if (dmnEngineConfiguration == null) {
             dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
         }
-        
+
         initialiseCommonProperties(engineConfiguration, dmnEngineConfiguration);
+        return dmnEngineConfiguration;
+    }
 
+    @Override
+    public void buildEngine(AbstractEngineConfiguration engineConfiguration) {
         initDmnEngine();
-        
+
         initServiceConfigurations(engineConfiguration, dmnEngineConfiguration);
     }
     
@@ -12,7 +12,11 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.stream.Collectors;
+
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
+import org.flowable.common.engine.impl.persistence.deploy.DefinitionCacheWarmUp;
+import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.DmnHistoryService;
 import org.flowable.dmn.api.DmnManagementService;
 import org.flowable.dmn.api.DmnRepositoryService;
@@ -49,6 +53,14 @@ public class DmnEngineImpl implements DmnEngine {
             dmnEngineConfiguration.getCommandExecutor().execute(dmnEngineConfiguration.getSchemaCommandConfig(), dmnEngineConfiguration.getSchemaManagementCmd());
         }
 
+        if (dmnEngineConfiguration.isEnableDefinitionCacheWarmUp()) {
+            new DefinitionCacheWarmUp(dmnEngineConfiguration, "decision table",
+                    () -> dmnRepositoryService.createDecisionTableQuery().latestVersion().list().stream()
+                            .map(DmnDecisionTable::getId)
+                            .collect(Collectors.toList()),
+                    dmnRepositoryService::getDmnDefinition).start();
+        }
+
         if (name == null) {
             LOGGER.info("default flowable DmnEngine created");
         } else {
@@ -28,7 +28,7 @@ import org.flowable.dmn.spring.SpringDmnExpressionManager;
 public class SpringDmnEngineConfigurator extends DmnEngineConfigurator {
 
     @Override
-    public void configure(AbstractEngineConfiguration engineConfiguration) {
+    public AbstractEngineConfiguration prepareEngineConfiguration(AbstractEngineConfiguration engineConfiguration) {
         if (dmnEngineConfiguration == null) {
             dmnEngineConfiguration = new SpringDmnEngineConfiguration();
         } else if (!(dmnEngineConfiguration instanceof SpringDmnEngineConfiguration)) {
@@ -54,9 +54,7 @@ public class SpringDmnEngineConfigurator extends DmnEngineConfigurator {
 			}
 		}
 
-        initDmnEngine();
-        
-        initServiceConfigurations(engineConfiguration, dmnEngineConfiguration);
+        return dmnEngineConfiguration;
     }
 
     @Override
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+/**
+ * A query that supports keyset (seek) pagination: instead of skipping a number of results, the next page is fetched by
+ * continuing after the last result of the previous page. Fetching a page doesn't get slower towards the end of the results
+ * and results inserted or deleted on earlier pages don't cause results to be skipped or returned twice.
+ *
+ * @param <T> the type of the query
+ */
+public interface KeysetPaginatedQuery<T> {
+
+    /**
+     * Only return results ordered after the given result of a previous page.
+     * Use together with {@link Query#listPage(int, int)} with a first result of 0 to fetch the next page.
+     * <p>
+     * The query can be ordered by at most one property that is supported for keyset pagination besides the id.
+     * The id is always used as tie-breaker for results with the same value of that property, in the same direction.
+     * This is also done for a query that is only ordered by such a property without calling this method, so the first page is ordered the same way.
+     * When the query is not ordered by such a property, the results are ordered by id and the sort value is ignored.
+     * Results without a value for the ordered property are ordered as the database orders null values.
+     * Note that {@link Query#count()} returns the number of results after the given result.
+     *
+     * @param lastSortValue the value of the ordered property of the last result of the previous page.
+     *                      Can be given as the value itself (e.g. a {@link java.util.Date}) or as a String representation of it
+     *                      (an ISO-8601 date time or milliseconds since the epoch for dates).
+     *                      Null when the last result has no value for the ordered property.
+     * @param lastId the id of the last result of the previous page
+     */
+    T after(Object lastSortValue, String lastId);
+
+}
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.List;
+
+/**
+ * A query that can return a projection of its results: only the selected fields and variables are fetched into
+ * lightweight {@link ProjectionRecord}s, instead of loading the full objects with all their columns.
+ * The records are not cached or tracked for changes, which makes this suited for read-only lists showing a few properties of many results.
+ */
+public interface ProjectionQuery {
+
+    /**
+     * Executes the query and returns the selected fields and variables of all results.
+     *
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException when a field is not supported by this query
+     */
+    List<ProjectionRecord> listProjection(QueryProjection projection);
+
+    /**
+     * Executes the query and returns the selected fields and variables of the results in the given page.
+     *
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException when a field is not supported by this query
+     */
+    List<ProjectionRecord> listPageProjection(QueryProjection projection, int firstResult, int maxResults);
+
+}
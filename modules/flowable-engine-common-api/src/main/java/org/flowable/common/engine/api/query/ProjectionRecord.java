@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A result of a {@link ProjectionQuery}, holding only the selected fields and variables of a result instead of the full object.
+ */
+public class ProjectionRecord {
+
+    protected final String id;
+    protected final Map<String, Object> fields;
+    protected final Map<String, Object> variables;
+
+    public ProjectionRecord(String id, Map<String, Object> fields, Map<String, Object> variables) {
+        this.id = id;
+        this.fields = fields;
+        this.variables = variables;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the value of the given selected field, or null if the field is not set or not selected
+     */
+    public Object getField(String field) {
+        return fields.get(field);
+    }
+
+    public Map<String, Object> getFields() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * @return the value of the given selected variable, or null if the variable doesn't exist or is not selected
+     */
+    public Object getVariable(String variableName) {
+        return variables.get(variableName);
+    }
+
+    public Map<String, Object> getVariables() {
+        return Collections.unmodifiableMap(variables);
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectionRecord[id=" + id + ", fields=" + fields + ", variables=" + variables + "]";
+    }
+
+}
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Describes the fields and variables that are selected by a {@link ProjectionQuery}.
+ * <p>
+ * Example: {@code QueryProjection.select("name", "assignee").variables("amount", "customer")}
+ */
+public class QueryProjection {
+
+    protected Set<String> fields = new LinkedHashSet<>();
+    protected Set<String> variableNames = new LinkedHashSet<>();
+
+    /**
+     * Creates a projection of the given fields. The id is always selected and doesn't need to be given.
+     */
+    public static QueryProjection select(String... fields) {
+        QueryProjection projection = new QueryProjection();
+        projection.fields.addAll(Arrays.asList(fields));
+        return projection;
+    }
+
+    /**
+     * Also select the variables with the given names.
+     */
+    public QueryProjection variables(String... variableNames) {
+        this.variableNames.addAll(Arrays.asList(variableNames));
+        return this;
+    }
+
+    public Set<String> getFields() {
+        return Collections.unmodifiableSet(fields);
+    }
+
+    public Set<String> getVariableNames() {
+        return Collections.unmodifiableSet(variableNames);
+    }
+
+}
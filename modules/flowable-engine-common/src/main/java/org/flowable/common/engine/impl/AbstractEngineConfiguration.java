@@ -12,9 +12,12 @@
  */
 package org.flowable.common.engine.impl;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
@@ -28,18 +31,30 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.naming.InitialContext;
 import javax.sql.DataSource;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
 import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperEntityResolver;
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
 import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.parsing.XNode;
+import org.apache.ibatis.parsing.XPathParser;
 import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -47,6 +62,10 @@ import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeAliasRegistry;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
@@ -63,6 +82,7 @@ import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.db.SharedSqlSessionFactoryRegistry;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -104,6 +124,7 @@ import org.flowable.common.engine.impl.util.ReflectUtil;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.DocumentType;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -223,6 +244,12 @@ public abstract class AbstractEngineConfiguration {
     protected List<MybatisTypeAliasConfigurator> dependentEngineMybatisTypeAliasConfigs;
     protected List<MybatisTypeHandlerConfigurator> dependentEngineMybatisTypeHandlerConfigs;
 
+    /**
+     * When set, the MyBatis configuration (and {@link SqlSessionFactory}) is shared with the other engine configurations
+     * that are registered in the same registry and use the same data source, instead of parsing the MyBatis mappings for every engine.
+     */
+    protected SharedSqlSessionFactoryRegistry sharedSqlSessionFactoryRegistry;
+
     // SESSION FACTORIES ///////////////////////////////////////////////
     protected List<SessionFactory> customSessionFactories;
     protected Map<Class<?>, SessionFactory> sessionFactories;
@@ -342,6 +369,40 @@ public abstract class AbstractEngineConfiguration {
     protected EngineConfigurator idmEngineConfigurator;
     protected EngineConfigurator eventRegistryConfigurator;
 
+    /**
+     * When enabled, the engines of consecutive {@link IndependentEngineConfigurator}s (e.g. the dmn, form and content engine configurators)
+     * are built in parallel instead of one after the other.
+     */
+    protected boolean parallelConfiguratorInitialization;
+
+    /**
+     * The keys (see {@link org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants}) of the engine configurations
+     * of {@link IndependentEngineConfigurator}s whose engines are only built when the engine configuration is first retrieved.
+     * Note that such an engine is also not registered in its static engine registry (e.g. FormEngines) until then.
+     */
+    protected Set<String> lazyEngineConfigurationKeys;
+
+    /**
+     * When enabled, the latest version of every definition (per tenant) is loaded into the definition cache when the engine is created.
+     * See {@link org.flowable.common.engine.impl.persistence.deploy.DefinitionCacheWarmUp}.
+     */
+    protected boolean enableDefinitionCacheWarmUp;
+
+    /**
+     * Whether the definition cache warm-up happens in a background thread, instead of delaying the creation of the engine until it's done.
+     */
+    protected boolean asyncDefinitionCacheWarmUp;
+
+    /**
+     * The number of threads used to load definitions during the definition cache warm-up.
+     */
+    protected int definitionCacheWarmUpParallelism = 1;
+
+    /**
+     * The number of results that are fetched per transaction when the results of a query are streamed.
+     */
+    protected int queryStreamBatchSize = 1000;
+
     public static final String PRODUCT_NAME_POSTGRES = "PostgreSQL";
     public static final String PRODUCT_NAME_CRDB = "CockroachDB";
 
@@ -407,6 +468,10 @@ public abstract class AbstractEngineConfiguration {
     protected int maxLengthStringVariableType = -1;
     
     protected void initEngineConfigurations() {
+        if ((parallelConfiguratorInitialization || (lazyEngineConfigurationKeys != null && !lazyEngineConfigurationKeys.isEmpty()))
+                && !(engineConfigurations instanceof LazyEngineConfigurationMap)) {
+            engineConfigurations = new LazyEngineConfigurationMap(engineConfigurations);
+        }
         engineConfigurations.put(getEngineCfgKey(), this);
     }
 
@@ -794,46 +859,278 @@ public abstract class AbstractEngineConfiguration {
 
     public void initSqlSessionFactory() {
         if (sqlSessionFactory == null) {
-            InputStream inputStream = null;
-            try {
-                inputStream = getMyBatisXmlConfigurationStream();
+            if (sharedSqlSessionFactoryRegistry != null) {
+                sqlSessionFactory = sharedSqlSessionFactoryRegistry.getSqlSessionFactory(this);
+            } else {
+                sqlSessionFactory = createSqlSessionFactory();
+            }
+        }
+    }
 
-                Environment environment = new Environment("default", transactionFactory, dataSource);
-                Reader reader = new InputStreamReader(inputStream);
-                Properties properties = new Properties();
-                properties.put("prefix", databaseTablePrefix);
+    public SqlSessionFactory createSqlSessionFactory() {
+        InputStream inputStream = null;
+        try {
+            inputStream = getMyBatisXmlConfigurationStream();
+
+            Environment environment = new Environment("default", transactionFactory, dataSource);
+            Reader reader = new InputStreamReader(inputStream);
+            Properties properties = createMybatisProperties();
+
+            Configuration configuration = initMybatisConfiguration(environment, reader, properties);
+            return new DefaultSqlSessionFactory(configuration);
+
+        } catch (Exception e) {
+            throw new FlowableException("Error while building ibatis SqlSessionFactory: " + e.getMessage(), e);
+        } finally {
+            IoUtil.closeSilently(inputStream);
+        }
+    }
+
+    public Properties createMybatisProperties() throws IOException {
+        Properties properties = new Properties();
+        properties.put("prefix", databaseTablePrefix);
 
-                String wildcardEscapeClause = "";
-                if ((databaseWildcardEscapeCharacter != null) && (databaseWildcardEscapeCharacter.length() != 0)) {
-                    wildcardEscapeClause = " escape '" + databaseWildcardEscapeCharacter + "'";
+        String wildcardEscapeClause = "";
+        if ((databaseWildcardEscapeCharacter != null) && (databaseWildcardEscapeCharacter.length() != 0)) {
+            wildcardEscapeClause = " escape '" + databaseWildcardEscapeCharacter + "'";
+        }
+        properties.put("wildcardEscapeClause", wildcardEscapeClause);
+
+        // set default properties
+        properties.put("limitBefore", "");
+        properties.put("limitAfter", "");
+        properties.put("limitBetween", "");
+        properties.put("limitBetweenNoDistinct", "");
+        properties.put("limitOuterJoinBetween", "");
+        properties.put("limitBeforeNativeQuery", "");
+        properties.put("blobType", "BLOB");
+        properties.put("boolValue", "TRUE");
+
+        if (databaseType != null) {
+            properties.load(getResourceAsStream(pathToEngineDbProperties()));
+        }
+        return properties;
+    }
+
+    /**
+     * Adds this engine to a MyBatis configuration that was built by another engine, see {@link SharedSqlSessionFactoryRegistry}.
+     * <p>
+     * The MyBatis configuration file of this engine is first parsed by MyBatis itself, without its mappers, so that the settings,
+     * plugins, type aliases and type handlers are interpreted exactly as they would be for an engine with its own configuration.
+     * Those are then merged into the shared configuration, failing when they conflict with it, after which the mappings are parsed.
+     * Mapping resources that are already part of the shared configuration are not parsed again.
+     */
+    public void addMybatisMappings(Configuration configuration) {
+        InputStream inputStream = null;
+        try {
+            Properties properties = createMybatisProperties();
+            Properties variables = configuration.getVariables();
+            for (Map.Entry<Object, Object> property : properties.entrySet()) {
+                variables.putIfAbsent(property.getKey(), property.getValue());
+            }
+
+            inputStream = getMyBatisXmlConfigurationStream();
+            XPathParser parser = new XPathParser(inputStream, true, properties, new XMLMapperEntityResolver());
+            List<String> mapperResources = new ArrayList<>();
+            XNode mappers = parser.evalNode("/configuration/mappers");
+            if (mappers != null) {
+                for (XNode mapper : mappers.evalNodes("mapper")) {
+                    mapperResources.add(mapper.getStringAttribute("resource"));
+                }
+                mappers.getNode().getParentNode().removeChild(mappers.getNode());
+            }
+
+            Configuration engineConfiguration = initMybatisConfigurationWithoutMappers(toReader(parser.evalNode("/configuration")), properties);
+            checkSharedMybatisSettings(configuration, engineConfiguration);
+            addSharedMybatisInterceptors(configuration, engineConfiguration);
+            addSharedMybatisTypeAliases(configuration, engineConfiguration);
+            addSharedMybatisTypeHandlers(configuration, engineConfiguration, parser);
+
+            if (getCustomMybatisMappers() != null) {
+                for (Class<?> clazz : getCustomMybatisMappers()) {
+                    if (!configuration.hasMapper(clazz)) {
+                        configuration.addMapper(clazz);
+                    }
                 }
-                properties.put("wildcardEscapeClause", wildcardEscapeClause);
-
-                // set default properties
-                properties.put("limitBefore", "");
-                properties.put("limitAfter", "");
-                properties.put("limitBetween", "");
-                properties.put("limitBetweenNoDistinct", "");
-                properties.put("limitOuterJoinBetween", "");
-                properties.put("limitBeforeNativeQuery", "");
-                properties.put("blobType", "BLOB");
-                properties.put("boolValue", "TRUE");
-
-                if (databaseType != null) {
-                    properties.load(getResourceAsStream(pathToEngineDbProperties()));
+            }
+
+            for (String mapperResource : mapperResources) {
+                parseMybatisXmlMapping(configuration, mapperResource);
+            }
+            parseDependentEngineMybatisXMLMappers(configuration);
+            parseCustomMybatisXMLMappers(configuration);
+
+        } catch (FlowableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlowableException("Error while adding the MyBatis mappings of " + getEngineName() + " to the shared MyBatis configuration: " + e.getMessage(), e);
+        } finally {
+            IoUtil.closeSilently(inputStream);
+        }
+    }
+
+    /**
+     * Builds the MyBatis configuration of this engine the same way as {@link #initMybatisConfiguration(Environment, Reader, Properties)},
+     * for a configuration file of which the mappers were removed.
+     */
+    protected Configuration initMybatisConfigurationWithoutMappers(Reader reader, Properties properties) {
+        XMLConfigBuilder parser = new XMLConfigBuilder(reader, "", properties);
+        Configuration configuration = parser.getConfiguration();
+
+        if (databaseType != null) {
+            configuration.setDatabaseId(databaseType);
+        }
+
+        initMybatisTypeHandlers(configuration);
+        initCustomMybatisInterceptors(configuration);
+        if (isEnableLogSqlExecutionTime()) {
+            initMyBatisLogSqlExecutionTimePlugin(configuration);
+        }
+
+        configuration = parser.parse();
+        if (dependentEngineMybatisTypeAliasConfigs != null) {
+            for (MybatisTypeAliasConfigurator typeAliasConfig : dependentEngineMybatisTypeAliasConfigs) {
+                typeAliasConfig.configure(configuration.getTypeAliasRegistry());
+            }
+        }
+        if (dependentEngineMybatisTypeHandlerConfigs != null) {
+            for (MybatisTypeHandlerConfigurator typeHandlerConfig : dependentEngineMybatisTypeHandlerConfigs) {
+                typeHandlerConfig.configure(configuration.getTypeHandlerRegistry());
+            }
+        }
+        return configuration;
+    }
+
+    protected Reader toReader(XNode configurationNode) throws TransformerException {
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        DocumentType documentType = configurationNode.getNode().getOwnerDocument().getDoctype();
+        if (documentType != null) {
+            // XMLConfigBuilder validates the configuration against the DTD
+            transformer.setOutputProperty(OutputKeys.DOCTYPE_PUBLIC, documentType.getPublicId());
+            transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, documentType.getSystemId());
+        }
+        StringWriter writer = new StringWriter();
+        transformer.transform(new DOMSource(configurationNode.getNode().getOwnerDocument()), new StreamResult(writer));
+        return new StringReader(writer.toString());
+    }
+
+    protected void checkSharedMybatisSettings(Configuration sharedConfiguration, Configuration engineConfiguration) {
+        checkSharedMybatisSetting("databaseId", sharedConfiguration.getDatabaseId(), engineConfiguration.getDatabaseId());
+        checkSharedMybatisSetting("cacheEnabled", sharedConfiguration.isCacheEnabled(), engineConfiguration.isCacheEnabled());
+        checkSharedMybatisSetting("lazyLoadingEnabled", sharedConfiguration.isLazyLoadingEnabled(), engineConfiguration.isLazyLoadingEnabled());
+        checkSharedMybatisSetting("aggressiveLazyLoading", sharedConfiguration.isAggressiveLazyLoading(), engineConfiguration.isAggressiveLazyLoading());
+        checkSharedMybatisSetting("multipleResultSetsEnabled", sharedConfiguration.isMultipleResultSetsEnabled(), engineConfiguration.isMultipleResultSetsEnabled());
+        checkSharedMybatisSetting("useColumnLabel", sharedConfiguration.isUseColumnLabel(), engineConfiguration.isUseColumnLabel());
+        checkSharedMybatisSetting("useGeneratedKeys", sharedConfiguration.isUseGeneratedKeys(), engineConfiguration.isUseGeneratedKeys());
+        checkSharedMybatisSetting("autoMappingBehavior", sharedConfiguration.getAutoMappingBehavior(), engineConfiguration.getAutoMappingBehavior());
+        checkSharedMybatisSetting("autoMappingUnknownColumnBehavior", sharedConfiguration.getAutoMappingUnknownColumnBehavior(),
+                engineConfiguration.getAutoMappingUnknownColumnBehavior());
+        checkSharedMybatisSetting("defaultExecutorType", sharedConfiguration.getDefaultExecutorType(), engineConfiguration.getDefaultExecutorType());
+        checkSharedMybatisSetting("defaultStatementTimeout", sharedConfiguration.getDefaultStatementTimeout(), engineConfiguration.getDefaultStatementTimeout());
+        checkSharedMybatisSetting("defaultFetchSize", sharedConfiguration.getDefaultFetchSize(), engineConfiguration.getDefaultFetchSize());
+        checkSharedMybatisSetting("defaultResultSetType", sharedConfiguration.getDefaultResultSetType(), engineConfiguration.getDefaultResultSetType());
+        checkSharedMybatisSetting("mapUnderscoreToCamelCase", sharedConfiguration.isMapUnderscoreToCamelCase(), engineConfiguration.isMapUnderscoreToCamelCase());
+        checkSharedMybatisSetting("safeRowBoundsEnabled", sharedConfiguration.isSafeRowBoundsEnabled(), engineConfiguration.isSafeRowBoundsEnabled());
+        checkSharedMybatisSetting("safeResultHandlerEnabled", sharedConfiguration.isSafeResultHandlerEnabled(), engineConfiguration.isSafeResultHandlerEnabled());
+        checkSharedMybatisSetting("localCacheScope", sharedConfiguration.getLocalCacheScope(), engineConfiguration.getLocalCacheScope());
+        checkSharedMybatisSetting("jdbcTypeForNull", sharedConfiguration.getJdbcTypeForNull(), engineConfiguration.getJdbcTypeForNull());
+        checkSharedMybatisSetting("lazyLoadTriggerMethods", sharedConfiguration.getLazyLoadTriggerMethods(), engineConfiguration.getLazyLoadTriggerMethods());
+        checkSharedMybatisSetting("defaultScriptingLanguage", sharedConfiguration.getDefaultScriptingLanguageInstance().getClass(),
+                engineConfiguration.getDefaultScriptingLanguageInstance().getClass());
+        checkSharedMybatisSetting("callSettersOnNulls", sharedConfiguration.isCallSettersOnNulls(), engineConfiguration.isCallSettersOnNulls());
+        checkSharedMybatisSetting("useActualParamName", sharedConfiguration.isUseActualParamName(), engineConfiguration.isUseActualParamName());
+        checkSharedMybatisSetting("returnInstanceForEmptyRow", sharedConfiguration.isReturnInstanceForEmptyRow(), engineConfiguration.isReturnInstanceForEmptyRow());
+        checkSharedMybatisSetting("logPrefix", sharedConfiguration.getLogPrefix(), engineConfiguration.getLogPrefix());
+        checkSharedMybatisSetting("logImpl", sharedConfiguration.getLogImpl(), engineConfiguration.getLogImpl());
+        checkSharedMybatisSetting("vfsImpl", sharedConfiguration.getVfsImpl(), engineConfiguration.getVfsImpl());
+        checkSharedMybatisSetting("proxyFactory", sharedConfiguration.getProxyFactory().getClass(), engineConfiguration.getProxyFactory().getClass());
+        checkSharedMybatisSetting("configurationFactory", sharedConfiguration.getConfigurationFactory(), engineConfiguration.getConfigurationFactory());
+    }
+
+    protected void checkSharedMybatisSetting(String name, Object sharedValue, Object engineValue) {
+        if (!Objects.equals(sharedValue, engineValue)) {
+            throw new FlowableException("The MyBatis setting " + name + " of " + getEngineName() + " (" + engineValue
+                    + ") conflicts with the shared MyBatis configuration (" + sharedValue + ")");
+        }
+    }
+
+    protected void addSharedMybatisInterceptors(Configuration sharedConfiguration, Configuration engineConfiguration) {
+        for (Interceptor interceptor : engineConfiguration.getInterceptors()) {
+            boolean present = false;
+            for (Interceptor sharedInterceptor : sharedConfiguration.getInterceptors()) {
+                if (sharedInterceptor.getClass() == interceptor.getClass()) {
+                    present = true;
+                    break;
                 }
+            }
+            if (!present) {
+                sharedConfiguration.addInterceptor(interceptor);
+            }
+        }
+    }
+
+    protected void addSharedMybatisTypeAliases(Configuration sharedConfiguration, Configuration engineConfiguration) {
+        TypeAliasRegistry typeAliasRegistry = sharedConfiguration.getTypeAliasRegistry();
+        for (Map.Entry<String, Class<?>> typeAlias : engineConfiguration.getTypeAliasRegistry().getTypeAliases().entrySet()) {
+            Class<?> sharedType = typeAliasRegistry.getTypeAliases().get(typeAlias.getKey());
+            if (sharedType == null) {
+                typeAliasRegistry.registerAlias(typeAlias.getKey(), typeAlias.getValue());
+            } else if (sharedType != typeAlias.getValue()) {
+                throw new FlowableException("The MyBatis type alias " + typeAlias.getKey() + " of " + getEngineName() + " (" + typeAlias.getValue().getName()
+                        + ") conflicts with the shared MyBatis configuration (" + sharedType.getName() + ")");
+            }
+        }
+    }
+
+    /**
+     * Type handlers of the same class have to be equal, e.g. an {@code IbatisVariableTypeHandler} has to use the same variable types.
+     * Type handlers that don't implement {@link Object#equals(Object)} hold no engine specific state and are equal when they have the same class.
+     * <p>
+     * The type handlers of the configuration file are referenced by class from the mappings,
+     * so they are only registered for their Java and JDBC type when the shared configuration has no handler for those yet.
+     * The type handlers registered through {@link #initMybatisTypeHandlers(Configuration)} and the dependent engine configurators
+     * are resolved by type, and are therefore always registered.
+     */
+    @SuppressWarnings("unchecked")
+    protected void addSharedMybatisTypeHandlers(Configuration sharedConfiguration, Configuration engineConfiguration, XPathParser parser) {
+        TypeHandlerRegistry typeHandlerRegistry = sharedConfiguration.getTypeHandlerRegistry();
+        for (TypeHandler<?> typeHandler : engineConfiguration.getTypeHandlerRegistry().getTypeHandlers()) {
+            TypeHandler<?> sharedTypeHandler = typeHandlerRegistry.getMappingTypeHandler((Class<? extends TypeHandler<?>>) typeHandler.getClass());
+            if (sharedTypeHandler != null && !isSameTypeHandler(sharedTypeHandler, typeHandler)) {
+                throw new FlowableException("The MyBatis type handler " + typeHandler.getClass().getName() + " of " + getEngineName()
+                        + " conflicts with the one of the shared MyBatis configuration");
+            }
+        }
 
-                Configuration configuration = initMybatisConfiguration(environment, reader, properties);
-                sqlSessionFactory = new DefaultSqlSessionFactory(configuration);
+        TypeAliasRegistry typeAliasRegistry = sharedConfiguration.getTypeAliasRegistry();
+        for (XNode typeHandler : parser.evalNodes("/configuration/typeHandlers/typeHandler")) {
+            Class<?> javaType = typeAliasRegistry.resolveAlias(typeHandler.getStringAttribute("javaType"));
+            JdbcType jdbcType = JdbcType.valueOf(typeHandler.getStringAttribute("jdbcType"));
+            if (!typeHandlerRegistry.hasTypeHandler(javaType, jdbcType)) {
+                typeHandlerRegistry.register(javaType, jdbcType, typeAliasRegistry.resolveAlias(typeHandler.getStringAttribute("handler")));
+            }
+        }
 
-            } catch (Exception e) {
-                throw new FlowableException("Error while building ibatis SqlSessionFactory: " + e.getMessage(), e);
-            } finally {
-                IoUtil.closeSilently(inputStream);
+        initMybatisTypeHandlers(sharedConfiguration);
+        if (dependentEngineMybatisTypeHandlerConfigs != null) {
+            for (MybatisTypeHandlerConfigurator typeHandlerConfig : dependentEngineMybatisTypeHandlerConfigs) {
+                typeHandlerConfig.configure(typeHandlerRegistry);
             }
         }
     }
 
+    protected boolean isSameTypeHandler(TypeHandler<?> sharedTypeHandler, TypeHandler<?> typeHandler) {
+        if (sharedTypeHandler.equals(typeHandler)) {
+            return true;
+        }
+        try {
+            return sharedTypeHandler.getClass() == typeHandler.getClass()
+                    && typeHandler.getClass().getMethod("equals", Object.class).getDeclaringClass() == Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     public String pathToEngineDbProperties() {
         return "org/flowable/common/db/properties/" + databaseType + ".properties";
     }
@@ -919,6 +1216,11 @@ public abstract class AbstractEngineConfiguration {
     }
 
     protected void parseMybatisXmlMapping(Configuration configuration, String resource) {
+        if (configuration.isResourceLoaded(resource)) {
+            // Can happen when the configuration is shared with other engines
+            return;
+        }
+
         // see XMLConfigBuilder.mapperElement()
         XMLMapperBuilder mapperParser = new XMLMapperBuilder(getResourceAsStream(resource), configuration, resource, configuration.getSqlFragments());
         mapperParser.parse();
@@ -1025,12 +1327,91 @@ public abstract class AbstractEngineConfiguration {
     }
     
     public void configuratorsAfterInit() {
+        long startTime = System.currentTimeMillis();
+        List<IndependentEngineConfigurator> parallelConfigurators = new ArrayList<>();
         for (EngineConfigurator configurator : allConfigurators) {
-            logger.info("Executing configure() of {} (priority:{})", configurator.getClass(), configurator.getPriority());
-            configurator.configure(this);
+            if (configurator instanceof IndependentEngineConfigurator && (parallelConfiguratorInitialization || lazyEngineConfigurationKeys != null)) {
+                IndependentEngineConfigurator independentConfigurator = (IndependentEngineConfigurator) configurator;
+                logger.info("Executing prepareEngineConfiguration() of {} (priority:{})", configurator.getClass(), configurator.getPriority());
+                AbstractEngineConfiguration targetEngineConfiguration = independentConfigurator.prepareEngineConfiguration(this);
+
+                if (lazyEngineConfigurationKeys != null && lazyEngineConfigurationKeys.contains(targetEngineConfiguration.getEngineCfgKey())) {
+                    logger.info("Engine of {} will be built on first use of {}", configurator.getClass(), targetEngineConfiguration.getEngineCfgKey());
+                    ((LazyEngineConfigurationMap) engineConfigurations).registerLazyEngine(targetEngineConfiguration.getEngineCfgKey(),
+                            () -> independentConfigurator.buildEngine(this));
+
+                } else if (parallelConfiguratorInitialization) {
+                    parallelConfigurators.add(independentConfigurator);
+
+                } else {
+                    buildIndependentEngine(independentConfigurator);
+                }
+
+            } else {
+                // A configurator that is not independent might depend on the engines configured before it
+                buildIndependentEnginesInParallel(parallelConfigurators);
+                parallelConfigurators.clear();
+
+                logger.info("Executing configure() of {} (priority:{})", configurator.getClass(), configurator.getPriority());
+                long configuratorStartTime = System.currentTimeMillis();
+                configurator.configure(this);
+                logger.info("Executed configure() of {} in {} ms", configurator.getClass(), System.currentTimeMillis() - configuratorStartTime);
+            }
+        }
+
+        buildIndependentEnginesInParallel(parallelConfigurators);
+
+        if (!allConfigurators.isEmpty()) {
+            logger.info("Executed {} engine configurators in {} ms", allConfigurators.size(), System.currentTimeMillis() - startTime);
         }
     }
 
+    protected void buildIndependentEnginesInParallel(List<IndependentEngineConfigurator> independentConfigurators) {
+        if (independentConfigurators.isEmpty()) {
+            return;
+        }
+
+        // The first engine is built on its own: it creates the tables that are shared by all engines (e.g. ACT_GE_PROPERTY) when needed
+        buildIndependentEngine(independentConfigurators.get(0));
+        if (independentConfigurators.size() == 1) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(Math.min(independentConfigurators.size() - 1, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<ForkJoinTask<?>> buildTasks = new ArrayList<>(independentConfigurators.size() - 1);
+            for (IndependentEngineConfigurator independentConfigurator : independentConfigurators.subList(1, independentConfigurators.size())) {
+                buildTasks.add(forkJoinPool.submit(() -> {
+                    Thread currentThread = Thread.currentThread();
+                    ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+                    currentThread.setContextClassLoader(contextClassLoader);
+                    try {
+                        buildIndependentEngine(independentConfigurator);
+                    } finally {
+                        currentThread.setContextClassLoader(originalClassLoader);
+                    }
+                }));
+            }
+
+            for (ForkJoinTask<?> buildTask : buildTasks) {
+                buildTask.join();
+            }
+
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        logger.info("Built {} engines in parallel in {} ms", independentConfigurators.size() - 1, System.currentTimeMillis() - startTime);
+    }
+
+    protected void buildIndependentEngine(IndependentEngineConfigurator independentConfigurator) {
+        long startTime = System.currentTimeMillis();
+        independentConfigurator.buildEngine(this);
+        logger.info("Built engine of {} in {} ms", independentConfigurator.getClass(), System.currentTimeMillis() - startTime);
+    }
+
     public LockManager getLockManager(String lockName) {
         return new LockManagerImpl(commandExecutor, lockName, getLockPollRate());
     }
@@ -1424,6 +1805,18 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public SharedSqlSessionFactoryRegistry getSharedSqlSessionFactoryRegistry() {
+        return sharedSqlSessionFactoryRegistry;
+    }
+
+    /**
+     * Sets the registry through which the MyBatis configuration is shared with the other engines using the same data source.
+     */
+    public AbstractEngineConfiguration setSharedSqlSessionFactoryRegistry(SharedSqlSessionFactoryRegistry sharedSqlSessionFactoryRegistry) {
+        this.sharedSqlSessionFactoryRegistry = sharedSqlSessionFactoryRegistry;
+        return this;
+    }
+
     public boolean isDbHistoryUsed() {
         return isDbHistoryUsed;
     }
@@ -1553,6 +1946,14 @@ public abstract class AbstractEngineConfiguration {
         return usingRelationalDatabase;
     }
 
+    /**
+     * @return true if this engine evaluates conditions only on variable changes, in which case the names of the variables
+     *         written during a command context are tracked by {@link org.flowable.common.engine.impl.el.VariableChangeTrackingUtil}.
+     */
+    public boolean isVariableChangeTrackingEnabled() {
+        return false;
+    }
+
     public AbstractEngineConfiguration setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
         return this;
@@ -1922,6 +2323,60 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isParallelConfiguratorInitialization() {
+        return parallelConfiguratorInitialization;
+    }
+
+    public AbstractEngineConfiguration setParallelConfiguratorInitialization(boolean parallelConfiguratorInitialization) {
+        this.parallelConfiguratorInitialization = parallelConfiguratorInitialization;
+        return this;
+    }
+
+    public Set<String> getLazyEngineConfigurationKeys() {
+        return lazyEngineConfigurationKeys;
+    }
+
+    public AbstractEngineConfiguration setLazyEngineConfigurationKeys(Set<String> lazyEngineConfigurationKeys) {
+        this.lazyEngineConfigurationKeys = lazyEngineConfigurationKeys;
+        return this;
+    }
+
+    public boolean isEnableDefinitionCacheWarmUp() {
+        return enableDefinitionCacheWarmUp;
+    }
+
+    public AbstractEngineConfiguration setEnableDefinitionCacheWarmUp(boolean enableDefinitionCacheWarmUp) {
+        this.enableDefinitionCacheWarmUp = enableDefinitionCacheWarmUp;
+        return this;
+    }
+
+    public boolean isAsyncDefinitionCacheWarmUp() {
+        return asyncDefinitionCacheWarmUp;
+    }
+
+    public AbstractEngineConfiguration setAsyncDefinitionCacheWarmUp(boolean asyncDefinitionCacheWarmUp) {
+        this.asyncDefinitionCacheWarmUp = asyncDefinitionCacheWarmUp;
+        return this;
+    }
+
+    public int getDefinitionCacheWarmUpParallelism() {
+        return definitionCacheWarmUpParallelism;
+    }
+
+    public AbstractEngineConfiguration setDefinitionCacheWarmUpParallelism(int definitionCacheWarmUpParallelism) {
+        this.definitionCacheWarmUpParallelism = definitionCacheWarmUpParallelism;
+        return this;
+    }
+
+    public int getQueryStreamBatchSize() {
+        return queryStreamBatchSize;
+    }
+
+    public AbstractEngineConfiguration setQueryStreamBatchSize(int queryStreamBatchSize) {
+        this.queryStreamBatchSize = queryStreamBatchSize;
+        return this;
+    }
+
     public List<EngineConfigurator> getConfigurators() {
         return configurators;
     }
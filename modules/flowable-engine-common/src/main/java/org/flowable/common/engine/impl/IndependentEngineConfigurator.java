@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+/**
+ * An {@link EngineConfigurator} for an engine that doesn't depend on the engines of the configurators that come after it.
+ * <p>
+ * The configuration of such an engine is split into two steps: {@link #prepareEngineConfiguration(AbstractEngineConfiguration)},
+ * which copies the shared resources of the parent engine and always runs on the thread that initialises the parent engine,
+ * and {@link #buildEngine(AbstractEngineConfiguration)}, which builds the engine. Depending on the settings of the parent engine,
+ * the build step is executed in parallel with the build of other independent engines
+ * (see {@link AbstractEngineConfiguration#setParallelConfiguratorInitialization(boolean)})
+ * or only when the engine configuration is first retrieved
+ * (see {@link AbstractEngineConfiguration#setLazyEngineConfigurationKeys(java.util.Set)}).
+ * <p>
+ * Implementations must make sure that {@link #configure(AbstractEngineConfiguration)} is equivalent to executing both steps.
+ * Subclasses that need to customise the configuration should override the step methods instead of {@link #configure(AbstractEngineConfiguration)}.
+ */
+public interface IndependentEngineConfigurator extends EngineConfigurator {
+
+    /**
+     * Prepares the configuration of the engine with the shared resources of the given parent engine configuration.
+     *
+     * @return the configuration of the engine that will be built
+     */
+    AbstractEngineConfiguration prepareEngineConfiguration(AbstractEngineConfiguration engineConfiguration);
+
+    /**
+     * Builds the engine that was prepared with {@link #prepareEngineConfiguration(AbstractEngineConfiguration)}.
+     */
+    void buildEngine(AbstractEngineConfiguration engineConfiguration);
+
+}
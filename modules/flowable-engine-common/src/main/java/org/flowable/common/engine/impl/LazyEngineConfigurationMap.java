@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The map of engine configurations that is shared by an engine and the engines of its configurators,
+ * when these engines are built in parallel or lazily.
+ * <p>
+ * Next to being safe for concurrent registration of engine configurations, it allows registering an engine that is only built
+ * when its engine configuration is first retrieved with {@link #get(Object)}.
+ * <p>
+ * The engine is built on the first retrieving thread, other threads retrieving it in the meantime wait until it is built.
+ * Building it on another thread could deadlock: the retrieving thread would wait for the build while holding the locks of its transaction,
+ * and the build might need these locks. The command context of the retrieving thread is suspended during the build,
+ * so the schema management and initialisation commands of the engine run in their own command contexts.
+ * Note that they still join a transaction that is bound to the thread by an external transaction manager (e.g. Spring).
+ * <p>
+ * When the build fails, the failure is thrown to the threads waiting for it and the next retrieval builds the engine again.
+ */
+public class LazyEngineConfigurationMap extends ConcurrentHashMap<String, AbstractEngineConfiguration> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LazyEngineConfigurationMap.class);
+
+    protected final transient Map<String, LazyEngine> lazyEngines = new ConcurrentHashMap<>();
+
+    public LazyEngineConfigurationMap(Map<String, AbstractEngineConfiguration> engineConfigurations) {
+        super(engineConfigurations);
+    }
+
+    /**
+     * Registers an engine that is built with the given builder when the engine configuration with the given key is first retrieved.
+     */
+    public void registerLazyEngine(String engineConfigurationKey, Runnable engineBuilder) {
+        lazyEngines.put(engineConfigurationKey, new LazyEngine(engineConfigurationKey, engineBuilder, Thread.currentThread().getContextClassLoader()));
+    }
+
+    public boolean isLazyEnginePending(String engineConfigurationKey) {
+        return lazyEngines.containsKey(engineConfigurationKey);
+    }
+
+    @Override
+    public AbstractEngineConfiguration get(Object key) {
+        if (key == null) {
+            return null;
+        }
+
+        if (!lazyEngines.isEmpty()) {
+            LazyEngine lazyEngine = lazyEngines.get(key);
+            // The engine that is being built retrieves its own configuration, which has already been registered at that point
+            if (lazyEngine != null && lazyEngine.buildThread != Thread.currentThread()) {
+                lazyEngine.awaitBuild();
+            }
+        }
+
+        return super.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && (lazyEngines.containsKey(key) || super.containsKey(key));
+    }
+
+    protected class LazyEngine {
+
+        protected final String engineConfigurationKey;
+        protected final Runnable engineBuilder;
+        protected final ClassLoader classLoader;
+        protected final CompletableFuture<Void> buildFuture = new CompletableFuture<>();
+        protected final AtomicBoolean buildStarted = new AtomicBoolean();
+        protected volatile Thread buildThread;
+
+        public LazyEngine(String engineConfigurationKey, Runnable engineBuilder, ClassLoader classLoader) {
+            this.engineConfigurationKey = engineConfigurationKey;
+            this.engineBuilder = engineBuilder;
+            this.classLoader = classLoader;
+        }
+
+        protected void awaitBuild() {
+            if (buildStarted.compareAndSet(false, true)) {
+                build();
+            }
+
+            try {
+                buildFuture.join();
+            } catch (CompletionException e) {
+                throw new FlowableException("Could not build lazily initialised engine for " + engineConfigurationKey, e.getCause());
+            }
+        }
+
+        protected void build() {
+            long startTime = System.currentTimeMillis();
+            Thread currentThread = Thread.currentThread();
+            ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+            buildThread = currentThread;
+            currentThread.setContextClassLoader(classLoader);
+
+            // A null command context makes the commands of the engine create their own command context instead of reusing the current one
+            Context.setCommandContext(null);
+            try {
+                engineBuilder.run();
+                lazyEngines.remove(engineConfigurationKey, this);
+                buildFuture.complete(null);
+                LOGGER.info("Built lazily initialised engine for {} in {} ms", engineConfigurationKey, System.currentTimeMillis() - startTime);
+
+            } catch (Throwable t) {
+                LOGGER.error("Could not build lazily initialised engine for {}", engineConfigurationKey, t);
+                // The next retrieval builds the engine again
+                lazyEngines.replace(engineConfigurationKey, this, new LazyEngine(engineConfigurationKey, engineBuilder, classLoader));
+                buildFuture.completeExceptionally(t);
+
+            } finally {
+                Context.removeCommandContext();
+                currentThread.setContextClassLoader(previousClassLoader);
+                buildThread = null;
+            }
+        }
+    }
+
+}
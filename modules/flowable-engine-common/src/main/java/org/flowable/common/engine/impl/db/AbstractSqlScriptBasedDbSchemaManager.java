@@ -22,6 +22,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 
 import org.apache.commons.lang3.StringUtils;
@@ -209,6 +210,79 @@ public abstract class AbstractSqlScriptBasedDbSchemaManager implements SchemaMan
         }
     }
     
+    /**
+     * Stores the value of the given property, inserting the property when it doesn't exist yet.
+     * Does nothing when the property table is not present.
+     */
+    public void setProperty(String propertyName, String propertyValue) {
+        String tableName = getPropertyTable();
+
+        if (!isTablePresent(tableName)) {
+            return;
+        }
+
+        if (!getDbSqlSession().getDbSqlSessionFactory().isTablePrefixIsSchema()) {
+            tableName = prependDatabaseTablePrefix(tableName);
+        }
+
+        Connection connection = getDbSqlSession().getSqlSession().getConnection();
+        Savepoint savepoint = null;
+        try {
+            int updatedRows;
+            try (PreparedStatement statement = connection.prepareStatement("update " + tableName + " set VALUE_ = ?, REV_ = REV_ + 1 where NAME_ = ?")) {
+                statement.setString(1, propertyValue);
+                statement.setString(2, propertyName);
+                updatedRows = statement.executeUpdate();
+            }
+
+            if (updatedRows == 0) {
+                // Another node could insert the same property concurrently,
+                // the savepoint makes sure a failing insert doesn't invalidate the whole transaction
+                if (!connection.getAutoCommit()) {
+                    savepoint = connection.setSavepoint();
+                }
+                try (PreparedStatement statement = connection.prepareStatement("insert into " + tableName + " (NAME_, VALUE_, REV_) values (?, ?, 1)")) {
+                    statement.setString(1, propertyName);
+                    statement.setString(2, propertyValue);
+                    statement.executeUpdate();
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.warn("Could not set property {} in table {}", propertyName, tableName, e);
+            if (savepoint != null) {
+                try {
+                    connection.rollback(savepoint);
+                } catch (SQLException rollbackException) {
+                    logger.warn("Could not roll back to savepoint", rollbackException);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the given property. Does nothing when the property table is not present.
+     */
+    public void deleteProperty(String propertyName) {
+        String tableName = getPropertyTable();
+
+        if (!isTablePresent(tableName)) {
+            return;
+        }
+
+        if (!getDbSqlSession().getDbSqlSessionFactory().isTablePrefixIsSchema()) {
+            tableName = prependDatabaseTablePrefix(tableName);
+        }
+
+        try (PreparedStatement statement = getDbSqlSession().getSqlSession().getConnection()
+                .prepareStatement("delete from " + tableName + " where NAME_ = ?")) {
+            statement.setString(1, propertyName);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            logger.warn("Could not delete property {} from table {}", propertyName, tableName, e);
+        }
+    }
+
     protected String getPropertyTable() {
         return PROPERTY_TABLE;
     }
@@ -14,10 +14,13 @@ package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.FlowableVersions;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.slf4j.Logger;
@@ -36,16 +39,29 @@ import liquibase.resource.ClassLoaderResourceAccessor;
  */
 public abstract class LiquibaseBasedSchemaManager implements SchemaManager {
 
+    /**
+     * Serialises the use of Liquibase when engines are built in parallel,
+     * as Liquibase relies on static factories and service lookups that are not meant to be used concurrently.
+     */
+    protected static final Lock LIQUIBASE_LOCK = new ReentrantLock();
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     protected final String context;
     protected final String changeLogFile;
     protected final String changeLogPrefix;
 
+    /**
+     * The name of the property in the property table that holds the Flowable version the schema was last updated with.
+     * When it matches the current version, the schema update and validation don't need to start Liquibase at all.
+     */
+    protected final String schemaVersionProperty;
+
     public LiquibaseBasedSchemaManager(String context, String changeLogFile, String changeLogPrefix) {
         this.context = context;
         this.changeLogFile = changeLogFile;
         this.changeLogPrefix = changeLogPrefix;
+        this.schemaVersionProperty = context + ".schema.version";
     }
 
     public void initSchema(String databaseSchemaUpdate) {
@@ -72,46 +88,66 @@ public abstract class LiquibaseBasedSchemaManager implements SchemaManager {
     @Override
     public void schemaCreate() {
         Liquibase liquibase = null;
+        LIQUIBASE_LOCK.lock();
         try {
             liquibase = createLiquibaseInstance(getDatabaseConfiguration());
             liquibase.update(context);
+            storeSchemaVersion();
         } catch (Exception e) {
             throw new FlowableException("Error creating " + context + " engine tables", e);
         } finally {
             closeDatabase(liquibase);
+            LIQUIBASE_LOCK.unlock();
         }
     }
 
     @Override
     public void schemaDrop() {
         Liquibase liquibase = null;
+        LIQUIBASE_LOCK.lock();
         try {
+            deleteSchemaVersion();
             liquibase = createLiquibaseInstance(getDatabaseConfiguration());
             liquibase.dropAll();
         } catch (Exception e) {
             throw new FlowableException("Error dropping " + context + " engine tables", e);
         } finally {
             closeDatabase(liquibase);
+            LIQUIBASE_LOCK.unlock();
         }
     }
 
     @Override
     public String schemaUpdate() {
+        if (isSchemaVersionCurrent()) {
+            logger.debug("{} schema is at version {}, skipping Liquibase update", context, FlowableVersions.CURRENT_VERSION);
+            return null;
+        }
+
         Liquibase liquibase = null;
+        LIQUIBASE_LOCK.lock();
         try {
             liquibase = createLiquibaseInstance(getDatabaseConfiguration());
             liquibase.update(context);
+            storeSchemaVersion();
         } catch (Exception e) {
             throw new FlowableException("Error updating " + context + " engine tables", e);
         } finally {
             closeDatabase(liquibase);
+            LIQUIBASE_LOCK.unlock();
         }
         return null;
     }
 
     @Override
     public void schemaCheckVersion() {
+        if (isSchemaVersionCurrent()) {
+            logger.debug("{} schema is at version {}, skipping Liquibase validation", context, FlowableVersions.CURRENT_VERSION);
+            return;
+        }
+
         Liquibase liquibase = null;
+        LIQUIBASE_LOCK.lock();
         try {
             liquibase = createLiquibaseInstance(getDatabaseConfiguration());
             liquibase.validate();
@@ -119,11 +155,39 @@ public abstract class LiquibaseBasedSchemaManager implements SchemaManager {
             throw new FlowableException("Error validating " + context + " engine schema", e);
         } finally {
             closeDatabase(liquibase);
+            LIQUIBASE_LOCK.unlock();
         }
     }
 
     protected abstract LiquibaseDatabaseConfiguration getDatabaseConfiguration();
 
+    protected boolean isSchemaVersionCurrent() {
+        // The property table can only be read through the session of the current command context
+        if (Context.getCommandContext() == null) {
+            return false;
+        }
+        return FlowableVersions.CURRENT_VERSION.equals(getPropertySchemaManager().getProperty(schemaVersionProperty));
+    }
+
+    protected void storeSchemaVersion() {
+        if (Context.getCommandContext() != null) {
+            getPropertySchemaManager().setProperty(schemaVersionProperty, FlowableVersions.CURRENT_VERSION);
+        }
+    }
+
+    protected void deleteSchemaVersion() {
+        if (Context.getCommandContext() != null) {
+            getPropertySchemaManager().deleteProperty(schemaVersionProperty);
+        }
+    }
+
+    /**
+     * @return the schema manager used to access the property table that holds the schema version
+     */
+    protected AbstractSqlScriptBasedDbSchemaManager getPropertySchemaManager() {
+        return new CommonDbSchemaManager();
+    }
+
     protected Liquibase createLiquibaseInstance(LiquibaseDatabaseConfiguration databaseConfiguration) throws SQLException {
         Connection jdbcConnection = null;
         boolean closeConnection = false;
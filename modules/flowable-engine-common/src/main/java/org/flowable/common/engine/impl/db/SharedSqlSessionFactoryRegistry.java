@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares one MyBatis {@link Configuration} (and {@link SqlSessionFactory}) between engines that are built independently
+ * (i.e. not through an engine configurator) but use the same data source, table prefix and wildcard escape character.
+ * <p>
+ * The first engine of such a group that is built creates the configuration from its own MyBatis configuration file.
+ * Every engine that is built afterwards adds its settings, plugins, type aliases, type handlers and mappings to it,
+ * see {@link AbstractEngineConfiguration#addMybatisMappings(Configuration)}.
+ * The mappings that are common to several engines (job, variable, identity link, ...) are thereby only parsed once.
+ * <p>
+ * Adding an engine fails when its MyBatis settings or type handlers conflict with the shared configuration,
+ * e.g. engines that use different variable types can't share a configuration.
+ * MyBatis configurations are not meant to be changed while they are in use,
+ * so all engines sharing a configuration should be built before any of them is used.
+ */
+public class SharedSqlSessionFactoryRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedSqlSessionFactoryRegistry.class);
+
+    protected final Map<SharedConfigurationKey, SqlSessionFactory> sqlSessionFactories = new HashMap<>();
+
+    public synchronized SqlSessionFactory getSqlSessionFactory(AbstractEngineConfiguration engineConfiguration) {
+        SharedConfigurationKey key = new SharedConfigurationKey(engineConfiguration);
+        SqlSessionFactory sqlSessionFactory = sqlSessionFactories.get(key);
+        if (sqlSessionFactory == null) {
+            sqlSessionFactory = engineConfiguration.createSqlSessionFactory();
+            sqlSessionFactories.put(key, sqlSessionFactory);
+            LOGGER.info("Created shared MyBatis configuration for {}", engineConfiguration.getEngineName());
+
+        } else {
+            long start = System.currentTimeMillis();
+            engineConfiguration.addMybatisMappings(sqlSessionFactory.getConfiguration());
+            LOGGER.info("Added {} to shared MyBatis configuration in {} ms", engineConfiguration.getEngineName(), System.currentTimeMillis() - start);
+        }
+
+        return sqlSessionFactory;
+    }
+
+    protected static class SharedConfigurationKey {
+
+        protected final DataSource dataSource;
+        protected final String databaseType;
+        protected final String databaseTablePrefix;
+        protected final String databaseWildcardEscapeCharacter;
+
+        public SharedConfigurationKey(AbstractEngineConfiguration engineConfiguration) {
+            this.dataSource = engineConfiguration.getDataSource();
+            this.databaseType = engineConfiguration.getDatabaseType();
+            this.databaseTablePrefix = engineConfiguration.getDatabaseTablePrefix();
+            this.databaseWildcardEscapeCharacter = engineConfiguration.getDatabaseWildcardEscapeCharacter();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SharedConfigurationKey that = (SharedConfigurationKey) o;
+            return dataSource == that.dataSource
+                    && Objects.equals(databaseType, that.databaseType)
+                    && Objects.equals(databaseTablePrefix, that.databaseTablePrefix)
+                    && Objects.equals(databaseWildcardEscapeCharacter, that.databaseWildcardEscapeCharacter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(dataSource), databaseType, databaseTablePrefix, databaseWildcardEscapeCharacter);
+        }
+    }
+
+}
@@ -18,11 +18,15 @@ package org.flowable.common.engine.impl.de.odysseus.el;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
 import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.ExpressionNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.IdentifierNode;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.NodePrinter;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilder;
@@ -51,6 +55,8 @@ public final class TreeValueExpression extends ValueExpression {
 	private final String expr;
 	private final Class<?> type;
 	private final boolean deferred;
+	private final Set<String> identifierNames;
+	private final boolean containsFunctions;
 
 	private transient ExpressionNode node;
 
@@ -75,6 +81,13 @@ public final class TreeValueExpression extends ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+
+		Set<String> names = new LinkedHashSet<>();
+		for (IdentifierNode identifierNode : tree.getIdentifierNodes()) {
+			names.add(identifierNode.getName());
+		}
+		this.identifierNames = Collections.unmodifiableSet(names);
+		this.containsFunctions = tree.getFunctionNodes().iterator().hasNext();
 		
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
@@ -88,6 +101,20 @@ public final class TreeValueExpression extends ValueExpression {
 		return structure;
 	}
 	
+	/**
+	 * Names of the top level identifiers (e.g. variables or beans) used in the expression.
+	 */
+	public Set<String> getIdentifierNames() {
+		return identifierNames;
+	}
+
+	/**
+	 * Answer <code>true</code> if the expression invokes functions, which could read any value.
+	 */
+	public boolean isContainsFunctions() {
+		return containsFunctions;
+	}
+
 	@Override
 	public Class<?> getExpectedType() {
 		return type;
@@ -13,9 +13,12 @@
 
 package org.flowable.common.engine.impl.el;
 
+import java.util.Set;
+
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.MethodNotFoundException;
 import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
@@ -84,6 +87,20 @@ public class JuelExpression implements Expression {
         valueExpression.setValue(elContext, value);
     }
 
+    /**
+     * @return the names of the top level identifiers (variables, beans or context objects like 'execution') read by this expression,
+     *         or null if these can't be determined from the expression tree, for example because it invokes functions.
+     */
+    public Set<String> getReferencedIdentifierNames() {
+        if (valueExpression instanceof TreeValueExpression) {
+            TreeValueExpression treeValueExpression = (TreeValueExpression) valueExpression;
+            if (!treeValueExpression.isContainsFunctions()) {
+                return treeValueExpression.getIdentifierNames();
+            }
+        }
+        return null;
+    }
+
     @Override
     public String toString() {
         if (valueExpression != null) {
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Keeps track of the names of the variables written during a {@link CommandContext}, so conditions that don't read any of them
+ * can be left unevaluated.
+ */
+public class VariableChangeTrackingUtil {
+
+    public static final String ATTRIBUTE_CHANGED_VARIABLE_NAMES = "flowable.changedVariableNames";
+
+    public static void recordVariableChange(String variableName) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null || variableName == null || !isVariableChangeTrackingEnabled(commandContext)) {
+            return;
+        }
+        getOrCreateChangedVariableNames(commandContext).add(variableName);
+    }
+
+    protected static boolean isVariableChangeTrackingEnabled(CommandContext commandContext) {
+        Map<String, AbstractEngineConfiguration> engineConfigurations = commandContext.getEngineConfigurations();
+        if (engineConfigurations != null) {
+            for (AbstractEngineConfiguration engineConfiguration : engineConfigurations.values()) {
+                if (engineConfiguration.isVariableChangeTrackingEnabled()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Set<String> getChangedVariableNames(CommandContext commandContext) {
+        Set<String> changedVariableNames = (Set<String>) commandContext.getAttribute(ATTRIBUTE_CHANGED_VARIABLE_NAMES);
+        return changedVariableNames != null ? changedVariableNames : Collections.emptySet();
+    }
+
+    /**
+     * Determines if the value of the given expression could be different from its value at the start of the current command context.
+     * This is only considered false when the expression is a plain JUEL expression without functions of which every identifier
+     * is an existing variable of the variable container and none of these variables were written in the current command context.
+     * Any other identifier (a bean, or a context object like 'execution' or 'planItemInstance') means the expression needs to be evaluated.
+     */
+    public static boolean isAffectedByVariableChanges(Expression expression, VariableContainer variableContainer, CommandContext commandContext) {
+        if (!(expression instanceof JuelExpression)) {
+            return true;
+        }
+
+        Set<String> identifierNames = ((JuelExpression) expression).getReferencedIdentifierNames();
+        if (identifierNames == null || identifierNames.isEmpty()) {
+            return true;
+        }
+
+        Set<String> changedVariableNames = getChangedVariableNames(commandContext);
+        for (String identifierName : identifierNames) {
+            if (changedVariableNames.contains(identifierName) || !variableContainer.hasVariable(identifierName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static Set<String> getOrCreateChangedVariableNames(CommandContext commandContext) {
+        Set<String> changedVariableNames = (Set<String>) commandContext.getAttribute(ATTRIBUTE_CHANGED_VARIABLE_NAMES);
+        if (changedVariableNames == null) {
+            changedVariableNames = new HashSet<>();
+            commandContext.addAttribute(ATTRIBUTE_CHANGED_VARIABLE_NAMES, changedVariableNames);
+        }
+        return changedVariableNames;
+    }
+
+}
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads definitions into the definition cache of an engine when the engine is created,
+ * so that the first requests for a definition after a (re)start don't have to fetch and parse its model.
+ * <p>
+ * The warm-up is configured through {@link AbstractEngineConfiguration#isEnableDefinitionCacheWarmUp()},
+ * {@link AbstractEngineConfiguration#isAsyncDefinitionCacheWarmUp()} and {@link AbstractEngineConfiguration#getDefinitionCacheWarmUpParallelism()}.
+ * A definition that fails to resolve is logged and skipped: it will be resolved again on its first use, as without warm-up.
+ */
+public class DefinitionCacheWarmUp {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefinitionCacheWarmUp.class);
+
+    protected String definitionType;
+    protected Supplier<List<String>> definitionIdsSupplier;
+    protected Consumer<String> definitionResolver;
+    protected boolean async;
+    protected int parallelism;
+
+    /**
+     * @param definitionType used for logging, e.g. 'process definition'
+     * @param definitionIdsSupplier returns the ids of the definitions to load, typically the latest version of every definition per tenant
+     * @param definitionResolver resolves a single definition, putting it in the cache. This is invoked outside of a command context.
+     */
+    public DefinitionCacheWarmUp(AbstractEngineConfiguration engineConfiguration, String definitionType,
+            Supplier<List<String>> definitionIdsSupplier, Consumer<String> definitionResolver) {
+        this.definitionType = definitionType;
+        this.definitionIdsSupplier = definitionIdsSupplier;
+        this.definitionResolver = definitionResolver;
+        this.async = engineConfiguration.isAsyncDefinitionCacheWarmUp();
+        this.parallelism = engineConfiguration.getDefinitionCacheWarmUpParallelism();
+    }
+
+    /**
+     * Executes the warm-up, either in the calling thread or, when configured to be asynchronous, in a new background thread.
+     */
+    public void start() {
+        if (async) {
+            Thread thread = new Thread(this::warmUp, "flowable-" + definitionType.replace(' ', '-') + "-cache-warm-up");
+            thread.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            warmUp();
+        }
+    }
+
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+
+        List<String> definitionIds;
+        try {
+            definitionIds = definitionIdsSupplier.get();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not determine the {}s to load in the cache", definitionType, e);
+            return;
+        }
+
+        AtomicInteger resolvedCount = new AtomicInteger();
+        if (parallelism > 1 && definitionIds.size() > 1) {
+            ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, definitionIds.size()));
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            try {
+                for (String definitionId : definitionIds) {
+                    executorService.execute(() -> {
+                        Thread.currentThread().setContextClassLoader(classLoader);
+                        resolveDefinition(definitionId, resolvedCount);
+                    });
+                }
+            } finally {
+                executorService.shutdown();
+            }
+
+            try {
+                executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executorService.shutdownNow();
+                throw new FlowableException("Interrupted while loading " + definitionType + "s in the cache", e);
+            }
+
+        } else {
+            for (String definitionId : definitionIds) {
+                resolveDefinition(definitionId, resolvedCount);
+            }
+        }
+
+        LOGGER.info("Loaded {} of {} {}s in the cache in {} ms", resolvedCount.get(), definitionIds.size(), definitionType,
+                System.currentTimeMillis() - start);
+    }
+
+    protected void resolveDefinition(String definitionId, AtomicInteger resolvedCount) {
+        try {
+            definitionResolver.accept(definitionId);
+            resolvedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not load {} {} in the cache", definitionType, definitionId, e);
+        }
+    }
+
+}
@@ -13,12 +13,34 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPaginatedQuery;
+import org.flowable.common.engine.api.query.ProjectionQuery;
+import org.flowable.common.engine.api.query.ProjectionRecord;
 import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.api.query.QueryProjection;
 import org.flowable.common.engine.api.query.QueryProperty;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.ListQueryParameterObject;
@@ -38,6 +60,25 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    /**
+     * When set, only results with an id after this id are returned. Used to fetch the next batch of a stream (see {@link #streamOrderedById(Function)}).
+     */
+    protected String afterId;
+
+    /**
+     * The value of the ordered property of the last result of the previous page, see {@link KeysetPaginatedQuery#after(Object, String)}.
+     */
+    protected Object afterSortValue;
+    protected boolean keysetPagination;
+    protected boolean keysetPaginationResolved;
+    protected String afterSortColumn;
+    protected boolean afterDescending;
+
+    /**
+     * The columns that are selected when executing a projection of this query (see {@link ProjectionQuery}).
+     */
+    protected List<String> projectionColumns;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -91,10 +132,136 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return (T) this;
     }
 
+    /**
+     * See {@link KeysetPaginatedQuery#after(Object, String)}. Only queries that implement {@link KeysetPaginatedQuery}
+     * and override {@link #getKeysetSortColumnTypes()} expose this method and have the keyset condition in their query criteria.
+     */
+    @SuppressWarnings("unchecked")
+    public T after(Object lastSortValue, String lastId) {
+        if (lastId == null) {
+            throw new FlowableIllegalArgumentException("lastId is null");
+        }
+        this.afterSortValue = lastSortValue;
+        this.afterId = lastId;
+        this.keysetPagination = true;
+        this.keysetPaginationResolved = false;
+        return (T) this;
+    }
+
     protected void checkQueryOk() {
         if (orderProperty != null) {
             throw new FlowableIllegalArgumentException("Invalid query: call asc() or desc() after using orderByXX()");
         }
+        if (!keysetPaginationResolved) {
+            resolveKeysetPagination();
+        }
+    }
+
+    /**
+     * Determines the column and direction of the keyset condition from the order of this query and adds the id as tie-breaker to the order.
+     * The tie-breaker is also added without {@link #after(Object, String)} when the query is ordered by a single property that supports
+     * keyset pagination, so that the first page is ordered in the same way as the pages after it. This is done once,
+     * before any subclass adds an internal order (e.g. on the variable time when including variables).
+     */
+    protected void resolveKeysetPagination() {
+        Map<String, Class<?>> keysetSortColumnTypes = getKeysetSortColumnTypes();
+        if (keysetSortColumnTypes.isEmpty()) {
+            return;
+        }
+
+        String idColumn = getKeysetIdColumn();
+        List<String> sortColumns = new ArrayList<>();
+        Boolean idAscending = null;
+        for (Map.Entry<String, Boolean> orderByColumn : orderByColumnMap.entrySet()) {
+            if (isKeysetIdColumn(orderByColumn.getKey())) {
+                idAscending = orderByColumn.getValue();
+            } else {
+                sortColumns.add(orderByColumn.getKey());
+            }
+        }
+
+        if (!keysetPagination) {
+            if (sortColumns.size() == 1 && keysetSortColumnTypes.containsKey(sortColumns.get(0)) && idAscending == null) {
+                boolean ascending = orderByColumnMap.get(sortColumns.get(0));
+                addOrder(idColumn, ascending ? Direction.ASCENDING.getName() : Direction.DESCENDING.getName(), null);
+            }
+            keysetPaginationResolved = true;
+            return;
+        }
+
+        if (sortColumns.size() > 1) {
+            throw new FlowableIllegalArgumentException("Keyset pagination can only be used when ordering by a single property, but ordered by " + sortColumns);
+        }
+
+        if (sortColumns.isEmpty()) {
+            afterSortColumn = null;
+            afterDescending = Boolean.FALSE.equals(idAscending);
+
+        } else {
+            String sortColumn = sortColumns.get(0);
+            Class<?> sortColumnType = keysetSortColumnTypes.get(sortColumn);
+            if (sortColumnType == null) {
+                throw new FlowableIllegalArgumentException("Ordering by " + sortColumn + " is not supported for keyset pagination");
+            }
+            afterDescending = !orderByColumnMap.get(sortColumn);
+            afterSortColumn = sortColumn;
+            if (afterSortValue != null) {
+                afterSortValue = convertKeysetSortValue(afterSortValue, sortColumnType);
+            }
+
+            if (idAscending == null) {
+                addOrder(idColumn, afterDescending ? Direction.DESCENDING.getName() : Direction.ASCENDING.getName(), null);
+            } else if (idAscending == afterDescending) {
+                throw new FlowableIllegalArgumentException("Keyset pagination requires the id to be ordered in the same direction as " + sortColumn);
+            }
+        }
+
+        keysetPaginationResolved = true;
+    }
+
+    /**
+     * Whether ordering by the given column orders by the id of the results, e.g. when the id is stored in another column as well.
+     */
+    protected boolean isKeysetIdColumn(String column) {
+        return getKeysetIdColumn().equals(column);
+    }
+
+    protected Object convertKeysetSortValue(Object value, Class<?> type) {
+        if (type.isInstance(value)) {
+            return value;
+        }
+
+        String stringValue = value.toString();
+        try {
+            if (type == Date.class) {
+                if (stringValue.chars().allMatch(Character::isDigit)) {
+                    return new Date(Long.parseLong(stringValue));
+                }
+                return Date.from(OffsetDateTime.parse(stringValue).toInstant());
+            } else if (type == Integer.class) {
+                return Integer.valueOf(stringValue);
+            } else if (type == String.class) {
+                return stringValue;
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new FlowableIllegalArgumentException("Invalid lastSortValue '" + stringValue + "', expected a value of type " + type.getSimpleName(), e);
+        }
+        throw new FlowableIllegalArgumentException("Unsupported lastSortValue type " + value.getClass().getName() + ", expected " + type.getSimpleName());
+    }
+
+    /**
+     * The column of the id that is used as tie-breaker for keyset pagination.
+     */
+    protected String getKeysetIdColumn() {
+        return "RES.ID_";
+    }
+
+    /**
+     * The columns (as used in the order by) that can be combined with keyset pagination, mapped to the type of their values.
+     * The columns can contain null values, which are ordered as the database orders them (see {@link #isAfterNullsFirst()}).
+     */
+    protected Map<String, Class<?>> getKeysetSortColumnTypes() {
+        return Collections.emptyMap();
     }
 
     @Override
@@ -160,6 +327,240 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         }
     }
 
+    /**
+     * Returns the results of this query as a stream, ordered by id, that fetches the results in batches while it is consumed.
+     * Every batch is fetched in its own transaction and continues after the id of the last result of the previous batch,
+     * instead of skipping an offset. Only the current batch is kept in memory and fetching a batch doesn't get slower
+     * towards the end of the results, which makes this suited for exporting large results.
+     * The size of a batch is determined by {@link AbstractEngineConfiguration#getQueryStreamBatchSize()}.
+     * <p>
+     * Note that the stream is not a consistent snapshot: data changed by other transactions while the stream is consumed
+     * is visible in the batches that are fetched after the change.
+     *
+     * @param idProvider returns the id of a result of this query
+     */
+    protected Stream<U> streamOrderedById(Function<U, String> idProvider) {
+        checkQueryOk();
+        if (commandExecutor == null) {
+            throw new FlowableException("A query can only be streamed when it is not executed within a command");
+        }
+        if (orderByColumns != null) {
+            throw new FlowableIllegalArgumentException("The results of a streamed query are ordered by id, no other order can be used");
+        }
+
+        Iterator<U> iterator = new Iterator<U>() {
+
+            protected Iterator<U> batchIterator = Collections.emptyIterator();
+            protected String lastId;
+            protected boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!batchIterator.hasNext() && !exhausted) {
+                    // Only an empty batch ends the stream, as a query including variables can return less results than the batch size
+                    List<U> batch = fetchStreamBatch(lastId);
+                    if (batch.isEmpty()) {
+                        exhausted = true;
+                    } else {
+                        lastId = idProvider.apply(batch.get(batch.size() - 1));
+                        batchIterator = batch.iterator();
+                    }
+                }
+                return batchIterator.hasNext();
+            }
+
+            @Override
+            public U next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return batchIterator.next();
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<U> fetchStreamBatch(String afterId) {
+        return (List<U>) commandExecutor.execute(commandContext -> {
+            // The paging of the query is only changed while fetching the batch, so the query can still be used after streaming it
+            String originalAfterId = this.afterId;
+            int originalFirstResult = this.firstResult;
+            int originalMaxResults = this.maxResults;
+            ResultType originalResultType = this.resultType;
+            try {
+                this.afterId = afterId;
+                this.firstResult = 0;
+                this.maxResults = commandContext.getCurrentEngineConfiguration().getQueryStreamBatchSize();
+                this.resultType = ResultType.LIST_PAGE;
+                return execute(commandContext);
+
+            } finally {
+                this.afterId = originalAfterId;
+                this.firstResult = originalFirstResult;
+                this.maxResults = originalMaxResults;
+                this.resultType = originalResultType;
+            }
+        });
+    }
+
+    /**
+     * See {@link ProjectionQuery#listProjection(QueryProjection)}. Only queries that implement {@link ProjectionQuery}
+     * and override {@link #getProjectionFieldColumns()} expose this method.
+     */
+    public List<ProjectionRecord> listProjection(QueryProjection projection) {
+        this.resultType = ResultType.LIST;
+        if (commandExecutor != null) {
+            return commandExecutor.execute(commandContext -> executeProjection(commandContext, projection));
+        }
+        return executeProjection(Context.getCommandContext(), projection);
+    }
+
+    /**
+     * See {@link ProjectionQuery#listPageProjection(QueryProjection, int, int)}.
+     */
+    public List<ProjectionRecord> listPageProjection(QueryProjection projection, int firstResult, int maxResults) {
+        this.firstResult = firstResult;
+        this.maxResults = maxResults;
+        this.resultType = ResultType.LIST_PAGE;
+        if (commandExecutor != null) {
+            return commandExecutor.execute(commandContext -> executeProjection(commandContext, projection));
+        }
+        return executeProjection(Context.getCommandContext(), projection);
+    }
+
+    protected List<ProjectionRecord> executeProjection(CommandContext commandContext, QueryProjection projection) {
+        checkQueryOk();
+
+        Map<String, String> fieldColumns = getProjectionFieldColumns();
+        if (fieldColumns.isEmpty()) {
+            throw new FlowableException("Projections are not supported by " + getClass().getSimpleName());
+        }
+
+        String idColumn = getKeysetIdColumn();
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add(idColumn);
+        for (String field : projection.getFields()) {
+            String column = fieldColumns.get(field);
+            if (column == null) {
+                throw new FlowableIllegalArgumentException("Field '" + field + "' cannot be selected, supported fields are " + fieldColumns.keySet());
+            }
+            columns.add(column);
+        }
+        columns.addAll(getProjectionRequiredColumns(projection));
+        for (String orderByColumn : orderByColumnMap.keySet()) {
+            // Ordered columns need to be selected as the projection selects distinct rows
+            if (orderByColumn.startsWith("RES.")) {
+                columns.add(orderByColumn);
+            }
+        }
+
+        List<Map<String, Object>> rows;
+        projectionColumns = new ArrayList<>(columns);
+        try {
+            rows = executeProjectionList(commandContext);
+        } finally {
+            projectionColumns = null;
+        }
+
+        List<Map<String, Object>> projectionRows = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            // The case of the column labels depends on the database
+            Map<String, Object> projectionRow = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            projectionRow.putAll(row);
+            projectionRows.add(projectionRow);
+        }
+
+        Map<String, Map<String, Object>> variables = Collections.emptyMap();
+        if (!projection.getVariableNames().isEmpty() && !projectionRows.isEmpty()) {
+            variables = findProjectionVariables(commandContext, projectionRows, projection.getVariableNames());
+        }
+
+        List<ProjectionRecord> records = new ArrayList<>(projectionRows.size());
+        for (Map<String, Object> projectionRow : projectionRows) {
+            String id = (String) getProjectionValue(projectionRow, idColumn);
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (String field : projection.getFields()) {
+                fields.put(field, getProjectionValue(projectionRow, fieldColumns.get(field)));
+            }
+            Map<String, Object> recordVariables = variables.get(id);
+            records.add(new ProjectionRecord(id, fields, recordVariables != null ? recordVariables : Collections.emptyMap()));
+        }
+        return records;
+    }
+
+    protected Object getProjectionValue(Map<String, Object> projectionRow, String column) {
+        return projectionRow.get(column.substring(column.indexOf('.') + 1));
+    }
+
+    /**
+     * The fields that can be selected in a projection of this query, mapped to their column (as used in the where clause of the query).
+     */
+    protected Map<String, String> getProjectionFieldColumns() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Columns that need to be selected to fetch the variables of the given projection, see {@link #findProjectionVariables(CommandContext, List, Set)}.
+     */
+    protected Set<String> getProjectionRequiredColumns(QueryProjection projection) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Executes the projection of this query, selecting the {@link #getProjectionColumns()} into a map per result.
+     */
+    protected List<Map<String, Object>> executeProjectionList(CommandContext commandContext) {
+        throw new FlowableException("Projections are not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Fetches the given variables of the given rows of a projection.
+     *
+     * @param projectionRows the rows of the projection, with case insensitive column names
+     * @return the variable values, mapped by the id of the result
+     */
+    protected Map<String, Map<String, Object>> findProjectionVariables(CommandContext commandContext, List<Map<String, Object>> projectionRows,
+            Set<String> variableNames) {
+        throw new FlowableException("Projecting variables is not supported by " + getClass().getSimpleName());
+    }
+
+    public List<String> getProjectionColumns() {
+        return projectionColumns;
+    }
+
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public Object getAfterSortValue() {
+        return afterSortValue;
+    }
+
+    public String getAfterSortColumn() {
+        return afterSortColumn;
+    }
+
+    public String getAfterComparison() {
+        return afterDescending ? "<" : ">";
+    }
+
+    public String getAfterInclusiveComparison() {
+        return afterDescending ? "<=" : ">=";
+    }
+
+    /**
+     * Whether null values of the ordered column come before the other values in the order of the keyset pagination.
+     * Oracle, PostgreSQL and DB2 order null values as larger than any other value, the other databases as smaller.
+     */
+    public boolean isAfterNullsFirst() {
+        boolean nullsLargest = AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)
+                || AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType)
+                || AbstractEngineConfiguration.DATABASE_TYPE_DB2.equals(databaseType);
+        return nullsLargest == afterDescending;
+    }
+
     public abstract long executeCount(CommandContext commandContext);
 
     /**
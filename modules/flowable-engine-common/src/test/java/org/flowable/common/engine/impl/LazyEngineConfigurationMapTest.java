@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.junit.jupiter.api.Test;
+
+class LazyEngineConfigurationMapTest {
+
+    private LazyEngineConfigurationMap engineConfigurations = new LazyEngineConfigurationMap(Collections.emptyMap());
+
+    @Test
+    void engineIsBuiltOnRetrievingThreadWithoutItsCommandContext() {
+        TestEngineConfiguration engineConfiguration = new TestEngineConfiguration();
+        AtomicReference<Thread> buildThread = new AtomicReference<>();
+        AtomicReference<CommandContext> buildCommandContext = new AtomicReference<>();
+        engineConfigurations.registerLazyEngine("test", () -> {
+            buildThread.set(Thread.currentThread());
+            buildCommandContext.set(Context.getCommandContext());
+            engineConfigurations.put("test", engineConfiguration);
+            // The engine retrieves its own configuration while it is being built
+            assertThat(engineConfigurations.get("test")).isSameAs(engineConfiguration);
+        });
+
+        CommandContext commandContext = new CommandContext(context -> null);
+        Context.setCommandContext(commandContext);
+        try {
+            assertThat(engineConfigurations.get("test")).isSameAs(engineConfiguration);
+            assertThat(Context.getCommandContext()).isSameAs(commandContext);
+        } finally {
+            Context.removeCommandContext();
+        }
+
+        assertThat(buildThread.get()).isSameAs(Thread.currentThread());
+        assertThat(buildCommandContext.get()).isNull();
+        assertThat(engineConfigurations.isLazyEnginePending("test")).isFalse();
+    }
+
+    @Test
+    void failedBuildIsRetriedOnNextRetrieval() {
+        TestEngineConfiguration engineConfiguration = new TestEngineConfiguration();
+        AtomicInteger attempts = new AtomicInteger();
+        engineConfigurations.registerLazyEngine("test", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Database not available");
+            }
+            engineConfigurations.put("test", engineConfiguration);
+        });
+
+        assertThatThrownBy(() -> engineConfigurations.get("test"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Could not build lazily initialised engine for test")
+                .hasRootCauseMessage("Database not available");
+        assertThat(engineConfigurations.isLazyEnginePending("test")).isTrue();
+        assertThat(Context.getCommandContext()).isNull();
+
+        assertThat(engineConfigurations.get("test")).isSameAs(engineConfiguration);
+        assertThat(attempts).hasValue(2);
+        assertThat(engineConfigurations.isLazyEnginePending("test")).isFalse();
+    }
+
+    protected static class TestEngineConfiguration extends AbstractEngineConfiguration {
+
+        @Override
+        public String getEngineCfgKey() {
+            return "test";
+        }
+
+        @Override
+        public CommandInterceptor createTransactionInterceptor() {
+            return null;
+        }
+
+        @Override
+        protected void initDbSqlSessionFactoryEntitySettings() {
+        }
+
+        @Override
+        public InputStream getMyBatisXmlConfigurationStream() {
+            return null;
+        }
+
+        @Override
+        public String getEngineName() {
+            return "test";
+        }
+    }
+
+}
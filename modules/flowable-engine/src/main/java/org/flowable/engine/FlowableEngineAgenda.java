@@ -44,6 +44,8 @@ public interface FlowableEngineAgenda extends Agenda {
     
     void planEvaluateConditionalEventsOperation(ExecutionEntity execution);
 
+    void planEvaluateConditionalEventsOperation(ExecutionEntity execution, boolean triggeredByVariableChange);
+
     void planDestroyScopeOperation(ExecutionEntity execution);
 
     void planExecuteInactiveBehaviorsOperation();
@@ -358,6 +358,12 @@ public interface ManagementService {
     String getExternalWorkerJobErrorDetails(String jobId);
 
     void handleHistoryCleanupTimerJob();
+
+    /**
+     * Recreates the task candidate index (ACT_RU_TASK_CANDIDATE) from the candidate identity links of all runtime tasks.
+     * Needed when the task candidate index is enabled on a database that already contains tasks.
+     */
+    void rebuildTaskCandidateIndex();
     
     List<Batch> getAllBatches();
     
@@ -382,6 +388,14 @@ public interface ManagementService {
     
     void deleteBatch(String batchId);
 
+    /**
+     * Executes the failed parts of a completed partitioned batch (such as a process instance migration batch) again.
+     * The batch is put back in progress until the retried parts are completed.
+     *
+     * @return the number of batch parts that will be executed again.
+     */
+    int retryFailedBatchParts(String batchId);
+
     /** get the list of properties. */
     Map<String, String> getProperties();
 
@@ -27,6 +27,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.engine.runtime.ActivityInstanceQuery;
+import org.flowable.engine.runtime.BulkProcessInstanceStartBuilder;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.runtime.Execution;
@@ -59,6 +60,12 @@ public interface RuntimeService {
      */
     ProcessInstanceBuilder createProcessInstanceBuilder();
 
+    /**
+     * Create a {@link BulkProcessInstanceStartBuilder}, that allows to start many process instances of the same process definition
+     * with one process definition lookup and one transaction per chunk of process instances.
+     */
+    BulkProcessInstanceStartBuilder createBulkProcessInstanceStartBuilder();
+
     /**
      * Starts a new process instance in the latest version of the process definition with the given key.
      *
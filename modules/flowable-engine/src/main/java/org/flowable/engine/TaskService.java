@@ -24,6 +24,7 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.NativeQuery;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BulkTaskOperationBuilder;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.Event;
 import org.flowable.form.api.FormInfo;
@@ -60,6 +61,13 @@ public interface TaskService {
      * @return task builder
      */
     TaskBuilder createTaskBuilder();
+
+    /**
+     * Create a builder to claim, assign or complete a list of tasks in chunked transactions.
+     *
+     * @return bulk task operation builder
+     */
+    BulkTaskOperationBuilder createBulkTaskOperationBuilder();
     
     /**
      * Saves the given task to the persistent data store. If the task is already present in the persistent store, it is updated. After a new task has been saved, the task instance passed into this
@@ -29,6 +29,11 @@ public class HttpClientConfig {
 
     protected boolean useSystemProperties = false;
 
+    // connection pool settings, the pooled client is shared by all HTTP tasks with the same settings
+    protected int maxConnections = 100;
+    protected int maxConnectionsPerRoute = 20;
+    protected long connectionIdleTimeout = 60000;
+
     public int getConnectTimeout() {
         return connectTimeout;
     }
@@ -77,6 +82,39 @@ public class HttpClientConfig {
         return useSystemProperties;
     }
 
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * The maximum number of pooled connections over all routes.
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * The maximum number of pooled connections to a single host.
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    /**
+     * The time (in milliseconds) after which idle pooled connections are evicted. A value of 0 or less disables the eviction.
+     */
+    public void setConnectionIdleTimeout(long connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
+
     public void merge(HttpClientConfig other) {
         if (this.connectTimeout != other.getConnectTimeout()) {
             setConnectTimeout(other.getConnectTimeout());
@@ -101,6 +139,18 @@ public class HttpClientConfig {
         if (this.useSystemProperties != other.isUseSystemProperties()) {
             setUseSystemProperties(other.isUseSystemProperties());
         }
+
+        if (this.maxConnections != other.getMaxConnections()) {
+            setMaxConnections(other.getMaxConnections());
+        }
+
+        if (this.maxConnectionsPerRoute != other.getMaxConnectionsPerRoute()) {
+            setMaxConnectionsPerRoute(other.getMaxConnectionsPerRoute());
+        }
+
+        if (this.connectionIdleTimeout != other.getConnectionIdleTimeout()) {
+            setConnectionIdleTimeout(other.getConnectionIdleTimeout());
+        }
     }
 
     public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
@@ -115,4 +165,8 @@ public class HttpClientConfig {
         setSocketTimeout(Math.toIntExact(socketTimeout.toMillis()));
     }
 
+    public void setConnectionIdleTimeout(Duration connectionIdleTimeout) {
+        setConnectionIdleTimeout(connectionIdleTimeout.toMillis());
+    }
+
 }
@@ -17,8 +17,11 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.query.DeleteQuery;
+import org.flowable.common.engine.api.query.KeysetPaginatedQuery;
+import org.flowable.common.engine.api.query.ProjectionQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
@@ -31,7 +34,8 @@ import org.flowable.engine.runtime.ProcessInstanceQuery;
  * @author Tijs Rademakers
  * @author Falko Menge
  */
-public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance>, DeleteQuery<HistoricProcessInstanceQuery, HistoricProcessInstance> {
+public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance>, DeleteQuery<HistoricProcessInstanceQuery, HistoricProcessInstance>,
+        KeysetPaginatedQuery<HistoricProcessInstanceQuery>, ProjectionQuery {
 
     /**
      * Only select historic process instances with the given process instance. {@link ProcessInstance) ids and {@link HistoricProcessInstance} ids match.
@@ -380,4 +384,11 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      * Instruct localization to fallback to more general locales including the default locale of the JVM if the specified locale is not found.
      */
     HistoricProcessInstanceQuery withLocalizationFallback();
+
+    /**
+     * Executes the query and returns the historic process instances as a stream, ordered by id, that fetches them in batches while it is consumed.
+     * Each batch is fetched in its own transaction, so that large results can be processed without holding them in memory.
+     * No other order than the id order can be used.
+     */
+    Stream<HistoricProcessInstance> stream();
 }
@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cmd.ExecuteBulkTaskOperationCmd;
+import org.flowable.engine.task.BulkTaskOperationBuilder;
+import org.flowable.engine.task.BulkTaskOperationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class BulkTaskOperationBuilderImpl implements BulkTaskOperationBuilder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkTaskOperationBuilderImpl.class);
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    protected CommandExecutor commandExecutor;
+    protected Set<String> taskIds = new LinkedHashSet<>();
+    protected int chunkSize = DEFAULT_CHUNK_SIZE;
+    protected Map<String, Object> variables;
+    protected Map<String, Object> transientVariables;
+
+    public BulkTaskOperationBuilderImpl(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public BulkTaskOperationBuilder taskId(String taskId) {
+        if (taskId == null) {
+            throw new FlowableIllegalArgumentException("taskId is null");
+        }
+        taskIds.add(taskId);
+        return this;
+    }
+
+    @Override
+    public BulkTaskOperationBuilder taskIds(Collection<String> taskIds) {
+        if (taskIds == null) {
+            throw new FlowableIllegalArgumentException("taskIds is null");
+        }
+        for (String taskId : taskIds) {
+            taskId(taskId);
+        }
+        return this;
+    }
+
+    @Override
+    public BulkTaskOperationBuilder chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new FlowableIllegalArgumentException("chunkSize must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @Override
+    public BulkTaskOperationBuilder variables(Map<String, Object> variables) {
+        this.variables = variables;
+        return this;
+    }
+
+    @Override
+    public BulkTaskOperationBuilder transientVariables(Map<String, Object> transientVariables) {
+        this.transientVariables = transientVariables;
+        return this;
+    }
+
+    @Override
+    public BulkTaskOperationResult complete() {
+        return execute(ExecuteBulkTaskOperationCmd.OPERATION_COMPLETE, null);
+    }
+
+    @Override
+    public BulkTaskOperationResult claim(String userId) {
+        return execute(ExecuteBulkTaskOperationCmd.OPERATION_CLAIM, userId);
+    }
+
+    @Override
+    public BulkTaskOperationResult assign(String userId) {
+        return execute(ExecuteBulkTaskOperationCmd.OPERATION_ASSIGN, userId);
+    }
+
+    protected BulkTaskOperationResult execute(String operation, String userId) {
+        BulkTaskOperationResult result = new BulkTaskOperationResult();
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
+
+        List<String> allTaskIds = new ArrayList<>(taskIds);
+        for (int start = 0; start < allTaskIds.size(); start += chunkSize) {
+            List<String> chunk = new ArrayList<>(allTaskIds.subList(start, Math.min(start + chunkSize, allTaskIds.size())));
+            ExecuteBulkTaskOperationCmd chunkCmd = new ExecuteBulkTaskOperationCmd(operation, chunk, userId, variables, transientVariables);
+            try {
+                commandExecutor.execute(commandConfig, chunkCmd);
+                result.getSuccessfulTaskIds().addAll(chunk);
+
+            } catch (Exception chunkException) {
+                LOGGER.debug("Bulk {} of {} tasks failed, retrying the tasks one by one", operation, chunk.size(), chunkException);
+
+                // The chunk transaction has been rolled back, so every task is processed again in its own transaction
+                // to find out which tasks are failing
+                for (String taskId : chunk) {
+                    try {
+                        commandExecutor.execute(commandConfig, chunkCmd.createTaskCommand(taskId));
+                        result.addSuccessfulTaskId(taskId);
+
+                    } catch (Exception taskException) {
+                        LOGGER.debug("Bulk {} of task {} failed", operation, taskId, taskException);
+                        result.addFailure(taskId, taskException);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+}
@@ -15,9 +15,14 @@ package org.flowable.engine.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -752,6 +757,24 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return specialOrderBy;
     }
 
+    @Override
+    protected Map<String, Class<?>> getKeysetSortColumnTypes() {
+        Map<String, Class<?>> keysetSortColumnTypes = new HashMap<>();
+        keysetSortColumnTypes.put(HistoricProcessInstanceQueryProperty.START_TIME.getName(), Date.class);
+        return keysetSortColumnTypes;
+    }
+
+    @Override
+    protected boolean isKeysetIdColumn(String column) {
+        // The id of a historic process instance is the process instance id
+        return super.isKeysetIdColumn(column) || HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.getName().equals(column);
+    }
+
+    @Override
+    public Stream<HistoricProcessInstance> stream() {
+        return streamOrderedById(HistoricProcessInstance::getId);
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -764,6 +787,55 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).findHistoricProcessInstanceCountByQueryCriteria(this);
     }
 
+    @Override
+    protected Map<String, String> getProjectionFieldColumns() {
+        Map<String, String> fieldColumns = new LinkedHashMap<>();
+        fieldColumns.put("id", "RES.ID_");
+        fieldColumns.put("name", "RES.NAME_");
+        fieldColumns.put("businessKey", "RES.BUSINESS_KEY_");
+        fieldColumns.put("processDefinitionId", "RES.PROC_DEF_ID_");
+        fieldColumns.put("startTime", "RES.START_TIME_");
+        fieldColumns.put("endTime", "RES.END_TIME_");
+        fieldColumns.put("durationInMillis", "RES.DURATION_");
+        fieldColumns.put("startUserId", "RES.START_USER_ID_");
+        fieldColumns.put("startActivityId", "RES.START_ACT_ID_");
+        fieldColumns.put("endActivityId", "RES.END_ACT_ID_");
+        fieldColumns.put("superProcessInstanceId", "RES.SUPER_PROCESS_INSTANCE_ID_");
+        fieldColumns.put("deleteReason", "RES.DELETE_REASON_");
+        fieldColumns.put("callbackId", "RES.CALLBACK_ID_");
+        fieldColumns.put("callbackType", "RES.CALLBACK_TYPE_");
+        fieldColumns.put("tenantId", "RES.TENANT_ID_");
+        return fieldColumns;
+    }
+
+    @Override
+    protected List<Map<String, Object>> executeProjectionList(CommandContext commandContext) {
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("A projection cannot include the process variables, select the variables in the projection instead");
+        }
+
+        ensureVariablesInitialized();
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        return CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).findHistoricProcessInstanceProjectionsByQueryCriteria(this);
+    }
+
+    @Override
+    protected Map<String, Map<String, Object>> findProjectionVariables(CommandContext commandContext, List<Map<String, Object>> projectionRows,
+            Set<String> variableNames) {
+
+        Set<String> processInstanceIds = new HashSet<>();
+        for (Map<String, Object> projectionRow : projectionRows) {
+            processInstanceIds.add((String) projectionRow.get("ID_"));
+        }
+
+        // The process instance variables are stored with the process instance id as execution id
+        return CommandContextUtil.getHistoricVariableService().findHistoricVariableValuesByExecutionIds(processInstanceIds, variableNames);
+    }
+
     @Override
     public List<HistoricProcessInstance> executeList(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -54,7 +54,9 @@ import org.flowable.engine.impl.cmd.GetTableCountCmd;
 import org.flowable.engine.impl.cmd.GetTableMetaDataCmd;
 import org.flowable.engine.impl.cmd.GetTableNameCmd;
 import org.flowable.engine.impl.cmd.HandleHistoryCleanupTimerJobCmd;
+import org.flowable.engine.impl.cmd.RebuildTaskCandidateIndexCmd;
 import org.flowable.engine.impl.cmd.RescheduleTimerJobCmd;
+import org.flowable.engine.impl.cmd.RetryFailedBatchPartsCmd;
 import org.flowable.engine.impl.externalworker.ExternalWorkerCompletionBuilderImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ExternalWorkerCompletionBuilder;
@@ -293,6 +295,11 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
     public void handleHistoryCleanupTimerJob() {
         commandExecutor.execute(new HandleHistoryCleanupTimerJobCmd());
     }
+
+    @Override
+    public void rebuildTaskCandidateIndex() {
+        commandExecutor.execute(new RebuildTaskCandidateIndexCmd());
+    }
     
     @Override
     public List<Batch> getAllBatches() {
@@ -344,6 +351,11 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         commandExecutor.execute(new DeleteBatchCmd(batchId));
     }
 
+    @Override
+    public int retryFailedBatchParts(String batchId) {
+        return commandExecutor.execute(new RetryFailedBatchPartsCmd(batchId));
+    }
+
     @Override
     public Map<String, String> getProperties() {
         return commandExecutor.execute(new GetPropertiesCmd());
@@ -410,7 +422,7 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
 
     @Override
     public ExternalWorkerJobAcquireBuilder createExternalWorkerJobAcquireBuilder() {
-        return new ExternalWorkerJobAcquireBuilderImpl(commandExecutor);
+        return new ExternalWorkerJobAcquireBuilderImpl(commandExecutor, configuration.getJobServiceConfiguration());
     }
 
     @Override
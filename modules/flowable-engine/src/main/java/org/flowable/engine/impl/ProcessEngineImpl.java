@@ -13,12 +13,14 @@
 package org.flowable.engine.impl;
 
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.persistence.deploy.DefinitionCacheWarmUp;
 import org.flowable.engine.DynamicBpmnService;
 import org.flowable.engine.FormService;
 import org.flowable.engine.HistoryService;
@@ -32,6 +34,7 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,6 +85,14 @@ public class ProcessEngineImpl implements ProcessEngine {
             commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), processEngineConfiguration.getSchemaManagementCmd());
         }
 
+        if (processEngineConfiguration.isEnableDefinitionCacheWarmUp()) {
+            new DefinitionCacheWarmUp(processEngineConfiguration, "process definition",
+                    () -> repositoryService.createProcessDefinitionQuery().latestVersion().list().stream()
+                            .map(ProcessDefinition::getId)
+                            .collect(Collectors.toList()),
+                    repositoryService::getBpmnModel).start();
+        }
+
         if (name == null) {
             LOGGER.info("default ProcessEngine created");
         } else {
@@ -123,6 +134,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getJobServiceConfiguration() != null) {
+            processEngineConfiguration.getJobServiceConfiguration().close();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
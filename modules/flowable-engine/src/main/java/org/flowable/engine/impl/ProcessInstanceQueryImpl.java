@@ -16,8 +16,11 @@ package org.flowable.engine.impl;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -790,6 +793,18 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
 
     // results /////////////////////////////////////////////////////////////////
 
+    @Override
+    protected Map<String, Class<?>> getKeysetSortColumnTypes() {
+        Map<String, Class<?>> keysetSortColumnTypes = new HashMap<>();
+        keysetSortColumnTypes.put(ProcessInstanceQueryProperty.PROCESS_START_TIME.getName(), Date.class);
+        return keysetSortColumnTypes;
+    }
+
+    @Override
+    public Stream<ProcessInstance> stream() {
+        return streamOrderedById(ProcessInstance::getId);
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -25,6 +25,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.form.FormData;
@@ -73,10 +74,14 @@ import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceAsyncCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.SuspendProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.TriggerCmd;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceStartBuilderImpl;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
+import org.flowable.engine.runtime.BulkProcessInstanceStartBuilder;
+import org.flowable.engine.runtime.BulkProcessInstanceStartResult;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.runtime.Execution;
@@ -722,6 +727,11 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         return new ProcessInstanceBuilderImpl(this);
     }
 
+    @Override
+    public BulkProcessInstanceStartBuilder createBulkProcessInstanceStartBuilder() {
+        return new BulkProcessInstanceStartBuilderImpl(this);
+    }
+
     @Override
     public ChangeActivityStateBuilder createChangeActivityStateBuilder() {
         return new ChangeActivityStateBuilderImpl(this);
@@ -755,6 +765,40 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         }
     }
 
+    public BulkProcessInstanceStartResult startProcessInstances(BulkProcessInstanceStartBuilderImpl bulkStartBuilder) {
+        BulkProcessInstanceStartResult result = new BulkProcessInstanceStartResult();
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
+
+        String processDefinitionId = bulkStartBuilder.getProcessDefinitionId();
+        List<String> businessKeys = bulkStartBuilder.getBusinessKeys();
+        int chunkSize = bulkStartBuilder.getChunkSize();
+        for (int start = 0; start < businessKeys.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, businessKeys.size());
+            List<Map<String, Object>> chunkVariables = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                chunkVariables.add(bulkStartBuilder.getVariables(i));
+            }
+
+            StartProcessInstancesCmd startCmd = new StartProcessInstancesCmd(processDefinitionId, bulkStartBuilder.getProcessDefinitionKey(),
+                    bulkStartBuilder.getTenantId(), new ArrayList<>(businessKeys.subList(start, end)), chunkVariables);
+            try {
+                result.addProcessInstanceIds(commandExecutor.execute(commandConfig, startCmd));
+
+            } catch (RuntimeException e) {
+                if (!startCmd.isProcessDefinitionResolved()) {
+                    // The process definition could not be resolved, so none of the chunks can be started
+                    throw e;
+                }
+                result.addFailedChunk(new BulkProcessInstanceStartResult.FailedChunk(start, end - start, e));
+            }
+
+            processDefinitionId = startCmd.getProcessDefinitionId();
+        }
+
+        result.setProcessDefinitionId(processDefinitionId);
+        return result;
+    }
+
     public void changeActivityState(ChangeActivityStateBuilderImpl changeActivityStateBuilder) {
         commandExecutor.execute(new ChangeActivityStateCmd(changeActivityStateBuilder));
     }
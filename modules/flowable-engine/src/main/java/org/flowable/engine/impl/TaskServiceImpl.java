@@ -70,6 +70,7 @@ import org.flowable.engine.impl.cmd.SetTaskVariablesCmd;
 import org.flowable.engine.impl.persistence.entity.CommentEntity;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BulkTaskOperationBuilder;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.Event;
 import org.flowable.form.api.FormInfo;
@@ -577,4 +578,9 @@ public class TaskServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfig
     public TaskBuilder createTaskBuilder() {
         return new TaskBuilderImpl(commandExecutor);
     }
+
+    @Override
+    public BulkTaskOperationBuilder createBulkTaskOperationBuilder() {
+        return new BulkTaskOperationBuilderImpl(commandExecutor);
+    }
 }
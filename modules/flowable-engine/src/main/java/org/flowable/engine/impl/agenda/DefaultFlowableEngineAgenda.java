@@ -113,6 +113,11 @@ public class DefaultFlowableEngineAgenda extends AbstractAgenda implements Flowa
         planOperation(new EvaluateConditionalEventsOperation(commandContext, execution), execution);
     }
 
+    @Override
+    public void planEvaluateConditionalEventsOperation(ExecutionEntity execution, boolean triggeredByVariableChange) {
+        planOperation(new EvaluateConditionalEventsOperation(commandContext, execution, triggeredByVariableChange), execution);
+    }
+
     @Override
     public void planDestroyScopeOperation(ExecutionEntity execution) {
         planOperation(new DestroyScopeOperation(commandContext, execution), execution);
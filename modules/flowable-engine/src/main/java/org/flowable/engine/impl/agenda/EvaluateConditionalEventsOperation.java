@@ -24,8 +24,10 @@ import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.VariableChangeTrackingUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.debug.ExecutionTreeUtil;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.delegate.TriggerableActivityBehavior;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
@@ -40,10 +42,17 @@ import org.flowable.engine.impl.util.ProcessDefinitionUtil;
  */
 public class EvaluateConditionalEventsOperation extends AbstractOperation {
 
+    protected boolean triggeredByVariableChange;
+
     public EvaluateConditionalEventsOperation(CommandContext commandContext, ExecutionEntity execution) {
         super(commandContext, execution);
     }
 
+    public EvaluateConditionalEventsOperation(CommandContext commandContext, ExecutionEntity execution, boolean triggeredByVariableChange) {
+        super(commandContext, execution);
+        this.triggeredByVariableChange = triggeredByVariableChange;
+    }
+
     @Override
     public void run() {
         List<ExecutionEntity> allExecutions = new ArrayList<>();
@@ -61,6 +70,11 @@ public class EvaluateConditionalEventsOperation extends AbstractOperation {
             if (currentFlowElement != null && currentFlowElement instanceof Event) {
                 Event event = (Event) currentFlowElement;
                 if (!event.getEventDefinitions().isEmpty() && event.getEventDefinitions().get(0) instanceof ConditionalEventDefinition) {
+
+                    ConditionalEventDefinition conditionalEventDefinition = (ConditionalEventDefinition) event.getEventDefinitions().get(0);
+                    if (!isConditionAffectedByVariableChanges(conditionalEventDefinition.getConditionExpression(), childExecutionEntity)) {
+                        continue;
+                    }
                 
                     ActivityBehavior activityBehavior = (ActivityBehavior) ((FlowNode) currentFlowElement).getBehavior();
                     if (activityBehavior instanceof TriggerableActivityBehavior) {
@@ -76,6 +90,24 @@ public class EvaluateConditionalEventsOperation extends AbstractOperation {
         }
     }
     
+    /**
+     * @return false when the evaluation was triggered by a variable change, only conditions reading changed variables need to be evaluated (see
+     *         {@link ProcessEngineConfigurationImpl#isConditionalEventEvaluationOnVariableChangeOnly()}) and the condition doesn't read any
+     */
+    protected boolean isConditionAffectedByVariableChanges(String conditionExpression, ExecutionEntity executionEntity) {
+        if (!triggeredByVariableChange) {
+            return true;
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.isConditionalEventEvaluationOnVariableChangeOnly() || StringUtils.isEmpty(conditionExpression)) {
+            return true;
+        }
+
+        Expression expression = processEngineConfiguration.getExpressionManager().createExpression(conditionExpression);
+        return VariableChangeTrackingUtil.isAffectedByVariableChanges(expression, executionEntity, commandContext);
+    }
+
     protected void evaluateEventSubProcesses(List<EventSubProcess> eventSubProcesses, ExecutionEntity parentExecution) {
         if (eventSubProcesses != null) {
             for (EventSubProcess eventSubProcess : eventSubProcesses) {
@@ -92,6 +124,10 @@ public class EvaluateConditionalEventsOperation extends AbstractOperation {
                             boolean conditionIsTrue = false;
                             String conditionExpression = conditionalEventDefinition.getConditionExpression();
                             if (StringUtils.isNotEmpty(conditionExpression)) {
+                                if (!isConditionAffectedByVariableChanges(conditionExpression, parentExecution)) {
+                                    continue;
+                                }
+
                                 Expression expression = CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager().createExpression(conditionExpression);
                                 Object result = expression.getValue(parentExecution);
                                 if (result != null && result instanceof Boolean && (Boolean) result) {
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.batch;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.BatchPartitionStatusJobHandler;
+
+/**
+ * Executes the parts of batches of a certain type for the {@link PartitionedBatchExecutor}.
+ * <p>
+ * Custom bulk operations can be run as partitioned batches by registering an implementation through
+ * {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setCustomBatchPartHandlers(java.util.List)}
+ * and starting the batch with {@link PartitionedBatchExecutor#startBatch(Batch, java.util.List, String, CommandContext)}.
+ */
+public interface BatchPartHandler {
+
+    /**
+     * @return the batch type (see {@link Batch#getBatchType()}) this handler executes the parts for.
+     */
+    String getType();
+
+    /**
+     * Executes a single batch part. A part is considered failed when this method throws an exception,
+     * in which case all changes made for the part are rolled back.
+     *
+     * @return the result document of the part, stored as the result of the completed batch part (can be null).
+     */
+    String execute(Batch batch, BatchPart batchPart, CommandContext commandContext);
+
+    /**
+     * @return the type of the job handler of the repeating timer that checks the progress of batches of this type.
+     * The job handler must call {@link PartitionedBatchExecutor#checkBatchPartitions(String, CommandContext)}.
+     */
+    default String getStatusJobHandlerType() {
+        return BatchPartitionStatusJobHandler.TYPE;
+    }
+
+}
@@ -0,0 +1,376 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.batch;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.BatchPartitionJobHandler;
+import org.flowable.engine.impl.jobexecutor.BatchPartitionStatusJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.cmd.DeleteDeadLetterJobCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Executes the parts of a batch in partitions.
+ * <p>
+ * The parts of a batch are assigned to partitions of {@link ProcessEngineConfigurationImpl#getBatchPartitionSize()} parts.
+ * A partition is executed by a single {@link BatchPartitionJobHandler} job, which executes all the parts of the partition in one transaction.
+ * When that transaction fails, the parts of the partition are executed again one by one, each in its own transaction,
+ * so that only the failing parts are marked as failed.
+ * <p>
+ * At most {@link ProcessEngineConfigurationImpl#getBatchMaxConcurrentPartitions()} partitions of a batch are executed at the same time:
+ * the batch is started with one job per lane and every job schedules the next partition of its lane when it is done.
+ * <p>
+ * Progress is tracked with the part counters of the batch, which are updated together with the completed parts.
+ * The batch is completed by the transaction that completes its last part, so no job needs to poll the parts of the batch.
+ * A lane stops when one of its jobs fails permanently and becomes a dead letter job. A repeating status timer therefore
+ * checks the batch with {@link #checkBatchPartitions(String, CommandContext)} and takes over the partitions of stopped lanes.
+ * <p>
+ * The partition jobs have the id of their batch as element id, so the jobs of a batch can be queried directly.
+ */
+public class PartitionedBatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedBatchExecutor.class);
+
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_FAIL = "fail";
+
+    public static final String RESULT_STATUS_LABEL = "resultStatus";
+    public static final String RESULT_MESSAGE_LABEL = "resultMessage";
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public PartitionedBatchExecutor(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    /**
+     * Creates a part for each of the given scope ids and schedules the execution of the parts.
+     * The parts are executed by the {@link BatchPartHandler} registered for the type of the batch.
+     */
+    public void startBatch(Batch batch, List<String> scopeIds, String scopeType, CommandContext commandContext) {
+        if (scopeIds.isEmpty()) {
+            return;
+        }
+
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        int partitionSize = getPartitionSize();
+        for (int i = 0; i < scopeIds.size(); i++) {
+            batchService.createBatchPart(batch, STATUS_WAITING, scopeIds.get(i), null, scopeType, i / partitionSize);
+        }
+
+        BatchEntity batchEntity = (BatchEntity) batch;
+        if (batchEntity.isInserted()) {
+            // The batch is created in the current command context and not flushed yet, so the counter is inserted with it
+            batchEntity.setPartCount(batchEntity.getPartCount() + scopeIds.size());
+        } else {
+            batchService.updateBatchPartCounts(batch.getId(), scopeIds.size(), 0, 0);
+        }
+
+        schedulePartitions(batch.getId(), (scopeIds.size() - 1) / partitionSize, commandContext);
+        scheduleStatusTimer(batch, commandContext);
+    }
+
+    /**
+     * Puts the failed parts of a completed batch in new partitions and schedules their execution.
+     *
+     * @return the number of batch parts that will be executed again.
+     */
+    public int retryFailedBatchParts(String batchId, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        BatchEntity batch = (BatchEntity) batchService.getBatch(batchId);
+        if (batch == null) {
+            throw new FlowableObjectNotFoundException("No batch found for id " + batchId, Batch.class);
+        }
+
+        if (batch.getPartCount() == 0) {
+            throw new FlowableException("Batch " + batchId + " is not executed in partitions, its failed parts cannot be retried");
+        }
+
+        if (batch.getCompleteTime() == null) {
+            throw new FlowableException("Batch " + batchId + " is not completed yet, its failed parts cannot be retried");
+        }
+
+        // Fails early when the batch type cannot be executed
+        getBatchPartHandler(batch.getBatchType());
+
+        List<BatchPart> failedBatchParts = batchService.findBatchPartsByBatchIdAndStatus(batchId, RESULT_FAIL);
+        if (failedBatchParts.isEmpty()) {
+            return 0;
+        }
+
+        // The retried parts reuse the partition numbers from 0, so dead letter jobs of earlier partitions must not match them
+        deleteDeadLetterPartitionJobs(batchId, commandContext);
+
+        int partitionSize = getPartitionSize();
+        for (int i = 0; i < failedBatchParts.size(); i++) {
+            batchService.resetBatchPart(failedBatchParts.get(i).getId(), STATUS_WAITING, i / partitionSize);
+        }
+
+        batchService.updateBatchPartCounts(batchId, 0, -failedBatchParts.size(), -failedBatchParts.size());
+
+        batch.setStatus(STATUS_IN_PROGRESS);
+        batch.setCompleteTime(null);
+        batchService.updateBatch(batch);
+
+        schedulePartitions(batchId, (failedBatchParts.size() - 1) / partitionSize, commandContext);
+        scheduleStatusTimer(batch, commandContext);
+
+        return failedBatchParts.size();
+    }
+
+    /**
+     * Executes one partition of a batch and schedules the next partition of the same lane, if any.
+     * The parts are executed in separate transactions, the given command context is only used to schedule the next partition.
+     */
+    public void executePartition(String batchId, int partition, int lastPartition, int concurrency, CommandContext commandContext) {
+        Batch batch = CommandContextUtil.getBatchService(commandContext).getBatch(batchId);
+        if (batch == null) {
+            LOGGER.debug("Batch {} does not exist anymore, skipping partition {}", batchId, partition);
+            return;
+        }
+
+        BatchPartHandler batchPartHandler = getBatchPartHandler(batch.getBatchType());
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
+
+        try {
+            commandExecutor.execute(commandConfig, partitionCommandContext -> {
+                executeBatchParts(batch, partition, batchPartHandler, partitionCommandContext);
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Executing partition {} of batch {} failed, executing its parts separately", partition, batchId, e);
+
+            List<BatchPart> batchParts = commandExecutor.execute(commandConfig, partitionCommandContext -> CommandContextUtil
+                    .getBatchService(partitionCommandContext).findIncompleteBatchPartsByBatchIdAndPartition(batchId, partition));
+            for (BatchPart batchPart : batchParts) {
+                executeBatchPart(batch, batchPart, batchPartHandler, commandExecutor, commandConfig);
+            }
+        }
+
+        int nextPartition = partition + concurrency;
+        if (nextPartition <= lastPartition) {
+            schedulePartition(batchId, nextPartition, lastPartition, concurrency, commandContext);
+        }
+    }
+
+    /**
+     * Checks the progress of a batch, as a fallback for lanes that stopped because one of their jobs became a dead letter job.
+     * As long as partition jobs of the batch are pending or waiting for a retry, the lanes are still running and nothing is done.
+     * Otherwise the incomplete parts of the partitions with a dead letter job are marked as failed, so they can be retried with
+     * {@link #retryFailedBatchParts(String, CommandContext)}, and the dead letter jobs are deleted. Then new lanes are scheduled
+     * for the partitions that still have incomplete parts.
+     *
+     * @return true if the batch is completed or does not exist anymore, in which case it does not need to be checked again.
+     */
+    public boolean checkBatchPartitions(String batchId, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        Batch batch = batchService.getBatch(batchId);
+        if (batch == null || batch.getCompleteTime() != null) {
+            return true;
+        }
+
+        if (batchService.completeBatchIfAllPartsCompleted(batchId, STATUS_COMPLETED)) {
+            return true;
+        }
+
+        if (hasPendingPartitionJobs(batchId, commandContext)) {
+            return false;
+        }
+
+        int failedPartCount = 0;
+        for (Job deadLetterJob : findDeadLetterPartitionJobs(batchId, commandContext)) {
+            int partition = BatchPartitionJobHandler.getPartitionFromHandlerCfg(deadLetterJob.getJobHandlerConfiguration());
+            String failureResult = createFailureResult(deadLetterJob.getExceptionMessage());
+            for (BatchPart batchPart : batchService.findIncompleteBatchPartsByBatchIdAndPartition(batchId, partition)) {
+                batchService.completeBatchPart(batchPart.getId(), RESULT_FAIL, failureResult);
+                failedPartCount++;
+            }
+
+            // The failure is recorded in the parts, the dead letter job would otherwise match a new partition with the same number
+            new DeleteDeadLetterJobCmd(deadLetterJob.getId()).execute(commandContext);
+        }
+
+        if (failedPartCount > 0) {
+            LOGGER.debug("Marked {} parts of batch {} as failed because their partition job failed permanently", failedPartCount, batchId);
+            batchService.updateBatchPartCounts(batchId, 0, failedPartCount, failedPartCount);
+            if (batchService.completeBatchIfAllPartsCompleted(batchId, STATUS_COMPLETED)) {
+                return true;
+            }
+        }
+
+        // Only reached when all lanes of the batch have stopped, so loading all parts of the batch is rare
+        int lastIncompletePartition = -1;
+        for (BatchPart batchPart : batchService.findBatchPartsByBatchId(batchId)) {
+            if (batchPart.getCompleteTime() == null) {
+                lastIncompletePartition = Math.max(lastIncompletePartition, batchPart.getPartition());
+            }
+        }
+
+        if (lastIncompletePartition >= 0) {
+            LOGGER.debug("No partition job of batch {} is pending, scheduling the partitions up to {} again", batchId, lastIncompletePartition);
+            schedulePartitions(batchId, lastIncompletePartition, commandContext);
+        }
+
+        return false;
+    }
+
+    protected boolean hasPendingPartitionJobs(String batchId, CommandContext commandContext) {
+        // A failed job that still has retries left waits for its next attempt as a timer job
+        return new JobQueryImpl(commandContext).handlerType(BatchPartitionJobHandler.TYPE).elementId(batchId).count() > 0
+                || new TimerJobQueryImpl(commandContext).handlerType(BatchPartitionJobHandler.TYPE).elementId(batchId).count() > 0;
+    }
+
+    protected List<Job> findDeadLetterPartitionJobs(String batchId, CommandContext commandContext) {
+        return new DeadLetterJobQueryImpl(commandContext).handlerType(BatchPartitionJobHandler.TYPE).elementId(batchId).list();
+    }
+
+    protected void deleteDeadLetterPartitionJobs(String batchId, CommandContext commandContext) {
+        for (Job deadLetterJob : findDeadLetterPartitionJobs(batchId, commandContext)) {
+            new DeleteDeadLetterJobCmd(deadLetterJob.getId()).execute(commandContext);
+        }
+    }
+
+    protected void executeBatchParts(Batch batch, int partition, BatchPartHandler batchPartHandler, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        List<BatchPart> batchParts = batchService.findIncompleteBatchPartsByBatchIdAndPartition(batch.getId(), partition);
+        if (batchParts.isEmpty()) {
+            return;
+        }
+
+        for (BatchPart batchPart : batchParts) {
+            String result = batchPartHandler.execute(batch, batchPart, commandContext);
+            batchService.completeBatchPart(batchPart.getId(), RESULT_SUCCESS, result);
+        }
+
+        updateCompletedPartCount(batch.getId(), batchParts.size(), 0, batchService);
+    }
+
+    protected void executeBatchPart(Batch batch, BatchPart batchPart, BatchPartHandler batchPartHandler,
+            CommandExecutor commandExecutor, CommandConfig commandConfig) {
+
+        try {
+            commandExecutor.execute(commandConfig, partCommandContext -> {
+                BatchService batchService = CommandContextUtil.getBatchService(partCommandContext);
+                String result = batchPartHandler.execute(batch, batchPart, partCommandContext);
+                batchService.completeBatchPart(batchPart.getId(), RESULT_SUCCESS, result);
+                updateCompletedPartCount(batch.getId(), 1, 0, batchService);
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Batch part {} of batch {} failed", batchPart.getId(), batch.getId(), e);
+
+            commandExecutor.execute(commandConfig, partCommandContext -> {
+                BatchService batchService = CommandContextUtil.getBatchService(partCommandContext);
+                batchService.completeBatchPart(batchPart.getId(), RESULT_FAIL, createFailureResult(e));
+                updateCompletedPartCount(batch.getId(), 1, 1, batchService);
+                return null;
+            });
+        }
+    }
+
+    protected void updateCompletedPartCount(String batchId, int completedPartCount, int failedPartCount, BatchService batchService) {
+        batchService.updateBatchPartCounts(batchId, 0, completedPartCount, failedPartCount);
+
+        // The counter update locks the batch row until the transaction ends, so exactly one transaction sees all parts completed
+        if (batchService.completeBatchIfAllPartsCompleted(batchId, STATUS_COMPLETED)) {
+            LOGGER.debug("All parts of batch {} are completed", batchId);
+        }
+    }
+
+    protected String createFailureResult(Exception exception) {
+        return createFailureResult(exception.getMessage());
+    }
+
+    protected String createFailureResult(String message) {
+        ObjectNode resultNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        resultNode.put(RESULT_STATUS_LABEL, RESULT_FAIL);
+        resultNode.put(RESULT_MESSAGE_LABEL, message);
+        return resultNode.toString();
+    }
+
+    protected void schedulePartitions(String batchId, int lastPartition, CommandContext commandContext) {
+        int concurrency = Math.max(1, Math.min(processEngineConfiguration.getBatchMaxConcurrentPartitions(), lastPartition + 1));
+        for (int partition = 0; partition < concurrency; partition++) {
+            schedulePartition(batchId, partition, lastPartition, concurrency, commandContext);
+        }
+    }
+
+    protected void schedulePartition(String batchId, int partition, int lastPartition, int concurrency, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(BatchPartitionJobHandler.TYPE);
+        job.setElementId(batchId);
+        job.setJobHandlerConfiguration(BatchPartitionJobHandler.getHandlerCfg(batchId, partition, lastPartition, concurrency));
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    protected void scheduleStatusTimer(Batch batch, CommandContext commandContext) {
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(getBatchPartHandler(batch.getBatchType()).getStatusJobHandlerType());
+        timerJob.setJobHandlerConfiguration(BatchPartitionStatusJobHandler.getHandlerCfg(batch.getId()));
+
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    protected BatchPartHandler getBatchPartHandler(String batchType) {
+        BatchPartHandler batchPartHandler = processEngineConfiguration.getBatchPartHandlers().get(batchType);
+        if (batchPartHandler == null) {
+            throw new FlowableException("No batch part handler registered for batch type " + batchType);
+        }
+        return batchPartHandler;
+    }
+
+    protected int getPartitionSize() {
+        return Math.max(1, processEngineConfiguration.getBatchPartitionSize());
+    }
+
+}
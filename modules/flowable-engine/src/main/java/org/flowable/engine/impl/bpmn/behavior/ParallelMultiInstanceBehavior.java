@@ -29,9 +29,12 @@ import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -109,6 +112,10 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
             // Empty collection, just leave.
             zeroNrOfInstances = true;
             super.leave(execution); // Plan the default leave
+
+        } else if (isAsyncCompletion(execution)) {
+            completeInstanceAsync((ExecutionEntity) execution);
+            return;
         }
 
         int loopCounter = getLoopVariable(execution, getCollectionElementIndexVariable());
@@ -148,30 +155,7 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                     leavingExecution = executionEntity;
                 }
 
-                Activity activity = (Activity) execution.getCurrentFlowElement();
-                verifyCompensation(execution, leavingExecution, activity);
-                verifyCallActivity(leavingExecution, activity);
-                
-                if (isCompletionConditionSatisfied) {
-                    LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
-                    while (!toVerify.isEmpty()) {
-                        DelegateExecution childExecution = toVerify.pop();
-                        if (((ExecutionEntity) childExecution).isInserted()) {
-                            childExecution.inactivate();
-                        }
-                        
-                        List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
-                        if (childExecutions != null && !childExecutions.isEmpty()) {
-                            toVerify.addAll(childExecutions);
-                        }
-                    }
-                    sendCompletedWithConditionEvent(leavingExecution);
-                }
-                else {
-                    sendCompletedEvent(leavingExecution);
-                }
-
-                super.leave(leavingExecution);
+                leaveMultiInstance(execution, miRootExecution, leavingExecution, isCompletionConditionSatisfied);
               }
 
         } else {
@@ -180,6 +164,98 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    protected void leaveMultiInstance(DelegateExecution execution, DelegateExecution miRootExecution, ExecutionEntity leavingExecution,
+            boolean isCompletionConditionSatisfied) {
+
+        Activity activity = (Activity) execution.getCurrentFlowElement();
+        verifyCompensation(execution, leavingExecution, activity);
+        verifyCallActivity(leavingExecution, activity);
+
+        if (isCompletionConditionSatisfied) {
+            LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
+            while (!toVerify.isEmpty()) {
+                DelegateExecution childExecution = toVerify.pop();
+                if (((ExecutionEntity) childExecution).isInserted()) {
+                    childExecution.inactivate();
+                }
+
+                List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
+                if (childExecutions != null && !childExecutions.isEmpty()) {
+                    toVerify.addAll(childExecutions);
+                }
+            }
+            sendCompletedWithConditionEvent(leavingExecution);
+        }
+        else {
+            sendCompletedEvent(leavingExecution);
+        }
+
+        super.leave(leavingExecution);
+    }
+
+    protected boolean isAsyncCompletion(DelegateExecution execution) {
+        return CommandContextUtil.getProcessEngineConfiguration().isEnableParallelMultiInstanceAsyncCompletion()
+                && ((ExecutionEntity) execution).getParent() != null
+                && getMultiInstanceRootExecution(execution) != null;
+    }
+
+    /**
+     * Completes one instance without touching the multi instance root execution: the execution of the instance is removed
+     * (or destroyed together with its scope, e.g. for a subprocess) and a completion job is scheduled for the multi instance root execution.
+     * The completion job counts the completed instance and leaves the multi instance activity when needed, see {@link #leaveIfCompleted(ExecutionEntity)}.
+     */
+    protected void completeInstanceAsync(ExecutionEntity execution) {
+        ExecutionEntity miRootExecution = (ExecutionEntity) getMultiInstanceRootExecution(execution);
+
+        CommandContextUtil.getActivityInstanceEntityManager().recordActivityEnd(execution, null);
+        callActivityEndListeners(execution);
+
+        LOGGER.debug("Multi-instance '{}' instance completed, scheduling completion check. Details: loopCounter={}",
+                execution.getCurrentFlowElement() != null ? execution.getCurrentFlowElement().getId() : "",
+                execution.getVariableLocal(getCollectionElementIndexVariable()));
+
+        execution.inactivate();
+        if (!execution.isScope()) {
+            // Scope executions (e.g. of a subprocess) are destroyed by the operation that ends the scope
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
+            executionEntityManager.deleteChildExecutions(execution, null, false);
+            executionEntityManager.deleteExecutionAndRelatedData(execution, null, false);
+        }
+
+        JobService jobService = CommandContextUtil.getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE);
+        job.setJobHandlerConfiguration(miRootExecution.getId());
+        job.setProcessInstanceId(miRootExecution.getProcessInstanceId());
+        job.setProcessDefinitionId(miRootExecution.getProcessDefinitionId());
+        job.setElementId(activity.getId());
+        job.setElementName(activity.getName());
+        job.setTenantId(miRootExecution.getTenantId());
+
+        jobService.createAsyncJob(job, true); // Always exclusive, so the completion checks of a process instance are never executed concurrently
+        jobService.scheduleAsyncJob(job);
+    }
+
+    /**
+     * Called from the {@link ParallelMultiInstanceActivityCompletionJobHandler}: counts the completed instance of the job in the loop counters
+     * and leaves the multi instance activity when all instances are completed or the completion condition is satisfied.
+     * There is one completion job per completed instance and the jobs of a process instance are never executed concurrently,
+     * so the counters are updated incrementally, in the same way as when the instances are completed synchronously.
+     */
+    public void leaveIfCompleted(ExecutionEntity miRootExecution) {
+        int nrOfInstances = getLoopVariable(miRootExecution, NUMBER_OF_INSTANCES);
+        int nrOfCompletedInstances = getLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES) + 1;
+        int nrOfActiveInstances = getLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
+
+        setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+        setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+
+        boolean isCompletionConditionSatisfied = completionConditionSatisfied(miRootExecution);
+        if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
+            leaveMultiInstance(miRootExecution, miRootExecution, miRootExecution, isCompletionConditionSatisfied);
+        }
+    }
+
     protected Activity verifyCompensation(DelegateExecution execution, ExecutionEntity executionToUse, Activity activity) {
         boolean hasCompensation = false;
         if (activity instanceof Transaction) {
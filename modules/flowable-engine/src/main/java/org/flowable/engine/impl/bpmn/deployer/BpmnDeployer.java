@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -116,6 +117,33 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Parses a single BPMN resource of an already persisted deployment and adds its process definitions to the cache.
+     * Contrary to {@link #deploy(EngineDeployment, Map)} with a deployment that is not new, the other resources of the deployment
+     * are not fetched nor parsed, which makes this suited for resolving a process definition after a cache miss.
+     */
+    public void resolveProcessDefinitionsOfResource(DeploymentEntity deployment, EngineResource resource) {
+        LOGGER.debug("Resolving process definitions of resource {} of deployment {}", resource.getName(), deployment.getId());
+
+        ParsedDeployment parsedDeployment = parsedDeploymentBuilderFactory
+                .getBuilderForDeploymentAndSettings(deployment, null)
+                .build(Collections.singletonList(resource));
+
+        bpmnDeploymentHelper.copyDeploymentValuesToProcessDefinitions(
+                parsedDeployment.getDeployment(), parsedDeployment.getAllProcessDefinitions());
+        bpmnDeploymentHelper.setResourceNamesOnProcessDefinitions(parsedDeployment);
+
+        // The diagram resource name is taken from the persisted process definition, as determining it requires all deployment resources
+        makeProcessDefinitionsConsistentWithPersistedVersions(parsedDeployment);
+
+        cachingAndArtifactsManager.updateCachingAndArtifacts(parsedDeployment);
+
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
+            createLocalizationValues(processDefinition.getId(), bpmnModel.getProcessById(processDefinition.getKey()));
+        }
+    }
+
     /**
      * Creates new diagrams for process definitions if the deployment is new, the process definition in question supports it, and the engine is configured to make new diagrams.
      *
@@ -341,6 +369,9 @@ public class BpmnDeployer implements EngineDeployer {
                 processDefinition.setSuspensionState(persistedProcessDefinition.getSuspensionState());
                 processDefinition.setHasStartFormKey(persistedProcessDefinition.hasStartFormKey());
                 processDefinition.setGraphicalNotationDefined(persistedProcessDefinition.isGraphicalNotationDefined());
+                if (processDefinition.getDiagramResourceName() == null) {
+                    processDefinition.setDiagramResourceName(persistedProcessDefinition.getDiagramResourceName());
+                }
             }
         }
     }
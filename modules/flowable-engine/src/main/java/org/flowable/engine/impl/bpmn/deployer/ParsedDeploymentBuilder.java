@@ -14,6 +14,7 @@ package org.flowable.engine.impl.bpmn.deployer;
 
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,12 +45,19 @@ public class ParsedDeploymentBuilder {
     }
 
     public ParsedDeployment build() {
+        return build(((DeploymentEntity) deployment).getResources().values());
+    }
+
+    /**
+     * Builds the parsed deployment from the given resources only, instead of from all resources of the deployment.
+     */
+    public ParsedDeployment build(Collection<? extends EngineResource> resources) {
         List<ProcessDefinitionEntity> processDefinitions = new ArrayList<>();
         Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<>();
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
-        for (EngineResource resource : deploymentEntity.getResources().values()) {
+        for (EngineResource resource : resources) {
             if (isBpmnResource(resource.getName())) {
                 LOGGER.debug("Processing BPMN resource {}", resource.getName());
                 BpmnParse parse = createBpmnParseFromResource(resource);
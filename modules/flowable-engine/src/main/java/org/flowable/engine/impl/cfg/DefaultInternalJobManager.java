@@ -13,11 +13,18 @@
 
 package org.flowable.engine.impl.cfg;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Event;
@@ -49,6 +56,7 @@ import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tijs Rademakers
@@ -69,6 +77,60 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
         return null;
     }
 
+    @Override
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(List<Job> jobs, Collection<String> variableNames) {
+        // The variables visible from an execution are the ones of the execution and all of its parents.
+        // The variables of all those executions are fetched in one query and then resolved per job, starting from the job execution.
+        Map<String, List<String>> executionHierarchyByJobId = new HashMap<>();
+        Set<String> executionIds = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getExecutionId() != null) {
+                List<String> executionHierarchy = new ArrayList<>();
+                ExecutionEntity execution = getExecutionEntityManager().findById(job.getExecutionId());
+                while (execution != null) {
+                    executionHierarchy.add(execution.getId());
+                    execution = execution.getParent();
+                }
+
+                if (!executionHierarchy.isEmpty()) {
+                    executionHierarchyByJobId.put(job.getId(), executionHierarchy);
+                    executionIds.addAll(executionHierarchy);
+                }
+            }
+        }
+
+        if (executionIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService()
+                .createInternalVariableInstanceQuery()
+                .executionIds(executionIds)
+                .names(variableNames)
+                .withoutTaskId()
+                .list();
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new ArrayList<>()).add(variableInstance);
+        }
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : executionHierarchyByJobId.entrySet()) {
+            Map<String, Object> variables = new HashMap<>();
+            for (String executionId : entry.getValue()) {
+                for (VariableInstanceEntity variableInstance : variableInstancesByExecutionId.getOrDefault(executionId, Collections.emptyList())) {
+                    if (!variables.containsKey(variableInstance.getName())) {
+                        variables.put(variableInstance.getName(), variableInstance.getValue());
+                    }
+                }
+            }
+            variablesByJobId.put(entry.getKey(), variables);
+        }
+
+        return variablesByJobId;
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // add link to execution
@@ -151,8 +213,19 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
     @Override
     protected void lockJobScopeInternal(Job job) {
         ExecutionEntityManager executionEntityManager = getExecutionEntityManager();
-        ExecutionEntity execution = executionEntityManager.findById(job.getExecutionId());
-        if (execution != null) {
+        ExecutionEntity execution = null;
+        String processInstanceId = null;
+        if (job.getExecutionId() != null) {
+            execution = executionEntityManager.findById(job.getExecutionId());
+            if (execution != null) {
+                processInstanceId = execution.getProcessInstanceId();
+            }
+        } else {
+            // Jobs that are only linked to the process instance (e.g. the parallel multi instance completion job)
+            processInstanceId = job.getProcessInstanceId();
+        }
+
+        if (processInstanceId != null) {
             String lockOwner;
             Date lockExpirationTime;
 
@@ -169,16 +242,22 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
                 lockExpirationTime = lockCal.getTime();
             }
 
-            executionEntityManager.updateProcessInstanceLockTime(execution.getProcessInstanceId(), lockOwner, lockExpirationTime);
+            executionEntityManager.updateProcessInstanceLockTime(processInstanceId, lockOwner, lockExpirationTime);
         }
         
-        if (processEngineConfiguration.isLoggingSessionEnabled()) {
+        if (processEngineConfiguration.isLoggingSessionEnabled() && execution != null) {
             FlowElement flowElement = execution.getCurrentFlowElement();
             BpmnLoggingSessionUtil.addAsyncActivityLoggingData("Locking job for " + flowElement.getId() + ", with job id " + job.getId(),
                             LoggingSessionConstants.TYPE_SERVICE_TASK_LOCK_JOB, (JobEntity) job, flowElement, execution);
         }
     }
 
+    @Override
+    protected void extendJobScopeLockInternal(Job job) {
+        JobInfoEntity jobEntity = (JobInfoEntity) job;
+        getExecutionEntityManager().extendProcessInstanceLockTime(job.getProcessInstanceId(), jobEntity.getLockOwner(), jobEntity.getLockExpirationTime());
+    }
+
     @Override
     protected void clearJobScopeLockInternal(Job job) {
         ExecutionEntityManager executionEntityManager = getExecutionEntityManager();
@@ -187,7 +266,7 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
             executionEntityManager.clearProcessInstanceLockTime(execution.getId());
         }
 
-        if (processEngineConfiguration.isLoggingSessionEnabled()) {
+        if (processEngineConfiguration.isLoggingSessionEnabled() && job.getExecutionId() != null) {
             ExecutionEntity localExecution = executionEntityManager.findById(job.getExecutionId());
             FlowElement flowElement = localExecution.getCurrentFlowElement();
             BpmnLoggingSessionUtil.addAsyncActivityLoggingData("Unlocking job for " + flowElement.getId() + ", with job id " + job.getId(),
@@ -61,6 +61,13 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * Maintains a denormalised index table (ACT_RU_TASK_CANDIDATE) of the candidate users and groups of tasks, which is then used
+     * by task queries with candidate restrictions instead of the identity link table.
+     * Should be enabled on all engines sharing the database. Existing candidates are indexed with ManagementService#rebuildTaskCandidateIndex().
+     */
+    protected boolean enableTaskCandidateIndex = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +116,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    public void setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+    }
+
 }
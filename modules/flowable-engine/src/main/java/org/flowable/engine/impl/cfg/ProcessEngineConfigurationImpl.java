@@ -141,6 +141,8 @@ import org.flowable.engine.impl.agenda.AgendaSessionFactory;
 import org.flowable.engine.impl.agenda.DefaultFlowableEngineAgendaFactory;
 import org.flowable.engine.impl.app.AppDeployer;
 import org.flowable.engine.impl.app.AppResourceConverterImpl;
+import org.flowable.engine.impl.batch.BatchPartHandler;
+import org.flowable.engine.impl.batch.PartitionedBatchExecutor;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeploymentHelper;
 import org.flowable.engine.impl.bpmn.deployer.CachingAndArtifactsManager;
@@ -266,9 +268,12 @@ import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncSendEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.jobexecutor.BatchPartitionJobHandler;
+import org.flowable.engine.impl.jobexecutor.BatchPartitionStatusJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
@@ -276,6 +281,7 @@ import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandle
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
+import org.flowable.engine.impl.migration.ProcessInstanceMigrationBatchPartHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
@@ -512,6 +518,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DynamicStateManager dynamicStateManager;
 
     protected ProcessInstanceMigrationManager processInstanceMigrationManager;
+
+    // Partitioned batch execution
+
+    protected PartitionedBatchExecutor partitionedBatchExecutor;
+    protected List<BatchPartHandler> customBatchPartHandlers;
+    protected Map<String, BatchPartHandler> batchPartHandlers;
     
     // Decision table variable manager
     
@@ -543,6 +555,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When a process definition is not found in the process definition cache, by default only the BPMN resource of that process definition is fetched and parsed.
+     * When set to true, the complete deployment is redeployed instead (all resources are fetched and all deployers are invoked).
+     */
+    protected boolean redeployOnProcessDefinitionCacheMiss;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
@@ -684,6 +702,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean asyncExecutorUnlockOwnedJobs = true;
 
+    /**
+     * Whether the exclusive jobs acquired by the async executor are executed serially per process instance in memory,
+     * so that exclusive jobs of the same process instance wait for each other instead of racing for the process instance lock.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorNodeLocalExclusiveJobs;
+
     /**
      * The amount of time (in milliseconds) a timer job is locked when acquired by the async executor. During this period of time, no other async executor will try to acquire and lock this job.
      * <p>
@@ -772,6 +798,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
+    /**
+     * The number of batch parts that are executed together, in one transaction, by a partitioned batch.
+     */
+    protected int batchPartitionSize = 100;
+
+    /**
+     * The maximum number of partitions of one batch that are executed at the same time.
+     */
+    protected int batchMaxConcurrentPartitions = 4;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -887,6 +923,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected EventRegistryEventConsumer eventRegistryEventConsumer;
 
+    /**
+     * When enabled, evaluating the conditional events of a process instance because variables changed (i.e. RuntimeService#evaluateConditionalEvents
+     * with variables) only evaluates the conditions that read a variable written in the current transaction.
+     * An explicit evaluation without variables always evaluates all conditions.
+     * Conditions of which not every identifier is a variable (e.g. beans, 'execution' or functions) are always evaluated.
+     * Note that changes made to a variable value object in place, without setting the variable, can't be detected.
+     * Also note that a variable written in an earlier transaction doesn't count as changed: when a variable is set without evaluating
+     * the conditional events, a later evaluation with other variables doesn't trigger the conditions reading it. Use an evaluation
+     * without variables in that case.
+     */
+    protected boolean conditionalEventEvaluationOnVariableChangeOnly;
+
+    /**
+     * When enabled, a node-local index of the event subscriptions is kept, so that events received through the event registry
+     * without any matching event subscription don't need to query the event subscription table.
+     * Event subscriptions created by other nodes are only taken into account after the next reconciliation of the index,
+     * events matching only such event subscriptions are not delivered until then. Hence this is disabled by default and should
+     * only be enabled when all event subscriptions are created by the same node, or when other nodes call
+     * {@link org.flowable.eventsubscription.service.impl.EventSubscriptionIndex#invalidate()} on every node after creating event subscriptions.
+     */
+    protected boolean enableEventSubscriptionIndex;
+
+    /**
+     * The interval (in milliseconds) after which the event subscription index is reconciled with the database.
+     */
+    protected long eventSubscriptionIndexReconciliationInterval = 60000L;
+
+    /**
+     * When enabled, a completed instance of a parallel multi instance activity doesn't update the loop counters on the multi instance root execution.
+     * Instead, the execution of the completed instance is removed and an exclusive job is scheduled that counts the remaining instances
+     * and leaves the multi instance activity when all instances are completed (or the completion condition is satisfied).
+     * This avoids optimistic locking exceptions on the multi instance root execution when many (async, non-exclusive) instances complete concurrently,
+     * at the cost of an extra job per completed instance.
+     */
+    protected boolean enableParallelMultiInstanceAsyncCompletion;
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -1056,6 +1128,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initHistoryManager();
         initDynamicStateManager();
         initProcessInstanceMigrationValidationManager();
+        initPartitionedBatchExecutor();
         initIdentityLinkInterceptor();
         initJpa();
         initDeployers();
@@ -1366,6 +1439,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             processInstanceMigrationManager = new ProcessInstanceMigrationManagerImpl();
         }
     }
+
+    public void initPartitionedBatchExecutor() {
+        if (partitionedBatchExecutor == null) {
+            partitionedBatchExecutor = new PartitionedBatchExecutor(this);
+        }
+
+        batchPartHandlers = new HashMap<>();
+
+        ProcessInstanceMigrationBatchPartHandler processInstanceMigrationBatchPartHandler = new ProcessInstanceMigrationBatchPartHandler();
+        batchPartHandlers.put(processInstanceMigrationBatchPartHandler.getType(), processInstanceMigrationBatchPartHandler);
+
+        if (customBatchPartHandlers != null) {
+            for (BatchPartHandler customBatchPartHandler : customBatchPartHandlers) {
+                batchPartHandlers.put(customBatchPartHandler.getType(), customBatchPartHandler);
+            }
+        }
+    }
     
     // identity link interceptor ///////////////////////////////////////////////
     public void initIdentityLinkInterceptor() {
@@ -1492,6 +1582,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.identityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
         this.identityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.identityLinkServiceConfiguration.setIdentityLinkEventHandler(this.identityLinkEventHandler);
+        this.identityLinkServiceConfiguration.setEnableTaskCandidateIndex(this.performanceSettings.isEnableTaskCandidateIndex());
 
         this.identityLinkServiceConfiguration.init();
 
@@ -1527,6 +1618,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        this.eventSubscriptionServiceConfiguration.setEnableEventSubscriptionIndex(this.enableEventSubscriptionIndex);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionIndexReconciliationInterval(this.eventSubscriptionIndexReconciliationInterval);
         
         this.eventSubscriptionServiceConfiguration.init();
         
@@ -1578,6 +1671,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.performanceSettings.isEnableTaskRelationshipCounts());
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
+        this.taskServiceConfiguration.setEnableTaskCandidateIndex(this.performanceSettings.isEnableTaskCandidateIndex());
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
@@ -2053,6 +2147,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncCompleteCallActivityJobHandler asyncCompleteCallActivityJobHandler = new AsyncCompleteCallActivityJobHandler();
         jobHandlers.put(asyncCompleteCallActivityJobHandler.getType(), asyncCompleteCallActivityJobHandler);
         
+        ParallelMultiInstanceActivityCompletionJobHandler parallelMultiInstanceActivityCompletionJobHandler = new ParallelMultiInstanceActivityCompletionJobHandler();
+        jobHandlers.put(parallelMultiInstanceActivityCompletionJobHandler.getType(), parallelMultiInstanceActivityCompletionJobHandler);
+
         AsyncSendEventJobHandler asyncSendEventJobHandler = new AsyncSendEventJobHandler();
         jobHandlers.put(asyncSendEventJobHandler.getType(), asyncSendEventJobHandler);
         
@@ -2065,6 +2162,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessInstanceMigrationStatusJobHandler processInstanceMigrationStatusJobHandler = new ProcessInstanceMigrationStatusJobHandler();
         jobHandlers.put(processInstanceMigrationStatusJobHandler.getType(), processInstanceMigrationStatusJobHandler);
 
+        BatchPartitionJobHandler batchPartitionJobHandler = new BatchPartitionJobHandler();
+        jobHandlers.put(batchPartitionJobHandler.getType(), batchPartitionJobHandler);
+
+        BatchPartitionStatusJobHandler batchPartitionStatusJobHandler = new BatchPartitionStatusJobHandler();
+        jobHandlers.put(batchPartitionStatusJobHandler.getType(), batchPartitionStatusJobHandler);
+
         ExternalWorkerTaskCompleteJobHandler externalWorkerTaskCompleteJobHandler = new ExternalWorkerTaskCompleteJobHandler();
         jobHandlers.put(externalWorkerTaskCompleteJobHandler.getType(), externalWorkerTaskCompleteJobHandler);
 
@@ -2186,6 +2289,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncExecutor.setLockOwner(asyncExecutorLockOwner);
             }
             defaultAsyncExecutor.setUnlockOwnedJobs(asyncExecutorUnlockOwnedJobs);
+            defaultAsyncExecutor.setNodeLocalExclusiveJobs(asyncExecutorNodeLocalExclusiveJobs);
 
             // Reset expired
             defaultAsyncExecutor.setResetExpiredJobsInterval(asyncExecutorResetExpiredJobsInterval);
@@ -3606,6 +3710,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isRedeployOnProcessDefinitionCacheMiss() {
+        return redeployOnProcessDefinitionCacheMiss;
+    }
+
+    public ProcessEngineConfigurationImpl setRedeployOnProcessDefinitionCacheMiss(boolean redeployOnProcessDefinitionCacheMiss) {
+        this.redeployOnProcessDefinitionCacheMiss = redeployOnProcessDefinitionCacheMiss;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3729,6 +3842,47 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isConditionalEventEvaluationOnVariableChangeOnly() {
+        return conditionalEventEvaluationOnVariableChangeOnly;
+    }
+
+    public ProcessEngineConfigurationImpl setConditionalEventEvaluationOnVariableChangeOnly(boolean conditionalEventEvaluationOnVariableChangeOnly) {
+        this.conditionalEventEvaluationOnVariableChangeOnly = conditionalEventEvaluationOnVariableChangeOnly;
+        return this;
+    }
+
+    @Override
+    public boolean isVariableChangeTrackingEnabled() {
+        return conditionalEventEvaluationOnVariableChangeOnly;
+    }
+
+    public boolean isEnableEventSubscriptionIndex() {
+        return enableEventSubscriptionIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableEventSubscriptionIndex(boolean enableEventSubscriptionIndex) {
+        this.enableEventSubscriptionIndex = enableEventSubscriptionIndex;
+        return this;
+    }
+
+    public long getEventSubscriptionIndexReconciliationInterval() {
+        return eventSubscriptionIndexReconciliationInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setEventSubscriptionIndexReconciliationInterval(long eventSubscriptionIndexReconciliationInterval) {
+        this.eventSubscriptionIndexReconciliationInterval = eventSubscriptionIndexReconciliationInterval;
+        return this;
+    }
+
+    public boolean isEnableParallelMultiInstanceAsyncCompletion() {
+        return enableParallelMultiInstanceAsyncCompletion;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelMultiInstanceAsyncCompletion(boolean enableParallelMultiInstanceAsyncCompletion) {
+        this.enableParallelMultiInstanceAsyncCompletion = enableParallelMultiInstanceAsyncCompletion;
+        return this;
+    }
+
     public EventRegistryEventConsumer getEventRegistryEventConsumer() {
         return eventRegistryEventConsumer;
     }
@@ -3812,6 +3966,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.performanceSettings.setEnableTaskCandidateIndex(enableTaskCandidateIndex);
+        return this;
+    }
+
     public PerformanceSettings getPerformanceSettings() {
         return performanceSettings;
     }
@@ -4196,6 +4355,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.processInstanceMigrationManager = processInstanceMigrationValidationMananger;
         return this;
     }
+
+    public PartitionedBatchExecutor getPartitionedBatchExecutor() {
+        return partitionedBatchExecutor;
+    }
+
+    public ProcessEngineConfigurationImpl setPartitionedBatchExecutor(PartitionedBatchExecutor partitionedBatchExecutor) {
+        this.partitionedBatchExecutor = partitionedBatchExecutor;
+        return this;
+    }
+
+    public List<BatchPartHandler> getCustomBatchPartHandlers() {
+        return customBatchPartHandlers;
+    }
+
+    public ProcessEngineConfigurationImpl setCustomBatchPartHandlers(List<BatchPartHandler> customBatchPartHandlers) {
+        this.customBatchPartHandlers = customBatchPartHandlers;
+        return this;
+    }
+
+    public Map<String, BatchPartHandler> getBatchPartHandlers() {
+        return batchPartHandlers;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchPartHandlers(Map<String, BatchPartHandler> batchPartHandlers) {
+        this.batchPartHandlers = batchPartHandlers;
+        return this;
+    }
     
     public DecisionTableVariableManager getDecisionTableVariableManager() {
         return decisionTableVariableManager;
@@ -4632,6 +4818,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorNodeLocalExclusiveJobs() {
+        return asyncExecutorNodeLocalExclusiveJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorNodeLocalExclusiveJobs(boolean asyncExecutorNodeLocalExclusiveJobs) {
+        this.asyncExecutorNodeLocalExclusiveJobs = asyncExecutorNodeLocalExclusiveJobs;
+        return this;
+    }
+
     public int getAsyncExecutorTimerLockTimeInMillis() {
         return asyncExecutorTimerLockTimeInMillis;
     }
@@ -4940,4 +5135,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
     }
 
+    public int getBatchPartitionSize() {
+        return batchPartitionSize;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchPartitionSize(int batchPartitionSize) {
+        this.batchPartitionSize = batchPartitionSize;
+        return this;
+    }
+
+    public int getBatchMaxConcurrentPartitions() {
+        return batchMaxConcurrentPartitions;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchMaxConcurrentPartitions(int batchMaxConcurrentPartitions) {
+        this.batchMaxConcurrentPartitions = batchMaxConcurrentPartitions;
+        return this;
+    }
+
 }
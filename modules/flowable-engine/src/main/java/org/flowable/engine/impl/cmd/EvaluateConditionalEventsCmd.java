@@ -47,15 +47,19 @@ public class EvaluateConditionalEventsCmd extends NeedsActiveExecutionCmd<Object
             throw new FlowableException("Execution is not of type process instance");
         }
         
-        if (processVariables != null) {
+        boolean triggeredByVariableChange = false;
+        if (processVariables != null && !processVariables.isEmpty()) {
             execution.setVariables(processVariables);
+            triggeredByVariableChange = true;
         }
 
-        if (transientVariables != null) {
+        if (transientVariables != null && !transientVariables.isEmpty()) {
             execution.setTransientVariables(transientVariables);
+            triggeredByVariableChange = true;
         }
 
-        CommandContextUtil.getAgenda(commandContext).planEvaluateConditionalEventsOperation(execution);
+        // An explicit evaluation without variables always evaluates all conditions
+        CommandContextUtil.getAgenda(commandContext).planEvaluateConditionalEventsOperation(execution, triggeredByVariableChange);
 
         return null;
     }
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.identitylink.api.IdentityLinkType;
+
+/**
+ * Executes a claim, assign or complete operation for a chunk of tasks in one transaction.
+ * The tasks of the chunk are loaded with one query up front, after which every task is processed
+ * with the regular task commands, so listeners, events and history behave as for a single task.
+ * The identity links and historic entries created for the chunk are inserted together when the
+ * transaction is flushed (bulk inserts, when enabled); updated tasks and historic tasks are still
+ * written with one update statement per entity.
+ */
+public class ExecuteBulkTaskOperationCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String OPERATION_COMPLETE = "complete";
+    public static final String OPERATION_CLAIM = "claim";
+    public static final String OPERATION_ASSIGN = "assign";
+
+    protected String operation;
+    protected List<String> taskIds;
+    protected String userId;
+    protected Map<String, Object> variables;
+    protected Map<String, Object> transientVariables;
+
+    public ExecuteBulkTaskOperationCmd(String operation, List<String> taskIds, String userId,
+            Map<String, Object> variables, Map<String, Object> transientVariables) {
+        this.operation = operation;
+        this.taskIds = taskIds;
+        this.userId = userId;
+        this.variables = variables;
+        this.transientVariables = transientVariables;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        // The loaded tasks are kept in the entity cache, where the task commands find them instead of selecting them one by one
+        CommandContextUtil.getTaskService(commandContext).createTaskQuery().taskIds(taskIds).list();
+
+        for (String taskId : taskIds) {
+            createTaskCommand(taskId).execute(commandContext);
+        }
+        return null;
+    }
+
+    public Command<?> createTaskCommand(String taskId) {
+        switch (operation) {
+            case OPERATION_COMPLETE:
+                return new CompleteTaskCmd(taskId, variables, transientVariables);
+            case OPERATION_CLAIM:
+                return new ClaimTaskCmd(taskId, userId);
+            case OPERATION_ASSIGN:
+                return new AddIdentityLinkCmd(taskId, userId, AddIdentityLinkCmd.IDENTITY_USER, IdentityLinkType.ASSIGNEE);
+            default:
+                throw new IllegalStateException("Unknown bulk task operation " + operation);
+        }
+    }
+
+}
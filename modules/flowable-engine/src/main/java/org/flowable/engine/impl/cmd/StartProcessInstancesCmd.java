@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.ProcessInstanceHelper;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Starts a chunk of process instances of the same process definition in one command context.
+ * When no process definition id is given, the process definition is looked up by key (and tenant id)
+ * and the resolved id is kept, so that the next chunks can skip the lookup.
+ */
+public class StartProcessInstancesCmd implements Command<List<String>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected List<String> businessKeys;
+    protected List<Map<String, Object>> variables;
+    protected boolean processDefinitionResolved;
+
+    public StartProcessInstancesCmd(String processDefinitionId, String processDefinitionKey, String tenantId,
+            List<String> businessKeys, List<Map<String, Object>> variables) {
+        this.processDefinitionId = processDefinitionId;
+        this.processDefinitionKey = processDefinitionKey;
+        this.tenantId = tenantId;
+        this.businessKeys = businessKeys;
+        this.variables = variables;
+    }
+
+    @Override
+    public List<String> execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+
+        ProcessDefinition processDefinition;
+        if (processDefinitionId != null) {
+            processDefinition = ProcessDefinitionUtil.getProcessDefinition(processDefinitionId, false, processEngineConfiguration);
+        } else {
+            processDefinition = new StartProcessInstanceCmd<>(processDefinitionKey, null, null, null, tenantId).getProcessDefinition(processEngineConfiguration);
+            processDefinitionId = processDefinition.getId();
+        }
+        processDefinitionResolved = true;
+
+        ProcessInstanceHelper processInstanceHelper = processEngineConfiguration.getProcessInstanceHelper();
+        List<String> processInstanceIds = new ArrayList<>(businessKeys.size());
+        for (int i = 0; i < businessKeys.size(); i++) {
+            ProcessInstance processInstance = processInstanceHelper.createProcessInstance(processDefinition, businessKeys.get(i), null,
+                    null, null, variables.get(i), null, null, null, null, null, null, true);
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        return processInstanceIds;
+    }
+
+    /**
+     * @return the id of the process definition, also when the process definition was looked up by key by this command
+     */
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    /**
+     * @return true if the process definition was found, i.e. a failure of this command was caused by starting the process instances
+     */
+    public boolean isProcessDefinitionResolved() {
+        return processDefinitionResolved;
+    }
+
+}
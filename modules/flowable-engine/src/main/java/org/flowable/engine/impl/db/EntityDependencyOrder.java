@@ -47,6 +47,7 @@ import org.flowable.eventsubscription.service.impl.persistence.entity.MessageEve
 import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
+import org.flowable.identitylink.service.impl.persistence.entity.TaskCandidateIndexEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityImpl;
@@ -166,6 +167,11 @@ public class EntityDependencyOrder {
         
         DELETE_ORDER.add(EntityLinkEntityImpl.class);
 
+        /*
+         * Mirrors the candidate identity links of tasks, no FK's
+         */
+        DELETE_ORDER.add(TaskCandidateIndexEntityImpl.class);
+
         /*
          * FK to process definition FK to Execution FK to Task
          */
@@ -50,6 +50,7 @@ import org.flowable.eventsubscription.service.impl.persistence.entity.MessageEve
 import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.identitylink.service.impl.persistence.entity.TaskCandidateIndexEntity;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
@@ -78,6 +79,7 @@ public class EntityToTableMap {
         entityToTableNameMap.put(TaskEntity.class, "ACT_RU_TASK");
         entityToTableNameMap.put(ExecutionEntity.class, "ACT_RU_EXECUTION");
         entityToTableNameMap.put(IdentityLinkEntity.class, "ACT_RU_IDENTITYLINK");
+        entityToTableNameMap.put(TaskCandidateIndexEntity.class, "ACT_RU_TASK_CANDIDATE");
         entityToTableNameMap.put(VariableInstanceEntity.class, "ACT_RU_VARIABLE");
 
         entityToTableNameMap.put(JobEntity.class, "ACT_RU_JOB");
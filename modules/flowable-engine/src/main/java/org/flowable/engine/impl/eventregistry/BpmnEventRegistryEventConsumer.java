@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.flowable.bpmn.constants.BpmnXMLConstants;
 import org.flowable.bpmn.model.BpmnModel;
@@ -25,6 +27,7 @@ import org.flowable.bpmn.model.ExtensionElement;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -35,6 +38,8 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,23 +62,13 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
     }
     
     @Override
-    protected void eventReceived(EventInstance eventInstance) {
-
-        // Fetching the event subscriptions happens in one transaction,
-        // executing them one per subscription. There is no overarching transaction.
-        // The reason for this is that the handling of one event subscription
-        // should not influence (i.e. roll back) the handling of another.
-
-        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
-        List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys);
-        RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
-        for (EventSubscription eventSubscription : eventSubscriptions) {
-            handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys);
-        }
+    protected String getEventSubscriptionScopeType() {
+        return ScopeTypes.BPMN;
     }
 
-    protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
-            EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
 
         if (eventSubscription.getExecutionId() != null) {
 
@@ -152,6 +147,19 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected boolean mightHaveEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = (EventSubscriptionServiceConfiguration) processEngineConfiguration
+                .getServiceConfigurations().get(EngineConfigurationConstants.KEY_EVENT_SUBSCRIPTION_SERVICE_CONFIG);
+        EventSubscriptionIndex eventSubscriptionIndex = eventSubscriptionServiceConfiguration.getEventSubscriptionIndex();
+        if (eventSubscriptionIndex == null) {
+            return true;
+        }
+
+        Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        return eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, eventInstance.getEventKey(), scopeType, correlationKeyValues);
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor);
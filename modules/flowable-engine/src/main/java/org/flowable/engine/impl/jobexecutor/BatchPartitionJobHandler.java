@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.batch.PartitionedBatchExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A {@link JobHandler} that executes one partition of a batch through the {@link PartitionedBatchExecutor}.
+ * 
+ * The configuration contains the batch id, the partition to execute, the last partition of the batch
+ * and the number of partitions that are executed concurrently (the partition of the next job of the same lane is partition + concurrency).
+ */
+public class BatchPartitionJobHandler implements JobHandler {
+
+    public static final String TYPE = "batch-partition";
+
+    protected static final String CFG_LABEL_BATCH_ID = "batchId";
+    protected static final String CFG_LABEL_PARTITION = "partition";
+    protected static final String CFG_LABEL_LAST_PARTITION = "lastPartition";
+    protected static final String CFG_LABEL_CONCURRENCY = "concurrency";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+
+        JsonNode cfgAsJson;
+        try {
+            cfgAsJson = processEngineConfiguration.getObjectMapper().readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read the configuration of batch partition job " + job.getId(), e);
+        }
+
+        processEngineConfiguration.getPartitionedBatchExecutor().executePartition(cfgAsJson.get(CFG_LABEL_BATCH_ID).asText(),
+                cfgAsJson.get(CFG_LABEL_PARTITION).asInt(), cfgAsJson.get(CFG_LABEL_LAST_PARTITION).asInt(),
+                cfgAsJson.get(CFG_LABEL_CONCURRENCY).asInt(), commandContext);
+    }
+
+    /**
+     * @return the id of the batch of the given partition job configuration, or null if it cannot be read.
+     */
+    public static String getBatchIdFromHandlerCfg(String handlerCfg) {
+        JsonNode cfgAsJson = readHandlerCfg(handlerCfg);
+        return cfgAsJson != null && cfgAsJson.has(CFG_LABEL_BATCH_ID) ? cfgAsJson.get(CFG_LABEL_BATCH_ID).asText() : null;
+    }
+
+    /**
+     * @return the partition of the given partition job configuration, or -1 if it cannot be read.
+     */
+    public static int getPartitionFromHandlerCfg(String handlerCfg) {
+        JsonNode cfgAsJson = readHandlerCfg(handlerCfg);
+        return cfgAsJson != null && cfgAsJson.has(CFG_LABEL_PARTITION) ? cfgAsJson.get(CFG_LABEL_PARTITION).asInt() : -1;
+    }
+
+    protected static JsonNode readHandlerCfg(String handlerCfg) {
+        if (handlerCfg == null) {
+            return null;
+        }
+
+        try {
+            return getObjectMapper().readTree(handlerCfg);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static String getHandlerCfg(String batchId, int partition, int lastPartition, int concurrency) {
+        ObjectNode handlerCfg = getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
+        handlerCfg.put(CFG_LABEL_PARTITION, partition);
+        handlerCfg.put(CFG_LABEL_LAST_PARTITION, lastPartition);
+        handlerCfg.put(CFG_LABEL_CONCURRENCY, concurrency);
+        return handlerCfg.toString();
+    }
+
+    protected static ObjectMapper getObjectMapper() {
+        if (CommandContextUtil.getCommandContext() != null) {
+            return CommandContextUtil.getProcessEngineConfiguration().getObjectMapper();
+        } else {
+            return new ObjectMapper();
+        }
+    }
+
+}
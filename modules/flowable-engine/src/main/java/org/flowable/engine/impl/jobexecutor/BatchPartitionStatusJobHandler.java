@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.batch.PartitionedBatchExecutor;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A repeating timer {@link JobHandler} that checks the progress of a batch executed by the {@link PartitionedBatchExecutor},
+ * see {@link PartitionedBatchExecutor#checkBatchPartitions(String, CommandContext)}. The timer stops repeating once the batch is completed.
+ */
+public class BatchPartitionStatusJobHandler implements JobHandler {
+
+    public static final String TYPE = "batch-partition-status";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        String batchId = BatchPartitionJobHandler.getBatchIdFromHandlerCfg(configuration);
+        if (batchId == null || CommandContextUtil.getProcessEngineConfiguration(commandContext).getPartitionedBatchExecutor()
+                .checkBatchPartitions(batchId, commandContext)) {
+            job.setRepeat(null);
+        }
+    }
+
+    /**
+     * @return the configuration of the status timer of the given batch, which uses the same batch id label as the partition jobs.
+     */
+    public static String getHandlerCfg(String batchId) {
+        ObjectNode handlerCfg = BatchPartitionJobHandler.getObjectMapper().createObjectNode();
+        handlerCfg.put(BatchPartitionJobHandler.CFG_LABEL_BATCH_ID, batchId);
+        return handlerCfg.toString();
+    }
+
+}
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * A {@link JobHandler} that counts a completed instance of a parallel multi instance activity
+ * and leaves the multi instance activity when all instances are completed.
+ * 
+ * Used when the async completion of parallel multi instance activities is enabled: the job is scheduled by each completed instance,
+ * with the id of the multi instance root execution as configuration.
+ * The job is not linked to an execution (to avoid updating the execution for the job count),
+ * but it is exclusive for the process instance, so the completion checks of one process instance never run concurrently.
+ */
+public class ParallelMultiInstanceActivityCompletionJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-complete";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ExecutionEntity multiInstanceRootExecution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(configuration);
+        if (multiInstanceRootExecution == null || multiInstanceRootExecution.isEnded()) {
+            // The multi instance activity has already been left (e.g. because the completion condition was satisfied)
+            return;
+        }
+
+        FlowElement currentFlowElement = multiInstanceRootExecution.getCurrentFlowElement();
+        if (currentFlowElement instanceof Activity && ((Activity) currentFlowElement).getBehavior() instanceof ParallelMultiInstanceBehavior) {
+            ParallelMultiInstanceBehavior multiInstanceBehavior = (ParallelMultiInstanceBehavior) ((Activity) currentFlowElement).getBehavior();
+
+            // The job that is executing is deleted by the job executor, it should not be deleted when the multi instance root is removed
+            commandContext.addAttribute(TYPE, job.getId());
+            multiInstanceBehavior.leaveIfCompleted(multiInstanceRootExecution);
+        }
+    }
+
+}
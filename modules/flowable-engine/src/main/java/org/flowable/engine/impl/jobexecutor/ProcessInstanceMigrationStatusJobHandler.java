@@ -39,39 +39,32 @@ public class ProcessInstanceMigrationStatusJobHandler extends AbstractProcessIns
         
         String batchId = getBatchIdFromHandlerCfg(configuration);
         Batch batch = batchService.getBatch(batchId);
-        
-        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batchId);
-        int completedBatchParts = 0;
-        int failedBatchParts = 0;
-        for (BatchPart batchPart : batchParts) {
-            if (batchPart.getCompleteTime() != null) {
-                completedBatchParts++;
-                
-                if (ProcessInstanceBatchMigrationResult.RESULT_FAIL.equals(batchPart.getStatus())) {
-                    failedBatchParts++;
-                }
-            }
-        }
-        
-        if (completedBatchParts == batchParts.size()) {
-            updateBatchStatus(batch, ProcessInstanceBatchMigrationResult.STATUS_COMPLETED, batchService);
+        if (batch == null || batch.getCompleteTime() != null) {
             job.setRepeat(null);
-        
-        } else {
-            if (batchParts.size() == 0) {
-                updateBatchStatus(batch, "No batch parts", batchService);
+            return;
+        }
+
+        if (batch.getPartCount() > 0) {
+            // Partitioned batches keep track of their completed parts, there is no need to look at the parts
+            if (CommandContextUtil.getProcessEngineConfiguration(commandContext).getPartitionedBatchExecutor().checkBatchPartitions(batchId, commandContext)) {
                 job.setRepeat(null);
-            
-            } else {
-                int completedPercentage = completedBatchParts / batchParts.size() * 100;
-                updateBatchStatus(batch, completedPercentage + "% completed, " + failedBatchParts + " failed", batchService);
             }
+            return;
         }
-    }
-    
-    protected void updateBatchStatus(Batch batch, String status, BatchService batchService) {
-        ((BatchEntity) batch).setStatus(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+
+        // Batch created before the part counters were introduced, with one job per part
+        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batchId);
+        for (BatchPart batchPart : batchParts) {
+            if (batchPart.getCompleteTime() == null) {
+                return;
+            }
+        }
+
+        BatchEntity batchEntity = (BatchEntity) batch;
+        batchEntity.setStatus(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        batchEntity.setCompleteTime(CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime());
         batchService.updateBatch(batch);
+        job.setRepeat(null);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.migration;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.batch.BatchPartHandler;
+import org.flowable.engine.impl.batch.PartitionedBatchExecutor;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Migrates the process instance of a part of a process instance migration batch.
+ */
+public class ProcessInstanceMigrationBatchPartHandler implements BatchPartHandler {
+
+    @Override
+    public String getType() {
+        return Batch.PROCESS_MIGRATION_TYPE;
+    }
+
+    @Override
+    public String execute(Batch batch, BatchPart batchPart, CommandContext commandContext) {
+        ProcessInstanceMigrationDocument migrationDocument = ProcessInstanceMigrationDocumentImpl.fromJson(batch.getBatchDocumentJson());
+        CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessInstanceMigrationManager()
+                .migrateProcessInstance(batchPart.getScopeId(), migrationDocument, commandContext);
+
+        ObjectNode resultNode = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createObjectNode();
+        resultNode.put(PartitionedBatchExecutor.RESULT_STATUS_LABEL, ProcessInstanceBatchMigrationResult.RESULT_SUCCESS);
+        return resultNode.toString();
+    }
+
+    @Override
+    public String getStatusJobHandlerType() {
+        // The status timer of migration batches has always been a process migration status job
+        return ProcessInstanceMigrationStatusJobHandler.TYPE;
+    }
+
+}
@@ -27,7 +27,6 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.flowable.batch.api.Batch;
-import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnModel;
@@ -42,8 +41,6 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.api.variable.VariableContainer;
-import org.flowable.common.engine.impl.calendar.BusinessCalendar;
-import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -51,7 +48,6 @@ import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.bpmn.helper.DelegateExpressionUtil;
-import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.delegate.ActivityBehaviorInvocation;
 import org.flowable.engine.impl.delegate.invocation.JavaDelegateInvocation;
@@ -59,8 +55,6 @@ import org.flowable.engine.impl.dynamic.AbstractDynamicStateManager;
 import org.flowable.engine.impl.dynamic.MoveExecutionEntityContainer;
 import org.flowable.engine.impl.dynamic.ProcessInstanceChangeState;
 import org.flowable.engine.impl.history.HistoryManager;
-import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
-import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
@@ -78,10 +72,6 @@ import org.flowable.engine.migration.Script;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
-import org.flowable.job.service.JobService;
-import org.flowable.job.service.TimerJobService;
-import org.flowable.job.service.impl.persistence.entity.JobEntity;
-import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 
 public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateManager implements ProcessInstanceMigrationManager {
 
@@ -323,35 +313,14 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
             .status(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS)
             .batchDocumentJson(document.asJsonString())
             .create();
-        
-        JobService jobService = CommandContextUtil.getJobService(commandContext);
+
+        // The parts are executed in partitions, the batch is completed by the transaction completing its last part
+        List<String> processInstanceIds = new ArrayList<>(processInstances.size());
         for (ProcessInstance processInstance : processInstances) {
-            BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
-                            processInstance.getId(), null, ScopeTypes.BPMN);
-            
-            JobEntity job = jobService.createJob();
-            job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
-            job.setProcessInstanceId(processInstance.getId());
-            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
-            jobService.createAsyncJob(job, false);
-            jobService.scheduleAsyncJob(job);
-        }
-        
-        if (!processInstances.isEmpty()) {
-            TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
-            TimerJobEntity timerJob = timerJobService.createTimerJob();
-            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
-            timerJob.setRevision(1);
-            timerJob.setJobHandlerType(ProcessInstanceMigrationStatusJobHandler.TYPE);
-            timerJob.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchId(batch.getId()));
-            
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
-            BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
-            timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
-            timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
-            
-            timerJobService.scheduleTimerJob(timerJob);
+            processInstanceIds.add(processInstance.getId());
         }
+        CommandContextUtil.getProcessEngineConfiguration(commandContext).getPartitionedBatchExecutor()
+                .startBatch(batch, processInstanceIds, ScopeTypes.BPMN, commandContext);
 
         return batch;
     }
@@ -27,11 +27,13 @@ import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
@@ -127,7 +129,9 @@ public class DeploymentManager {
 
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
-            deploy(deployment, null);
+            if (!resolveProcessDefinitionResource(deployment, processDefinition)) {
+                deploy(deployment, null);
+            }
             cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
             if (cachedProcessDefinition == null) {
@@ -137,6 +141,28 @@ public class DeploymentManager {
         return cachedProcessDefinition;
     }
 
+    /**
+     * Parses only the BPMN resource of the given process definition, instead of redeploying all resources of the deployment.
+     *
+     * @return false if the process definition could not be resolved this way and the complete deployment needs to be redeployed.
+     */
+    protected boolean resolveProcessDefinitionResource(DeploymentEntity deployment, ProcessDefinition processDefinition) {
+        BpmnDeployer bpmnDeployer = processEngineConfiguration.getBpmnDeployer();
+        if (processEngineConfiguration.isRedeployOnProcessDefinitionCacheMiss() || bpmnDeployer == null
+                || !deployers.contains(bpmnDeployer) || processDefinition.getResourceName() == null) {
+            return false;
+        }
+
+        ResourceEntity resource = processEngineConfiguration.getResourceEntityManager()
+                .findResourceByDeploymentIdAndResourceName(deployment.getId(), processDefinition.getResourceName());
+        if (resource == null) {
+            return false;
+        }
+
+        bpmnDeployer.resolveProcessDefinitionsOfResource(deployment, resource);
+        return processDefinitionCache.contains(processDefinition.getId());
+    }
+
     public Object getAppResourceObject(String deploymentId) {
         Object appResourceObject = appResourceCache.get(deploymentId);
 
@@ -107,6 +107,13 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void updateProcessInstanceLockTime(String processInstanceId, String lockOwner, Date lockTime);
 
+    /**
+     * Moves the lock time of a process instance that is locked by the given lock owner.
+     *
+     * @throws org.flowable.common.engine.api.FlowableOptimisticLockingException when the process instance is no longer locked by the lock owner
+     */
+    void extendProcessInstanceLockTime(String processInstanceId, String lockOwner, Date lockTime);
+
     void clearProcessInstanceLockTime(String processInstanceId);
 
     void clearAllProcessInstanceLockTimes(String lockOwner);
@@ -45,6 +45,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.delegate.SubProcessActivityBehavior;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.data.ExecutionDataManager;
 import org.flowable.engine.impl.runtime.callback.ProcessInstanceState;
@@ -67,11 +68,17 @@ import org.flowable.eventsubscription.service.impl.persistence.entity.MessageEve
 import org.flowable.identitylink.service.IdentityLinkService;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByProcessInstanceMatcher;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntity;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntityManager;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.slf4j.Logger;
@@ -970,6 +977,10 @@ public class ExecutionEntityManagerImpl
             jobService.deleteJobsByExecutionId(executionEntity.getId());
         }
 
+        if (executionEntity.isMultiInstanceRoot() && engineConfiguration.isEnableParallelMultiInstanceAsyncCompletion()) {
+            deleteParallelMultiInstanceCompletionJobs(executionEntity, commandContext, jobService);
+        }
+
         if (!enableExecutionRelationshipCounts
                 || (enableExecutionRelationshipCounts && ((CountingExecutionEntity) executionEntity).getSuspendedJobCount() > 0)) {
             jobService.deleteSuspendedJobsByExecutionId(executionEntity.getId());
@@ -996,6 +1007,39 @@ public class ExecutionEntityManagerImpl
         }
     }
 
+    /**
+     * The completion jobs of a parallel multi instance activity are only linked to the process instance,
+     * so they need to be removed explicitly when the multi instance root execution is deleted.
+     */
+    protected void deleteParallelMultiInstanceCompletionJobs(ExecutionEntity multiInstanceRootExecution, CommandContext commandContext, JobService jobService) {
+        String processInstanceId = multiInstanceRootExecution.getProcessInstanceId();
+        Object executingJobId = commandContext.getAttribute(ParallelMultiInstanceActivityCompletionJobHandler.TYPE);
+        for (JobEntity job : jobService.findJobsByProcessInstanceId(processInstanceId)) {
+            if (isParallelMultiInstanceCompletionJob(job, multiInstanceRootExecution) && !job.getId().equals(executingJobId)) {
+                jobService.deleteJob(job);
+            }
+        }
+
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        for (TimerJobEntity timerJob : timerJobService.findTimerJobsByProcessInstanceId(processInstanceId)) {
+            if (isParallelMultiInstanceCompletionJob(timerJob, multiInstanceRootExecution)) {
+                timerJobService.deleteTimerJob(timerJob);
+            }
+        }
+
+        DeadLetterJobEntityManager deadLetterJobEntityManager = CommandContextUtil.getJobServiceConfiguration(commandContext).getDeadLetterJobEntityManager();
+        for (DeadLetterJobEntity deadLetterJob : jobService.findDeadLetterJobsByProcessInstanceId(processInstanceId)) {
+            if (isParallelMultiInstanceCompletionJob(deadLetterJob, multiInstanceRootExecution)) {
+                deadLetterJobEntityManager.delete(deadLetterJob);
+            }
+        }
+    }
+
+    protected boolean isParallelMultiInstanceCompletionJob(Job job, ExecutionEntity multiInstanceRootExecution) {
+        return ParallelMultiInstanceActivityCompletionJobHandler.TYPE.equals(job.getJobHandlerType())
+                && multiInstanceRootExecution.getId().equals(job.getJobHandlerConfiguration());
+    }
+
     protected void deleteEventSubScriptions(ExecutionEntity executionEntity, boolean enableExecutionRelationshipCounts, boolean eventDispatcherEnabled) {
         if (!enableExecutionRelationshipCounts
                 || (enableExecutionRelationshipCounts && ((CountingExecutionEntity) executionEntity).getEventSubscriptionCount() > 0)) {
@@ -1033,6 +1077,11 @@ public class ExecutionEntityManagerImpl
         dataManager.updateProcessInstanceLockTime(processInstanceId, lockTime, lockOwner, expirationTime);
     }
 
+    @Override
+    public void extendProcessInstanceLockTime(String processInstanceId, String lockOwner, Date lockTime) {
+        dataManager.extendProcessInstanceLockTime(processInstanceId, lockTime, lockOwner);
+    }
+
     @Override
     public void clearProcessInstanceLockTime(String processInstanceId) {
         dataManager.clearProcessInstanceLockTime(processInstanceId);
@@ -66,6 +66,15 @@ public class HistoricProcessInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> findHistoricProcessInstanceProjectionsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            return dataManager.findHistoricProcessInstanceProjectionsByQueryCriteria(historicProcessInstanceQuery);
+        }
+        return Collections.EMPTY_LIST;
+    }
+
     @Override
     public List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricProcessInstancesByNativeQuery(parameterMap);
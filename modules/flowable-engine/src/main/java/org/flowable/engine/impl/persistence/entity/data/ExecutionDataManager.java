@@ -69,6 +69,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     void updateProcessInstanceLockTime(String processInstanceId, Date lockDate, String lockOwner, Date expirationTime);
 
+    void extendProcessInstanceLockTime(String processInstanceId, Date lockDate, String lockOwner);
+
     void clearProcessInstanceLockTime(String processInstanceId);
 
     void clearAllProcessInstanceLockTimes(String lockOwner);
@@ -38,6 +38,8 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    List<Map<String, Object>> findHistoricProcessInstanceProjectionsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
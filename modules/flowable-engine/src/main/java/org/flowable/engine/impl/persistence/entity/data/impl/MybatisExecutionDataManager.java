@@ -330,6 +330,19 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public void extendProcessInstanceLockTime(String processInstanceId, Date lockDate, String lockOwner) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("id", processInstanceId);
+        params.put("lockTime", lockDate);
+        params.put("lockOwner", lockOwner);
+
+        int result = getDbSqlSession().update("extendProcessInstanceLockTime", params);
+        if (result == 0) {
+            throw new FlowableOptimisticLockingException("Could not extend the lock of process instance " + processInstanceId + ", it is no longer locked by " + lockOwner);
+        }
+    }
+
     @Override
     public void updateAllExecutionRelatedEntityCountFlags(boolean newValue) {
         getDbSqlSession().update("updateExecutionRelatedEntityCountEnabled", newValue);
@@ -72,6 +72,13 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> findHistoricProcessInstanceProjectionsByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        // The projected rows are no entities, so they are not put in the entity cache
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectHistoricProcessInstanceProjectionByQueryCriteria", historicProcessInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.RuntimeServiceImpl;
+import org.flowable.engine.runtime.BulkProcessInstanceStartBuilder;
+import org.flowable.engine.runtime.BulkProcessInstanceStartResult;
+
+public class BulkProcessInstanceStartBuilderImpl implements BulkProcessInstanceStartBuilder {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    protected RuntimeServiceImpl runtimeService;
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected int chunkSize = DEFAULT_CHUNK_SIZE;
+    protected Map<String, Object> variables;
+    protected List<String> businessKeys = new ArrayList<>();
+    protected List<Map<String, Object>> processInstanceVariables = new ArrayList<>();
+
+    public BulkProcessInstanceStartBuilderImpl(RuntimeServiceImpl runtimeService) {
+        this.runtimeService = runtimeService;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder processDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new FlowableIllegalArgumentException("chunkSize must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder variables(Map<String, Object> variables) {
+        this.variables = variables;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder addProcessInstance(String businessKey, Map<String, Object> variables) {
+        businessKeys.add(businessKey);
+        processInstanceVariables.add(variables);
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder addProcessInstances(int count) {
+        for (int i = 0; i < count; i++) {
+            addProcessInstance(null, null);
+        }
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartResult start() {
+        if (processDefinitionId == null && processDefinitionKey == null) {
+            throw new FlowableIllegalArgumentException("processDefinitionKey and processDefinitionId are null");
+        }
+        return runtimeService.startProcessInstances(this);
+    }
+
+    /**
+     * @return the variables of the process instance at the given index, merged with the variables shared by all process instances
+     */
+    public Map<String, Object> getVariables(int index) {
+        Map<String, Object> instanceVariables = processInstanceVariables.get(index);
+        if (variables == null) {
+            return instanceVariables;
+        }
+
+        Map<String, Object> mergedVariables = new HashMap<>(variables);
+        if (instanceVariables != null) {
+            mergedVariables.putAll(instanceVariables);
+        }
+        return mergedVariables;
+    }
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public List<String> getBusinessKeys() {
+        return businessKeys;
+    }
+
+    public List<Map<String, Object>> getProcessInstanceVariables() {
+        return processInstanceVariables;
+    }
+
+}
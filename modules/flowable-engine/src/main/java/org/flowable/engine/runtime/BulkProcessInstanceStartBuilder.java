@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.Map;
+
+/**
+ * Helper for starting many process instances of the same process definition.
+ * <p>
+ * The process definition is resolved once, after which the process instances are started in chunks: all process instances of a chunk
+ * are started in one transaction, so their executions, variables and history entities are flushed with bulk inserts.
+ * A failing chunk is rolled back and reported in the {@link BulkProcessInstanceStartResult}, the other chunks are still started.
+ */
+public interface BulkProcessInstanceStartBuilder {
+
+    /**
+     * Set the id of the process definition
+     **/
+    BulkProcessInstanceStartBuilder processDefinitionId(String processDefinitionId);
+
+    /**
+     * Set the key of the process definition, latest version of the process definition with the given key. If processDefinitionId was set this will be ignored
+     **/
+    BulkProcessInstanceStartBuilder processDefinitionKey(String processDefinitionKey);
+
+    /**
+     * Set the tenantId of the process definition to look up
+     **/
+    BulkProcessInstanceStartBuilder tenantId(String tenantId);
+
+    /**
+     * The number of process instances that are started in one transaction. Default is 100.
+     */
+    BulkProcessInstanceStartBuilder chunkSize(int chunkSize);
+
+    /**
+     * Sets the variables that are set on every started process instance.
+     * The variables of an individual process instance take precedence over these variables.
+     */
+    BulkProcessInstanceStartBuilder variables(Map<String, Object> variables);
+
+    /**
+     * Adds a process instance to start with the given business key and variables, both can be null.
+     */
+    BulkProcessInstanceStartBuilder addProcessInstance(String businessKey, Map<String, Object> variables);
+
+    /**
+     * Adds the given number of process instances to start without business key and without additional variables.
+     */
+    BulkProcessInstanceStartBuilder addProcessInstances(int count);
+
+    /**
+     * Starts all added process instances.
+     */
+    BulkProcessInstanceStartResult start();
+
+}
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of a {@link BulkProcessInstanceStartBuilder#start()}.
+ */
+public class BulkProcessInstanceStartResult {
+
+    protected String processDefinitionId;
+    protected List<String> processInstanceIds = new ArrayList<>();
+    protected List<FailedChunk> failedChunks = new ArrayList<>();
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    /**
+     * @return the ids of the started process instances, in the order in which the process instances were added
+     */
+    public List<String> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    public void addProcessInstanceIds(List<String> processInstanceIds) {
+        this.processInstanceIds.addAll(processInstanceIds);
+    }
+
+    public List<FailedChunk> getFailedChunks() {
+        return failedChunks;
+    }
+
+    public void addFailedChunk(FailedChunk failedChunk) {
+        failedChunks.add(failedChunk);
+    }
+
+    public boolean hasFailures() {
+        return !failedChunks.isEmpty();
+    }
+
+    /**
+     * A chunk of process instances that could not be started. None of the process instances of the chunk were started.
+     */
+    public static class FailedChunk {
+
+        protected int firstIndex;
+        protected int size;
+        protected Exception exception;
+
+        public FailedChunk(int firstIndex, int size, Exception exception) {
+            this.firstIndex = firstIndex;
+            this.size = size;
+            this.exception = exception;
+        }
+
+        /**
+         * @return the index of the first process instance of the chunk, in the order in which the process instances were added
+         */
+        public int getFirstIndex() {
+            return firstIndex;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public Exception getException() {
+            return exception;
+        }
+    }
+
+}
@@ -16,7 +16,9 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.flowable.common.engine.api.query.KeysetPaginatedQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.engine.ProcessEngineConfiguration;
 
@@ -28,7 +30,7 @@ import org.flowable.engine.ProcessEngineConfiguration;
  * @author Frederik Heremans
  * @author Falko Menge
  */
-public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance> {
+public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance>, KeysetPaginatedQuery<ProcessInstanceQuery> {
 
     /** Select the process instance with the given id */
     ProcessInstanceQuery processInstanceId(String processInstanceId);
@@ -400,4 +402,11 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
      * Order by tenant id (needs to be followed by {@link #asc()} or {@link #desc()}).
      */
     ProcessInstanceQuery orderByTenantId();
+
+    /**
+     * Executes the query and returns the process instances as a stream, ordered by id, that fetches them in batches while it is consumed.
+     * Each batch is fetched in its own transaction, so that large results can be processed without holding them in memory.
+     * No other order than the id order can be used.
+     */
+    Stream<ProcessInstance> stream();
 }
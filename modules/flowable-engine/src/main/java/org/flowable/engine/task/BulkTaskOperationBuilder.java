@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.task;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Builder to claim, assign or complete a list of tasks. The tasks are processed in chunks, each chunk in its own transaction,
+ * which allows the engine to combine the identity link and history updates of all tasks in a chunk into one flush.
+ * When a chunk fails, its tasks are retried one by one, so that a failing task does not abort the other tasks of the operation.
+ * The tasks that could not be processed are reported in the returned {@link BulkTaskOperationResult}.
+ */
+public interface BulkTaskOperationBuilder {
+
+    /**
+     * Adds a task to process.
+     */
+    BulkTaskOperationBuilder taskId(String taskId);
+
+    /**
+     * Adds the given tasks to process.
+     */
+    BulkTaskOperationBuilder taskIds(Collection<String> taskIds);
+
+    /**
+     * The number of tasks that are processed in one transaction. Default is 100.
+     */
+    BulkTaskOperationBuilder chunkSize(int chunkSize);
+
+    /**
+     * The variables that are set on every task when completing the tasks.
+     */
+    BulkTaskOperationBuilder variables(Map<String, Object> variables);
+
+    /**
+     * The transient variables that are set on every task when completing the tasks.
+     */
+    BulkTaskOperationBuilder transientVariables(Map<String, Object> transientVariables);
+
+    /**
+     * Completes all tasks.
+     */
+    BulkTaskOperationResult complete();
+
+    /**
+     * Claims all tasks for the given user. Tasks that are already claimed by another user are reported as failed.
+     */
+    BulkTaskOperationResult claim(String userId);
+
+    /**
+     * Changes the assignee of all tasks to the given user.
+     */
+    BulkTaskOperationResult assign(String userId);
+
+}
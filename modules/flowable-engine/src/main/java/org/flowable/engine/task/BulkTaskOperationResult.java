@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a {@link BulkTaskOperationBuilder} operation.
+ */
+public class BulkTaskOperationResult {
+
+    protected List<String> successfulTaskIds = new ArrayList<>();
+    protected Map<String, Exception> failures = new LinkedHashMap<>();
+
+    public List<String> getSuccessfulTaskIds() {
+        return successfulTaskIds;
+    }
+
+    public void addSuccessfulTaskId(String taskId) {
+        successfulTaskIds.add(taskId);
+    }
+
+    /**
+     * @return the exception that prevented the processing of a task, by task id
+     */
+    public Map<String, Exception> getFailures() {
+        return failures;
+    }
+
+    public void addFailure(String taskId, Exception exception) {
+        failures.put(taskId, exception);
+    }
+
+    public List<String> getFailedTaskIds() {
+        return new ArrayList<>(failures.keySet());
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+}
@@ -314,7 +314,7 @@ alter table ACT_PROCDEF_INFO
     unique (PROC_DEF_ID_);
     
 insert into ACT_GE_PROPERTY
-values ('schema.version', '6.5.1.5', 1);
+values ('schema.version', '6.5.1.6', 1);
 
 insert into ACT_GE_PROPERTY
-values ('schema.history', 'create(6.5.1.5)', 1);
+values ('schema.history', 'create(6.5.1.6)', 1);
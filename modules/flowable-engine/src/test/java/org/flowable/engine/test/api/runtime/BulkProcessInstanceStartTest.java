@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.BulkProcessInstanceStartResult;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class BulkProcessInstanceStartTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStartProcessInstances() {
+        Map<String, Object> sharedVariables = new HashMap<>();
+        sharedVariables.put("shared", "sharedValue");
+        sharedVariables.put("index", -1);
+
+        BulkProcessInstanceStartResult result = runtimeService.createBulkProcessInstanceStartBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .chunkSize(4)
+                .variables(sharedVariables)
+                .addProcessInstance("key0", Collections.singletonMap("index", 0))
+                .addProcessInstance("key1", Collections.singletonMap("index", 1))
+                .addProcessInstances(8)
+                .start();
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.getProcessInstanceIds()).hasSize(10);
+        assertThat(result.getProcessDefinitionId())
+                .isEqualTo(repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId());
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(10);
+        assertThat(taskService.createTaskQuery().count()).isEqualTo(10);
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().processInstanceBusinessKey("key1").singleResult();
+        assertThat(processInstance.getId()).isEqualTo(result.getProcessInstanceIds().get(1));
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsOnly(entry("shared", "sharedValue"), entry("index", 1));
+        assertThat(runtimeService.getVariables(result.getProcessInstanceIds().get(9)))
+                .containsOnly(entry("shared", "sharedValue"), entry("index", -1));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+            assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @Deployment
+    public void testFailingChunk() {
+        BulkProcessInstanceStartResult result = runtimeService.createBulkProcessInstanceStartBuilder()
+                .processDefinitionKey("nameLengthProcess")
+                .chunkSize(2)
+                .addProcessInstance(null, Collections.singletonMap("name", "kermit"))
+                .addProcessInstance(null, Collections.singletonMap("name", "gonzo"))
+                .addProcessInstance(null, Collections.singletonMap("name", "fozzie"))
+                .addProcessInstance(null, null)
+                .addProcessInstance(null, Collections.singletonMap("name", "piggy"))
+                .start();
+
+        assertThat(result.getProcessInstanceIds()).hasSize(3);
+        assertThat(result.getFailedChunks()).hasSize(1);
+        BulkProcessInstanceStartResult.FailedChunk failedChunk = result.getFailedChunks().get(0);
+        assertThat(failedChunk.getFirstIndex()).isEqualTo(2);
+        assertThat(failedChunk.getSize()).isEqualTo(2);
+        assertThat(failedChunk.getException()).isNotNull();
+
+        // The successful process instance of the failed chunk has been rolled back
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(3);
+        assertThat(runtimeService.createProcessInstanceQuery().variableValueEquals("name", "fozzie").count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().variableValueEquals("nameLength", 5).count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testUnknownProcessDefinition() {
+        assertThatThrownBy(() -> runtimeService.createBulkProcessInstanceStartBuilder()
+                .processDefinitionKey("unknown")
+                .addProcessInstances(3)
+                .start())
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
+}
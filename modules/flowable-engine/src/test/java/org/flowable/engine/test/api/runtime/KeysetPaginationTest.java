@@ -0,0 +1,240 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPaginatedQuery;
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.TaskQueryImpl;
+import org.junit.jupiter.api.Test;
+
+public class KeysetPaginationTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTasksOrderedByPriority() {
+        startProcessInstances(11);
+        List<Task> tasks = taskService.createTaskQuery().list();
+        for (int i = 0; i < tasks.size(); i++) {
+            taskService.setPriority(tasks.get(i).getId(), i % 3);
+        }
+
+        List<Task> pagedTasks = fetchAllPages(() -> taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().desc(), Task::getPriority, Task::getId, 4);
+
+        assertThat(pagedTasks)
+                .extracting(Task::getId)
+                .isEqualTo(taskService.createTaskQuery().list().stream()
+                        .sorted(Comparator.comparing(Task::getPriority).thenComparing(Task::getId).reversed())
+                        .map(Task::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTasksOrderedByCreateTime() {
+        Date now = new Date();
+        for (int i = 0; i < 9; i++) {
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (i % 4) * 1000L));
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        processEngineConfiguration.getClock().reset();
+
+        // The sort value is passed as String, like it is done by the REST API
+        List<Task> pagedTasks = fetchAllPages(() -> taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc(),
+                task -> String.valueOf(task.getCreateTime().getTime()), Task::getId, 2);
+
+        assertThat(pagedTasks)
+                .extracting(Task::getId)
+                .isEqualTo(taskService.createTaskQuery().list().stream()
+                        .sorted(Comparator.comparing(Task::getCreateTime).thenComparing(Task::getId))
+                        .map(Task::getId)
+                        .collect(Collectors.toList()));
+
+        Task firstTask = pagedTasks.get(0);
+        assertThat(taskService.createTaskQuery().orderByTaskCreateTime().asc().after(firstTask.getCreateTime().toInstant().toString(), firstTask.getId()).count())
+                .isEqualTo(8);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTasksOrderedByCreateTimeWithNullValues() {
+        Date now = new Date();
+        for (int i = 0; i < 9; i++) {
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (i % 3) * 1000L));
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        processEngineConfiguration.getClock().reset();
+
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+        clearTaskCreateTime(tasks.get(1).getId(), tasks.get(4).getId(), tasks.get(5).getId(), tasks.get(8).getId());
+
+        // The results without create time are ordered as the database orders null values
+        assertThat(fetchAllPages(() -> taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc(), Task::getCreateTime, Task::getId, 2))
+                .extracting(Task::getId)
+                .isEqualTo(taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc().list().stream()
+                        .map(Task::getId)
+                        .collect(Collectors.toList()));
+
+        assertThat(fetchAllPages(() -> taskService.createTaskQuery().orderByTaskCreateTime().desc().orderByTaskId().desc(), Task::getCreateTime, Task::getId, 3))
+                .extracting(Task::getId)
+                .isEqualTo(taskService.createTaskQuery().orderByTaskCreateTime().desc().orderByTaskId().desc().list().stream()
+                        .map(Task::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testIdOrderAddedForKeysetSortProperty() {
+        // The first page is ordered like the pages after it
+        TaskQueryImpl query = (TaskQueryImpl) taskService.createTaskQuery().orderByTaskCreateTime().desc();
+        query.list();
+        assertThat(query.getOrderByColumnMap()).containsExactly(entry("RES.CREATE_TIME_", false), entry("RES.ID_", false));
+
+        query = (TaskQueryImpl) taskService.createTaskQuery().orderByTaskCreateTime().asc().after(new Date(), "1");
+        query.list();
+        assertThat(query.getOrderByColumnMap()).containsOnlyKeys("RES.CREATE_TIME_", "RES.ID_");
+
+        // Orders that cannot be used for keyset pagination are left as they are
+        query = (TaskQueryImpl) taskService.createTaskQuery().orderByTaskName().asc();
+        query.list();
+        assertThat(query.getOrderByColumnMap()).containsOnlyKeys("RES.NAME_");
+
+        query = (TaskQueryImpl) taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskName().asc();
+        query.list();
+        assertThat(query.getOrderByColumnMap()).containsOnlyKeys("RES.CREATE_TIME_", "RES.NAME_");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessInstancesOrderedById() {
+        List<String> processInstanceIds = startProcessInstances(7);
+        Collections.sort(processInstanceIds);
+
+        assertThat(fetchAllPages(() -> runtimeService.createProcessInstanceQuery(), processInstance -> null, ProcessInstance::getId, 3))
+                .extracting(ProcessInstance::getId)
+                .isEqualTo(processInstanceIds);
+
+        Collections.reverse(processInstanceIds);
+        assertThat(fetchAllPages(() -> runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().desc(), processInstance -> null,
+                ProcessInstance::getId, 3))
+                .extracting(ProcessInstance::getId)
+                .isEqualTo(processInstanceIds);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoricProcessInstancesOrderedByStartTime() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        Date now = new Date();
+        for (int i = 0; i < 8; i++) {
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() - (i % 3) * 1000L));
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        processEngineConfiguration.getClock().reset();
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+
+        List<HistoricProcessInstance> pagedProcessInstances = fetchAllPages(
+                () -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc().orderByProcessInstanceId().desc(),
+                HistoricProcessInstance::getStartTime, HistoricProcessInstance::getId, 3);
+
+        assertThat(pagedProcessInstances)
+                .extracting(HistoricProcessInstance::getId)
+                .isEqualTo(historyService.createHistoricProcessInstanceQuery().list().stream()
+                        .sorted(Comparator.comparing(HistoricProcessInstance::getStartTime).thenComparing(HistoricProcessInstance::getId).reversed())
+                        .map(HistoricProcessInstance::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testInvalidKeysetPagination() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().after("name", "1").list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("not supported for keyset pagination");
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskCreateTime().asc().after(1, "1").list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("single property");
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().desc().after(new Date(), "1").list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("same direction");
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().asc().after("high", "1").list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("Invalid lastSortValue");
+    }
+
+    protected <Q extends Query<Q, R> & KeysetPaginatedQuery<Q>, R> List<R> fetchAllPages(Supplier<Q> querySupplier,
+            Function<R, Object> sortValueProvider, Function<R, String> idProvider, int pageSize) {
+
+        List<R> results = new ArrayList<>();
+        List<R> page = querySupplier.get().listPage(0, pageSize);
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(pageSize);
+            results.addAll(page);
+            R last = page.get(page.size() - 1);
+            page = querySupplier.get().after(sortValueProvider.apply(last), idProvider.apply(last)).listPage(0, pageSize);
+        }
+        return results;
+    }
+
+    protected void clearTaskCreateTime(String... taskIds) {
+        managementService.executeCommand(commandContext -> {
+            Connection connection = CommandContextUtil.getDbSqlSession(commandContext).getSqlSession().getConnection();
+            try (PreparedStatement statement = connection.prepareStatement("update ACT_RU_TASK set CREATE_TIME_ = null where ID_ = ?")) {
+                for (String taskId : taskIds) {
+                    statement.setString(1, taskId);
+                    statement.executeUpdate();
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    protected List<String> startProcessInstances(int count) {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        return processInstanceIds;
+    }
+
+}
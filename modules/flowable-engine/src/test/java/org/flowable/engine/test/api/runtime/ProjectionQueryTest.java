@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.ProjectionRecord;
+import org.flowable.common.engine.api.query.QueryProjection;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityManagerImpl;
+import org.junit.jupiter.api.Test;
+
+public class ProjectionQueryTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTaskProjection() {
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("amount", i * 100);
+            variables.put("customer", "customer" + i);
+            variables.put("notSelected", "value");
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        }
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+        for (int i = 0; i < tasks.size(); i++) {
+            taskService.setAssignee(tasks.get(i).getId(), i % 2 == 0 ? "kermit" : "gonzo");
+        }
+
+        List<ProjectionRecord> records = taskService.createTaskQuery()
+                .taskAssignee("kermit")
+                .orderByTaskId().asc()
+                .listProjection(QueryProjection.select("name", "assignee").variables("amount", "customer"));
+
+        assertThat(records)
+                .extracting(ProjectionRecord::getId)
+                .containsExactly(tasks.get(0).getId(), tasks.get(2).getId(), tasks.get(4).getId());
+
+        ProjectionRecord record = records.get(1);
+        assertThat(record.getFields()).containsExactly(entry("name", "my task"), entry("assignee", "kermit"));
+        assertThat(record.getVariables()).containsOnly(
+                entry("amount", runtimeService.getVariable(tasks.get(2).getProcessInstanceId(), "amount")),
+                entry("customer", runtimeService.getVariable(tasks.get(2).getProcessInstanceId(), "customer")));
+
+        assertThat(taskService.createTaskQuery().orderByTaskCreateTime().desc().listPageProjection(QueryProjection.select("createTime"), 1, 2))
+                .hasSize(2)
+                .allSatisfy(projectionRecord -> {
+                    assertThat(projectionRecord.getField("createTime")).isNotNull();
+                    assertThat(projectionRecord.getVariables()).isEmpty();
+                });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTaskProjectionVariablesOfManyProcessInstances() {
+        int nrOfProcessInstances = VariableInstanceEntityManagerImpl.MAX_IDS_PER_QUERY + 10;
+        for (int i = 0; i < nrOfProcessInstances; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("index", i);
+            variables.put("items", new ArrayList<>(Arrays.asList("item" + i)));
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        }
+
+        List<ProjectionRecord> records = managementService.executeCommand(commandContext -> {
+            List<ProjectionRecord> projectionRecords = taskService.createTaskQuery()
+                    .listProjection(QueryProjection.select("processInstanceId").variables("index", "items"));
+
+            // The variables are not loaded as entities
+            assertThat(commandContext.getSession(EntityCache.class).findInCache(VariableInstanceEntity.class)).isEmpty();
+            return projectionRecords;
+        });
+
+        assertThat(records).hasSize(nrOfProcessInstances);
+        for (ProjectionRecord record : records) {
+            int index = (Integer) record.getVariable("index");
+            assertThat(record.getVariable("items")).isEqualTo(Arrays.asList("item" + index));
+        }
+        assertThat(records)
+                .extracting(record -> record.getVariable("index"))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoricProcessInstanceProjection() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", "businessKey1",
+                Collections.singletonMap("customer", "acme"));
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", "businessKey2");
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+
+        List<ProjectionRecord> records = historyService.createHistoricProcessInstanceQuery()
+                .orderByProcessInstanceBusinessKey().asc()
+                .listProjection(QueryProjection.select("businessKey", "startTime").variables("customer"));
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).getId()).isEqualTo(processInstance.getId());
+        assertThat(records.get(0).getField("businessKey")).isEqualTo("businessKey1");
+        assertThat(records.get(0).getField("startTime")).isNotNull();
+        assertThat(records.get(0).getVariables()).containsOnly(entry("customer", "acme"));
+        assertThat(records.get(1).getField("businessKey")).isEqualTo("businessKey2");
+        assertThat(records.get(1).getVariables()).isEmpty();
+    }
+
+    @Test
+    public void testUnknownField() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().listProjection(QueryProjection.select("unknown")))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("Field 'unknown' cannot be selected");
+    }
+
+}
@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryStreamTest extends PluggableFlowableTestCase {
+
+    protected int originalQueryStreamBatchSize;
+    protected List<String> processInstanceIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        originalQueryStreamBatchSize = processEngineConfiguration.getQueryStreamBatchSize();
+        processEngineConfiguration.setQueryStreamBatchSize(3);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngineConfiguration.setQueryStreamBatchSize(originalQueryStreamBatchSize);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamProcessInstancesInBatches() {
+        startProcessInstances(10);
+
+        List<String> streamedIds = runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess").stream()
+                .map(ProcessInstance::getId)
+                .collect(Collectors.toList());
+        assertThat(streamedIds).isEqualTo(sortedProcessInstanceIds());
+
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess").includeProcessVariables().stream()
+                .map(processInstance -> processInstance.getProcessVariables().get("index"))
+                .collect(Collectors.toList()))
+                .hasSize(10)
+                .doesNotContainNull();
+
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionKey("unknown").stream()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamTasksInBatches() {
+        startProcessInstances(7);
+
+        List<String> streamedProcessInstanceIds = taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").stream()
+                .map(Task::getProcessInstanceId)
+                .collect(Collectors.toList());
+        assertThat(streamedProcessInstanceIds).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+
+        List<String> streamedTaskIds = taskService.createTaskQuery().stream().map(Task::getId).collect(Collectors.toList());
+        assertThat(streamedTaskIds).isSorted().hasSize(7);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamHistoricInstancesInBatches() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        startProcessInstances(5);
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().stream().map(HistoricProcessInstance::getId).collect(Collectors.toList()))
+                .isEqualTo(sortedProcessInstanceIds());
+        assertThat(historyService.createHistoricTaskInstanceQuery().stream().map(HistoricTaskInstance::getProcessInstanceId).collect(Collectors.toList()))
+                .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReuseQueryAfterStream() {
+        startProcessInstances(5);
+
+        ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess");
+        assertThat(query.stream().count()).isEqualTo(5);
+
+        // Streaming doesn't leave the paging of the last batch on the query
+        assertThat(query.list()).extracting(ProcessInstance::getId).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        assertThat(query.count()).isEqualTo(5);
+        assertThat(query.listPage(1, 2)).hasSize(2);
+        assertThat(query.stream().map(ProcessInstance::getId).collect(Collectors.toList())).isEqualTo(sortedProcessInstanceIds());
+    }
+
+    @Test
+    public void testStreamWithOrderNotAllowed() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().stream())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    protected void startProcessInstances(int count) {
+        for (int i = 0; i < count; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("index", i)).getId());
+        }
+    }
+
+    protected List<String> sortedProcessInstanceIds() {
+        return processInstanceIds.stream().sorted().collect(Collectors.toList());
+    }
+
+}
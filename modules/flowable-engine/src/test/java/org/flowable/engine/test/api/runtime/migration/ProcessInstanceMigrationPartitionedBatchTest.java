@@ -0,0 +1,244 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.test.api.runtime.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.jobexecutor.BatchPartitionJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstanceMigrationPartitionedBatchTest extends PluggableFlowableTestCase {
+
+    protected int originalBatchPartitionSize;
+    protected int originalBatchMaxConcurrentPartitions;
+
+    @BeforeEach
+    protected void setUp() {
+        originalBatchPartitionSize = processEngineConfiguration.getBatchPartitionSize();
+        originalBatchMaxConcurrentPartitions = processEngineConfiguration.getBatchMaxConcurrentPartitions();
+        processEngineConfiguration.setBatchPartitionSize(3);
+        processEngineConfiguration.setBatchMaxConcurrentPartitions(2);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setBatchPartitionSize(originalBatchPartitionSize);
+        processEngineConfiguration.setBatchMaxConcurrentPartitions(originalBatchMaxConcurrentPartitions);
+        for (Batch batch : managementService.getAllBatches()) {
+            managementService.deleteBatch(batch.getId());
+        }
+        deleteDeployments();
+    }
+
+    @Test
+    public void testPartitionedMigrationBatch() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        // Every third instance is moved to the second task, which has no mapping in the new version
+        List<String> failingInstances = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("MP").getId();
+            if (i % 3 == 1) {
+                completeTask(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult());
+                failingInstances.add(processInstanceId);
+            }
+        }
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+        Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                .migrateToProcessDefinition(version2ProcessDef.getId())
+                .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        // 8 parts in 3 partitions, of which 2 are executed concurrently
+        Batch batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getPartCount()).isEqualTo(8);
+        assertThat(batch.getCompletedPartCount()).isZero();
+        assertThat(batch.getFailedPartCount()).isZero();
+        assertThat(managementService.findBatchPartsByBatchId(migrationBatch.getId()))
+                .extracting(BatchPart::getPartition)
+                .containsOnly(0, 1, 2);
+        assertThat(managementService.createJobQuery().handlerType(BatchPartitionJobHandler.TYPE).elementId(migrationBatch.getId()).count()).isEqualTo(2);
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 200L, true);
+
+        batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        assertThat(batch.getCompleteTime()).isNotNull();
+        assertThat(batch.getPartCount()).isEqualTo(8);
+        assertThat(batch.getCompletedPartCount()).isEqualTo(8);
+        assertThat(batch.getFailedPartCount()).isEqualTo(3);
+
+        ProcessInstanceBatchMigrationResult migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+        assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        assertThat(migrationResult.getSuccessfulMigrationParts()).hasSize(5);
+        assertThat(migrationResult.getFailedMigrationParts())
+                .extracting(part -> part.getProcessInstanceId())
+                .containsExactlyInAnyOrderElementsOf(failingInstances);
+        assertThat(migrationResult.getFailedMigrationParts())
+                .extracting(part -> part.getMigrationMessage())
+                .containsOnly("Migration Activity mapping missing for activity definition Id:'userTask2Id' or its MI Parent");
+
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count()).isEqualTo(5);
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version1ProcessDef.getId()).count()).isEqualTo(3);
+
+        // The status timer stops once the batch is completed
+        executeStatusTimers();
+        assertThat(managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).count()).isZero();
+    }
+
+    @Test
+    public void testRetryFailedBatchParts() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("MP").getId();
+            if (i < 2) {
+                completeTask(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult());
+            }
+            processInstanceIds.add(processInstanceId);
+        }
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+        Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                .migrateToProcessDefinition(version2ProcessDef.getId())
+                .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        assertThatThrownBy(() -> managementService.retryFailedBatchParts(migrationBatch.getId()))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("is not completed yet");
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 200L, true);
+
+        Batch batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getCompletedPartCount()).isEqualTo(4);
+        assertThat(batch.getFailedPartCount()).isEqualTo(2);
+
+        // Move the failed instances back to a state that can be migrated
+        for (String processInstanceId : processInstanceIds.subList(0, 2)) {
+            runtimeService.createChangeActivityStateBuilder()
+                    .processInstanceId(processInstanceId)
+                    .moveActivityIdTo("userTask2Id", "userTask1Id")
+                    .changeState();
+        }
+
+        executeStatusTimers();
+        assertThat(managementService.retryFailedBatchParts(migrationBatch.getId())).isEqualTo(2);
+
+        batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS);
+        assertThat(batch.getCompleteTime()).isNull();
+        assertThat(batch.getCompletedPartCount()).isEqualTo(2);
+        assertThat(batch.getFailedPartCount()).isZero();
+        assertThat(managementService.createJobQuery().handlerType(BatchPartitionJobHandler.TYPE).count()).isEqualTo(1);
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 200L, true);
+
+        batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        assertThat(batch.getCompletedPartCount()).isEqualTo(4);
+        assertThat(batch.getFailedPartCount()).isZero();
+        assertThat(managementService.retryFailedBatchParts(migrationBatch.getId())).isZero();
+
+        for (String processInstanceId : processInstanceIds) {
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            assertThat(task.getProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+        }
+
+        executeStatusTimers();
+    }
+
+    @Test
+    public void testStatusTimerTakesOverStoppedLanes() {
+        processEngineConfiguration.setBatchMaxConcurrentPartitions(1);
+
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+        for (int i = 0; i < 6; i++) {
+            runtimeService.startProcessInstanceByKey("MP");
+        }
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+        Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                .migrateToProcessDefinition(version2ProcessDef.getId())
+                .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        // The single lane stops when the job of its first partition fails permanently
+        Job partitionJob = managementService.createJobQuery().handlerType(BatchPartitionJobHandler.TYPE).singleResult();
+        managementService.moveJobToDeadLetterJob(partitionJob.getId());
+        assertThat(managementService.createJobQuery().handlerType(BatchPartitionJobHandler.TYPE).count()).isZero();
+
+        // The status timer marks the parts of the dead letter partition as failed, deletes the dead letter job and schedules the remaining partition
+        executeStatusTimers();
+        Batch batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getCompleteTime()).isNull();
+        assertThat(batch.getCompletedPartCount()).isEqualTo(3);
+        assertThat(batch.getFailedPartCount()).isEqualTo(3);
+        assertThat(managementService.createDeadLetterJobQuery().handlerType(BatchPartitionJobHandler.TYPE).count()).isZero();
+        assertThat(managementService.createJobQuery().handlerType(BatchPartitionJobHandler.TYPE).count()).isEqualTo(1);
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 200L, true);
+
+        batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        assertThat(batch.getCompletedPartCount()).isEqualTo(6);
+        assertThat(batch.getFailedPartCount()).isEqualTo(3);
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count()).isEqualTo(3);
+
+        // The parts of the dead letter partition can be retried like any other failed part
+        executeStatusTimers();
+        assertThat(managementService.retryFailedBatchParts(migrationBatch.getId())).isEqualTo(3);
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 200L, true);
+
+        batch = managementService.createBatchQuery().batchId(migrationBatch.getId()).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        assertThat(batch.getFailedPartCount()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count()).isEqualTo(6);
+
+        executeStatusTimers();
+    }
+
+    protected void executeStatusTimers() {
+        List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).list();
+        for (Job timerJob : timerJobs) {
+            Job executableJob = managementService.moveTimerToExecutableJob(timerJob.getId());
+            managementService.executeJob(executableJob.getId());
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.FlowableTaskAlreadyClaimedException;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.task.BulkTaskOperationResult;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class BulkTaskOperationTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkComplete() {
+        List<String> taskIds = startOneTaskProcesses(7);
+
+        BulkTaskOperationResult result = taskService.createBulkTaskOperationBuilder()
+                .taskIds(taskIds)
+                .chunkSize(3)
+                .variables(Collections.singletonMap("approved", true))
+                .complete();
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.getSuccessfulTaskIds()).containsExactlyElementsOf(taskIds);
+        assertThat(taskService.createTaskQuery().count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricTaskInstanceQuery().finished().count()).isEqualTo(7);
+            assertThat(historyService.createHistoricVariableInstanceQuery().variableName("approved").count()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkClaimReportsFailedTasks() {
+        List<String> taskIds = startOneTaskProcesses(5);
+        taskService.claim(taskIds.get(1), "otherUser");
+
+        List<String> bulkTaskIds = new ArrayList<>(taskIds);
+        bulkTaskIds.add("unexisting");
+
+        BulkTaskOperationResult result = taskService.createBulkTaskOperationBuilder()
+                .taskIds(bulkTaskIds)
+                .chunkSize(2)
+                .claim("kermit");
+
+        assertThat(result.getFailedTaskIds()).containsExactly(taskIds.get(1), "unexisting");
+        assertThat(result.getFailures().get(taskIds.get(1))).isInstanceOf(FlowableTaskAlreadyClaimedException.class);
+        assertThat(result.getFailures().get("unexisting")).isInstanceOf(FlowableObjectNotFoundException.class);
+        assertThat(result.getSuccessfulTaskIds()).containsExactly(taskIds.get(0), taskIds.get(2), taskIds.get(3), taskIds.get(4));
+
+        assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isEqualTo(4);
+        assertThat(taskService.createTaskQuery().taskId(taskIds.get(1)).singleResult().getAssignee()).isEqualTo("otherUser");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkAssign() {
+        List<String> taskIds = startOneTaskProcesses(4);
+        taskService.claim(taskIds.get(0), "otherUser");
+
+        BulkTaskOperationResult result = taskService.createBulkTaskOperationBuilder()
+                .taskIds(taskIds)
+                .assign("kermit");
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isEqualTo(4);
+        assertThat(taskService.getIdentityLinksForTask(taskIds.get(2)))
+                .extracting(identityLink -> identityLink.getUserId())
+                .contains("kermit");
+    }
+
+    protected List<String> startOneTaskProcesses(int count) {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            taskIds.add(task.getId());
+        }
+        return taskIds;
+    }
+
+}
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.TaskServiceConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TaskCandidateIndexTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    public void enableTaskCandidateIndex() {
+        setTaskCandidateIndexEnabled(true, true);
+    }
+
+    @AfterEach
+    public void disableTaskCandidateIndex() {
+        setTaskCandidateIndexEnabled(false, false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/task/DelegateTaskTest.testGetCandidates.bpmn20.xml")
+    public void testCandidateQueriesUseIndex() {
+        runtimeService.startProcessInstanceByKey("DelegateTaskTest.testGetCandidates");
+        Task task = taskService.createTaskQuery().singleResult();
+
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(4);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list()).extracting(Task::getId).containsExactly(task.getId());
+        assertThat(taskService.createTaskQuery().taskCandidateGroup("management").count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskCandidateGroupIn(Arrays.asList("sales", "accountancy")).count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskCandidateGroup("sales").count()).isZero();
+        assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("gonzo").count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("fozzie").count()).isZero();
+
+        taskService.deleteCandidateUser(task.getId(), "kermit");
+        taskService.addCandidateGroup(task.getId(), "sales");
+
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(4);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isZero();
+        assertThat(taskService.createTaskQuery().taskCandidateGroup("sales").count()).isEqualTo(1);
+
+        taskService.complete(task.getId());
+
+        assertThat(getTaskCandidateIndexCount()).isZero();
+        assertThat(taskService.createTaskQuery().taskCandidateGroup("sales").count()).isZero();
+    }
+
+    @Test
+    public void testRebuildTaskCandidateIndex() {
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+
+        try {
+            // Candidates added while the index is not maintained are only found after a rebuild
+            setTaskCandidateIndexEnabled(false, true);
+            taskService.addCandidateUser(task.getId(), "kermit");
+            taskService.addCandidateGroup(task.getId(), "management");
+
+            assertThat(getTaskCandidateIndexCount()).isZero();
+            assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isZero();
+
+            managementService.rebuildTaskCandidateIndex();
+
+            assertThat(getTaskCandidateIndexCount()).isEqualTo(2);
+            assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isEqualTo(1);
+            assertThat(taskService.createTaskQuery().taskCandidateGroup("management").count()).isEqualTo(1);
+
+            setTaskCandidateIndexEnabled(true, true);
+            taskService.deleteCandidateGroup(task.getId(), "management");
+
+            assertThat(getTaskCandidateIndexCount()).isEqualTo(1);
+            assertThat(taskService.createTaskQuery().taskCandidateGroup("management").count()).isZero();
+
+        } finally {
+            setTaskCandidateIndexEnabled(true, true);
+            taskService.deleteTask(task.getId(), true);
+        }
+
+        assertThat(getTaskCandidateIndexCount()).isZero();
+    }
+
+    protected void setTaskCandidateIndexEnabled(boolean maintainIndex, boolean queryIndex) {
+        IdentityLinkServiceConfiguration identityLinkServiceConfiguration = (IdentityLinkServiceConfiguration) processEngineConfiguration
+                .getServiceConfigurations().get(EngineConfigurationConstants.KEY_IDENTITY_LINK_SERVICE_CONFIG);
+        identityLinkServiceConfiguration.setEnableTaskCandidateIndex(maintainIndex);
+        TaskServiceConfiguration taskServiceConfiguration = (TaskServiceConfiguration) processEngineConfiguration
+                .getServiceConfigurations().get(EngineConfigurationConstants.KEY_TASK_SERVICE_CONFIG);
+        taskServiceConfiguration.setEnableTaskCandidateIndex(queryIndex);
+    }
+
+    protected long getTaskCandidateIndexCount() {
+        return managementService.getTableCount().get(processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_TASK_CANDIDATE");
+    }
+
+}
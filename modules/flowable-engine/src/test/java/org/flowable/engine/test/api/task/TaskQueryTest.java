@@ -118,6 +118,19 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         assertThat(query.count()).isEqualTo(1);
     }
 
+    @Test
+    public void testQueryByTaskIds() {
+        TaskQuery query = taskService.createTaskQuery().taskIds(Arrays.asList(taskIds.get(0), taskIds.get(1), "invalid"));
+        assertThat(query.list()).extracting(Task::getId).containsExactlyInAnyOrder(taskIds.get(0), taskIds.get(1));
+        assertThat(query.count()).isEqualTo(2);
+
+        query = taskService.createTaskQuery().or().taskIds(Collections.singletonList(taskIds.get(0))).taskName("INVALID NAME").endOr();
+        assertThat(query.singleResult().getId()).isEqualTo(taskIds.get(0));
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().taskIds(Collections.emptyList()))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
     @Test
     public void testQueryByInvalidTaskId() {
         TaskQuery query = taskService.createTaskQuery().taskId("invalid");
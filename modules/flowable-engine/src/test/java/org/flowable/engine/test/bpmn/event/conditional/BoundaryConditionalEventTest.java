@@ -15,7 +15,9 @@ package org.flowable.engine.test.bpmn.event.conditional;
 import java.util.Collections;
 import java.util.List;
 
+import org.flowable.common.engine.impl.el.VariableChangeTrackingUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -56,6 +58,73 @@ public class BoundaryConditionalEventTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/conditional/BoundaryConditionalEventTest.testCatchConditionalOnEmbeddedSubprocess.bpmn20.xml")
+    public void testCatchConditionalOnlyEvaluatedOnVariableChange() {
+        processEngineConfiguration.setConditionalEventEvaluationOnVariableChangeOnly(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("boundaryConditionalOnEmbeddedSubprocess",
+                            Collections.singletonMap("myVar", "empty"));
+
+            runtimeService.setVariable(processInstance.getId(), "myVar", "test");
+
+            // myVar was changed in an earlier transaction, not by this evaluation, so the condition isn't evaluated
+            // (see ProcessEngineConfigurationImpl#conditionalEventEvaluationOnVariableChangeOnly)
+            runtimeService.evaluateConditionalEvents(processInstance.getId(), Collections.singletonMap("otherVar", "test"));
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertEquals("subprocessTask", task.getTaskDefinitionKey());
+
+            // An explicit evaluation without variables always evaluates the condition
+            runtimeService.evaluateConditionalEvents(processInstance.getId());
+            task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertEquals("taskAfterConditionalCatch", task.getTaskDefinitionKey());
+
+        } finally {
+            processEngineConfiguration.setConditionalEventEvaluationOnVariableChangeOnly(false);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/conditional/BoundaryConditionalEventTest.testCatchConditionalOnEmbeddedSubprocess.bpmn20.xml")
+    public void testVariableChangesOnlyTrackedWhenEnabled() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("boundaryConditionalOnEmbeddedSubprocess",
+                        Collections.singletonMap("myVar", "empty"));
+
+        assertNull(setVariableAndGetChangedVariableNames(processInstance.getId()));
+
+        processEngineConfiguration.setConditionalEventEvaluationOnVariableChangeOnly(true);
+        try {
+            assertEquals(Collections.singleton("myVar"), setVariableAndGetChangedVariableNames(processInstance.getId()));
+
+        } finally {
+            processEngineConfiguration.setConditionalEventEvaluationOnVariableChangeOnly(false);
+        }
+    }
+
+    protected Object setVariableAndGetChangedVariableNames(String processInstanceId) {
+        return managementService.executeCommand(commandContext -> {
+            CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId).setVariable("myVar", "other");
+            return commandContext.getAttribute(VariableChangeTrackingUtil.ATTRIBUTE_CHANGED_VARIABLE_NAMES);
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/conditional/BoundaryConditionalEventTest.testCatchConditionalOnEmbeddedSubprocess.bpmn20.xml")
+    public void testCatchConditionalEvaluatedOnChangedVariable() {
+        processEngineConfiguration.setConditionalEventEvaluationOnVariableChangeOnly(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("boundaryConditionalOnEmbeddedSubprocess",
+                            Collections.singletonMap("myVar", "empty"));
+
+            runtimeService.evaluateConditionalEvents(processInstance.getId(), Collections.singletonMap("myVar", "test"));
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertEquals("taskAfterConditionalCatch", task.getTaskDefinitionKey());
+
+        } finally {
+            processEngineConfiguration.setConditionalEventEvaluationOnVariableChangeOnly(false);
+        }
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/bpmn/event/conditional/BoundaryConditionalEventTest.testCatchConditionalOnEmbeddedSubprocess.bpmn20.xml")
     public void testCatchConditionalOnEmbeddedSubprocessWithoutTrigger() {
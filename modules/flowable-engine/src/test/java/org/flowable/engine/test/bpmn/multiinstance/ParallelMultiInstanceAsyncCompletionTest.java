@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMultiInstanceAsyncCompletionTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    public void enableAsyncCompletion() {
+        processEngineConfiguration.setEnableParallelMultiInstanceAsyncCompletion(true);
+    }
+
+    @AfterEach
+    public void disableAsyncCompletion() {
+        processEngineConfiguration.setEnableParallelMultiInstanceAsyncCompletion(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testParallelUserTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks");
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc().list();
+        assertThat(tasks).hasSize(3);
+
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+
+        // The executions of the completed instances are removed and a completion job is created per completed instance
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("miTasks").count()).isEqualTo(1);
+        assertThat(managementService.createJobQuery().handlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE).count()).isEqualTo(2);
+        executeCompletionJobs();
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        Task lastTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(taskService.getVariable(lastTask.getId(), "nrOfCompletedInstances")).isEqualTo(2);
+        assertThat(taskService.getVariable(lastTask.getId(), "nrOfActiveInstances")).isEqualTo(1);
+
+        taskService.complete(lastTask.getId());
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+        executeCompletionJobs();
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksCompletionCondition.bpmn20.xml")
+    public void testParallelUserTasksCompletionCondition() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasksCompletionCondition");
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(5);
+
+        for (int i = 0; i < 3; i++) {
+            taskService.complete(tasks.get(i).getId());
+        }
+        executeCompletionJobs();
+
+        assertProcessEnded(processInstance.getId());
+        assertThat(managementService.createJobQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelSubProcess.bpmn20.xml")
+    public void testParallelSubProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelSubprocess");
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(4);
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        assertThat(managementService.createJobQuery().handlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE).count()).isEqualTo(2);
+
+        executeCompletionJobs();
+        assertProcessEnded(processInstance.getId());
+    }
+
+    /**
+     * Completes 20 async, non-exclusive instances concurrently with the async executor.
+     * Without the async completion nearly every instance would fail with an optimistic locking exception on the multi instance root execution.
+     */
+    @Test
+    @Deployment
+    public void testManyAsyncInstances() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelAsyncServiceTasks",
+                Collections.singletonMap("nrOfLoops", 20));
+
+        waitForJobExecutorToProcessAllJobs(60000L, 200L);
+
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("afterMi");
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    protected void executeCompletionJobs() {
+        // Leaving the multi instance activity removes the pending completion jobs of the other instances
+        Job job = managementService.createJobQuery().handlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE).listPage(0, 1)
+                .stream().findFirst().orElse(null);
+        while (job != null) {
+            managementService.executeJob(job.getId());
+            job = managementService.createJobQuery().handlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE).listPage(0, 1)
+                    .stream().findFirst().orElse(null);
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.session.Configuration;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.SharedSqlSessionFactoryRegistry;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.IdmEngine;
+import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SharedSqlSessionFactoryTest {
+
+    protected PooledDataSource dataSource;
+    protected ProcessEngine processEngine;
+    protected ProcessEngine otherProcessEngine;
+    protected IdmEngine idmEngine;
+
+    @BeforeEach
+    public void createDataSource() {
+        dataSource = new PooledDataSource("org.h2.Driver", "jdbc:h2:mem:flowable-shared-mybatis;DB_CLOSE_DELAY=1000", "sa", "");
+    }
+
+    @AfterEach
+    public void closeEngines() {
+        if (idmEngine != null) {
+            idmEngine.close();
+        }
+        if (otherProcessEngine != null) {
+            otherProcessEngine.close();
+        }
+        if (processEngine != null) {
+            processEngine.close();
+        }
+        dataSource.forceCloseAll();
+    }
+
+    @Test
+    public void testEnginesShareMybatisConfiguration() {
+        SharedSqlSessionFactoryRegistry registry = new SharedSqlSessionFactoryRegistry();
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = createProcessEngineConfiguration(registry);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        Configuration configuration = processEngineConfiguration.getSqlSessionFactory().getConfiguration();
+        assertThat(configuration.hasStatement("org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl.selectUser")).isFalse();
+
+        StandaloneInMemIdmEngineConfiguration idmEngineConfiguration = createIdmEngineConfiguration(registry);
+        idmEngine = idmEngineConfiguration.buildIdmEngine();
+
+        assertThat(idmEngineConfiguration.getSqlSessionFactory()).isSameAs(processEngineConfiguration.getSqlSessionFactory());
+        assertThat(configuration.hasStatement("org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl.selectUser")).isTrue();
+
+        User user = idmEngine.getIdmIdentityService().newUser("kermit");
+        idmEngine.getIdmIdentityService().saveUser(user);
+        assertThat(idmEngine.getIdmIdentityService().createUserQuery().userId("kermit").count()).isEqualTo(1);
+        idmEngine.getIdmIdentityService().deleteUser("kermit");
+
+        assertThat(processEngine.getRepositoryService().createDeploymentQuery().count()).isZero();
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    public void testProcessEngineAddedToConfigurationOfIdmEngine() {
+        SharedSqlSessionFactoryRegistry registry = new SharedSqlSessionFactoryRegistry();
+        StandaloneInMemIdmEngineConfiguration idmEngineConfiguration = createIdmEngineConfiguration(registry);
+        idmEngine = idmEngineConfiguration.buildIdmEngine();
+
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = createProcessEngineConfiguration(registry);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        assertThat(processEngineConfiguration.getSqlSessionFactory()).isSameAs(idmEngineConfiguration.getSqlSessionFactory());
+
+        // The variable type handler of the process engine is registered in the configuration created by the idm engine
+        String deploymentId = processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+        ProcessInstance processInstance = processEngine.getRuntimeService()
+                .startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("name", "kermit"));
+        assertThat(processEngine.getRuntimeService().getVariable(processInstance.getId(), "name")).isEqualTo("kermit");
+
+        processEngine.getRepositoryService().deleteDeployment(deploymentId, true);
+    }
+
+    @Test
+    public void testEnginesWithDifferentVariableTypesDoNotShareConfiguration() {
+        SharedSqlSessionFactoryRegistry registry = new SharedSqlSessionFactoryRegistry();
+        processEngine = createProcessEngineConfiguration(registry).buildProcessEngine();
+
+        ProcessEngineConfiguration otherProcessEngineConfiguration = createProcessEngineConfiguration(registry)
+                .setEngineName("other")
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+
+        assertThatThrownBy(otherProcessEngineConfiguration::buildProcessEngine)
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("IbatisVariableTypeHandler");
+    }
+
+    @Test
+    public void testEnginesWithSameVariableTypesShareConfiguration() {
+        SharedSqlSessionFactoryRegistry registry = new SharedSqlSessionFactoryRegistry();
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = createProcessEngineConfiguration(registry);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        StandaloneInMemProcessEngineConfiguration otherProcessEngineConfiguration = createProcessEngineConfiguration(registry);
+        otherProcessEngineConfiguration.setVariableTypes(processEngineConfiguration.getVariableTypes());
+        otherProcessEngineConfiguration.setEngineName("other");
+        otherProcessEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+        otherProcessEngine = otherProcessEngineConfiguration.buildProcessEngine();
+
+        assertThat(otherProcessEngineConfiguration.getSqlSessionFactory()).isSameAs(processEngineConfiguration.getSqlSessionFactory());
+        assertThat(otherProcessEngine.getRuntimeService().createProcessInstanceQuery().count()).isZero();
+    }
+
+    protected StandaloneInMemProcessEngineConfiguration createProcessEngineConfiguration(SharedSqlSessionFactoryRegistry registry) {
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setDataSource(dataSource);
+        processEngineConfiguration.setDisableIdmEngine(true);
+        processEngineConfiguration.setSharedSqlSessionFactoryRegistry(registry);
+        return processEngineConfiguration;
+    }
+
+    protected StandaloneInMemIdmEngineConfiguration createIdmEngineConfiguration(SharedSqlSessionFactoryRegistry registry) {
+        StandaloneInMemIdmEngineConfiguration idmEngineConfiguration = new StandaloneInMemIdmEngineConfiguration();
+        idmEngineConfiguration.setDataSource(dataSource);
+        idmEngineConfiguration.setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        idmEngineConfiguration.setSharedSqlSessionFactoryRegistry(registry);
+        return idmEngineConfiguration;
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.engine.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,8 @@ import java.util.Random;
 
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -30,8 +33,11 @@ import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.BatchingInboundEventProcessor;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -147,6 +153,152 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
         assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
     }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationBatched() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "fozzie"));
+
+        BatchingInboundEventProcessor batchingInboundEventProcessor = setupBatchingInboundEventProcessor();
+        try {
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            inboundEventChannelAdapter.triggerTestEvent("piggy");
+            inboundEventChannelAdapter.triggerTestEvent("gonzo");
+            // The second event for gonzo matches the event subscription that was deleted by the first one
+            inboundEventChannelAdapter.triggerTestEvent("gonzo");
+
+        } finally {
+            // Shutting down waits until the batch is processed
+            stopBatchingInboundEventProcessor(batchingInboundEventProcessor);
+        }
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+    }
+
+    @Test
+    @Deployment
+    public void testFailingBatchIsRolledBack() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+
+        BatchingInboundEventProcessor batchingInboundEventProcessor = setupBatchingInboundEventProcessor();
+        try {
+            // Handling the event for gonzo fails, which rolls back the batch before its events are retried one by one
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            inboundEventChannelAdapter.triggerTestEvent("gonzo");
+
+        } finally {
+            stopBatchingInboundEventProcessor(batchingInboundEventProcessor);
+        }
+
+        // The boundary event does not cancel the task, a retried event for kermit would have created a second task after the boundary event
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).list())
+            .extracting(Task::getTaskDefinitionKey)
+            .containsExactlyInAnyOrder("task", "taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).list())
+            .extracting(Task::getTaskDefinitionKey)
+            .containsExactly("task");
+    }
+
+    protected BatchingInboundEventProcessor setupBatchingInboundEventProcessor() {
+        inboundEventChannelAdapter.inboundChannelModel.setBatchEvents(true);
+        BatchingInboundEventProcessor batchingInboundEventProcessor = new BatchingInboundEventProcessor(getEventRegistry(),
+            getEventRegistryEngineConfiguration().getInboundEventProcessor(), 4, 10000L, 10);
+        getEventRegistry().setInboundEventProcessor(batchingInboundEventProcessor);
+        return batchingInboundEventProcessor;
+    }
+
+    protected void stopBatchingInboundEventProcessor(BatchingInboundEventProcessor batchingInboundEventProcessor) {
+        batchingInboundEventProcessor.shutdown();
+        inboundEventChannelAdapter.inboundChannelModel.setBatchEvents(false);
+        getEventRegistry().setInboundEventProcessor(getEventRegistryEngineConfiguration().getInboundEventProcessor());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationAndEventSubscriptionIndex() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = (EventSubscriptionServiceConfiguration) processEngineConfiguration
+                .getServiceConfigurations().get(EngineConfigurationConstants.KEY_EVENT_SUBSCRIPTION_SERVICE_CONFIG);
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+
+        EventSubscriptionIndex eventSubscriptionIndex = new EventSubscriptionIndex(eventSubscriptionServiceConfiguration, 60000L);
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(eventSubscriptionIndex);
+        try {
+            // The initial reconciliation picks up the existing event subscription, the new one is added when inserted
+            eventSubscriptionIndex.reconcile(commandExecutor);
+            ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+
+            String kermitConfiguration = runtimeService.createEventSubscriptionQuery().processInstanceId(kermitProcessInstance.getId()).singleResult()
+                    .getConfiguration();
+            String gonzoConfiguration = runtimeService.createEventSubscriptionQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult()
+                    .getConfiguration();
+
+            assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.BPMN,
+                    Collections.singleton(kermitConfiguration))).isTrue();
+            assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.BPMN,
+                    Collections.singleton(gonzoConfiguration))).isTrue();
+            assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.BPMN,
+                    Collections.singleton("unknown"))).isFalse();
+            assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.CMMN,
+                    Collections.singleton(kermitConfiguration))).isFalse();
+            assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "otherEvent", ScopeTypes.BPMN,
+                    Collections.singleton(kermitConfiguration))).isFalse();
+
+            inboundEventChannelAdapter.triggerTestEvent("fozzie");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+            // Removed event subscriptions are only dropped from the index when reconciling
+            assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.BPMN,
+                    Collections.singleton(kermitConfiguration))).isTrue();
+            eventSubscriptionIndex.reconcile(commandExecutor);
+            assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.BPMN,
+                    Collections.singleton(kermitConfiguration))).isFalse();
+
+            inboundEventChannelAdapter.triggerTestEvent("gonzo");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+
+        } finally {
+            eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(null);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testEventSubscriptionIndexInvalidatedForOtherNode() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = (EventSubscriptionServiceConfiguration) processEngineConfiguration
+                .getServiceConfigurations().get(EngineConfigurationConstants.KEY_EVENT_SUBSCRIPTION_SERVICE_CONFIG);
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        // The index is node-local, so it is disabled unless explicitly enabled
+        assertThat(eventSubscriptionServiceConfiguration.isEnableEventSubscriptionIndex()).isFalse();
+        assertThat(eventSubscriptionServiceConfiguration.getEventSubscriptionIndex()).isNull();
+
+        EventSubscriptionIndex eventSubscriptionIndex = new EventSubscriptionIndex(eventSubscriptionServiceConfiguration, 60000L);
+        eventSubscriptionIndex.reconcile(commandExecutor);
+
+        // Not registered in the configuration, so the inserted event subscription isn't seen, like one created by another node
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        String kermitConfiguration = runtimeService.createEventSubscriptionQuery().processInstanceId(kermitProcessInstance.getId()).singleResult()
+                .getConfiguration();
+
+        assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.BPMN,
+                Collections.singleton(kermitConfiguration))).isFalse();
+
+        eventSubscriptionIndex.invalidate();
+        assertThat(eventSubscriptionIndex.mightHaveEventSubscriptions(commandExecutor, "myEvent", ScopeTypes.BPMN,
+                Collections.singleton(kermitConfiguration))).isTrue();
+    }
     
     @Test
     @Deployment
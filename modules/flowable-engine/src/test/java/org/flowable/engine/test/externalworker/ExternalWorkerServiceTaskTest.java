@@ -20,10 +20,13 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -402,6 +405,123 @@ public class ExternalWorkerServiceTaskTest extends PluggableFlowableTestCase {
         assertThat(taskService.createTaskQuery().list()).hasSize(1);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithVariableNames() {
+        ProcessInstance processInstance1 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("description", "The frog")
+                .start();
+
+        ProcessInstance processInstance2 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "fozzie")
+                .variable("description", "The bear")
+                .start();
+
+        ExternalWorkerJob externalWorkerJob2 = managementService.createExternalWorkerJobQuery().processInstanceId(processInstance2.getId()).singleResult();
+        runtimeService.setVariableLocal(externalWorkerJob2.getExecutionId(), "name", "gonzo");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Arrays.asList("name", "unknown"))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getVariables)
+                .containsExactlyInAnyOrder(
+                        tuple(processInstance1.getId(), Collections.singletonMap("name", "kermit")),
+                        tuple(processInstance2.getId(), Collections.singletonMap("name", "gonzo"))
+                );
+
+        ProcessInstance processInstance3 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "gonzo")
+                .start();
+
+        acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Collections.emptyList())
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getVariables)
+                .containsExactly(tuple(processInstance3.getId(), Collections.emptyMap()));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireAsyncWaitsForCreatedJob() throws Exception {
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLockAsync(4, "testWorker", 5, Duration.ofMinutes(1));
+
+        assertThat(acquiredJobsFuture).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .start();
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquiredJobsFuture.get(10, TimeUnit.SECONDS);
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getLockOwner)
+                .containsExactly(tuple(processInstance.getId(), "testWorker"));
+        assertThat(acquiredJobs.get(0).getVariables()).containsOnly(entry("name", "kermit"));
+
+        assertThat(managementService.createExternalWorkerJobQuery().singleResult().getLockOwner()).isEqualTo("testWorker");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireAsyncWakesUpOneWaiterPerCreatedJob() throws Exception {
+        CompletableFuture<List<AcquiredExternalWorkerJob>> firstAcquiredJobsFuture = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLockAsync(1, "testWorker1", 5, Duration.ofMinutes(1));
+        CompletableFuture<List<AcquiredExternalWorkerJob>> secondAcquiredJobsFuture = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLockAsync(1, "testWorker2", 5, Duration.ofMinutes(1));
+
+        ProcessInstance firstProcessInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        // The longest waiting worker is woken up, the other one keeps waiting
+        assertThat(firstAcquiredJobsFuture.get(10, TimeUnit.SECONDS))
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactly(firstProcessInstance.getId());
+        assertThat(secondAcquiredJobsFuture).isNotDone();
+
+        ProcessInstance secondProcessInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        assertThat(secondAcquiredJobsFuture.get(10, TimeUnit.SECONDS))
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactly(secondProcessInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireAsync() throws Exception {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .start();
+
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLockAsync(4, "testWorker", 5, Duration.ofMinutes(1));
+
+        // Available jobs are acquired without waiting
+        assertThat(acquiredJobsFuture).isDone();
+        assertThat(acquiredJobsFuture.get())
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactly(processInstance.getId());
+
+        acquiredJobsFuture = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLockAsync(4, "testWorker", 5, Duration.ofMillis(200));
+
+        assertThat(acquiredJobsFuture.get(10, TimeUnit.SECONDS)).isEmpty();
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
     void testSimpleAcquireOnlyBpmn() {
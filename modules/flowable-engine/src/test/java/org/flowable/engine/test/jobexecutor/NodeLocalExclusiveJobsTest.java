@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.cmd.LockQueuedExclusiveJobCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NodeLocalExclusiveJobsTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    public void enableNodeLocalExclusiveJobs() {
+        ((DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor()).setNodeLocalExclusiveJobs(true);
+    }
+
+    @AfterEach
+    public void disableNodeLocalExclusiveJobs() {
+        ((DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor()).setNodeLocalExclusiveJobs(false);
+    }
+
+    @Test
+    @Deployment
+    public void testParallelExclusiveJobs() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("parallelExclusiveJobs").getId());
+        }
+        assertThat(managementService.createJobQuery().count()).isEqualTo(15);
+
+        waitForJobExecutorToProcessAllJobs(20000L, 200L);
+
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("afterJoin").count()).isEqualTo(3);
+
+        // The process instances are unlocked again after the last exclusive job of each process instance
+        for (String processInstanceId : processInstanceIds) {
+            ExecutionEntity processInstance = getProcessInstance(processInstanceId);
+            assertThat(processInstance.getLockTime()).isNull();
+            assertThat(processInstance.getLockOwner()).isNull();
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/NodeLocalExclusiveJobsTest.testParallelExclusiveJobs.bpmn20.xml")
+    public void testQueuedJobLocksScopeWithRenewedLock() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("parallelExclusiveJobs").getId();
+        String jobId = managementService.createJobQuery().processInstanceId(processInstanceId).list().get(0).getId();
+
+        // The acquisition lock of the job expired while it was queued
+        Date expiredLockTime = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() - 1000);
+        managementService.executeCommand(commandContext -> {
+            JobEntity job = CommandContextUtil.getJobServiceConfiguration(commandContext).getJobEntityManager().findById(jobId);
+            job.setLockOwner("node1");
+            job.setLockExpirationTime(expiredLockTime);
+            return null;
+        });
+
+        // Reset and acquired by another node in the meantime
+        assertThat(managementService.executeCommand(new LockQueuedExclusiveJobCmd(jobId, "node2"))).isFalse();
+        assertThat(getProcessInstance(processInstanceId).getLockTime()).isNull();
+
+        assertThat(managementService.executeCommand(new LockQueuedExclusiveJobCmd(jobId, "node1"))).isTrue();
+        ExecutionEntity processInstance = getProcessInstance(processInstanceId);
+        assertThat(processInstance.getLockOwner()).isEqualTo("node1");
+        assertThat(processInstance.getLockTime()).isAfter(processEngineConfiguration.getClock().getCurrentTime());
+        JobEntity job = managementService.executeCommand(commandContext -> CommandContextUtil.getJobServiceConfiguration(commandContext)
+                .getJobEntityManager().findById(jobId));
+        assertThat(job.getLockExpirationTime()).isEqualTo(processInstance.getLockTime());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/NodeLocalExclusiveJobsTest.testParallelExclusiveJobs.bpmn20.xml")
+    public void testQueuedJobExtendsScopeLockOfSameOwner() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("parallelExclusiveJobs").getId();
+        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstanceId).list();
+        setLockOwner(jobs.get(0).getId(), "node1");
+        setLockOwner(jobs.get(1).getId(), "node1");
+        setLockOwner(jobs.get(2).getId(), "node2");
+
+        assertThat(managementService.executeCommand(new LockQueuedExclusiveJobCmd(jobs.get(0).getId(), "node1"))).isTrue();
+        Date firstLockTime = getProcessInstance(processInstanceId).getLockTime();
+
+        // The scope is locked by node1 already, so it can only be extended by a job of node1
+        assertThatThrownBy(() -> managementService.executeCommand(new LockQueuedExclusiveJobCmd(jobs.get(1).getId(), "node1")))
+                .isInstanceOf(FlowableOptimisticLockingException.class);
+        assertThatThrownBy(() -> managementService.executeCommand(new LockQueuedExclusiveJobCmd(jobs.get(2).getId(), "node2", true)))
+                .isInstanceOf(FlowableOptimisticLockingException.class);
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(firstLockTime.getTime() - 1000));
+        try {
+            assertThat(managementService.executeCommand(new LockQueuedExclusiveJobCmd(jobs.get(1).getId(), "node1", true))).isTrue();
+        } finally {
+            processEngineConfiguration.getClock().reset();
+        }
+        ExecutionEntity processInstance = getProcessInstance(processInstanceId);
+        assertThat(processInstance.getLockOwner()).isEqualTo("node1");
+        assertThat(processInstance.getLockTime()).isNotEqualTo(firstLockTime);
+    }
+
+    protected void setLockOwner(String jobId, String lockOwner) {
+        managementService.executeCommand(commandContext -> {
+            JobEntity job = CommandContextUtil.getJobServiceConfiguration(commandContext).getJobEntityManager().findById(jobId);
+            job.setLockOwner(lockOwner);
+            job.setLockExpirationTime(processEngineConfiguration.getClock().getCurrentTime());
+            return null;
+        });
+    }
+
+    protected ExecutionEntity getProcessInstance(String processInstanceId) {
+        // The process instance query maps the lock columns, a plain execution lookup doesn't
+        return (ExecutionEntity) runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+    }
+
+}
@@ -116,6 +116,11 @@ public class WatchDogAgendaFactory implements FlowableEngineAgendaFactory {
             agenda.planEvaluateConditionalEventsOperation(execution);
         }
 
+        @Override
+        public void planEvaluateConditionalEventsOperation(ExecutionEntity execution, boolean triggeredByVariableChange) {
+            agenda.planEvaluateConditionalEventsOperation(execution, triggeredByVariableChange);
+        }
+
         @Override
         public void planExecuteInactiveBehaviorsOperation() {
             agenda.planExecuteInactiveBehaviorsOperation();
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DefinitionCacheWarmUpTest extends PluggableFlowableTestCase {
+
+    @AfterEach
+    public void deleteDeployments() {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testLatestVersionsAreLoadedAtStartup() throws IOException {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        repositoryService.createDeployment().addString("process.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+        repositoryService.createDeployment().addString("process.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+        repositoryService.createDeployment().addString("process.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).tenantId("acme").deploy();
+        repositoryService.createDeployment().addString("process.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 2)).deploy();
+
+        ProcessDefinition version1 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").processDefinitionWithoutTenantId()
+                .processDefinitionVersion(1).singleResult();
+        ProcessDefinition version2 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").processDefinitionWithoutTenantId()
+                .processDefinitionVersion(2).singleResult();
+        ProcessDefinition tenantVersion = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1")
+                .processDefinitionTenantId("acme").singleResult();
+        ProcessDefinition otherProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess2").singleResult();
+
+        ProcessEngineConfigurationImpl warmUpConfiguration = createWarmUpEngineConfiguration();
+        warmUpConfiguration.setDefinitionCacheWarmUpParallelism(2);
+        ProcessEngine warmUpEngine = warmUpConfiguration.buildProcessEngine();
+        try {
+            assertThat(warmUpConfiguration.getProcessDefinitionCache().contains(version1.getId())).isFalse();
+            assertThat(warmUpConfiguration.getProcessDefinitionCache().contains(version2.getId())).isTrue();
+            assertThat(warmUpConfiguration.getProcessDefinitionCache().contains(tenantVersion.getId())).isTrue();
+            assertThat(warmUpConfiguration.getProcessDefinitionCache().contains(otherProcess.getId())).isTrue();
+        } finally {
+            warmUpEngine.close();
+        }
+    }
+
+    protected ProcessEngineConfigurationImpl createWarmUpEngineConfiguration() {
+        ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createStandaloneProcessEngineConfiguration()
+                .setDataSource(processEngineConfiguration.getDataSource())
+                .setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_FALSE)
+                .setEngineName("definitionCacheWarmUpEngine");
+        configuration.setDisableEventRegistry(true);
+        configuration.setForceCloseMybatisConnectionPool(false);
+        configuration.setEnableDefinitionCacheWarmUp(true);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessDefinitionCacheMissTest extends PluggableFlowableTestCase {
+
+    protected String deploymentId;
+
+    @BeforeEach
+    public void deployProcesses() throws IOException {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        Deployment deployment = repositoryService.createDeployment()
+                .addString("process1.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1))
+                .addString("process2.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 2))
+                .deploy();
+        deploymentId = deployment.getId();
+    }
+
+    @AfterEach
+    public void deleteProcesses() {
+        processEngineConfiguration.setRedeployOnProcessDefinitionCacheMiss(false);
+        repositoryService.deleteDeployment(deploymentId, true);
+    }
+
+    @Test
+    public void testOnlyResourceOfProcessDefinitionIsResolved() {
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        ProcessDefinition processDefinition1 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+        ProcessDefinition processDefinition2 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess2").singleResult();
+        repositoryService.suspendProcessDefinitionById(processDefinition2.getId());
+
+        processDefinitionCache.clear();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("myProcess1");
+        assertThat(processInstance.getProcessDefinitionId()).isEqualTo(processDefinition1.getId());
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getName()).isEqualTo("my task");
+
+        assertThat(processDefinitionCache.contains(processDefinition1.getId())).isTrue();
+        assertThat(processDefinitionCache.contains(processDefinition2.getId())).isFalse();
+
+        ProcessDefinition cachedProcessDefinition2 = repositoryService.getProcessDefinition(processDefinition2.getId());
+        assertThat(cachedProcessDefinition2.isSuspended()).isTrue();
+        assertThat(cachedProcessDefinition2.getVersion()).isEqualTo(processDefinition2.getVersion());
+        assertThat(cachedProcessDefinition2.getResourceName()).isEqualTo("process2.bpmn20.xml");
+        assertThat(processDefinitionCache.contains(processDefinition2.getId())).isTrue();
+    }
+
+    @Test
+    public void testRedeployOnProcessDefinitionCacheMiss() {
+        processEngineConfiguration.setRedeployOnProcessDefinitionCacheMiss(true);
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        ProcessDefinition processDefinition1 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+        ProcessDefinition processDefinition2 = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess2").singleResult();
+
+        processDefinitionCache.clear();
+
+        runtimeService.startProcessInstanceByKey("myProcess1");
+
+        assertThat(processDefinitionCache.contains(processDefinition1.getId())).isTrue();
+        assertThat(processDefinitionCache.contains(processDefinition2.getId())).isTrue();
+    }
+
+}
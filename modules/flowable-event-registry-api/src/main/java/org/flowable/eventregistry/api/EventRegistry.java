@@ -76,6 +76,15 @@ public interface EventRegistry {
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    default void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            sendEventToConsumers(eventRegistryEvent);
+        }
+    }
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
@@ -12,12 +12,34 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     void eventReceived(EventRegistryEvent event);
+
+    /**
+     * Called with a batch of events that were received together (e.g. by a batching inbound event processor),
+     * but only when {@link #supportsAtomicBatches()} returns true. The events can be handled as if they were received concurrently.
+     * A batch needs to be handled atomically: when an exception is thrown, none of the events of the batch may have been handled,
+     * as the events are then handed one by one to {@link #eventReceived(EventRegistryEvent)}.
+     */
+    default void eventsReceived(Collection<EventRegistryEvent> events) {
+        for (EventRegistryEvent event : events) {
+            eventReceived(event);
+        }
+    }
+
+    /**
+     * Whether this consumer handles a batch of events atomically in {@link #eventsReceived(Collection)}.
+     * When false, the events of a batch are handed one by one to {@link #eventReceived(EventRegistryEvent)}.
+     */
+    default boolean supportsAtomicBatches() {
+        return false;
+    }
     
     String getConsumerKey();
 }
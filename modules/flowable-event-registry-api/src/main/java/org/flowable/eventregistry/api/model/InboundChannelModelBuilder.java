@@ -72,6 +72,11 @@ public interface InboundChannelModelBuilder {
      */
     InboundChannelModelBuilder parentDeploymentId(String parentDeploymentId);
 
+    /**
+     * Hands the events received on this channel to the event consumers in batches instead of one by one.
+     */
+    InboundChannelModelBuilder batchEvents();
+
     /**
      * Sets a custom {@link InboundEventChannelAdapter} via a delegate expression.
      */
@@ -214,6 +219,19 @@ public interface InboundChannelModelBuilder {
          */
         InboundEventKeyXmlDetectorBuilder xmlDeserializer();
 
+        /**
+         * Reads the event as JSON in a single streaming pass, only materializing the values
+         * needed for key detection, tenant detection and payload extraction.
+         */
+        InboundEventKeyJsonDetectorBuilder streamingJsonDeserializer();
+
+        /**
+         * Reads the event as XML in a single streaming pass, only materializing the values
+         * needed for key detection, tenant detection and payload extraction.
+         * Only simple absolute xPath expressions (e.g. /data/customer/id) are supported for the key and tenant detection.
+         */
+        InboundEventKeyXmlDetectorBuilder streamingXmlDeserializer();
+
         /**
          * Uses a delegate expression to deserialize the event.
          */
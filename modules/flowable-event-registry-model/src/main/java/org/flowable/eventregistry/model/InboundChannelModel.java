@@ -13,6 +13,7 @@
 package org.flowable.eventregistry.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 /**
  * @author Joram Barrez
@@ -20,6 +21,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 public class InboundChannelModel extends ChannelModel {
 
     protected String deserializerType;
+    protected boolean streamingDeserialization;
+    protected boolean batchEvents;
 
     protected String deserializerDelegateExpression;
     protected String payloadExtractorDelegateExpression;
@@ -46,6 +49,32 @@ public class InboundChannelModel extends ChannelModel {
         this.deserializerType = deserializerType;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isStreamingDeserialization() {
+        return streamingDeserialization;
+    }
+
+    /**
+     * When enabled, a json or xml event is read in a single streaming pass that only materializes the values needed
+     * for the key detection, tenant detection and payload extraction instead of the full json tree or xml document.
+     */
+    public void setStreamingDeserialization(boolean streamingDeserialization) {
+        this.streamingDeserialization = streamingDeserialization;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isBatchEvents() {
+        return batchEvents;
+    }
+
+    /**
+     * When enabled, the events received on this channel are handed to the event consumers in batches,
+     * see the BatchingInboundEventProcessor of the event registry engine.
+     */
+    public void setBatchEvents(boolean batchEvents) {
+        this.batchEvents = batchEvents;
+    }
+
     public String getDeserializerDelegateExpression() {
         return deserializerDelegateExpression;
     }
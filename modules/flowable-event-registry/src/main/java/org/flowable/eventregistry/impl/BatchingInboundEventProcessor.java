@@ -0,0 +1,277 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
+import org.flowable.eventregistry.api.InboundEventProcessor;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link InboundEventProcessor} that groups the events received on channels with {@link InboundChannelModel#isBatchEvents()}
+ * in micro-batches of at most {@link #maxBatchSize} events,
+ * waiting at most {@link #maxBatchWaitTimeInMs} for a batch to fill up, and hands every batch to the event consumers at once
+ * (see {@link EventRegistry#sendEventsToConsumers(java.util.Collection)}), which allows them to correlate the events of a batch together.
+ * Events of other channels are passed to the delegate processor. The batch thread is only started when the first batched event is received.
+ * <p>
+ * The received events are buffered in a bounded queue: when it is full, {@link #eventReceived(InboundChannelModel, String)} blocks,
+ * which applies backpressure to the channel adapter. Note that events are processed asynchronously from the channel adapter,
+ * hence failures while processing an event are logged and not propagated to the channel adapter. When a batch fails,
+ * it is rolled back and its events are sent to the event consumers one by one, so that one failing event does not lose the others.
+ * <p>
+ * On {@link #shutdown()} the queued events are still processed. The queue is only held in memory though: events that were
+ * acknowledged to the channel adapter but not processed yet are lost when the process crashes. Channels that can't lose
+ * events should use the {@link DefaultInboundEventProcessor} and rely on the redelivery of their adapter instead.
+ */
+public class BatchingInboundEventProcessor implements InboundEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingInboundEventProcessor.class);
+
+    protected EventRegistry eventRegistry;
+    protected InboundEventProcessor delegate;
+    protected int maxBatchSize;
+    protected long maxBatchWaitTimeInMs;
+    protected BlockingQueue<ReceivedEvent> receivedEvents;
+
+    protected volatile ExecutorService executorService;
+    protected String threadName = "flowable-event-registry-inbound-batcher-%d";
+    protected long shutdownTimeoutInMs = 10000L;
+    protected long idlePollTimeInMs = 100L;
+    protected volatile boolean active = true;
+
+    public BatchingInboundEventProcessor(EventRegistry eventRegistry, InboundEventProcessor delegate, int maxBatchSize,
+            long maxBatchWaitTimeInMs, int queueCapacity) {
+        this.eventRegistry = eventRegistry;
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWaitTimeInMs = maxBatchWaitTimeInMs;
+        this.receivedEvents = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    protected synchronized void startBatchThread() {
+        if (executorService == null && active) {
+            executorService = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder().namingPattern(threadName).daemon(true).build());
+            executorService.execute(this::processBatches);
+        }
+    }
+
+    /**
+     * Stops accepting new events and waits until the already received events are processed.
+     * The batch thread is not interrupted: when it did not finish within {@link #shutdownTimeoutInMs},
+     * the events still in the queue are processed on the calling thread.
+     */
+    public synchronized void shutdown() {
+        active = false;
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(shutdownTimeoutInMs, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Timeout while waiting for the pending inbound events to be processed, processing the {} remaining events on the calling thread",
+                        receivedEvents.size());
+                    processRemainingEvents();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while waiting for {} pending inbound events to be processed", receivedEvents.size());
+            }
+        }
+    }
+
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, String event) {
+        if (!channelModel.isBatchEvents()) {
+            delegate.eventReceived(channelModel, event);
+            return;
+        }
+
+        if (!active) {
+            throw new FlowableException("Batching inbound event processor is not active, can't process event for channel " + channelModel.getKey());
+        }
+
+        if (executorService == null) {
+            startBatchThread();
+        }
+
+        try {
+            receivedEvents.put(new ReceivedEvent(channelModel, event));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting to queue event for channel " + channelModel.getKey(), e);
+        }
+    }
+
+    protected void processBatches() {
+        List<ReceivedEvent> batch = new ArrayList<>(maxBatchSize);
+        while (active || !receivedEvents.isEmpty()) {
+            try {
+                // A short poll while idle, so that a shutdown is noticed quickly
+                ReceivedEvent firstEvent = receivedEvents.poll(idlePollTimeInMs, TimeUnit.MILLISECONDS);
+                if (firstEvent == null) {
+                    continue;
+                }
+
+                batch.add(firstEvent);
+                fillBatch(batch);
+                processBatch(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+
+            } catch (RuntimeException e) {
+                LOGGER.error("Exception while processing a batch of {} inbound events", batch.size(), e);
+
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void processRemainingEvents() {
+        List<ReceivedEvent> batch = new ArrayList<>(maxBatchSize);
+        while (receivedEvents.drainTo(batch, maxBatchSize) > 0) {
+            try {
+                processBatch(batch);
+            } catch (RuntimeException e) {
+                LOGGER.error("Exception while processing a batch of {} inbound events", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void fillBatch(List<ReceivedEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBatchWaitTimeInMs);
+        receivedEvents.drainTo(batch, maxBatchSize - batch.size());
+        while (batch.size() < maxBatchSize && active) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                break;
+            }
+
+            // Waiting in slices of the idle poll time, so that a shutdown is noticed quickly
+            ReceivedEvent nextEvent = receivedEvents.poll(Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(idlePollTimeInMs)), TimeUnit.NANOSECONDS);
+            if (nextEvent == null) {
+                continue;
+            }
+            batch.add(nextEvent);
+            receivedEvents.drainTo(batch, maxBatchSize - batch.size());
+        }
+
+        // Events that were queued before a shutdown still belong to this batch
+        receivedEvents.drainTo(batch, maxBatchSize - batch.size());
+    }
+
+    protected void processBatch(List<ReceivedEvent> batch) {
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(batch.size());
+        for (ReceivedEvent receivedEvent : batch) {
+            InboundChannelModel channelModel = receivedEvent.getChannelModel();
+            try {
+                InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+                eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelModel.getKey(), receivedEvent.getEvent()));
+            } catch (RuntimeException e) {
+                LOGGER.error("Exception while processing inbound event for channel {}", channelModel.getKey(), e);
+            }
+        }
+
+        if (!eventRegistryEvents.isEmpty()) {
+            LOGGER.debug("Sending batch of {} events to the event consumers", eventRegistryEvents.size());
+            eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+        }
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public InboundEventProcessor getDelegate() {
+        return delegate;
+    }
+
+    public void setDelegate(InboundEventProcessor delegate) {
+        this.delegate = delegate;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getMaxBatchWaitTimeInMs() {
+        return maxBatchWaitTimeInMs;
+    }
+
+    public void setMaxBatchWaitTimeInMs(long maxBatchWaitTimeInMs) {
+        this.maxBatchWaitTimeInMs = maxBatchWaitTimeInMs;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+    public long getShutdownTimeoutInMs() {
+        return shutdownTimeoutInMs;
+    }
+
+    public void setShutdownTimeoutInMs(long shutdownTimeoutInMs) {
+        this.shutdownTimeoutInMs = shutdownTimeoutInMs;
+    }
+
+    public long getIdlePollTimeInMs() {
+        return idlePollTimeInMs;
+    }
+
+    public void setIdlePollTimeInMs(long idlePollTimeInMs) {
+        this.idlePollTimeInMs = idlePollTimeInMs;
+    }
+
+    protected static class ReceivedEvent {
+
+        protected final InboundChannelModel channelModel;
+        protected final String event;
+
+        public ReceivedEvent(InboundChannelModel channelModel, String event) {
+            this.channelModel = channelModel;
+            this.event = event;
+        }
+
+        public InboundChannelModel getChannelModel() {
+            return channelModel;
+        }
+
+        public String getEvent() {
+            return event;
+        }
+    }
+
+}
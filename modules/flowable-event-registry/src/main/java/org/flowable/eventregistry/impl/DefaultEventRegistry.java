@@ -25,12 +25,16 @@ import org.flowable.eventregistry.api.OutboundEventProcessor;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.model.ChannelModel;
 import org.flowable.eventregistry.model.InboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
  */
 public class DefaultEventRegistry implements EventRegistry {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultEventRegistry.class);
+
     protected EventRegistryEngineConfiguration engineConfiguration;
 
     protected CorrelationKeyGenerator<Map<String, Object>> correlationKeyGenerator;
@@ -77,6 +81,37 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            if (!eventConsumer.supportsAtomicBatches()) {
+                sendEventsToConsumer(eventConsumer, eventRegistryEvents);
+                continue;
+            }
+
+            try {
+                eventConsumer.eventsReceived(eventRegistryEvents);
+
+            } catch (RuntimeException e) {
+                // A failed batch was rolled back as a whole, so its events are retried one by one for this consumer
+                LOGGER.debug("Consumer {} failed to handle a batch of {} events, retrying the events one by one",
+                    eventConsumer.getConsumerKey(), eventRegistryEvents.size(), e);
+                sendEventsToConsumer(eventConsumer, eventRegistryEvents);
+            }
+        }
+    }
+
+    protected void sendEventsToConsumer(EventRegistryEventConsumer eventConsumer, Collection<EventRegistryEvent> eventRegistryEvents) {
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            try {
+                eventConsumer.eventReceived(eventRegistryEvent);
+            } catch (RuntimeException e) {
+                LOGGER.error("Consumer {} failed to handle event {}", eventConsumer.getConsumerKey(), eventRegistryEvent.getType(), e);
+            }
+        }
+    }
+
     @Override
     public void sendSystemEventOutbound(EventInstance eventInstance) {
         systemOutboundEventProcessor.sendEvent(eventInstance, Collections.emptyList());
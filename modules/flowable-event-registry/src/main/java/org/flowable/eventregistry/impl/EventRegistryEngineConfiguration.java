@@ -145,6 +145,11 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected OutboundEventProcessor outboundEventProcessor;
     protected OutboundEventProcessor systemOutboundEventProcessor;
 
+    // Inbound event batching of channels with batchEvents, see BatchingInboundEventProcessor
+    protected int inboundEventBatchSize = 100;
+    protected long inboundEventBatchMaxWaitTimeInMs = 50L;
+    protected int inboundEventQueueCapacity = 1000;
+
     // Change detection
     protected boolean enableEventRegistryChangeDetection;
     protected long eventRegistryChangeDetectionInitialDelayInMs = 10000L;
@@ -488,7 +493,8 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
 
     public void initInboundEventProcessor() {
         if (this.inboundEventProcessor == null) {
-            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            this.inboundEventProcessor = new BatchingInboundEventProcessor(eventRegistry, new DefaultInboundEventProcessor(eventRegistry),
+                inboundEventBatchSize, inboundEventBatchMaxWaitTimeInMs, inboundEventQueueCapacity);
         }
         this.eventRegistry.setInboundEventProcessor(this.inboundEventProcessor);
     }
@@ -616,6 +622,33 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public int getInboundEventBatchSize() {
+        return inboundEventBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchSize(int inboundEventBatchSize) {
+        this.inboundEventBatchSize = inboundEventBatchSize;
+        return this;
+    }
+
+    public long getInboundEventBatchMaxWaitTimeInMs() {
+        return inboundEventBatchMaxWaitTimeInMs;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchMaxWaitTimeInMs(long inboundEventBatchMaxWaitTimeInMs) {
+        this.inboundEventBatchMaxWaitTimeInMs = inboundEventBatchMaxWaitTimeInMs;
+        return this;
+    }
+
+    public int getInboundEventQueueCapacity() {
+        return inboundEventQueueCapacity;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventQueueCapacity(int inboundEventQueueCapacity) {
+        this.inboundEventQueueCapacity = inboundEventQueueCapacity;
+        return this;
+    }
+
     public OutboundEventProcessor getOutboundEventProcessor() {
         return outboundEventProcessor;
     }
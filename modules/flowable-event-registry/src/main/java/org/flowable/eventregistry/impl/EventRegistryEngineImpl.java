@@ -81,6 +81,10 @@ public class EventRegistryEngineImpl implements EventRegistryEngine {
             engineConfiguration.getEventRegistryChangeDetectionExecutor().shutdown();
         }
 
+        if (engineConfiguration.getInboundEventProcessor() instanceof BatchingInboundEventProcessor) {
+            ((BatchingInboundEventProcessor) engineConfiguration.getInboundEventProcessor()).shutdown();
+        }
+
         engineConfiguration.close();
 
         if (engineConfiguration.getEngineLifecycleListeners() != null) {
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,6 +28,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
@@ -64,7 +66,86 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         }
     }
 
-    protected abstract void eventReceived(EventInstance eventInstance);
+    protected void eventReceived(EventInstance eventInstance) {
+
+        // Fetching the event subscriptions happens in one transaction,
+        // executing them one per subscription. There is no overarching transaction.
+        // The reason for this is that the handling of one event subscription
+        // should not influence (i.e. roll back) the handling of another.
+
+        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+        List<EventSubscription> eventSubscriptions = findEventSubscriptions(getEventSubscriptionScopeType(), eventInstance, correlationKeys);
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            handleEventSubscription(eventSubscription, eventInstance, correlationKeys);
+        }
+    }
+
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            if (event.getEventObject() instanceof EventInstance) {
+                eventInstances.add((EventInstance) event.getEventObject());
+            } else if (event.getEventObject() == null) {
+                throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
+            } else {
+                throw new FlowableIllegalArgumentException("Unsupported event object type: " + event.getEventObject().getClass());
+            }
+        }
+
+        commandExecutor.execute(commandContext -> {
+            eventsReceived(eventInstances);
+            return null;
+        });
+    }
+
+    /**
+     * A batch is handled in one command: the event subscriptions of the whole batch are looked up and handled
+     * in the same transaction, which is flushed once. When handling one of the events fails, the whole batch is rolled back.
+     */
+    @Override
+    public boolean supportsAtomicBatches() {
+        return true;
+    }
+
+    /**
+     * Handles a batch of events as if they were received concurrently, within the command context of the batch.
+     * The event subscriptions are looked up once for the whole batch. An event subscription that was deleted by handling
+     * an earlier event of the batch (e.g. the waiting execution moved on) is skipped. Event subscriptions created
+     * by handling an earlier event of the batch are not flushed yet and hence not found for the later events of the batch.
+     */
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        String scopeType = getEventSubscriptionScopeType();
+
+        Map<EventInstance, Collection<CorrelationKey>> correlationKeysByEventInstance = new LinkedHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            correlationKeysByEventInstance.put(eventInstance, generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        }
+
+        Map<EventInstance, List<EventSubscription>> eventSubscriptionsByEventInstance = findEventSubscriptions(scopeType, correlationKeysByEventInstance);
+        for (Map.Entry<EventInstance, List<EventSubscription>> entry : eventSubscriptionsByEventInstance.entrySet()) {
+            EventInstance eventInstance = entry.getKey();
+            for (EventSubscription eventSubscription : entry.getValue()) {
+                if (!isDeleted(eventSubscription)) {
+                    handleEventSubscription(eventSubscription, eventInstance, correlationKeysByEventInstance.get(eventInstance));
+                }
+            }
+        }
+    }
+
+    protected boolean isDeleted(EventSubscription eventSubscription) {
+        return eventSubscription instanceof Entity && ((Entity) eventSubscription).isDeleted();
+    }
+
+    /**
+     * The scope type of the event subscriptions this consumer handles.
+     */
+    protected abstract String getEventSubscriptionScopeType();
+
+    /**
+     * Handles one event subscription that was found for an event.
+     */
+    protected abstract void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys);
 
     /**
      * Generates all possible correlation keys for the given correlation parameters.
@@ -115,6 +196,10 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     }
 
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
+        if (!mightHaveEventSubscriptions(scopeType, eventInstance, correlationKeys)) {
+            return Collections.emptyList();
+        }
+
         return commandExecutor.execute(commandContext -> {
 
             EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
@@ -167,6 +252,67 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         });
     }
 
+    /**
+     * Finds the event subscriptions for a batch of events. Events with the same event key and tenant share one query,
+     * after which the found event subscriptions are matched to the correlation keys of each event.
+     *
+     * @return the event subscriptions per event instance, in the order of the given events
+     */
+    protected Map<EventInstance, List<EventSubscription>> findEventSubscriptions(String scopeType,
+            Map<EventInstance, Collection<CorrelationKey>> correlationKeysByEventInstance) {
+
+        Map<List<String>, List<EventInstance>> eventInstanceGroups = new LinkedHashMap<>();
+        for (EventInstance eventInstance : correlationKeysByEventInstance.keySet()) {
+            eventInstanceGroups.computeIfAbsent(Arrays.asList(eventInstance.getEventKey(), eventInstance.getTenantId()), key -> new ArrayList<>())
+                .add(eventInstance);
+        }
+
+        Map<EventInstance, List<EventSubscription>> eventSubscriptionsByEventInstance = new LinkedHashMap<>();
+        for (List<EventInstance> eventInstanceGroup : eventInstanceGroups.values()) {
+            EventInstance firstEventInstance = eventInstanceGroup.get(0);
+            if (eventInstanceGroup.size() == 1) {
+                eventSubscriptionsByEventInstance.put(firstEventInstance,
+                    findEventSubscriptions(scopeType, firstEventInstance, correlationKeysByEventInstance.get(firstEventInstance)));
+                continue;
+            }
+
+            Set<CorrelationKey> allCorrelationKeys = new HashSet<>();
+            for (EventInstance eventInstance : eventInstanceGroup) {
+                allCorrelationKeys.addAll(correlationKeysByEventInstance.get(eventInstance));
+            }
+
+            List<EventSubscription> groupEventSubscriptions = findEventSubscriptions(scopeType, firstEventInstance, allCorrelationKeys);
+            for (EventInstance eventInstance : eventInstanceGroup) {
+                Set<String> correlationKeyValues = correlationKeysByEventInstance.get(eventInstance).stream()
+                    .map(CorrelationKey::getValue)
+                    .collect(Collectors.toSet());
+
+                List<EventSubscription> eventSubscriptions = new ArrayList<>();
+                for (EventSubscription eventSubscription : groupEventSubscriptions) {
+                    if (eventSubscription.getConfiguration() == null || correlationKeyValues.contains(eventSubscription.getConfiguration())) {
+                        eventSubscriptions.add(eventSubscription);
+                    }
+                }
+                eventSubscriptionsByEventInstance.put(eventInstance, eventSubscriptions);
+            }
+        }
+
+        // Keep the order in which the events were received
+        Map<EventInstance, List<EventSubscription>> result = new LinkedHashMap<>();
+        for (EventInstance eventInstance : correlationKeysByEventInstance.keySet()) {
+            result.put(eventInstance, eventSubscriptionsByEventInstance.get(eventInstance));
+        }
+        return result;
+    }
+
+    /**
+     * Allows to skip the event subscription query when it is known that no event subscription can match the event.
+     * Returning true means that the query needs to be executed.
+     */
+    protected boolean mightHaveEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        return true;
+    }
+
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
 }
@@ -47,6 +47,7 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
     protected String parentDeploymentId;
     protected String deploymentTenantId;
     protected String key;
+    protected boolean batchEvents;
     protected InboundEventProcessingPipelineBuilder inboundEventProcessingPipelineBuilder;
 
     public InboundChannelDefinitionBuilderImpl(EventRepositoryService eventRepository, ChannelJsonConverter channelJsonConverter) {
@@ -90,6 +91,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
         return this;
     }
 
+    @Override
+    public InboundChannelModelBuilder batchEvents() {
+        this.batchEvents = true;
+        return this;
+    }
+
     @Override
     public InboundEventProcessingPipelineBuilder channelAdapter(String delegateExpression) {
         DelegateExpressionInboundChannelModel channelModel = new DelegateExpressionInboundChannelModel();
@@ -155,6 +162,7 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
         }
 
         channelModel.setKey(key);
+        channelModel.setBatchEvents(batchEvents);
 
         return channelModel;
     }
@@ -340,6 +348,18 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return new InboundEventKeyXmlDetectorBuilderImpl(xmlPipelineBuilder);
         }
 
+        @Override
+        public InboundEventKeyJsonDetectorBuilder streamingJsonDeserializer() {
+            channelModel.setStreamingDeserialization(true);
+            return jsonDeserializer();
+        }
+
+        @Override
+        public InboundEventKeyXmlDetectorBuilder streamingXmlDeserializer() {
+            channelModel.setStreamingDeserialization(true);
+            return xmlDeserializer();
+        }
+
         @Override
         public InboundEventKeyDetectorBuilder delegateExpressionDeserializer(String delegateExpression) {
             channelModel.setDeserializerType("expression");
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.payload;
+
+import java.util.Collection;
+
+import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.serialization.StreamedJsonEvent;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.EventPayload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Extracts the payload of a {@link StreamedJsonEvent} in the same way as the {@link JsonFieldToMapPayloadExtractor}.
+ * Only the top level fields that are part of the event model are parsed.
+ */
+public class StreamedJsonFieldToMapPayloadExtractor implements InboundEventPayloadExtractor<StreamedJsonEvent> {
+
+    protected JsonFieldToMapPayloadExtractor jsonFieldToMapPayloadExtractor = new JsonFieldToMapPayloadExtractor();
+
+    @Override
+    public Collection<EventPayloadInstance> extractPayload(EventModel eventDefinition, StreamedJsonEvent event) {
+        ObjectNode payloadNode = JsonNodeFactory.instance.objectNode();
+        for (EventPayload eventPayload : eventDefinition.getPayload()) {
+            JsonNode value = event.getField(eventPayload.getName());
+            if (value != null) {
+                payloadNode.set(eventPayload.getName(), value);
+            }
+        }
+
+        return jsonFieldToMapPayloadExtractor.extractPayload(eventDefinition, payloadNode);
+    }
+
+}
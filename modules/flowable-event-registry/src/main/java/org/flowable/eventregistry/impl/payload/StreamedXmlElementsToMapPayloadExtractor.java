@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.payload;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.impl.serialization.StreamedXmlEvent;
+import org.flowable.eventregistry.model.EventModel;
+
+/**
+ * Extracts the payload of a {@link StreamedXmlEvent} in the same way as the {@link XmlElementsToMapPayloadExtractor}.
+ */
+public class StreamedXmlElementsToMapPayloadExtractor implements InboundEventPayloadExtractor<StreamedXmlEvent> {
+
+    protected XmlElementsToMapPayloadExtractor xmlElementsToMapPayloadExtractor = new XmlElementsToMapPayloadExtractor();
+
+    @Override
+    public Collection<EventPayloadInstance> extractPayload(EventModel eventDefinition, StreamedXmlEvent event) {
+        return eventDefinition.getPayload().stream()
+            .filter(payloadDefinition -> event.hasElement(payloadDefinition.getName()))
+            .map(payloadDefinition -> new EventPayloadInstanceImpl(payloadDefinition, xmlElementsToMapPayloadExtractor.getPayloadValue(
+                event.getElementTextContent(payloadDefinition.getName()), payloadDefinition.getType())))
+            .collect(Collectors.toList());
+    }
+
+}
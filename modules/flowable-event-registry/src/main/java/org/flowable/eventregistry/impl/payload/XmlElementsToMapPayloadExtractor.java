@@ -45,32 +45,33 @@ public class XmlElementsToMapPayloadExtractor implements InboundEventPayloadExtr
 
         Node childNode = getChildNode(document, definitionName);
         if (childNode != null) {
-            String textContent = childNode.getTextContent();
+            return getPayloadValue(childNode.getTextContent(), definitionType);
+        }
 
-            if (EventPayloadTypes.STRING.equals(definitionType)) {
-                return textContent;
+        return null;
+    }
 
-            } else if (EventPayloadTypes.BOOLEAN.equals(definitionType)) {
-                return Boolean.valueOf(textContent);
+    protected Object getPayloadValue(String textContent, String definitionType) {
+        if (EventPayloadTypes.STRING.equals(definitionType)) {
+            return textContent;
 
-            } else if (EventPayloadTypes.INTEGER.equals(definitionType)) {
-                return Integer.valueOf(textContent);
+        } else if (EventPayloadTypes.BOOLEAN.equals(definitionType)) {
+            return Boolean.valueOf(textContent);
 
-            } else if (EventPayloadTypes.DOUBLE.equals(definitionType)) {
-                return Double.valueOf(textContent);
+        } else if (EventPayloadTypes.INTEGER.equals(definitionType)) {
+            return Integer.valueOf(textContent);
 
-            } else if (EventPayloadTypes.LONG.equals(definitionType)) {
-                return Long.valueOf(textContent);
+        } else if (EventPayloadTypes.DOUBLE.equals(definitionType)) {
+            return Double.valueOf(textContent);
 
-            } else {
-                LOGGER.warn("Unsupported payload type: {} ", definitionType);
-                return textContent;
+        } else if (EventPayloadTypes.LONG.equals(definitionType)) {
+            return Long.valueOf(textContent);
 
-            }
+        } else {
+            LOGGER.warn("Unsupported payload type: {} ", definitionType);
+            return textContent;
 
         }
-
-        return null;
     }
 
     protected Node getChildNode(Document document, String elementName) {
@@ -28,14 +28,22 @@ import org.flowable.eventregistry.api.InboundEventTenantDetector;
 import org.flowable.eventregistry.api.InboundEventTransformer;
 import org.flowable.eventregistry.impl.keydetector.InboundEventStaticKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonFieldBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.keydetector.StreamedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonPointerBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.XpathBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.payload.JsonFieldToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.payload.StreamedJsonFieldToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.payload.StreamedXmlElementsToMapPayloadExtractor;
 import org.flowable.eventregistry.impl.payload.XmlElementsToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.serialization.StreamedJsonEvent;
+import org.flowable.eventregistry.impl.serialization.StreamedXmlEvent;
+import org.flowable.eventregistry.impl.serialization.StreamingJsonDeserializer;
+import org.flowable.eventregistry.impl.serialization.StreamingXmlDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToJsonDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToXmlDocumentDeserializer;
 import org.flowable.eventregistry.impl.tenantdetector.InboundEventStaticTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.JsonPointerBasedInboundEventTenantDetector;
+import org.flowable.eventregistry.impl.tenantdetector.StreamedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.XpathBasedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.transformer.DefaultInboundEventTransformer;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
@@ -43,6 +51,8 @@ import org.flowable.eventregistry.model.ChannelEventKeyDetection;
 import org.flowable.eventregistry.model.ChannelEventTenantIdDetection;
 import org.flowable.eventregistry.model.ChannelModel;
 import org.flowable.eventregistry.model.InboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -52,6 +62,8 @@ import com.fasterxml.jackson.databind.JsonNode;
  */
 public class InboundChannelModelProcessor implements ChannelModelProcessor {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(InboundChannelModelProcessor.class);
+
     @Override
     public boolean canProcess(ChannelModel channelModel) {
         return channelModel instanceof InboundChannelModel;
@@ -75,10 +87,18 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
             if (StringUtils.isNotEmpty(inboundChannelModel.getPipelineDelegateExpression())) {
                 eventProcessingPipeline = resolveExpression(inboundChannelModel.getPipelineDelegateExpression(), InboundEventProcessingPipeline.class);
             } else if ("json".equals(inboundChannelModel.getDeserializerType())) {
-                eventProcessingPipeline = createJsonEventProcessingPipeline(inboundChannelModel, eventRepositoryService);
+                if (inboundChannelModel.isStreamingDeserialization() && supportsStreamingJsonDeserialization(inboundChannelModel)) {
+                    eventProcessingPipeline = createStreamingJsonEventProcessingPipeline(inboundChannelModel, eventRepositoryService);
+                } else {
+                    eventProcessingPipeline = createJsonEventProcessingPipeline(inboundChannelModel, eventRepositoryService);
+                }
 
             } else if ("xml".equals(inboundChannelModel.getDeserializerType())) {
-                eventProcessingPipeline = createXmlEventProcessingPipeline(inboundChannelModel, eventRepositoryService);
+                if (inboundChannelModel.isStreamingDeserialization() && supportsStreamingXmlDeserialization(inboundChannelModel)) {
+                    eventProcessingPipeline = createStreamingXmlEventProcessingPipeline(inboundChannelModel, eventRepositoryService);
+                } else {
+                    eventProcessingPipeline = createXmlEventProcessingPipeline(inboundChannelModel, eventRepositoryService);
+                }
 
             } else if ("expression".equals(inboundChannelModel.getDeserializerType())) {
                 eventProcessingPipeline = createExpressionEventProcessingPipeline(inboundChannelModel, eventRepositoryService);
@@ -163,6 +183,64 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
             eventKeyDetector, eventTenantDetector, eventPayloadExtractor, eventTransformer);
     }
 
+    /**
+     * Streaming json deserialization can only be used when the deserialization, payload extraction, key and tenant detection
+     * are not delegated, as a delegate expects the complete json tree.
+     */
+    protected boolean supportsStreamingJsonDeserialization(InboundChannelModel channelModel) {
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        ChannelEventTenantIdDetection tenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+        boolean supported = StringUtils.isEmpty(channelModel.getDeserializerDelegateExpression())
+            && StringUtils.isEmpty(channelModel.getPayloadExtractorDelegateExpression())
+            && keyDetection != null && StringUtils.isEmpty(keyDetection.getDelegateExpression())
+            && (tenantIdDetection == null || StringUtils.isEmpty(tenantIdDetection.getDelegateExpression()));
+
+        if (!supported) {
+            LOGGER.warn("Streaming deserialization is not supported for channel model {} with delegate expressions, falling back to regular json deserialization",
+                channelModel.getKey());
+        }
+        return supported;
+    }
+
+    protected InboundEventProcessingPipeline createStreamingJsonEventProcessingPipeline(InboundChannelModel channelModel,
+        EventRepositoryService eventRepositoryService) {
+
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        ChannelEventTenantIdDetection tenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+
+        InboundEventKeyDetector<StreamedJsonEvent> eventKeyDetector;
+        if (StringUtils.isNotEmpty(keyDetection.getFixedValue())) {
+            eventKeyDetector = new InboundEventStaticKeyDetector<>(keyDetection.getFixedValue());
+        } else if (StringUtils.isNotEmpty(keyDetection.getJsonField()) || StringUtils.isNotEmpty(keyDetection.getJsonPointerExpression())) {
+            eventKeyDetector = new StreamedInboundEventKeyDetector<>();
+        } else {
+            throw new FlowableException(
+                "The channel json key detection value was not found for the channel model with key " + channelModel.getKey()
+                    + ". One of fixedValue, jsonField, jsonPointerExpression or delegateExpression should be set.");
+        }
+
+        InboundEventTenantDetector<StreamedJsonEvent> eventTenantDetector = null; // By default no multi-tenancy is applied
+        String tenantJsonPointerExpression = null;
+        if (tenantIdDetection != null) {
+            if (StringUtils.isNotEmpty(tenantIdDetection.getFixedValue())) {
+                eventTenantDetector = new InboundEventStaticTenantDetector<>(tenantIdDetection.getFixedValue());
+            } else if (StringUtils.isNotEmpty(tenantIdDetection.getJsonPointerExpression())) {
+                tenantJsonPointerExpression = tenantIdDetection.getJsonPointerExpression();
+                eventTenantDetector = new StreamedInboundEventTenantDetector<>();
+            } else {
+                throw new FlowableException(
+                    "The channel json tenant detection value was not found for the channel model with key " + channelModel.getKey()
+                        + ". One of fixedValue, jsonPointerExpression, delegateExpression should be set.");
+            }
+        }
+
+        InboundEventDeserializer<StreamedJsonEvent> eventDeserializer = new StreamingJsonDeserializer(keyDetection.getJsonField(),
+            keyDetection.getJsonPointerExpression(), tenantJsonPointerExpression);
+
+        return new DefaultInboundEventProcessingPipeline<>(eventRepositoryService, eventDeserializer,
+            eventKeyDetector, eventTenantDetector, new StreamedJsonFieldToMapPayloadExtractor(), createEventTransformer(channelModel));
+    }
+
     protected InboundEventProcessingPipeline createXmlEventProcessingPipeline(InboundChannelModel channelModel, EventRepositoryService eventRepositoryService) {
         InboundEventDeserializer<Document> eventDeserializer;
         if (StringUtils.isEmpty(channelModel.getDeserializerDelegateExpression())) {
@@ -229,6 +307,76 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
             eventKeyDetector, eventTenantDetector, eventPayloadExtractor, eventTransformer);
     }
 
+    /**
+     * Streaming xml deserialization can only be used when the deserialization, payload extraction, key and tenant detection
+     * are not delegated and the key and tenant detection only use simple xPath expressions.
+     */
+    protected boolean supportsStreamingXmlDeserialization(InboundChannelModel channelModel) {
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        ChannelEventTenantIdDetection tenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+        boolean supported = StringUtils.isEmpty(channelModel.getDeserializerDelegateExpression())
+            && StringUtils.isEmpty(channelModel.getPayloadExtractorDelegateExpression())
+            && keyDetection != null && StringUtils.isEmpty(keyDetection.getDelegateExpression())
+            && (StringUtils.isEmpty(keyDetection.getXmlXPathExpression())
+                || StreamingXmlDeserializer.isSupportedXPathExpression(keyDetection.getXmlXPathExpression()))
+            && (tenantIdDetection == null || (StringUtils.isEmpty(tenantIdDetection.getDelegateExpression())
+                && (StringUtils.isEmpty(tenantIdDetection.getxPathExpression())
+                    || StreamingXmlDeserializer.isSupportedXPathExpression(tenantIdDetection.getxPathExpression()))));
+
+        if (!supported) {
+            LOGGER.warn("Streaming deserialization is not supported for channel model {} with delegate expressions or complex xPath expressions, "
+                + "falling back to regular xml deserialization", channelModel.getKey());
+        }
+        return supported;
+    }
+
+    protected InboundEventProcessingPipeline createStreamingXmlEventProcessingPipeline(InboundChannelModel channelModel,
+        EventRepositoryService eventRepositoryService) {
+
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        ChannelEventTenantIdDetection tenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+
+        InboundEventKeyDetector<StreamedXmlEvent> eventKeyDetector;
+        if (StringUtils.isNotEmpty(keyDetection.getFixedValue())) {
+            eventKeyDetector = new InboundEventStaticKeyDetector<>(keyDetection.getFixedValue());
+        } else if (StringUtils.isNotEmpty(keyDetection.getXmlXPathExpression())) {
+            eventKeyDetector = new StreamedInboundEventKeyDetector<>();
+        } else {
+            throw new FlowableException(
+                "The channel xml key detection value was not found for the channel model with key " + channelModel.getKey()
+                    + ". One of fixedValue, xmlPathExpression, delegateExpression should be set.");
+        }
+
+        InboundEventTenantDetector<StreamedXmlEvent> eventTenantDetector = null; // By default no multi-tenancy is applied
+        String tenantXPathExpression = null;
+        if (tenantIdDetection != null) {
+            if (StringUtils.isNotEmpty(tenantIdDetection.getFixedValue())) {
+                eventTenantDetector = new InboundEventStaticTenantDetector<>(tenantIdDetection.getFixedValue());
+            } else if (StringUtils.isNotEmpty(tenantIdDetection.getxPathExpression())) {
+                tenantXPathExpression = tenantIdDetection.getxPathExpression();
+                eventTenantDetector = new StreamedInboundEventTenantDetector<>();
+            } else {
+                throw new FlowableException(
+                    "The channel xml tenant detection value was not found for the channel model with key " + channelModel.getKey()
+                        + ". One of fixedValue, xPathExpression, delegateExpression should be set.");
+            }
+        }
+
+        InboundEventDeserializer<StreamedXmlEvent> eventDeserializer = new StreamingXmlDeserializer(keyDetection.getXmlXPathExpression(),
+            tenantXPathExpression);
+
+        return new DefaultInboundEventProcessingPipeline<>(eventRepositoryService, eventDeserializer,
+            eventKeyDetector, eventTenantDetector, new StreamedXmlElementsToMapPayloadExtractor(), createEventTransformer(channelModel));
+    }
+
+    protected InboundEventTransformer createEventTransformer(InboundChannelModel channelModel) {
+        if (StringUtils.isEmpty(channelModel.getEventTransformerDelegateExpression())) {
+            return new DefaultInboundEventTransformer();
+        } else {
+            return resolveExpression(channelModel.getEventTransformerDelegateExpression(), InboundEventTransformer.class);
+        }
+    }
+
     protected InboundEventProcessingPipeline createExpressionEventProcessingPipeline(InboundChannelModel channelModel,
         EventRepositoryService eventRepositoryService) {
         InboundEventDeserializer<?> eventDeserializer;
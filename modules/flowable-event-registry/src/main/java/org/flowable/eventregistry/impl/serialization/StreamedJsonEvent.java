@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.serialization;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A json event read by the {@link StreamingJsonDeserializer}.
+ * <p>
+ * Top level scalar fields are kept as value nodes. Top level objects and arrays are only kept as the character range
+ * in the raw event and are parsed when they are requested, as only the fields of the resolved event model are needed.
+ */
+public class StreamedJsonEvent extends StreamedInboundEvent {
+
+    protected String rawEvent;
+    protected ObjectMapper objectMapper;
+
+    protected Map<String, JsonNode> fields = new HashMap<>();
+    protected Map<String, int[]> unparsedFields = new HashMap<>();
+
+    public StreamedJsonEvent(String rawEvent, ObjectMapper objectMapper) {
+        this.rawEvent = rawEvent;
+        this.objectMapper = objectMapper;
+    }
+
+    public void addField(String name, JsonNode value) {
+        fields.put(name, value);
+        unparsedFields.remove(name);
+    }
+
+    public void addUnparsedField(String name, int startOffset, int endOffset) {
+        unparsedFields.put(name, new int[] { startOffset, endOffset });
+        fields.remove(name);
+    }
+
+    public boolean hasField(String name) {
+        return fields.containsKey(name) || unparsedFields.containsKey(name);
+    }
+
+    /**
+     * @return the value of the top level field with the given name or null if the event has no such field
+     */
+    public JsonNode getField(String name) {
+        JsonNode value = fields.get(name);
+        if (value == null) {
+            int[] range = unparsedFields.remove(name);
+            if (range != null) {
+                try {
+                    value = objectMapper.readTree(rawEvent.substring(range[0], range[1]));
+                } catch (IOException e) {
+                    throw new FlowableException("Could not deserialize field " + name + " of event to json", e);
+                }
+                fields.put(name, value);
+            }
+        }
+        return value;
+    }
+
+    public String getRawEvent() {
+        return rawEvent;
+    }
+}
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.serialization;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A xml event read by the {@link StreamingXmlDeserializer}, holding the text content of the child elements of the root element.
+ */
+public class StreamedXmlEvent extends StreamedInboundEvent {
+
+    protected Map<String, String> elementTextContents = new HashMap<>();
+
+    public void addElementTextContent(String elementName, String textContent) {
+        elementTextContents.putIfAbsent(elementName, textContent);
+    }
+
+    public boolean hasElement(String elementName) {
+        return elementTextContents.containsKey(elementName);
+    }
+
+    public String getElementTextContent(String elementName) {
+        return elementTextContents.get(elementName);
+    }
+
+    public Map<String, String> getElementTextContents() {
+        return elementTextContents;
+    }
+}
@@ -0,0 +1,242 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.serialization;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.InboundEventDeserializer;
+import org.flowable.eventregistry.api.InboundEventKeyDetector;
+import org.flowable.eventregistry.api.InboundEventTenantDetector;
+import org.flowable.eventregistry.impl.keydetector.JsonFieldBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.keydetector.JsonPointerBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.tenantdetector.JsonPointerBasedInboundEventTenantDetector;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Reads a json event in a single pass with a streaming {@link JsonParser}.
+ * <p>
+ * Only the values on the paths of the key and tenant detection are materialized, all other nested values are skipped.
+ * The key and tenant are detected on this sparse tree with the regular json detectors, so the detection behaves the same as
+ * for events deserialized with the {@link StringToJsonDeserializer}.
+ */
+public class StreamingJsonDeserializer implements InboundEventDeserializer<StreamedJsonEvent> {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    protected InboundEventKeyDetector<JsonNode> eventKeyDetector;
+    protected InboundEventTenantDetector<JsonNode> eventTenantDetector;
+
+    protected DetectionPath detectionPaths = new DetectionPath();
+
+    /**
+     * @param keyJsonField the top level field containing the event key, can be null
+     * @param keyJsonPointerExpression the json pointer to the event key, can be null
+     * @param tenantJsonPointerExpression the json pointer to the tenant id, can be null
+     */
+    public StreamingJsonDeserializer(String keyJsonField, String keyJsonPointerExpression, String tenantJsonPointerExpression) {
+        if (StringUtils.isNotEmpty(keyJsonField)) {
+            this.eventKeyDetector = new JsonFieldBasedInboundEventKeyDetector(keyJsonField);
+            detectionPaths.addChild(keyJsonField).target = true;
+
+        } else if (StringUtils.isNotEmpty(keyJsonPointerExpression)) {
+            this.eventKeyDetector = new JsonPointerBasedInboundEventKeyDetector(keyJsonPointerExpression);
+            addDetectionPath(JsonPointer.compile(keyJsonPointerExpression));
+        }
+
+        if (StringUtils.isNotEmpty(tenantJsonPointerExpression)) {
+            this.eventTenantDetector = new JsonPointerBasedInboundEventTenantDetector(tenantJsonPointerExpression);
+            addDetectionPath(JsonPointer.compile(tenantJsonPointerExpression));
+        }
+    }
+
+    protected void addDetectionPath(JsonPointer jsonPointer) {
+        DetectionPath detectionPath = detectionPaths;
+        JsonPointer pointer = jsonPointer;
+        while (!pointer.matches()) {
+            detectionPath = detectionPath.addChild(pointer.getMatchingProperty());
+            pointer = pointer.tail();
+        }
+        detectionPath.target = true;
+    }
+
+    @Override
+    public StreamedJsonEvent deserialize(String rawEvent) {
+        StreamedJsonEvent event = new StreamedJsonEvent(rawEvent, objectMapper);
+        try (JsonParser parser = objectMapper.getFactory().createParser(rawEvent)) {
+            JsonNode detectionNode = null;
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT && !detectionPaths.target) {
+                detectionNode = readTopLevelObject(parser, event);
+
+            } else if (token != null) {
+                detectionNode = readValue(parser, detectionPaths);
+                if (detectionPaths.target && detectionNode != null && detectionNode.isObject()) {
+                    Iterator<Map.Entry<String, JsonNode>> fieldIterator = detectionNode.fields();
+                    while (fieldIterator.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fieldIterator.next();
+                        event.addField(field.getKey(), field.getValue());
+                    }
+                }
+            }
+
+            if (detectionNode == null) {
+                detectionNode = MissingNode.getInstance();
+            }
+
+            if (eventKeyDetector != null) {
+                event.setEventKey(eventKeyDetector.detectEventDefinitionKey(detectionNode));
+            }
+            if (eventTenantDetector != null) {
+                event.setTenantId(eventTenantDetector.detectTenantId(detectionNode));
+            }
+
+            return event;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
+    protected JsonNode readTopLevelObject(JsonParser parser, StreamedJsonEvent event) throws IOException {
+        ObjectNode detectionNode = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            DetectionPath detectionPath = detectionPaths.getChild(fieldName);
+
+            JsonNode detectionValue = null;
+            if (valueToken.isStructStart() && (detectionPath == null || !detectionPath.target)) {
+                // Objects and arrays are only parsed when they are needed for the payload
+                int startOffset = (int) parser.getTokenLocation().getCharOffset();
+                if (detectionPath != null) {
+                    detectionValue = readValue(parser, detectionPath);
+                } else {
+                    parser.skipChildren();
+                }
+                event.addUnparsedField(fieldName, startOffset, (int) parser.getCurrentLocation().getCharOffset());
+
+            } else {
+                JsonNode value = readTree(parser);
+                event.addField(fieldName, value);
+                if (detectionPath != null && detectionPath.target) {
+                    detectionValue = value;
+                }
+            }
+
+            if (detectionValue != null) {
+                if (detectionNode == null) {
+                    detectionNode = objectMapper.createObjectNode();
+                }
+                detectionNode.set(fieldName, detectionValue);
+            }
+        }
+
+        return detectionNode;
+    }
+
+    /**
+     * Reads the current value, only materializing the parts that are on the given detection path.
+     *
+     * @return the (partial) value or null when nothing of the value is needed for the detection
+     */
+    protected JsonNode readValue(JsonParser parser, DetectionPath detectionPath) throws IOException {
+        if (detectionPath.target) {
+            return readTree(parser);
+        }
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            ObjectNode objectNode = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                DetectionPath childPath = detectionPath.getChild(fieldName);
+                if (childPath == null) {
+                    parser.skipChildren();
+                } else {
+                    JsonNode value = readValue(parser, childPath);
+                    if (value != null) {
+                        if (objectNode == null) {
+                            objectNode = objectMapper.createObjectNode();
+                        }
+                        objectNode.set(fieldName, value);
+                    }
+                }
+            }
+            return objectNode;
+
+        } else if (token == JsonToken.START_ARRAY) {
+            ArrayNode arrayNode = null;
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                DetectionPath childPath = detectionPath.getChild(String.valueOf(index));
+                if (childPath == null) {
+                    parser.skipChildren();
+                } else {
+                    JsonNode value = readValue(parser, childPath);
+                    if (value != null) {
+                        if (arrayNode == null) {
+                            arrayNode = objectMapper.createArrayNode();
+                        }
+                        while (arrayNode.size() < index) {
+                            arrayNode.addNull();
+                        }
+                        arrayNode.add(value);
+                    }
+                }
+                index++;
+            }
+            return arrayNode;
+        }
+
+        // A scalar value can't contain the detection path
+        return null;
+    }
+
+    protected JsonNode readTree(JsonParser parser) throws IOException {
+        JsonNode value = objectMapper.readTree(parser);
+        return value != null ? value : NullNode.getInstance();
+    }
+
+    protected static class DetectionPath {
+
+        protected boolean target;
+        protected Map<String, DetectionPath> children;
+
+        protected DetectionPath addChild(String name) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(name, key -> new DetectionPath());
+        }
+
+        protected DetectionPath getChild(String name) {
+            return children != null ? children.get(name) : null;
+        }
+    }
+
+}
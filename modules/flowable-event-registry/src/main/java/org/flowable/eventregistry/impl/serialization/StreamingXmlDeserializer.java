@@ -0,0 +1,167 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.serialization;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.InboundEventDeserializer;
+
+/**
+ * Reads a xml event in a single pass with a StAX {@link XMLStreamReader}, without building a DOM document.
+ * <p>
+ * The payload is the text content of the child elements of the root element, like the {@link org.flowable.eventregistry.impl.payload.XmlElementsToMapPayloadExtractor}.
+ * The key and tenant detection only support simple absolute xPath expressions of element names (e.g. /data/customer/id),
+ * which can be checked with {@link #isSupportedXPathExpression(String)}.
+ */
+public class StreamingXmlDeserializer implements InboundEventDeserializer<StreamedXmlEvent> {
+
+    protected static final Pattern SIMPLE_XPATH_PATTERN = Pattern.compile("(/[A-Za-z_][\\w.\\-]*)+(/text\\(\\))?");
+
+    protected XMLInputFactory xmlInputFactory;
+
+    protected List<String> keyElementPath;
+    protected List<String> tenantElementPath;
+
+    /**
+     * @param keyXPathExpression the simple xPath expression to the event key, can be null
+     * @param tenantXPathExpression the simple xPath expression to the tenant id, can be null
+     */
+    public StreamingXmlDeserializer(String keyXPathExpression, String tenantXPathExpression) {
+        this.keyElementPath = toElementPath(keyXPathExpression);
+        this.tenantElementPath = toElementPath(tenantXPathExpression);
+
+        this.xmlInputFactory = XMLInputFactory.newInstance();
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    public static boolean isSupportedXPathExpression(String xPathExpression) {
+        return SIMPLE_XPATH_PATTERN.matcher(xPathExpression).matches();
+    }
+
+    protected List<String> toElementPath(String xPathExpression) {
+        if (StringUtils.isEmpty(xPathExpression)) {
+            return null;
+        }
+
+        if (!isSupportedXPathExpression(xPathExpression)) {
+            throw new FlowableException("Unsupported xPath expression for streaming xml deserialization: " + xPathExpression);
+        }
+
+        return Arrays.asList(StringUtils.removeEnd(xPathExpression, "/text()").substring(1).split("/"));
+    }
+
+    @Override
+    public StreamedXmlEvent deserialize(String rawEvent) {
+        StreamedXmlEvent event = new StreamedXmlEvent();
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(new StringReader(rawEvent));
+
+            List<String> currentPath = new ArrayList<>();
+            List<TextContentCapture> activeCaptures = new ArrayList<>();
+            boolean keyDetected = false;
+            boolean tenantDetected = false;
+
+            while (reader.hasNext()) {
+                int eventType = reader.next();
+                if (eventType == XMLStreamConstants.START_ELEMENT) {
+                    currentPath.add(getElementName(reader));
+                    int depth = currentPath.size();
+
+                    if (depth == 2) {
+                        String elementName = currentPath.get(1);
+                        if (!event.hasElement(elementName)) {
+                            activeCaptures.add(new TextContentCapture(depth, textContent -> event.addElementTextContent(elementName, textContent)));
+                        }
+                    }
+                    if (!keyDetected && currentPath.equals(keyElementPath)) {
+                        keyDetected = true;
+                        activeCaptures.add(new TextContentCapture(depth, event::setEventKey));
+                    }
+                    if (!tenantDetected && currentPath.equals(tenantElementPath)) {
+                        tenantDetected = true;
+                        activeCaptures.add(new TextContentCapture(depth, event::setTenantId));
+                    }
+
+                } else if (eventType == XMLStreamConstants.CHARACTERS || eventType == XMLStreamConstants.CDATA
+                        || eventType == XMLStreamConstants.SPACE) {
+
+                    for (TextContentCapture capture : activeCaptures) {
+                        capture.textContent.append(reader.getText());
+                    }
+
+                } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+                    int depth = currentPath.size();
+                    Iterator<TextContentCapture> captureIterator = activeCaptures.iterator();
+                    while (captureIterator.hasNext()) {
+                        TextContentCapture capture = captureIterator.next();
+                        if (capture.depth == depth) {
+                            capture.consumer.accept(capture.textContent.toString());
+                            captureIterator.remove();
+                        }
+                    }
+                    currentPath.remove(depth - 1);
+                }
+            }
+
+            return event;
+
+        } catch (XMLStreamException e) {
+            throw new FlowableException("Could not deserialize event to xml", e);
+
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // nothing to do, the reader only reads from a string
+                }
+            }
+        }
+    }
+
+    protected String getElementName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        if (StringUtils.isNotEmpty(prefix)) {
+            return prefix + ":" + reader.getLocalName();
+        }
+        return reader.getLocalName();
+    }
+
+    protected static class TextContentCapture {
+
+        protected final int depth;
+        protected final Consumer<String> consumer;
+        protected final StringBuilder textContent = new StringBuilder();
+
+        public TextContentCapture(int depth, Consumer<String> consumer) {
+            this.depth = depth;
+            this.consumer = consumer;
+        }
+    }
+
+}
@@ -31,12 +31,18 @@ import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.model.InboundChannelModelBuilder;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.BatchingInboundEventProcessor;
 import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
 import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
 import org.flowable.eventregistry.impl.pipeline.DefaultInboundEventProcessingPipeline;
 import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.impl.serialization.StreamedJsonEvent;
+import org.flowable.eventregistry.impl.serialization.StreamedXmlEvent;
+import org.flowable.eventregistry.impl.serialization.StreamingJsonDeserializer;
+import org.flowable.eventregistry.impl.serialization.StreamingXmlDeserializer;
 import org.flowable.eventregistry.model.EventModel;
 import org.flowable.eventregistry.model.EventPayload;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -117,6 +123,100 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
                 );
     }
 
+    @Test
+    public void testBatchingInboundEventProcessor() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel(true);
+        deployTestEvent();
+
+        BatchingInboundEventProcessor batchingInboundEventProcessor = setupBatchingInboundEventProcessor();
+        testEventConsumer.supportsAtomicBatches = true;
+
+        inboundEventChannelAdapter.triggerTestEvent();
+        inboundEventChannelAdapter.triggerTestEvent();
+        inboundEventChannelAdapter.triggerTestEvent();
+
+        // Shutting down processes the queued events
+        batchingInboundEventProcessor.shutdown();
+
+        assertThat(testEventConsumer.batchesReceived).isEqualTo(1);
+        assertThat(testEventConsumer.failedBatches).isZero();
+        assertThat(testEventConsumer.eventsReceived).hasSize(3);
+    }
+
+    @Test
+    public void testBatchingInboundEventProcessorRetriesFailedBatchOneByOne() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel(true);
+        deployTestEvent();
+
+        BatchingInboundEventProcessor batchingInboundEventProcessor = setupBatchingInboundEventProcessor();
+        testEventConsumer.supportsAtomicBatches = true;
+        testEventConsumer.failBatches = true;
+
+        inboundEventChannelAdapter.triggerTestEvent();
+        inboundEventChannelAdapter.triggerTestEvent();
+        inboundEventChannelAdapter.triggerTestEvent();
+
+        batchingInboundEventProcessor.shutdown();
+
+        assertThat(testEventConsumer.batchesReceived).isZero();
+        assertThat(testEventConsumer.failedBatches).isEqualTo(1);
+        assertThat(testEventConsumer.eventsReceived).hasSize(3);
+    }
+
+    @Test
+    public void testBatchingInboundEventProcessorWithConsumerWithoutAtomicBatches() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel(true);
+        deployTestEvent();
+
+        BatchingInboundEventProcessor batchingInboundEventProcessor = setupBatchingInboundEventProcessor();
+
+        inboundEventChannelAdapter.triggerTestEvent();
+        inboundEventChannelAdapter.triggerTestEvent();
+
+        batchingInboundEventProcessor.shutdown();
+
+        assertThat(testEventConsumer.batchesReceived).isZero();
+        assertThat(testEventConsumer.failedBatches).isZero();
+        assertThat(testEventConsumer.eventsReceived).hasSize(2);
+    }
+
+    @Test
+    public void testBatchingInboundEventProcessorWithChannelWithoutBatching() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+        deployTestEvent();
+
+        BatchingInboundEventProcessor batchingInboundEventProcessor = setupBatchingInboundEventProcessor();
+        testEventConsumer.supportsAtomicBatches = true;
+
+        inboundEventChannelAdapter.triggerTestEvent();
+        inboundEventChannelAdapter.triggerTestEvent();
+
+        // The events are handled synchronously by the delegate processor
+        assertThat(testEventConsumer.batchesReceived).isZero();
+        assertThat(testEventConsumer.eventsReceived).hasSize(2);
+        assertThat(batchingInboundEventProcessor.getExecutorService()).isNull();
+
+        batchingInboundEventProcessor.shutdown();
+    }
+
+    protected void deployTestEvent() {
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+    }
+
+    protected BatchingInboundEventProcessor setupBatchingInboundEventProcessor() {
+        EventRegistry eventRegistry = eventEngineConfiguration.getEventRegistry();
+        BatchingInboundEventProcessor batchingInboundEventProcessor = new BatchingInboundEventProcessor(eventRegistry,
+                new DefaultInboundEventProcessor(eventRegistry), 10, 10000L, 10);
+        eventRegistry.setInboundEventProcessor(batchingInboundEventProcessor);
+        return batchingInboundEventProcessor;
+    }
+
     @Test
     public void testDefaultInboundEventPipelineWithCustomDeserializerAndExtractor() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannelWithCustomDeserializer();
@@ -149,7 +249,8 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
                 );
     }
 
-    protected TestInboundEventChannelAdapter setupTestChannel() {
+    @Test
+    public void testStreamingJsonInboundEventPipeline() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
         eventEngineConfiguration.getExpressionManager().getBeans()
                 .put("inboundEventChannelAdapter", inboundEventChannelAdapter);
@@ -157,6 +258,134 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
         eventEngineConfiguration.getEventRepositoryService().createInboundChannelModelBuilder()
                 .key("test-channel")
                 .resourceName("test.channel")
+                .channelAdapter("${inboundEventChannelAdapter}")
+                .streamingJsonDeserializer()
+                .detectEventKeyUsingJsonPointerExpression("/meta/type")
+                .jsonFieldsMapDirectlyToPayload()
+                .deploy();
+
+        InboundChannelModel inboundChannelModel = (InboundChannelModel) eventEngineConfiguration.getEventRepositoryService()
+                .getChannelModelByKey("test-channel");
+        assertThat(inboundChannelModel.isStreamingDeserialization()).isTrue();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .payload("details", EventPayloadTypes.JSON)
+                .deploy();
+
+        inboundEventChannelAdapter.triggerEvent("{"
+                + "\"meta\": { \"source\": { \"name\": \"test\" }, \"type\": \"myEvent\" },"
+                + "\"customerId\": \"test\","
+                + "\"payload1\": \"Hello World\","
+                + "\"payload2\": 123,"
+                + "\"details\": { \"items\": [ 1, 2, { \"name\": \"three\" } ] },"
+                + "\"notInModel\": [ { \"a\": 1 } ]"
+                + "}");
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+        EventInstance eventInstance = ((FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(0)).getEventInstance();
+        assertThat(eventInstance.getEventKey()).isEqualTo("myEvent");
+        assertThat(eventInstance.getCorrelationParameterInstances())
+                .extracting(EventPayloadInstance::getValue)
+                .containsOnly("test");
+        assertThat(eventInstance.getPayloadInstances())
+                .extracting(EventPayloadInstance::getDefinitionName, EventPayloadInstance::getValue)
+                .containsOnly(
+                        tuple("customerId", "test"),
+                        tuple("payload1", "Hello World"),
+                        tuple("payload2", 123),
+                        tuple("details", new ObjectMapper().createObjectNode().set("items", new ObjectMapper().createArrayNode()
+                                .add(1).add(2).add(new ObjectMapper().createObjectNode().put("name", "three"))))
+                );
+    }
+
+    @Test
+    public void testStreamingXmlInboundEventPipeline() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
+        eventEngineConfiguration.getExpressionManager().getBeans()
+                .put("inboundEventChannelAdapter", inboundEventChannelAdapter);
+
+        eventEngineConfiguration.getEventRepositoryService().createInboundChannelModelBuilder()
+                .key("test-channel")
+                .resourceName("test.channel")
+                .channelAdapter("${inboundEventChannelAdapter}")
+                .streamingXmlDeserializer()
+                .detectEventKeyUsingXPathExpression("/data/meta/type/text()")
+                .xmlElementsMapDirectlyToPayload()
+                .deploy();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+
+        inboundEventChannelAdapter.triggerEvent("<data>"
+                + "<meta><source>test</source><type>myEvent</type></meta>"
+                + "<customerId>test</customerId>"
+                + "<payload1><![CDATA[Hello]]> World</payload1>"
+                + "<payload2>123</payload2>"
+                + "<notInModel><a>1</a></notInModel>"
+                + "</data>");
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+        EventInstance eventInstance = ((FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(0)).getEventInstance();
+        assertThat(eventInstance.getEventKey()).isEqualTo("myEvent");
+        assertThat(eventInstance.getPayloadInstances())
+                .extracting(EventPayloadInstance::getDefinitionName, EventPayloadInstance::getValue)
+                .containsOnly(
+                        tuple("customerId", "test"),
+                        tuple("payload1", "Hello World"),
+                        tuple("payload2", 123)
+                );
+    }
+
+    @Test
+    public void testStreamingDeserializersDetectKeyAndTenant() {
+        StreamedJsonEvent jsonEvent = new StreamingJsonDeserializer(null, "/events/1/type", "/meta/tenant")
+                .deserialize("{ \"events\": [ { \"type\": \"first\" }, { \"type\": \"second\" } ], \"meta\": { \"tenant\": \"acme\" } }");
+        assertThat(jsonEvent.getEventKey()).isEqualTo("second");
+        assertThat(jsonEvent.getTenantId()).isEqualTo("acme");
+        assertThat(jsonEvent.getField("meta").path("tenant").asText()).isEqualTo("acme");
+
+        jsonEvent = new StreamingJsonDeserializer("type", null, "/tenant")
+                .deserialize("{ \"nested\": { \"type\": \"wrong\" }, \"type\": \"myEvent\" }");
+        assertThat(jsonEvent.getEventKey()).isEqualTo("myEvent");
+        assertThat(jsonEvent.getTenantId()).isNull();
+
+        StreamedXmlEvent xmlEvent = new StreamingXmlDeserializer("/data/type", "/data/meta/tenant/text()")
+                .deserialize("<data><meta><tenant>acme</tenant></meta><type>myEvent</type></data>");
+        assertThat(xmlEvent.getEventKey()).isEqualTo("myEvent");
+        assertThat(xmlEvent.getTenantId()).isEqualTo("acme");
+        assertThat(xmlEvent.getElementTextContent("meta")).isEqualTo("acme");
+
+        assertThat(StreamingXmlDeserializer.isSupportedXPathExpression("/data/meta/tenant/text()")).isTrue();
+        assertThat(StreamingXmlDeserializer.isSupportedXPathExpression("//tenant")).isFalse();
+        assertThat(StreamingXmlDeserializer.isSupportedXPathExpression("/data/meta[1]/tenant")).isFalse();
+    }
+
+    protected TestInboundEventChannelAdapter setupTestChannel() {
+        return setupTestChannel(false);
+    }
+
+    protected TestInboundEventChannelAdapter setupTestChannel(boolean batchEvents) {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
+        eventEngineConfiguration.getExpressionManager().getBeans()
+                .put("inboundEventChannelAdapter", inboundEventChannelAdapter);
+
+        InboundChannelModelBuilder inboundChannelModelBuilder = eventEngineConfiguration.getEventRepositoryService().createInboundChannelModelBuilder()
+                .key("test-channel")
+                .resourceName("test.channel");
+        if (batchEvents) {
+            inboundChannelModelBuilder.batchEvents();
+        }
+        inboundChannelModelBuilder
                 .channelAdapter("${inboundEventChannelAdapter}")
                 .jsonDeserializer()
                 .detectEventKeyUsingJsonField("type")
@@ -229,6 +458,10 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
     private static class TestEventConsumer implements EventRegistryEventConsumer {
 
         public List<EventRegistryEvent> eventsReceived = new ArrayList<>();
+        public boolean supportsAtomicBatches;
+        public boolean failBatches;
+        public int failedBatches;
+        public int batchesReceived;
 
         @Override
         public String getConsumerKey() {
@@ -240,6 +473,21 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             eventsReceived.add(event);
         }
 
+        @Override
+        public void eventsReceived(Collection<EventRegistryEvent> events) {
+            if (failBatches) {
+                failedBatches++;
+                throw new RuntimeException("Batch failure");
+            }
+            batchesReceived++;
+            eventsReceived.addAll(events);
+        }
+
+        @Override
+        public boolean supportsAtomicBatches() {
+            return supportsAtomicBatches;
+        }
+
     }
 
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
@@ -257,6 +505,10 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             this.eventRegistry = eventRegistry;
         }
 
+        public void triggerEvent(String rawEvent) {
+            eventRegistry.eventReceived(inboundChannelModel, rawEvent);
+        }
+
         public void triggerTestEvent() {
             ObjectMapper objectMapper = new ObjectMapper();
 
@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
@@ -40,6 +41,20 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     protected EventSubscriptionEntityManager eventSubscriptionEntityManager;
     
     protected ObjectMapper objectMapper;
+
+    /**
+     * Whether a node-local index of the event subscriptions is kept, which allows skipping the event subscription query
+     * for events that certainly have no matching event subscription. See {@link EventSubscriptionIndex}.
+     */
+    protected boolean enableEventSubscriptionIndex;
+
+    /**
+     * The interval (in milliseconds) after which the event subscription index is reconciled with the database.
+     * Event subscriptions created by other nodes are only taken into account after this interval.
+     */
+    protected long eventSubscriptionIndexReconciliationInterval = 60000L;
+
+    protected EventSubscriptionIndex eventSubscriptionIndex;
     
     public EventSubscriptionServiceConfiguration(String engineName) {
         super(engineName);
@@ -51,6 +66,7 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     public void init() {
         initDataManagers();
         initEntityManagers();
+        initEventSubscriptionIndex();
     }
 
     // Data managers
@@ -68,6 +84,12 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         }
     }
 
+    public void initEventSubscriptionIndex() {
+        if (enableEventSubscriptionIndex && eventSubscriptionIndex == null) {
+            eventSubscriptionIndex = new EventSubscriptionIndex(this, eventSubscriptionIndexReconciliationInterval);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -102,6 +124,33 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         return this;
     }
     
+    public boolean isEnableEventSubscriptionIndex() {
+        return enableEventSubscriptionIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEnableEventSubscriptionIndex(boolean enableEventSubscriptionIndex) {
+        this.enableEventSubscriptionIndex = enableEventSubscriptionIndex;
+        return this;
+    }
+
+    public long getEventSubscriptionIndexReconciliationInterval() {
+        return eventSubscriptionIndexReconciliationInterval;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionIndexReconciliationInterval(long eventSubscriptionIndexReconciliationInterval) {
+        this.eventSubscriptionIndexReconciliationInterval = eventSubscriptionIndexReconciliationInterval;
+        return this;
+    }
+
+    public EventSubscriptionIndex getEventSubscriptionIndex() {
+        return eventSubscriptionIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionIndex(EventSubscriptionIndex eventSubscriptionIndex) {
+        this.eventSubscriptionIndex = eventSubscriptionIndex;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
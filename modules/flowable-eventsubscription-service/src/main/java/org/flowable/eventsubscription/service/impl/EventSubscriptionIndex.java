@@ -0,0 +1,195 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Node-local index of the (event type, scope type, configuration) combinations for which event subscriptions exist.
+ * <p>
+ * The index is a superset of what is stored in the database: event subscriptions inserted through this node are added
+ * immediately, but removed event subscriptions are only dropped from the index by the periodic reconciliation with the database.
+ * Event subscriptions created by other nodes become visible at the latest after the next reconciliation.
+ * This means that a negative answer of {@link #mightHaveEventSubscriptions(CommandExecutor, String, String, Collection)}
+ * can be used to skip the event subscription query for an incoming event, while a positive answer still requires the query.
+ * <p>
+ * As the index can't see the event subscriptions created by other nodes before the next reconciliation, it is disabled by default.
+ * In a cluster, {@link #invalidate()} can be called (e.g. from a cluster wide message) to make the next lookup reconcile the index first.
+ */
+public class EventSubscriptionIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSubscriptionIndex.class);
+
+    protected EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
+
+    /**
+     * The interval (in milliseconds) after which the index is reconciled with the event subscriptions in the database.
+     */
+    protected long reconciliationInterval;
+
+    protected volatile Set<IndexKey> keys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The keys added since the start of the last reconciliation. These are kept when swapping in the reconciled keys,
+     * as the transaction that inserted them might not have been committed when the database was read.
+     */
+    protected Set<IndexKey> keysAddedSinceLastReconciliation = new HashSet<>();
+
+    protected final Object lock = new Object();
+    protected final AtomicBoolean reconciling = new AtomicBoolean();
+    protected volatile boolean initialized;
+    protected volatile long lastReconciliationTime;
+
+    public EventSubscriptionIndex(EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration, long reconciliationInterval) {
+        this.eventSubscriptionServiceConfiguration = eventSubscriptionServiceConfiguration;
+        this.reconciliationInterval = reconciliationInterval;
+    }
+
+    public void addEventSubscription(EventSubscription eventSubscription) {
+        IndexKey key = new IndexKey(eventSubscription.getEventType(), eventSubscription.getScopeType(), eventSubscription.getConfiguration());
+        synchronized (lock) {
+            keys.add(key);
+            keysAddedSinceLastReconciliation.add(key);
+        }
+    }
+
+    /**
+     * @return false if there is certainly no event subscription of the given event type and scope type
+     *         that has no configuration or has one of the given configurations.
+     */
+    public boolean mightHaveEventSubscriptions(CommandExecutor commandExecutor, String eventType, String scopeType, Collection<String> configurations) {
+        if (!initialized || isReconciliationDue()) {
+            reconcile(commandExecutor);
+            if (!initialized) {
+                // Another thread is doing the initial load, no answer can be given yet
+                return true;
+            }
+        }
+
+        Set<IndexKey> currentKeys = keys;
+        if (currentKeys.contains(new IndexKey(eventType, scopeType, null))) {
+            return true;
+        }
+
+        for (String configuration : configurations) {
+            if (currentKeys.contains(new IndexKey(eventType, scopeType, configuration))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Forces a reconciliation with the database on the next lookup, for example when another node created event subscriptions.
+     */
+    public void invalidate() {
+        lastReconciliationTime = 0L;
+    }
+
+    protected boolean isReconciliationDue() {
+        return eventSubscriptionServiceConfiguration.getClock().getCurrentTime().getTime() - lastReconciliationTime >= reconciliationInterval;
+    }
+
+    /**
+     * Reloads the index from the database. When another thread is already reconciling, this method returns immediately.
+     */
+    public void reconcile(CommandExecutor commandExecutor) {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Set<IndexKey> previouslyAddedKeys;
+            synchronized (lock) {
+                previouslyAddedKeys = keysAddedSinceLastReconciliation;
+                keysAddedSinceLastReconciliation = new HashSet<>();
+            }
+
+            List<EventSubscription> storedKeys = commandExecutor.execute(commandContext -> eventSubscriptionServiceConfiguration
+                    .getEventSubscriptionEntityManager().findEventSubscriptionIndexKeys());
+
+            Set<IndexKey> reconciledKeys = ConcurrentHashMap.newKeySet();
+            for (EventSubscription storedKey : storedKeys) {
+                reconciledKeys.add(new IndexKey(storedKey.getEventType(), storedKey.getScopeType(), storedKey.getConfiguration()));
+            }
+
+            synchronized (lock) {
+                reconciledKeys.addAll(previouslyAddedKeys);
+                reconciledKeys.addAll(keysAddedSinceLastReconciliation);
+                keys = reconciledKeys;
+            }
+
+            lastReconciliationTime = eventSubscriptionServiceConfiguration.getClock().getCurrentTime().getTime();
+            initialized = true;
+
+            LOGGER.debug("Reconciled event subscription index, {} distinct keys", reconciledKeys.size());
+
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    public long getReconciliationInterval() {
+        return reconciliationInterval;
+    }
+
+    public void setReconciliationInterval(long reconciliationInterval) {
+        this.reconciliationInterval = reconciliationInterval;
+    }
+
+    protected static class IndexKey {
+
+        protected final String eventType;
+        protected final String scopeType;
+        protected final String configuration;
+
+        public IndexKey(String eventType, String scopeType, String configuration) {
+            this.eventType = eventType;
+            this.scopeType = scopeType;
+            this.configuration = configuration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey that = (IndexKey) o;
+            return Objects.equals(eventType, that.eventType)
+                    && Objects.equals(scopeType, that.scopeType)
+                    && Objects.equals(configuration, that.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventType, scopeType, configuration);
+        }
+    }
+
+}
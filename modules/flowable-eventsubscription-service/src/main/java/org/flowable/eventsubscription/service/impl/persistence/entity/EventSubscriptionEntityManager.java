@@ -52,6 +52,12 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     void deleteEventSubscriptionsForScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType);
 
+    /**
+     * Returns the distinct event type, scope type and configuration combinations of all event subscriptions.
+     * Only these three properties are populated on the returned event subscriptions.
+     */
+    List<EventSubscription> findEventSubscriptionIndexKeys();
+
     /* Find (generic) */
 
     List<EventSubscriptionEntity> findEventSubscriptionsByName(String type, String eventName, String tenantId);
@@ -22,6 +22,7 @@ import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineE
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
 
@@ -204,6 +205,21 @@ public class EventSubscriptionEntityManagerImpl
         dataManager.deleteEventSubscriptionsForScopeDefinitionIdAndType(scopeDefinitionId, scopeType);
     }
 
+    @Override
+    public List<EventSubscription> findEventSubscriptionIndexKeys() {
+        return dataManager.findEventSubscriptionIndexKeys();
+    }
+
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+
+        EventSubscriptionIndex eventSubscriptionIndex = serviceConfiguration.getEventSubscriptionIndex();
+        if (eventSubscriptionIndex != null) {
+            eventSubscriptionIndex.addEventSubscription(entity);
+        }
+    }
+
     protected SignalEventSubscriptionEntity insertSignalEvent(EventSubscriptionBuilder eventSubscriptionBuilder) {
         SignalEventSubscriptionEntity subscriptionEntity = createSignalEventSubscription();
         subscriptionEntity.setExecutionId(eventSubscriptionBuilder.getExecutionId());
@@ -317,6 +317,12 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         bulkDelete("deleteEventSubscriptionsForScopeDefinitionIdAndType", eventSubscriptionsByScopeDefinitionIdAndTypeMatcher, params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscription> findEventSubscriptionIndexKeys() {
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectEventSubscriptionIndexKeys", null);
+    }
+
     protected List<SignalEventSubscriptionEntity> toSignalEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
         List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<>(result.size());
         for (EventSubscriptionEntity eventSubscriptionEntity : result) {
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -55,7 +56,18 @@ public class ExternalJobRestResponseFactory {
     }
 
     public List<AcquiredExternalWorkerJobResponse> createAcquiredExternalWorkerJobResponseList(List<AcquiredExternalWorkerJob> jobs) {
+        return createAcquiredExternalWorkerJobResponseList(jobs, createUrlBuilder());
+    }
+
+    public CompletableFuture<List<AcquiredExternalWorkerJobResponse>> createAcquiredExternalWorkerJobResponseList(
+            CompletableFuture<List<AcquiredExternalWorkerJob>> jobs) {
+        // The url builder needs the current request, which is not available on the thread completing the future
         RestUrlBuilder urlBuilder = createUrlBuilder();
+        return jobs.thenApply(acquiredJobs -> createAcquiredExternalWorkerJobResponseList(acquiredJobs, urlBuilder));
+    }
+
+    protected List<AcquiredExternalWorkerJobResponse> createAcquiredExternalWorkerJobResponseList(List<AcquiredExternalWorkerJob> jobs,
+            RestUrlBuilder urlBuilder) {
         List<AcquiredExternalWorkerJobResponse> responseList = new ArrayList<>(jobs.size());
         for (AcquiredExternalWorkerJob job : jobs) {
             responseList.add(createAcquiredExternalWorkerJobResponse(job, urlBuilder));
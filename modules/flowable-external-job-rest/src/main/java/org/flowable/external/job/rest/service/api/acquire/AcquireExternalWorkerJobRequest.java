@@ -13,6 +13,7 @@
 package org.flowable.external.job.rest.service.api.acquire;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -43,6 +44,15 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(value = "Only return the variables with the given names for the acquired jobs. Default is to return all variables.")
+    protected List<String> variableNames;
+
+    @ApiModelProperty(
+            value = "When no jobs are available, wait at most this duration for jobs to be created before returning. ISO-8601 duration format PnDTnHnMn.nS. "
+                    + "Capped at 25 seconds, below the asynchronous request timeout of the servlet container. Default is to return immediately.",
+            example = "PT30S", dataType = "string")
+    protected Duration maxWaitTime;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +100,20 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public void setVariableNames(List<String> variableNames) {
+        this.variableNames = variableNames;
+    }
+
+    public Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    public void setMaxWaitTime(Duration maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+    }
 }
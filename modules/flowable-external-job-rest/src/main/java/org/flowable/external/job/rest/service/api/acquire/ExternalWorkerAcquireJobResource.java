@@ -12,10 +12,12 @@
  */
 package org.flowable.external.job.rest.service.api.acquire;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -49,6 +51,13 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
 
     protected final ExternalJobRestResponseFactory restResponseFactory;
 
+    /**
+     * The maximum time a long-poll acquisition waits for jobs, regardless of the requested max wait time.
+     * It has to stay below the asynchronous request timeout of the servlet container (30 seconds by default in Tomcat),
+     * otherwise the container times out the request before the acquisition returns.
+     */
+    protected Duration maxAcquireWaitTime = Duration.ofSeconds(25);
+
     public ExternalWorkerAcquireJobResource(ExternalJobRestResponseFactory restResponseFactory) {
         this.restResponseFactory = restResponseFactory;
     }
@@ -60,7 +69,7 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             @ApiResponse(code = 403, message = "Indicates the user does not have the rights acquire the jobs."),
     })
     @PostMapping(value = "/acquire/jobs", produces = "application/json")
-    public List<AcquiredExternalWorkerJobResponse> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
+    public CompletableFuture<List<AcquiredExternalWorkerJobResponse>> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
         ExternalWorkerJobAcquireBuilder acquireBuilder = createExternalWorkerAcquireBuilder();
 
         if (restApiInterceptor != null) {
@@ -81,10 +90,21 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
+        if (request.getVariableNames() != null) {
+            acquireBuilder.variableNames(request.getVariableNames());
+        }
+
         if (StringUtils.isNotEmpty(request.getWorkerId())) {
+            if (request.getMaxWaitTime() != null) {
+                // Long poll, the request is completed asynchronously once jobs are acquired or the max wait time elapsed
+                Duration maxWaitTime = request.getMaxWaitTime().compareTo(maxAcquireWaitTime) > 0 ? maxAcquireWaitTime : request.getMaxWaitTime();
+                return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquireBuilder
+                        .acquireAndLockAsync(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries(), maxWaitTime));
+            }
+
             List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
                     .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
-            return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs);
+            return CompletableFuture.completedFuture(restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs));
         } else {
             throw new FlowableIllegalArgumentException("workerId is required");
         }
@@ -306,4 +326,12 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             throw new FlowableException("Cannot fail external jobs. There is no BPMN or CMMN engine available");
         }
     }
+
+    public Duration getMaxAcquireWaitTime() {
+        return maxAcquireWaitTime;
+    }
+
+    public void setMaxAcquireWaitTime(Duration maxAcquireWaitTime) {
+        this.maxAcquireWaitTime = maxAcquireWaitTime;
+    }
 }
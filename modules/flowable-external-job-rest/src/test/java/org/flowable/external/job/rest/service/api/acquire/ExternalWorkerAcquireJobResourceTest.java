@@ -23,6 +23,8 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
@@ -337,6 +339,47 @@ class ExternalWorkerAcquireJobResourceTest {
                         + "]");
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void acquireJobsWithMaxWaitTime() throws Exception {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker1");
+        request.put("maxWaitTime", "PT0.2S");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        assertThatJson(response.getBody()).isEqualTo("[]");
+
+        request.put("maxWaitTime", "PT20S");
+        CompletableFuture<ProcessInstance> processInstanceFuture = CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+        });
+
+        response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+        ProcessInstance processInstance = processInstanceFuture.get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        ExternalWorkerJob job = managementService.createExternalWorkerJobQuery().singleResult();
+        assertThatJson(response.getBody())
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("["
+                        + "  {"
+                        + "    id: '" + job.getId() + "',"
+                        + "    url: '${json-unit.any-string}',"
+                        + "    processInstanceId: '" + processInstance.getId() + "',"
+                        + "    lockOwner: 'testWorker1'"
+                        + "  }"
+                        + "]");
+    }
+
     @Test
     void completeJobsWithoutWorkerId() {
         ObjectNode request = objectMapper.createObjectNode();
@@ -19,6 +19,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.AbstractEngineConfigurator;
 import org.flowable.common.engine.impl.EngineDeployer;
+import org.flowable.common.engine.impl.IndependentEngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.form.engine.FormEngine;
@@ -31,7 +32,7 @@ import org.flowable.form.engine.impl.db.EntityDependencyOrder;
  * @author Tijs Rademakers
  * @author Joram Barrez
  */
-public class FormEngineConfigurator extends AbstractEngineConfigurator {
+public class FormEngineConfigurator extends AbstractEngineConfigurator implements IndependentEngineConfigurator {
 
     protected FormEngineConfiguration formEngineConfiguration;
 
@@ -54,12 +55,22 @@ public class FormEngineConfigurator extends AbstractEngineConfigurator {
 
     @Override
     public void configure(AbstractEngineConfiguration engineConfiguration) {
+        prepareEngineConfiguration(engineConfiguration);
+        buildEngine(engineConfiguration);
+    }
+
+    @Override
+    public AbstractEngineConfiguration prepareEngineConfiguration(AbstractEngineConfiguration engineConfiguration) {
         if (formEngineConfiguration == null) {
             formEngineConfiguration = new StandaloneFormEngineConfiguration();
         }
 
         initialiseCommonProperties(engineConfiguration, formEngineConfiguration);
+        return formEngineConfiguration;
+    }
 
+    @Override
+    public void buildEngine(AbstractEngineConfiguration engineConfiguration) {
         initFormEngine();
 
         initServiceConfigurations(engineConfiguration, formEngineConfiguration);
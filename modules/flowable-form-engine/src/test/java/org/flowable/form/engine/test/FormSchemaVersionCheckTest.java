@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.form.engine.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.FlowableVersions;
+import org.flowable.common.engine.impl.db.CommonDbSchemaManager;
+import org.flowable.common.engine.impl.db.LiquibaseDatabaseConfiguration;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.form.engine.FormEngine;
+import org.flowable.form.engine.impl.cfg.StandaloneInMemFormEngineConfiguration;
+import org.flowable.form.engine.impl.db.FormDbSchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import liquibase.Liquibase;
+
+public class FormSchemaVersionCheckTest {
+
+    protected CountingFormDbSchemaManager schemaManager;
+    protected FormEngine formEngine;
+    protected CommandExecutor commandExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        schemaManager = new CountingFormDbSchemaManager();
+        StandaloneInMemFormEngineConfiguration formEngineConfiguration = new StandaloneInMemFormEngineConfiguration();
+        formEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-form-" + getClass().getName());
+        formEngineConfiguration.setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+        formEngineConfiguration.setSchemaManager(schemaManager);
+        formEngineConfiguration.setForceCloseMybatisConnectionPool(true);
+        formEngine = formEngineConfiguration.buildFormEngine();
+        commandExecutor = formEngineConfiguration.getCommandExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandExecutor.execute(commandContext -> {
+            schemaManager.schemaDrop();
+            return null;
+        });
+        formEngine.close();
+    }
+
+    @Test
+    public void testSchemaUpdateSkipsLiquibaseWhenVersionIsCurrent() {
+        assertThat(schemaManager.liquibaseInstances).hasValue(1);
+        assertThat(getSchemaVersion()).isEqualTo(FlowableVersions.CURRENT_VERSION);
+
+        commandExecutor.execute(commandContext -> schemaManager.schemaUpdate());
+        assertThat(schemaManager.liquibaseInstances).hasValue(1);
+
+        commandExecutor.execute(commandContext -> {
+            new CommonDbSchemaManager().setProperty("form.schema.version", "6.5.0.0");
+            return null;
+        });
+
+        commandExecutor.execute(commandContext -> schemaManager.schemaUpdate());
+        assertThat(schemaManager.liquibaseInstances).hasValue(2);
+        assertThat(getSchemaVersion()).isEqualTo(FlowableVersions.CURRENT_VERSION);
+    }
+
+    @Test
+    public void testSchemaCheckVersionSkipsLiquibaseWhenVersionIsCurrent() {
+        commandExecutor.execute(commandContext -> {
+            schemaManager.schemaCheckVersion();
+            return null;
+        });
+        assertThat(schemaManager.liquibaseInstances).hasValue(1);
+
+        commandExecutor.execute(commandContext -> {
+            new CommonDbSchemaManager().deleteProperty("form.schema.version");
+            return null;
+        });
+
+        commandExecutor.execute(commandContext -> {
+            schemaManager.schemaCheckVersion();
+            return null;
+        });
+        assertThat(schemaManager.liquibaseInstances).hasValue(2);
+        assertThat(getSchemaVersion()).isNull();
+    }
+
+    protected String getSchemaVersion() {
+        return commandExecutor.execute(commandContext -> new CommonDbSchemaManager().getProperty("form.schema.version"));
+    }
+
+    protected static class CountingFormDbSchemaManager extends FormDbSchemaManager {
+
+        protected final AtomicInteger liquibaseInstances = new AtomicInteger();
+
+        @Override
+        protected Liquibase createLiquibaseInstance(LiquibaseDatabaseConfiguration databaseConfiguration) throws SQLException {
+            liquibaseInstances.incrementAndGet();
+            return super.createLiquibaseInstance(databaseConfiguration);
+        }
+    }
+
+}
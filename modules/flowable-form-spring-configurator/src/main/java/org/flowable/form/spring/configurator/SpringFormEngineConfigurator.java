@@ -27,7 +27,7 @@ import org.flowable.form.spring.SpringFormExpressionManager;
 public class SpringFormEngineConfigurator extends FormEngineConfigurator {
 
     @Override
-    public void configure(AbstractEngineConfiguration engineConfiguration) {
+    public AbstractEngineConfiguration prepareEngineConfiguration(AbstractEngineConfiguration engineConfiguration) {
         if (formEngineConfiguration == null) {
             formEngineConfiguration = new SpringFormEngineConfiguration();
         } else if (!(formEngineConfiguration instanceof SpringFormEngineConfiguration)) {
@@ -42,9 +42,7 @@ public class SpringFormEngineConfigurator extends FormEngineConfigurator {
                 springEngineConfiguration.getApplicationContext(), springEngineConfiguration.getBeans()));
         }
 
-        initFormEngine();
-        
-        initServiceConfigurations(engineConfiguration, formEngineConfiguration);
+        return formEngineConfiguration;
     }
 
     @Override
@@ -71,11 +71,26 @@ public class HttpActivityExecutor {
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
     protected final HttpClientBuilder clientBuilder;
+    protected final CloseableHttpClient httpClient;
     protected final ErrorPropagator errorPropagator;
     protected ObjectMapper objectMapper;
 
+    /**
+     * Creates an executor that builds (and closes) a new client for every request.
+     */
     public HttpActivityExecutor(HttpClientBuilder clientBuilder, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
         this.clientBuilder = clientBuilder;
+        this.httpClient = null;
+        this.errorPropagator = errorPropagator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates an executor that performs all requests with the given (shared) client. The client is not closed by this executor.
+     */
+    public HttpActivityExecutor(CloseableHttpClient httpClient, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
+        this.clientBuilder = null;
+        this.httpClient = httpClient;
         this.errorPropagator = errorPropagator;
         this.objectMapper = objectMapper;
     }
@@ -88,96 +103,157 @@ public class HttpActivityExecutor {
 
         CloseableHttpClient client = null;
         try {
-            client = clientBuilder.build();
+            client = httpClient != null ? httpClient : clientBuilder.build();
 
             HttpResponse response = perform(client, variableContainer, request, flowableHttpRequestHandler, flowableHttpResponseHandler,
                     socketTimeout,
                     connectTimeout,
                     connectionRequestTimeout);
-            // Save response fields
-            if (response != null) {
-                // Save response body only by default
-                if (request.isSaveResponse()) {
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    } else {
-                        variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    }
+            processResponse(request, response, variableContainer, responseVariableName);
+
+        } catch (Exception e) {
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+
+        } finally {
+            // a shared client stays open for the next requests
+            if (httpClient == null && client != null) {
+                try {
+                    client.close();
+                    LOGGER.debug("HTTP client is closed");
+                } catch (Throwable e) {
+                    LOGGER.error("Could not close http client", e);
                 }
+            }
+        }
 
-                if (!response.isBodyResponseHandled()) {
-                    String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
-                    Object varValue = request.isSaveResponseAsJson() && response.getBody() != null ? objectMapper.readTree(response.getBody()) : response.getBody();
-                    if (varValue instanceof MissingNode) {
-                        varValue = null;
-                    }
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(varName, varValue);
-                    } else {
-                        variableContainer.setVariable(varName, varValue);
-                    }
+    }
+
+    /**
+     * Handles the outcome of a request that was performed outside of the command context of the execution, see
+     * {@link #perform(CloseableHttpClient, VariableContainer, HttpRequest, HttpRequestHandler, HttpResponseHandler, int, int, int)}.
+     * The response handler is invoked here, as the variable container can only be accessed within the command context.
+     *
+     * @param response the response or null when the request failed
+     * @param failure the exception that occurred while performing the request or null when a response was received
+     * @return true if the execution can continue, false if an error was propagated to the execution
+     */
+    public boolean handleResponse(HttpRequest request, HttpResponse response, Exception failure, VariableContainer variableContainer,
+                    String executionId, HttpResponseHandler flowableHttpResponseHandler, String responseVariableName,
+                    List<MapExceptionEntry> mapExceptions) {
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+
+            if (!invokeResponseHandler(variableContainer, response, flowableHttpResponseHandler)) {
+                return false;
+            }
+            return processResponse(request, response, variableContainer, responseVariableName);
+
+        } catch (Exception e) {
+            return handleException(e, request, variableContainer, executionId, mapExceptions);
+        }
+    }
+
+    /**
+     * Stores the response fields and handles the HTTP status codes of the response.
+     *
+     * @return true if the execution can continue, false if an error was propagated to the execution
+     */
+    protected boolean processResponse(HttpRequest request, HttpResponse response, VariableContainer variableContainer,
+                    String responseVariableName) throws IOException {
+
+        // Save response fields
+        if (response != null) {
+            // Save response body only by default
+            if (request.isSaveResponse()) {
+                if (request.isSaveResponseTransient()) {
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                    variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
+                } else {
+                    variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                    variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                    variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                    variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
+                }
+            }
+
+            if (!response.isBodyResponseHandled()) {
+                String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
+                Object varValue = request.isSaveResponseAsJson() && response.getBody() != null ? objectMapper.readTree(response.getBody()) : response.getBody();
+                if (varValue instanceof MissingNode) {
+                    varValue = null;
+                }
+                if (request.isSaveResponseTransient()) {
+                    variableContainer.setTransientVariable(varName, varValue);
+                } else {
+                    variableContainer.setVariable(varName, varValue);
                 }
+            }
 
-                // Handle http status codes
-                if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+            // Handle http status codes
+            if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
 
-                    String code = Integer.toString(response.statusCode);
+                String code = Integer.toString(response.statusCode);
 
-                    Set<String> handleCodes = request.getHandleCodes();
-                    if (handleCodes != null && !handleCodes.isEmpty()) {
-                        if (handleCodes.contains(code)
-                                || (code.startsWith("5") && handleCodes.contains("5XX"))
-                                || (code.startsWith("4") && handleCodes.contains("4XX"))
-                                || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+                Set<String> handleCodes = request.getHandleCodes();
+                if (handleCodes != null && !handleCodes.isEmpty()) {
+                    if (handleCodes.contains(code)
+                            || (code.startsWith("5") && handleCodes.contains("5XX"))
+                            || (code.startsWith("4") && handleCodes.contains("4XX"))
+                            || (code.startsWith("3") && handleCodes.contains("3XX"))) {
 
-                            errorPropagator.propagateError(variableContainer, code);
-                            return;
-                        }
+                        errorPropagator.propagateError(variableContainer, code);
+                        return false;
                     }
+                }
 
-                    Set<String> failCodes = request.getFailCodes();
-                    if (failCodes != null && !failCodes.isEmpty()) {
-                        if (failCodes.contains(code)
-                                || (code.startsWith("5") && failCodes.contains("5XX"))
-                                || (code.startsWith("4") && failCodes.contains("4XX"))
-                                || (code.startsWith("3") && failCodes.contains("3XX"))) {
+                Set<String> failCodes = request.getFailCodes();
+                if (failCodes != null && !failCodes.isEmpty()) {
+                    if (failCodes.contains(code)
+                            || (code.startsWith("5") && failCodes.contains("5XX"))
+                            || (code.startsWith("4") && failCodes.contains("4XX"))
+                            || (code.startsWith("3") && failCodes.contains("3XX"))) {
 
-                            throw new FlowableException("HTTP" + code);
-                        }
+                        throw new FlowableException("HTTP" + code);
                     }
                 }
             }
+        }
 
-        } catch (Exception e) {
-            if (request.isIgnoreErrors()) {
-                LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
-                variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
+        return true;
+    }
+
+    /**
+     * @return true if the exception is ignored and the execution can continue, false if the exception was mapped to an error
+     */
+    protected boolean handleException(Exception e, HttpRequest request, VariableContainer variableContainer, String executionId,
+                    List<MapExceptionEntry> mapExceptions) {
+
+        if (request.isIgnoreErrors()) {
+            LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
+            variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
+            return true;
+        }
+
+        if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
+            if (e instanceof FlowableException) {
+                throw (FlowableException) e;
             } else {
-                if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
-                    if (e instanceof FlowableException) {
-                        throw (FlowableException) e;
-                    } else {
-                        throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
-                    }
-                }
-            }
-        } finally {
-            try {
-                client.close();
-                LOGGER.debug("HTTP client is closed");
-            } catch (Throwable e) {
-                LOGGER.error("Could not close http client", e);
+                throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
             }
         }
-
+        return false;
     }
 
+    /**
+     * @return the shared client of this executor or null when a new client is built for every request
+     */
+    public CloseableHttpClient getHttpClient() {
+        return httpClient;
+    }
 
     // HttpRequest validation
     public void validate(final HttpRequest request) throws FlowableException {
@@ -208,17 +284,8 @@ public class HttpActivityExecutor {
         HttpRequestBase request;
         CloseableHttpResponse response = null;
 
-        try {
-            if (httpRequestHandler != null) {
-                httpRequestHandler.handleHttpRequest(execution, requestInfo, client);
-            }
-        } catch (Exception e) {
-            if (e instanceof BpmnError) {
-                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                return null;
-            }
-
-            throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
+        if (!invokeRequestHandler(execution, requestInfo, client, httpRequestHandler)) {
+            return null;
         }
 
         try {
@@ -276,17 +343,8 @@ public class HttpActivityExecutor {
                 responseInfo.setBody(EntityUtils.toString(response.getEntity()));
             }
 
-            try {
-                if ( httpResponseHandler!= null) {
-                    httpResponseHandler.handleHttpResponse(execution, responseInfo);
-                }
-            } catch (Exception e) {
-                if (e instanceof BpmnError) {
-                    ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                    return null;
-                }
-
-                throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+            if (!invokeResponseHandler(execution, responseInfo, httpResponseHandler)) {
+                return null;
             }
 
             return responseInfo;
@@ -308,6 +366,45 @@ public class HttpActivityExecutor {
         }
     }
 
+    /**
+     * @return false if the request handler threw a {@link BpmnError} that was propagated to the execution
+     */
+    public boolean invokeRequestHandler(VariableContainer execution, HttpRequest requestInfo, CloseableHttpClient client,
+                    HttpRequestHandler httpRequestHandler) {
+        try {
+            if (httpRequestHandler != null) {
+                httpRequestHandler.handleHttpRequest(execution, requestInfo, client);
+            }
+        } catch (Exception e) {
+            if (e instanceof BpmnError) {
+                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
+                return false;
+            }
+
+            throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the response handler threw a {@link BpmnError} that was propagated to the execution
+     */
+    protected boolean invokeResponseHandler(VariableContainer execution, HttpResponse responseInfo, HttpResponseHandler httpResponseHandler) {
+        try {
+            if (httpResponseHandler != null) {
+                httpResponseHandler.handleHttpResponse(execution, responseInfo);
+            }
+        } catch (Exception e) {
+            if (e instanceof BpmnError) {
+                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
+                return false;
+            }
+
+            throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+        }
+        return true;
+    }
+
     protected void setRequestEntity(HttpRequest requestInfo, HttpEntityEnclosingRequestBase requestBase) throws UnsupportedEncodingException {
         if (requestInfo.getBody() != null) {
             if (StringUtils.isNotEmpty(requestInfo.getBodyEncoding())) {
@@ -0,0 +1,320 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSession;
+
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.flowable.common.engine.api.Engine;
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the pooled HTTP clients used by the BPMN and CMMN HTTP tasks.
+ * <p>
+ * One client (and connection pool) is created per distinct set of client settings and shared by all HTTP tasks using these settings,
+ * so that connections (and TLS sessions) are reused over task executions. When the process and the CMMN engine are configured
+ * with the same HTTP client settings, they share the same client.
+ * <p>
+ * Next to the client, an executor service is kept per client for the HTTP requests of tasks executed in non-blocking mode.
+ * The number of threads of this executor is bounded by the maximum number of pooled connections, and so is its queue
+ * (see {@link #QUEUED_REQUESTS_PER_THREAD}).
+ * <p>
+ * The engines using a client are tracked: a client is closed when the last engine using it is closed.
+ *
+ * @see org.flowable.engine.cfg.HttpClientConfig
+ * @see org.flowable.cmmn.engine.HttpClientConfig
+ */
+public class SharedHttpClientProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedHttpClientProvider.class);
+
+    /**
+     * The maximum number of non-blocking requests waiting for a thread, per thread of the executor.
+     * Requests that don't fit are rejected and left to the fallback of the HTTP task.
+     */
+    public static final int QUEUED_REQUESTS_PER_THREAD = 10;
+
+    protected static final Map<Settings, SharedHttpClient> CLIENTS = new HashMap<>();
+
+    public static CloseableHttpClient getHttpClient(org.flowable.engine.cfg.HttpClientConfig config, AbstractEngineConfiguration engineConfiguration) {
+        return getSharedHttpClient(Settings.from(config), engineConfiguration).getHttpClient();
+    }
+
+    public static CloseableHttpClient getHttpClient(org.flowable.cmmn.engine.HttpClientConfig config, AbstractEngineConfiguration engineConfiguration) {
+        return getSharedHttpClient(Settings.from(config), engineConfiguration).getHttpClient();
+    }
+
+    public static ExecutorService getExecutorService(org.flowable.engine.cfg.HttpClientConfig config, AbstractEngineConfiguration engineConfiguration) {
+        return getSharedHttpClient(Settings.from(config), engineConfiguration).getExecutorService();
+    }
+
+    public static ExecutorService getExecutorService(org.flowable.cmmn.engine.HttpClientConfig config, AbstractEngineConfiguration engineConfiguration) {
+        return getSharedHttpClient(Settings.from(config), engineConfiguration).getExecutorService();
+    }
+
+    /**
+     * Returns the client for the given settings and registers the engine as one of its users.
+     * The engine releases the client when it is closed.
+     */
+    protected static SharedHttpClient getSharedHttpClient(Settings settings, AbstractEngineConfiguration engineConfiguration) {
+        synchronized (CLIENTS) {
+            SharedHttpClient sharedHttpClient = CLIENTS.computeIfAbsent(settings, SharedHttpClient::new);
+            if (sharedHttpClient.engineConfigurations.add(engineConfiguration)) {
+                engineConfiguration.addEngineLifecycleListener(new ReleaseHttpClientEngineLifecycleListener(settings, engineConfiguration));
+            }
+            return sharedHttpClient;
+        }
+    }
+
+    /**
+     * Removes the engine from the users of the client for the given settings, the client is closed when no engine uses it anymore.
+     */
+    protected static void release(Settings settings, AbstractEngineConfiguration engineConfiguration) {
+        SharedHttpClient closedHttpClient = null;
+        synchronized (CLIENTS) {
+            SharedHttpClient sharedHttpClient = CLIENTS.get(settings);
+            if (sharedHttpClient != null && sharedHttpClient.engineConfigurations.remove(engineConfiguration)
+                    && sharedHttpClient.engineConfigurations.isEmpty()) {
+                CLIENTS.remove(settings);
+                closedHttpClient = sharedHttpClient;
+            }
+        }
+
+        if (closedHttpClient != null) {
+            closedHttpClient.close();
+        }
+    }
+
+    /**
+     * Closes all shared clients and their executor services, regardless of the engines using them.
+     * Clients requested afterwards are created again.
+     */
+    public static void closeAll() {
+        List<SharedHttpClient> sharedHttpClients;
+        synchronized (CLIENTS) {
+            sharedHttpClients = new ArrayList<>(CLIENTS.values());
+            CLIENTS.clear();
+        }
+
+        for (SharedHttpClient sharedHttpClient : sharedHttpClients) {
+            sharedHttpClient.close();
+        }
+    }
+
+    protected static CloseableHttpClient createHttpClient(Settings settings) {
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+
+        // https settings
+        if (settings.disableCertVerify) {
+            try {
+                SSLContextBuilder builder = new SSLContextBuilder();
+                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+                httpClientBuilder.setSSLSocketFactory(
+                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
+                            @Override
+                            public boolean verify(String s, SSLSession sslSession) {
+                                return true;
+                            }
+                        }));
+
+            } catch (Exception e) {
+                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
+            }
+        }
+
+        // request retry settings
+        int retryCount = 0;
+        if (settings.requestRetryLimit > 0) {
+            retryCount = settings.requestRetryLimit;
+        }
+        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
+
+        // client builder settings
+        if (settings.useSystemProperties) {
+            httpClientBuilder.useSystemProperties();
+        }
+
+        // connection pool settings
+        if (settings.maxConnections > 0) {
+            httpClientBuilder.setMaxConnTotal(settings.maxConnections);
+        }
+        if (settings.maxConnectionsPerRoute > 0) {
+            httpClientBuilder.setMaxConnPerRoute(settings.maxConnectionsPerRoute);
+        }
+        if (settings.connectionIdleTimeout > 0) {
+            httpClientBuilder.evictExpiredConnections();
+            httpClientBuilder.evictIdleConnections(settings.connectionIdleTimeout, TimeUnit.MILLISECONDS);
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    protected static ExecutorService createExecutorService(Settings settings) {
+        int poolSize = settings.maxConnections > 0 ? settings.maxConnections : 20;
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolSize * QUEUED_REQUESTS_PER_THREAD), new HttpTaskThreadFactory());
+        executorService.allowCoreThreadTimeOut(true);
+        return executorService;
+    }
+
+    protected static class SharedHttpClient {
+
+        protected final CloseableHttpClient httpClient;
+        protected final Settings settings;
+        protected final Set<AbstractEngineConfiguration> engineConfigurations = Collections.newSetFromMap(new IdentityHashMap<>());
+        protected volatile ExecutorService executorService;
+
+        public SharedHttpClient(Settings settings) {
+            this.settings = settings;
+            this.httpClient = createHttpClient(settings);
+        }
+
+        public CloseableHttpClient getHttpClient() {
+            return httpClient;
+        }
+
+        public ExecutorService getExecutorService() {
+            if (executorService == null) {
+                synchronized (this) {
+                    if (executorService == null) {
+                        executorService = createExecutorService(settings);
+                    }
+                }
+            }
+            return executorService;
+        }
+
+        public void close() {
+            if (executorService != null) {
+                executorService.shutdown();
+            }
+
+            try {
+                httpClient.close();
+                LOGGER.debug("Shared HTTP client is closed");
+            } catch (Throwable e) {
+                LOGGER.error("Could not close shared http client", e);
+            }
+        }
+    }
+
+    protected static class ReleaseHttpClientEngineLifecycleListener implements EngineLifecycleListener {
+
+        protected final Settings settings;
+        protected final AbstractEngineConfiguration engineConfiguration;
+
+        public ReleaseHttpClientEngineLifecycleListener(Settings settings, AbstractEngineConfiguration engineConfiguration) {
+            this.settings = settings;
+            this.engineConfiguration = engineConfiguration;
+        }
+
+        @Override
+        public void onEngineBuilt(Engine engine) {
+            // nothing to do
+        }
+
+        @Override
+        public void onEngineClosed(Engine engine) {
+            release(settings, engineConfiguration);
+        }
+    }
+
+    protected static class HttpTaskThreadFactory implements ThreadFactory {
+
+        protected final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "flowable-http-task-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    protected static class Settings {
+
+        protected final boolean disableCertVerify;
+        protected final int requestRetryLimit;
+        protected final boolean useSystemProperties;
+        protected final int maxConnections;
+        protected final int maxConnectionsPerRoute;
+        protected final long connectionIdleTimeout;
+
+        public Settings(boolean disableCertVerify, int requestRetryLimit, boolean useSystemProperties,
+                int maxConnections, int maxConnectionsPerRoute, long connectionIdleTimeout) {
+            this.disableCertVerify = disableCertVerify;
+            this.requestRetryLimit = requestRetryLimit;
+            this.useSystemProperties = useSystemProperties;
+            this.maxConnections = maxConnections;
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            this.connectionIdleTimeout = connectionIdleTimeout;
+        }
+
+        public static Settings from(org.flowable.engine.cfg.HttpClientConfig config) {
+            return new Settings(config.isDisableCertVerify(), config.getRequestRetryLimit(), config.isUseSystemProperties(),
+                    config.getMaxConnections(), config.getMaxConnectionsPerRoute(), config.getConnectionIdleTimeout());
+        }
+
+        public static Settings from(org.flowable.cmmn.engine.HttpClientConfig config) {
+            return new Settings(config.isDisableCertVerify(), config.getRequestRetryLimit(), config.isUseSystemProperties(),
+                    config.getMaxConnections(), config.getMaxConnectionsPerRoute(), config.getConnectionIdleTimeout());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Settings that = (Settings) o;
+            return disableCertVerify == that.disableCertVerify
+                    && requestRetryLimit == that.requestRetryLimit
+                    && useSystemProperties == that.useSystemProperties
+                    && maxConnections == that.maxConnections
+                    && maxConnectionsPerRoute == that.maxConnectionsPerRoute
+                    && connectionIdleTimeout == that.connectionIdleTimeout;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(disableCertVerify, requestRetryLimit, useSystemProperties, maxConnections, maxConnectionsPerRoute, connectionIdleTimeout);
+        }
+    }
+
+}
@@ -20,17 +20,13 @@ import static org.flowable.http.ExpressionUtils.getStringFromField;
 import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.flowable.bpmn.model.FieldExtension;
 import org.flowable.bpmn.model.FlowableHttpRequestHandler;
 import org.flowable.bpmn.model.FlowableHttpResponseHandler;
@@ -40,7 +36,10 @@ import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.bpmn.model.ServiceTask;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.cfg.HttpClientConfig;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
@@ -48,13 +47,21 @@ import org.flowable.engine.impl.bpmn.helper.SkipExpressionUtil;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.el.FixedValue;
+import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
+import org.flowable.http.HttpResponse;
+import org.flowable.http.SharedHttpClientProvider;
 import org.flowable.http.bpmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.bpmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +75,18 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
 
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
+    /**
+     * The handler configuration of the fallback timer job of a non-blocking http task.
+     */
+    public static final String NON_BLOCKING_FALLBACK_JOB_CONFIGURATION = "httpNonBlockingFallback";
+
+    /**
+     * The time (in milliseconds) the fallback job of a non-blocking http task waits longer than the timeouts of the request.
+     */
+    public static final long NON_BLOCKING_FALLBACK_GRACE_PERIOD = 60000L;
+
+    protected static final String ATTRIBUTE_NON_BLOCKING_RESPONSE_HANDLED = "httpNonBlockingResponseHandled";
+
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpActivityBehaviorImpl.class);
 
@@ -103,6 +122,8 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
     protected Expression saveResponseVariableAsJson;
     // Prefix for the execution variable names (Optional)
     protected Expression resultVariablePrefix;
+    // Flag to perform the request without blocking the current thread, the execution waits until the response arrives. Default is false (Optional)
+    protected Expression nonBlocking;
     // Exception mapping
     protected List<MapExceptionEntry> mapExceptions;
     protected HttpServiceTask httpServiceTask;
@@ -113,41 +134,9 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
     }
 
     protected HttpActivityExecutor createHttpActivityExecutor() {
-        HttpClientConfig config = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
-
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
-            }
-        }
-
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
-
-        // client builder settings
-        if (config.isUseSystemProperties()) {
-            httpClientBuilder.useSystemProperties();
-        }
-
-        return new HttpActivityExecutor(httpClientBuilder, new ProcessErrorPropagator(),
-                CommandContextUtil.getProcessEngineConfiguration().getObjectMapper());
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        CloseableHttpClient httpClient = SharedHttpClientProvider.getHttpClient(processEngineConfiguration.getHttpClientConfig(), processEngineConfiguration);
+        return new HttpActivityExecutor(httpClient, new ProcessErrorPropagator(), processEngineConfiguration.getObjectMapper());
     }
 
     @Override
@@ -163,65 +152,16 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
         if (!isSkipExpressionEnabled || !SkipExpressionUtil.shouldSkipFlowElement(skipExpressionText,
                 execution.getCurrentActivityId(), execution, commandContext)) {
 
-            HttpRequest request = new HttpRequest();
-
-            try {
-                request.setMethod(getStringFromField(requestMethod, execution));
-                request.setUrl(getStringFromField(requestUrl, execution));
-                request.setHeaders(getStringFromField(requestHeaders, execution));
-                request.setBody(getStringFromField(requestBody, execution));
-                request.setBodyEncoding(getStringFromField(requestBodyEncoding, execution));
-                request.setTimeout(getIntFromField(requestTimeout, execution));
-                request.setNoRedirects(getBooleanFromField(disallowRedirects, execution));
-                request.setIgnoreErrors(getBooleanFromField(ignoreException, execution));
-                request.setSaveRequest(getBooleanFromField(saveRequestVariables, execution));
-                request.setSaveResponse(getBooleanFromField(saveResponseParameters, execution));
-                request.setSaveResponseTransient(getBooleanFromField(saveResponseParametersTransient, execution));
-                request.setSaveResponseAsJson(getBooleanFromField(saveResponseVariableAsJson, execution));
-                request.setPrefix(getStringFromField(resultVariablePrefix, execution));
-
-                String failCodes = getStringFromField(failStatusCodes, execution);
-                String handleCodes = getStringFromField(handleStatusCodes, execution);
-
-                if (failCodes != null) {
-                    request.setFailCodes(getStringSetFromField(failCodes));
-                }
-                if (handleCodes != null) {
-                    request.setHandleCodes(getStringSetFromField(handleCodes));
-                }
-
-                if (request.getPrefix() == null) {
-                    request.setPrefix(execution.getCurrentFlowElement().getId());
-                }
-
-                // Save request fields
-                if (request.isSaveRequest()) {
-                    execution.setVariable(request.getPrefix() + "RequestMethod", request.getMethod());
-                    execution.setVariable(request.getPrefix() + "RequestUrl", request.getUrl());
-                    execution.setVariable(request.getPrefix() + "RequestHeaders", request.getHeaders());
-                    execution.setVariable(request.getPrefix() + "RequestBody", request.getBody());
-                    execution.setVariable(request.getPrefix() + "RequestBodyEncoding", request.getBodyEncoding());
-                    execution.setVariable(request.getPrefix() + "RequestTimeout", request.getTimeout());
-                    execution.setVariable(request.getPrefix() + "DisallowRedirects", request.isNoRedirects());
-                    execution.setVariable(request.getPrefix() + "FailStatusCodes", failCodes);
-                    execution.setVariable(request.getPrefix() + "HandleStatusCodes", handleCodes);
-                    execution.setVariable(request.getPrefix() + "IgnoreException", request.isIgnoreErrors());
-                    execution.setVariable(request.getPrefix() + "SaveRequestVariables", request.isSaveRequest());
-                    execution.setVariable(request.getPrefix() + "SaveResponseParameters", request.isSaveResponse());
-                }
-
-            } catch (Exception e) {
-                if (e instanceof FlowableException) {
-                    throw (FlowableException) e;
-                } else {
-                    throw new FlowableException(HTTP_TASK_REQUEST_FIELD_INVALID + " in execution " + execution.getId(), e);
-                }
-            }
-
+            HttpRequest request = createRequest(execution);
             httpActivityExecutor.validate(request);
 
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            HttpClientConfig httpClientConfig = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
+            HttpClientConfig httpClientConfig = processEngineConfiguration.getHttpClientConfig();
+
+            if (isNonBlocking(execution)) {
+                executeNonBlocking(request, execution, processEngineConfiguration, httpClientConfig);
+                return;
+            }
 
             httpActivityExecutor.execute(
                     request,
@@ -239,6 +179,251 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
         leave(execution);
     }
 
+    protected HttpRequest createRequest(DelegateExecution execution) {
+        HttpRequest request = new HttpRequest();
+
+        try {
+            request.setMethod(getStringFromField(requestMethod, execution));
+            request.setUrl(getStringFromField(requestUrl, execution));
+            request.setHeaders(getStringFromField(requestHeaders, execution));
+            request.setBody(getStringFromField(requestBody, execution));
+            request.setBodyEncoding(getStringFromField(requestBodyEncoding, execution));
+            request.setTimeout(getIntFromField(requestTimeout, execution));
+            request.setNoRedirects(getBooleanFromField(disallowRedirects, execution));
+            request.setIgnoreErrors(getBooleanFromField(ignoreException, execution));
+            request.setSaveRequest(getBooleanFromField(saveRequestVariables, execution));
+            request.setSaveResponse(getBooleanFromField(saveResponseParameters, execution));
+            request.setSaveResponseTransient(getBooleanFromField(saveResponseParametersTransient, execution));
+            request.setSaveResponseAsJson(getBooleanFromField(saveResponseVariableAsJson, execution));
+            request.setPrefix(getStringFromField(resultVariablePrefix, execution));
+
+            String failCodes = getStringFromField(failStatusCodes, execution);
+            String handleCodes = getStringFromField(handleStatusCodes, execution);
+
+            if (failCodes != null) {
+                request.setFailCodes(getStringSetFromField(failCodes));
+            }
+            if (handleCodes != null) {
+                request.setHandleCodes(getStringSetFromField(handleCodes));
+            }
+
+            if (request.getPrefix() == null) {
+                request.setPrefix(execution.getCurrentFlowElement().getId());
+            }
+
+            // Save request fields
+            if (request.isSaveRequest()) {
+                execution.setVariable(request.getPrefix() + "RequestMethod", request.getMethod());
+                execution.setVariable(request.getPrefix() + "RequestUrl", request.getUrl());
+                execution.setVariable(request.getPrefix() + "RequestHeaders", request.getHeaders());
+                execution.setVariable(request.getPrefix() + "RequestBody", request.getBody());
+                execution.setVariable(request.getPrefix() + "RequestBodyEncoding", request.getBodyEncoding());
+                execution.setVariable(request.getPrefix() + "RequestTimeout", request.getTimeout());
+                execution.setVariable(request.getPrefix() + "DisallowRedirects", request.isNoRedirects());
+                execution.setVariable(request.getPrefix() + "FailStatusCodes", failCodes);
+                execution.setVariable(request.getPrefix() + "HandleStatusCodes", handleCodes);
+                execution.setVariable(request.getPrefix() + "IgnoreException", request.isIgnoreErrors());
+                execution.setVariable(request.getPrefix() + "SaveRequestVariables", request.isSaveRequest());
+                execution.setVariable(request.getPrefix() + "SaveResponseParameters", request.isSaveResponse());
+            }
+
+        } catch (Exception e) {
+            if (e instanceof FlowableException) {
+                throw (FlowableException) e;
+            } else {
+                throw new FlowableException(HTTP_TASK_REQUEST_FIELD_INVALID + " in execution " + execution.getId(), e);
+            }
+        }
+        return request;
+    }
+
+    /**
+     * Performs the request on a thread of the shared HTTP client once the current transaction is committed,
+     * and leaves the execution waiting in the meantime. When the request is done, the response is stored
+     * and the execution is triggered in a new transaction.
+     * <p>
+     * The request handler is invoked in the current transaction and the response handler in the transaction of the trigger,
+     * as the execution is not accessible from the request thread.
+     * <p>
+     * As the pending request only lives in memory, a fallback timer job is persisted together with the waiting execution.
+     * When the response was not handled before the job is due (e.g. because the node was stopped, the request was rejected
+     * as too many requests were waiting, or the response could not be processed), the job triggers the execution,
+     * which then performs the request in the transaction of the job (see {@link #trigger(DelegateExecution, String, Object)}).
+     */
+    protected void executeNonBlocking(HttpRequest request, DelegateExecution execution,
+                    ProcessEngineConfigurationImpl processEngineConfiguration, HttpClientConfig httpClientConfig) {
+
+        CloseableHttpClient client = httpActivityExecutor.getHttpClient();
+        HttpRequestHandler requestHandler = createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration);
+        if (!httpActivityExecutor.invokeRequestHandler(execution, request, client, requestHandler)) {
+            return;
+        }
+
+        scheduleNonBlockingFallbackJob(request, (ExecutionEntity) execution, processEngineConfiguration, httpClientConfig);
+
+        String executionId = execution.getId();
+        String activityId = execution.getCurrentActivityId();
+        HttpResponseHandler responseHandler = createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration);
+        String responseVariable = getStringFromField(responseVariableName, execution);
+        int socketTimeout = httpClientConfig.getSocketTimeout();
+        int connectTimeout = httpClientConfig.getConnectTimeout();
+        int connectionRequestTimeout = httpClientConfig.getConnectionRequestTimeout();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        ExecutorService executorService = SharedHttpClientProvider.getExecutorService(httpClientConfig, processEngineConfiguration);
+
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, commandContext -> {
+            try {
+                executorService.execute(() -> {
+                    HttpResponse response = null;
+                    Exception failure = null;
+                    try {
+                        response = httpActivityExecutor.perform(client, null, request, null, null, socketTimeout, connectTimeout, connectionRequestTimeout);
+                    } catch (Exception e) {
+                        failure = e;
+                    }
+
+                    HttpResponse httpResponse = response;
+                    Exception httpFailure = failure;
+                    try {
+                        commandExecutor.execute(triggerCommandContext -> {
+                            ExecutionEntity waitingExecution = CommandContextUtil.getExecutionEntityManager(triggerCommandContext).findById(executionId);
+                            if (waitingExecution == null || !activityId.equals(waitingExecution.getActivityId())) {
+                                LOGGER.debug("Execution {} is no longer waiting for the response of http task {}", executionId, activityId);
+                                return null;
+                            }
+
+                            deleteNonBlockingFallbackJobs(executionId, triggerCommandContext);
+                            if (httpActivityExecutor.handleResponse(request, httpResponse, httpFailure, waitingExecution, executionId,
+                                    responseHandler, responseVariable, mapExceptions)) {
+                                triggerCommandContext.addAttribute(ATTRIBUTE_NON_BLOCKING_RESPONSE_HANDLED, executionId);
+                                CommandContextUtil.getAgenda(triggerCommandContext).planTriggerExecutionOperation(waitingExecution);
+                            }
+                            return null;
+                        });
+
+                    } catch (Exception e) {
+                        LOGGER.error("Could not process the response of http task {} in execution {}, the request will be performed again by its fallback job",
+                                activityId, executionId, e);
+                    }
+                });
+
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("Too many non-blocking http requests are waiting, the request of http task {} in execution {} will be performed by its fallback job",
+                        activityId, executionId);
+            }
+        });
+    }
+
+    /**
+     * Schedules the timer job that triggers the execution when the response of the non-blocking request was not handled in time.
+     */
+    protected void scheduleNonBlockingFallbackJob(HttpRequest request, ExecutionEntity execution,
+                    ProcessEngineConfigurationImpl processEngineConfiguration, HttpClientConfig httpClientConfig) {
+
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(NON_BLOCKING_FALLBACK_JOB_CONFIGURATION);
+        timerJob.setExclusive(true);
+        timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+        timerJob.setDuedate(getNonBlockingFallbackDueDate(request, processEngineConfiguration, httpClientConfig));
+        timerJob.setExecutionId(execution.getId());
+        timerJob.setProcessInstanceId(execution.getProcessInstanceId());
+        timerJob.setProcessDefinitionId(execution.getProcessDefinitionId());
+        timerJob.setElementId(execution.getCurrentFlowElement().getId());
+        timerJob.setElementName(execution.getCurrentFlowElement().getName());
+        if (execution.getTenantId() != null) {
+            timerJob.setTenantId(execution.getTenantId());
+        }
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    /**
+     * The fallback job is due when the request has certainly timed out: after the connection timeouts and the socket timeout,
+     * increased by {@link #NON_BLOCKING_FALLBACK_GRACE_PERIOD} as the socket timeout applies to each read of the response.
+     */
+    protected Date getNonBlockingFallbackDueDate(HttpRequest request, ProcessEngineConfigurationImpl processEngineConfiguration,
+                    HttpClientConfig httpClientConfig) {
+
+        long requestTimeout = Math.max(0, httpClientConfig.getConnectionRequestTimeout())
+                + Math.max(0, httpClientConfig.getConnectTimeout())
+                + Math.max(0, request.getTimeout() == 0 ? httpClientConfig.getSocketTimeout() : request.getTimeout());
+        return new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + requestTimeout + NON_BLOCKING_FALLBACK_GRACE_PERIOD);
+    }
+
+    protected void deleteNonBlockingFallbackJobs(String executionId, CommandContext commandContext) {
+        // The job that is currently executed (when triggered by the fallback job) is already deleted
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        for (TimerJobEntity timerJob : timerJobService.findTimerJobsByExecutionId(executionId)) {
+            if (!timerJob.isDeleted() && NON_BLOCKING_FALLBACK_JOB_CONFIGURATION.equals(timerJob.getJobHandlerConfiguration())) {
+                timerJobService.deleteTimerJob(timerJob);
+            }
+        }
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        for (JobEntity job : jobService.findJobsByExecutionId(executionId)) {
+            if (!job.isDeleted() && NON_BLOCKING_FALLBACK_JOB_CONFIGURATION.equals(job.getJobHandlerConfiguration())) {
+                jobService.deleteJob(job);
+            }
+        }
+    }
+
+    /**
+     * Leaves the http task. For a non-blocking http task that is not triggered by its handled response, i.e. when it is triggered
+     * by its fallback job or manually, the request is performed first, in the current transaction.
+     */
+    @Override
+    public void trigger(DelegateExecution execution, String signalName, Object signalData) {
+        if (isNonBlocking(execution)) {
+            CommandContext commandContext = CommandContextUtil.getCommandContext();
+            deleteNonBlockingFallbackJobs(execution.getId(), commandContext);
+
+            if (!execution.getId().equals(commandContext.getAttribute(ATTRIBUTE_NON_BLOCKING_RESPONSE_HANDLED))
+                    && !executeFallbackRequest(execution)) {
+                return;
+            }
+        }
+
+        leave(execution);
+    }
+
+    /**
+     * @return true if the execution can continue, false if an error was propagated to the execution
+     */
+    protected boolean executeFallbackRequest(DelegateExecution execution) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        HttpClientConfig httpClientConfig = processEngineConfiguration.getHttpClientConfig();
+
+        HttpRequest request = createRequest(execution);
+        httpActivityExecutor.validate(request);
+
+        CloseableHttpClient client = httpActivityExecutor.getHttpClient();
+        HttpRequestHandler requestHandler = createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration);
+        if (!httpActivityExecutor.invokeRequestHandler(execution, request, client, requestHandler)) {
+            return false;
+        }
+
+        HttpResponse response = null;
+        Exception failure = null;
+        try {
+            response = httpActivityExecutor.perform(client, null, request, null, null,
+                    httpClientConfig.getSocketTimeout(), httpClientConfig.getConnectTimeout(), httpClientConfig.getConnectionRequestTimeout());
+        } catch (Exception e) {
+            failure = e;
+        }
+
+        return httpActivityExecutor.handleResponse(request, response, failure, execution, execution.getId(),
+                createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
+                getStringFromField(responseVariableName, execution), mapExceptions);
+    }
+
+    protected boolean isNonBlocking(DelegateExecution execution) {
+        return getBooleanFromField(nonBlocking, execution) && httpActivityExecutor.getHttpClient() != null;
+    }
+
     protected HttpRequestHandler createHttpRequestHandler(FlowableHttpRequestHandler handler, ProcessEngineConfigurationImpl processEngineConfiguration) {
         HttpRequestHandler requestHandler = null;
 
@@ -19,15 +19,8 @@ import static org.flowable.http.HttpActivityExecutor.HTTP_TASK_REQUEST_FIELD_INV
 
 import java.util.Collections;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
-
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.HttpClientConfig;
@@ -45,6 +38,7 @@ import org.flowable.http.ExpressionUtils;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
 import org.flowable.http.NopErrorPropagator;
+import org.flowable.http.SharedHttpClientProvider;
 import org.flowable.http.cmmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.cmmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
@@ -102,44 +96,11 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
     }
 
     protected HttpActivityExecutor createHttpActivityExecutor() {
-        HttpClientConfig config = CommandContextUtil.getCmmnEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
-
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
-            }
-        }
-
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
-
-        // client builder settings
-        if (config.isUseSystemProperties()) {
-            httpClientBuilder.useSystemProperties();
-        }
-
-        return new HttpActivityExecutor(httpClientBuilder, new NopErrorPropagator(),
-                CommandContextUtil.getCmmnEngineConfiguration().getObjectMapper());
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        CloseableHttpClient httpClient = SharedHttpClientProvider.getHttpClient(cmmnEngineConfiguration.getHttpClientConfig(), cmmnEngineConfiguration);
+        return new HttpActivityExecutor(httpClient, new NopErrorPropagator(), cmmnEngineConfiguration.getObjectMapper());
     }
 
-
     @Override
     public void execute(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         HttpRequest request = new HttpRequest();
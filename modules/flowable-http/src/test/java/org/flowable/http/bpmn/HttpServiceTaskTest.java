@@ -21,19 +21,29 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.io.IOException;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.cfg.HttpClientConfig;
+import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.http.SharedHttpClientProvider;
 import org.flowable.http.bpmn.HttpServiceTaskTestServer.HttpServiceTaskTestServlet;
+import org.flowable.http.bpmn.impl.HttpActivityBehaviorImpl;
+import org.flowable.job.api.Job;
 import org.flowable.task.api.Task;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.junit.jupiter.api.Test;
@@ -157,6 +167,148 @@ public class HttpServiceTaskTest extends HttpServiceTaskTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment
+    public void testNonBlockingGet() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nonBlockingGet");
+
+        // the response is delayed, so the execution is still waiting in the http task, with a fallback job in case the response gets lost
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("httpGet").count()).isEqualTo(1);
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult().getJobHandlerConfiguration())
+                .isEqualTo(HttpActivityBehaviorImpl.NON_BLOCKING_FALLBACK_JOB_CONFIGURATION);
+
+        Task task = waitForTask(processInstance.getId(), "wait");
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "httpGetResponseStatusCode")).isEqualTo(200);
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment
+    public void testNonBlockingFallback() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nonBlockingFallback", Collections.singletonMap("delay", 3000));
+        runtimeService.setVariable(processInstance.getId(), "delay", 0);
+
+        // the fallback job performs the request itself when the response was not handled (e.g. because the node was stopped)
+        Job fallbackJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        managementService.moveTimerToExecutableJob(fallbackJob.getId());
+        managementService.executeJob(fallbackJob.getId());
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("wait");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "httpGetResponseStatusCode")).isEqualTo(200);
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment
+    public void testNonBlockingHandleStatusCodes() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nonBlockingHandleStatusCodes");
+
+        // the status code is propagated as error when the response is handled
+        Task task = waitForTask(processInstance.getId(), "errorTask");
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment
+    public void testNonBlockingMapException() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nonBlockingMapException");
+
+        // the failed request is mapped to an error when the response is handled
+        Task task = waitForTask(processInstance.getId(), "errorTask");
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment
+    public void testNonBlockingFailure() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nonBlockingFailure");
+
+        // an unmapped failure can't be handled, the execution keeps waiting and the failure is retried by the fallback job
+        Job fallbackJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        managementService.moveTimerToExecutableJob(fallbackJob.getId());
+        assertThatThrownBy(() -> managementService.executeJob(fallbackJob.getId()))
+                .isInstanceOf(FlowableException.class);
+
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(Execution::getActivityId)
+                .contains("httpGet");
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult().getExceptionMessage())
+                .isNotNull();
+    }
+
+    protected Task waitForTask(String processInstanceId, String taskDefinitionKey) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000;
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        while (task == null) {
+            assertThat(System.currentTimeMillis()).as("waiting for the http response").isLessThan(timeout);
+            Thread.sleep(100);
+            task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        }
+        assertThat(task.getTaskDefinitionKey()).isEqualTo(taskDefinitionKey);
+        return task;
+    }
+
+    @Test
+    public void testSharedHttpClient() {
+        // a CMMN engine with the same client settings shares the client of the process engine
+        org.flowable.cmmn.engine.HttpClientConfig cmmnConfig = new org.flowable.cmmn.engine.HttpClientConfig();
+        cmmnConfig.setRequestRetryLimit(processEngineConfiguration.getHttpClientConfig().getRequestRetryLimit());
+        cmmnConfig.setDisableCertVerify(processEngineConfiguration.getHttpClientConfig().isDisableCertVerify());
+        CmmnEngineConfiguration cmmnEngineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+
+        assertThat(SharedHttpClientProvider.getHttpClient(processEngineConfiguration.getHttpClientConfig(), processEngineConfiguration))
+                .isSameAs(SharedHttpClientProvider.getHttpClient(processEngineConfiguration.getHttpClientConfig(), processEngineConfiguration))
+                .isSameAs(SharedHttpClientProvider.getHttpClient(cmmnConfig, cmmnEngineConfiguration));
+
+        HttpClientConfig otherConfig = new HttpClientConfig();
+        otherConfig.setMaxConnectionsPerRoute(1);
+        assertThat(SharedHttpClientProvider.getHttpClient(otherConfig, processEngineConfiguration))
+                .isNotSameAs(SharedHttpClientProvider.getHttpClient(processEngineConfiguration.getHttpClientConfig(), processEngineConfiguration));
+    }
+
+    @Test
+    public void testSharedHttpClientClosedWithLastEngine() {
+        HttpClientConfig httpClientConfig = new HttpClientConfig();
+        httpClientConfig.setMaxConnectionsPerRoute(3);
+
+        ProcessEngine firstEngine = buildProcessEngine("first", httpClientConfig);
+        ProcessEngine secondEngine = buildProcessEngine("second", httpClientConfig);
+
+        CloseableHttpClient httpClient = SharedHttpClientProvider.getHttpClient(httpClientConfig, firstEngine.getProcessEngineConfiguration());
+        assertThat(SharedHttpClientProvider.getHttpClient(httpClientConfig, secondEngine.getProcessEngineConfiguration())).isSameAs(httpClient);
+
+        // the client is still used by the second engine
+        firstEngine.close();
+        assertThat(SharedHttpClientProvider.getHttpClient(httpClientConfig, secondEngine.getProcessEngineConfiguration())).isSameAs(httpClient);
+
+        // the client is closed with the last engine using it, a new one is created when requested again
+        secondEngine.close();
+        assertThat(SharedHttpClientProvider.getHttpClient(httpClientConfig, processEngineConfiguration)).isNotSameAs(httpClient);
+    }
+
+    protected ProcessEngine buildProcessEngine(String name, HttpClientConfig httpClientConfig) {
+        StandaloneInMemProcessEngineConfiguration engineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        engineConfiguration.setEngineName(name);
+        engineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-http-" + name);
+        engineConfiguration.setHttpClientConfig(httpClientConfig);
+        return engineConfiguration.buildProcessEngine();
+    }
+
     @Test
     @Deployment
     public void testConnectTimeout() {
@@ -83,5 +83,10 @@ public interface IdentityLinkService {
     void deleteIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
     
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
+
+    /**
+     * Recreates the task candidate index from the candidate identity links of all runtime tasks.
+     */
+    void rebuildTaskCandidateIndex();
     
 }
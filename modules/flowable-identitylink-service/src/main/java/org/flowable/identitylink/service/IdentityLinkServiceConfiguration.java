@@ -50,6 +50,12 @@ public class IdentityLinkServiceConfiguration extends AbstractServiceConfigurati
 
     /** IdentityLink event handler */
     protected IdentityLinkEventHandler identityLinkEventHandler;
+
+    /**
+     * Whether the candidate user and candidate group identity links of tasks are mirrored into the ACT_RU_TASK_CANDIDATE index table.
+     * Needs to be enabled on every engine sharing the database, otherwise the index misses the candidates of the other engines.
+     */
+    protected boolean enableTaskCandidateIndex;
     
     protected HistoryLevel historyLevel;
     
@@ -196,4 +202,13 @@ public class IdentityLinkServiceConfiguration extends AbstractServiceConfigurati
         this.identityLinkEventHandler = identityLinkEventHandler;
         return this;
     }
+
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    public IdentityLinkServiceConfiguration setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+        return this;
+    }
 }
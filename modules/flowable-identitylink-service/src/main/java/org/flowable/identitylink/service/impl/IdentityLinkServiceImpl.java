@@ -182,6 +182,11 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
         getIdentityLinkEntityManager().deleteIdentityLinksByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void rebuildTaskCandidateIndex() {
+        getIdentityLinkEntityManager().rebuildTaskCandidateIndex();
+    }
+
     public IdentityLinkEntityManager getIdentityLinkEntityManager() {
         return configuration.getIdentityLinkEntityManager();
     }
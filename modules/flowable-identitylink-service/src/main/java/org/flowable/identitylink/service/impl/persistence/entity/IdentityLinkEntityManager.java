@@ -85,4 +85,6 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
     
     void deleteIdentityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
+    void rebuildTaskCandidateIndex();
+
 }
\ No newline at end of file
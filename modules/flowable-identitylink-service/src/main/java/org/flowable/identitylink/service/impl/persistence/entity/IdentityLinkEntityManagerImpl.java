@@ -41,6 +41,20 @@ public class IdentityLinkEntityManagerImpl
     public void insert(IdentityLinkEntity entity, boolean fireCreateEvent) {
         super.insert(entity, fireCreateEvent);
 
+        if (isTaskCandidateIndexed(entity)) {
+            TaskCandidateIndexEntity taskCandidateIndexEntry = dataManager.createTaskCandidateIndexEntry();
+            taskCandidateIndexEntry.setId(entity.getId());
+            taskCandidateIndexEntry.setTaskId(entity.getTaskId());
+            if (entity.getUserId() != null) {
+                taskCandidateIndexEntry.setCandidateType(TaskCandidateIndexEntity.CANDIDATE_TYPE_USER);
+                taskCandidateIndexEntry.setCandidateId(entity.getUserId());
+            } else {
+                taskCandidateIndexEntry.setCandidateType(TaskCandidateIndexEntity.CANDIDATE_TYPE_GROUP);
+                taskCandidateIndexEntry.setCandidateId(entity.getGroupId());
+            }
+            dataManager.insertTaskCandidateIndexEntry(taskCandidateIndexEntry);
+        }
+
         IdentityLinkEventHandler identityLinkEventHandler = getIdentityLinkEventHandler();
         if (identityLinkEventHandler != null) {
             identityLinkEventHandler.handleIdentityLinkAddition(entity);
@@ -51,12 +65,23 @@ public class IdentityLinkEntityManagerImpl
     public void delete(IdentityLinkEntity entity, boolean fireDeleteEvent) {
         super.delete(entity, fireDeleteEvent);
 
+        if (isTaskCandidateIndexed(entity)) {
+            dataManager.deleteTaskCandidateIndexEntry(entity.getId());
+        }
+
         IdentityLinkEventHandler identityLinkEventHandler = getIdentityLinkEventHandler();
         if (identityLinkEventHandler != null) {
             getIdentityLinkEventHandler().handleIdentityLinkDeletion(entity);
         }
     }
 
+    protected boolean isTaskCandidateIndexed(IdentityLinkEntity identityLink) {
+        return serviceConfiguration.isEnableTaskCandidateIndex()
+                && identityLink.getTaskId() != null
+                && IdentityLinkType.CANDIDATE.equals(identityLink.getType())
+                && (identityLink.getUserId() != null || identityLink.getGroupId() != null);
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId) {
         return dataManager.findIdentityLinksByTaskId(taskId);
@@ -297,6 +322,12 @@ public class IdentityLinkEntityManagerImpl
     @Override
     public void deleteIdentityLinksByTaskId(String taskId) {
         dataManager.deleteIdentityLinksByTaskId(taskId);
+
+        if (serviceConfiguration.isEnableTaskCandidateIndex()) {
+            // Always a bulk delete: the identity links of a task created in the same transaction are removed from the cache
+            // without going through delete(IdentityLinkEntity), while their index entries are already scheduled for insertion
+            dataManager.deleteTaskCandidateIndexEntriesByTaskId(taskId);
+        }
     }
 
     @Override
@@ -319,6 +350,11 @@ public class IdentityLinkEntityManagerImpl
         dataManager.deleteIdentityLinksByScopeDefinitionIdAndScopeType(scopeDefinitionId, scopeType);
     }
 
+    @Override
+    public void rebuildTaskCandidateIndex() {
+        dataManager.rebuildTaskCandidateIndex();
+    }
+
     protected IdentityLinkEventHandler getIdentityLinkEventHandler() {
         return serviceConfiguration.getIdentityLinkEventHandler();
     }
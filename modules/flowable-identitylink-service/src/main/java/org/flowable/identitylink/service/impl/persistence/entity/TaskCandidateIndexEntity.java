@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.identitylink.service.impl.persistence.entity;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A row of the materialised candidate index (ACT_RU_TASK_CANDIDATE): one row per candidate user or candidate group
+ * identity link of a task, keyed by the id of that identity link.
+ */
+public interface TaskCandidateIndexEntity extends Entity {
+
+    String CANDIDATE_TYPE_USER = "user";
+    String CANDIDATE_TYPE_GROUP = "group";
+
+    String getTaskId();
+
+    void setTaskId(String taskId);
+
+    String getCandidateType();
+
+    void setCandidateType(String candidateType);
+
+    String getCandidateId();
+
+    void setCandidateId(String candidateId);
+
+}
@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.identitylink.service.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TaskCandidateIndexEntityImpl extends AbstractIdentityLinkServiceNoRevisionEntity implements TaskCandidateIndexEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String taskId;
+    protected String candidateType;
+    protected String candidateId;
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("taskId", this.taskId);
+        persistentState.put("candidateType", this.candidateType);
+        persistentState.put("candidateId", this.candidateId);
+        return persistentState;
+    }
+
+    @Override
+    public String getTaskId() {
+        return taskId;
+    }
+
+    @Override
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    @Override
+    public String getCandidateType() {
+        return candidateType;
+    }
+
+    @Override
+    public void setCandidateType(String candidateType) {
+        this.candidateType = candidateType;
+    }
+
+    @Override
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    @Override
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskCandidateIndexEntity[id=" + id + ", taskId=" + taskId + ", candidateType=" + candidateType + ", candidateId=" + candidateId + "]";
+    }
+
+}
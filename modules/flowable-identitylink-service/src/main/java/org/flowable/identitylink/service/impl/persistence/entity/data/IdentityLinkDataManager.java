@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.identitylink.service.impl.persistence.entity.TaskCandidateIndexEntity;
 
 /**
  * @author Joram Barrez
@@ -54,4 +55,14 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
     
     void deleteIdentityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
+    TaskCandidateIndexEntity createTaskCandidateIndexEntry();
+
+    void insertTaskCandidateIndexEntry(TaskCandidateIndexEntity taskCandidateIndexEntry);
+
+    void deleteTaskCandidateIndexEntry(String identityLinkId);
+
+    void deleteTaskCandidateIndexEntriesByTaskId(String taskId);
+
+    void rebuildTaskCandidateIndex();
+
 }
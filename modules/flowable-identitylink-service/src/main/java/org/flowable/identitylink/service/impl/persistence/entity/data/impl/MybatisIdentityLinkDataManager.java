@@ -22,6 +22,8 @@ import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
+import org.flowable.identitylink.service.impl.persistence.entity.TaskCandidateIndexEntity;
+import org.flowable.identitylink.service.impl.persistence.entity.TaskCandidateIndexEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.data.IdentityLinkDataManager;
 import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByProcessInstanceMatcher;
 import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByProcessInstanceUserGroupAndTypeMatcher;
@@ -211,4 +213,32 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         getDbSqlSession().delete("deleteIdentityLinksByScopeDefinitionIdAndScopeType", parameters, IdentityLinkEntityImpl.class);
     }
 
+    @Override
+    public TaskCandidateIndexEntity createTaskCandidateIndexEntry() {
+        return new TaskCandidateIndexEntityImpl();
+    }
+
+    @Override
+    public void insertTaskCandidateIndexEntry(TaskCandidateIndexEntity taskCandidateIndexEntry) {
+        getDbSqlSession().insert(taskCandidateIndexEntry);
+    }
+
+    @Override
+    public void deleteTaskCandidateIndexEntry(String identityLinkId) {
+        getDbSqlSession().delete("deleteTaskCandidateIndex", identityLinkId, TaskCandidateIndexEntityImpl.class);
+    }
+
+    @Override
+    public void deleteTaskCandidateIndexEntriesByTaskId(String taskId) {
+        getDbSqlSession().delete("deleteTaskCandidateIndexByTaskId", taskId, TaskCandidateIndexEntityImpl.class);
+    }
+
+    @Override
+    public void rebuildTaskCandidateIndex() {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        dbSqlSession.update("deleteAllTaskCandidateIndexEntries", null);
+        dbSqlSession.update("insertTaskCandidateUserIndexFromIdentityLinks", null);
+        dbSqlSession.update("insertTaskCandidateGroupIndexFromIdentityLinks", null);
+    }
+
 }
@@ -20,4 +20,15 @@ create index ACT_IDX_IDENT_LNK_SCOPE on ACT_RU_IDENTITYLINK(SCOPE_ID_, SCOPE_TYP
 create index ACT_IDX_IDENT_LNK_SUB_SCOPE on ACT_RU_IDENTITYLINK(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_IDENT_LNK_SCOPE_DEF on ACT_RU_IDENTITYLINK(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
 
-insert into ACT_GE_PROPERTY values ('identitylink.schema.version', '6.5.1.5', 1);
\ No newline at end of file
+create table ACT_RU_TASK_CANDIDATE (
+    ID_ varchar(64) not null,
+    TASK_ID_ varchar(64),
+    CANDIDATE_TYPE_ varchar(16),
+    CANDIDATE_ID_ varchar(255),
+    primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+create index ACT_IDX_TASK_CAND_LOOKUP on ACT_RU_TASK_CANDIDATE(CANDIDATE_ID_, CANDIDATE_TYPE_, TASK_ID_);
+create index ACT_IDX_TASK_CAND_TASK on ACT_RU_TASK_CANDIDATE(TASK_ID_);
+
+insert into ACT_GE_PROPERTY values ('identitylink.schema.version', '6.5.1.6', 1);
\ No newline at end of file
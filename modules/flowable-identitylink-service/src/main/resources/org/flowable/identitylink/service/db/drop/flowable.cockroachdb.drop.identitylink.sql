@@ -1,3 +1,5 @@
+drop table if exists act_ru_task_candidate cascade;
+
 drop table if exists act_ru_identitylink cascade;
 
 -- force-commit
\ No newline at end of file
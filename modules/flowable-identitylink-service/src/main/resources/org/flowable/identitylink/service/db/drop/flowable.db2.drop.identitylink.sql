@@ -1,3 +1,8 @@
+drop index ACT_IDX_TASK_CAND_LOOKUP;
+drop index ACT_IDX_TASK_CAND_TASK;
+
+drop table ACT_RU_TASK_CANDIDATE;
+
 drop index ACT_IDX_IDENT_LNK_USER;
 drop index ACT_IDX_IDENT_LNK_GROUP;
 drop index ACT_IDX_IDENT_LNK_SCOPE;
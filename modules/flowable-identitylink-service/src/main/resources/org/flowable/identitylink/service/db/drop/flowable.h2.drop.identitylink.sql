@@ -1,3 +1,5 @@
+drop table if exists ACT_RU_TASK_CANDIDATE cascade constraints;
+
 drop table if exists ACT_RU_IDENTITYLINK cascade constraints;
 
 drop index if exists ACT_IDX_IDENT_LNK_USER;
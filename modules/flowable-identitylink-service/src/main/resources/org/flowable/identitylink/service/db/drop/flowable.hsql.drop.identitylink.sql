@@ -1,3 +1,5 @@
+drop table if exists ACT_RU_TASK_CANDIDATE cascade;
+
 drop table if exists ACT_RU_IDENTITYLINK cascade;
 
 drop index if exists ACT_IDX_IDENT_LNK_USER;
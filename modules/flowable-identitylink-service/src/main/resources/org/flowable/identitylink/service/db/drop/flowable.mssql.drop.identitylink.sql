@@ -1,3 +1,8 @@
+IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_TASK_CAND_LOOKUP') drop index ACT_RU_TASK_CANDIDATE.ACT_IDX_TASK_CAND_LOOKUP;
+IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_TASK_CAND_TASK') drop index ACT_RU_TASK_CANDIDATE.ACT_IDX_TASK_CAND_TASK;
+
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_TASK_CANDIDATE') drop table ACT_RU_TASK_CANDIDATE;
+
 IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_IDENT_LNK_USER') drop index ACT_RU_IDENTITYLINK.ACT_IDX_IDENT_LNK_USER;
 IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_IDENT_LNK_GROUP') drop index ACT_RU_IDENTITYLINK.ACT_IDX_IDENT_LNK_GROUP;
 IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_IDENT_LNK_SCOPE') drop index ACT_RU_IDENTITYLINK.ACT_IDX_IDENT_LNK_SCOPE;
@@ -1,3 +1,8 @@
+drop index ACT_IDX_TASK_CAND_LOOKUP on ACT_RU_TASK_CANDIDATE;
+drop index ACT_IDX_TASK_CAND_TASK on ACT_RU_TASK_CANDIDATE;
+
+drop table if exists ACT_RU_TASK_CANDIDATE;
+
 drop index ACT_IDX_IDENT_LNK_USER on ACT_RU_IDENTITYLINK;
 drop index ACT_IDX_IDENT_LNK_GROUP on ACT_RU_IDENTITYLINK;
 drop index ACT_IDX_IDENT_LNK_SCOPE on ACT_RU_IDENTITYLINK;
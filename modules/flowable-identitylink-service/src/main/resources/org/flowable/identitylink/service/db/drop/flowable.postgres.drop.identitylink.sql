@@ -1 +1,3 @@
+drop table if exists ACT_RU_TASK_CANDIDATE cascade;
+
 drop table if exists ACT_RU_IDENTITYLINK cascade;
\ No newline at end of file
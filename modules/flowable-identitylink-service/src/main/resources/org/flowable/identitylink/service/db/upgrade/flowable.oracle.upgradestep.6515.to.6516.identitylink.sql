@@ -0,0 +1,10 @@
+create table ACT_RU_TASK_CANDIDATE (
+    ID_ NVARCHAR2(64) not null,
+    TASK_ID_ NVARCHAR2(64),
+    CANDIDATE_TYPE_ NVARCHAR2(16),
+    CANDIDATE_ID_ NVARCHAR2(255),
+    primary key (ID_)
+);
+
+create index ACT_IDX_TASK_CAND_LOOKUP on ACT_RU_TASK_CANDIDATE(CANDIDATE_ID_, CANDIDATE_TYPE_, TASK_ID_);
+create index ACT_IDX_TASK_CAND_TASK on ACT_RU_TASK_CANDIDATE(TASK_ID_);
@@ -46,6 +46,7 @@ import org.flowable.idm.engine.impl.IdmManagementServiceImpl;
 import org.flowable.idm.engine.impl.SchemaOperationsIdmEngineBuild;
 import org.flowable.idm.engine.impl.authentication.BlankSalt;
 import org.flowable.idm.engine.impl.authentication.ClearTextPasswordEncoder;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.cfg.StandaloneIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.db.EntityDependencyOrder;
@@ -125,6 +126,19 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
     protected PasswordEncoder passwordEncoder;
     protected PasswordSalt passwordSalt;
 
+    /**
+     * The maximum number of users for which the groups are cached. The group membership cache is disabled when this is 0 or less.
+     * Membership changes done by other nodes become visible after the {@link #groupMembershipCacheExpirationTime} at the latest.
+     */
+    protected int groupMembershipCacheSize;
+
+    /**
+     * The time (in milliseconds) after which the cached groups of a user expire.
+     */
+    protected long groupMembershipCacheExpirationTime = 3600000L;
+
+    protected GroupMembershipCache groupMembershipCache;
+
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
         return createIdmEngineConfigurationFromResource("flowable.idm.cfg.xml", "idmEngineConfiguration");
     }
@@ -196,6 +210,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         initDataManagers();
         initEntityManagers();
         initClock();
+        initGroupMembershipCache();
         initEventDispatcher();
     }
 
@@ -317,6 +332,12 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         defaultInitDbSqlSessionFactoryEntitySettings(EntityDependencyOrder.INSERT_ORDER, EntityDependencyOrder.DELETE_ORDER);
     }
 
+    public void initGroupMembershipCache() {
+        if (groupMembershipCache == null && groupMembershipCacheSize > 0) {
+            groupMembershipCache = new GroupMembershipCache(groupMembershipCacheSize, groupMembershipCacheExpirationTime, this::getClock);
+        }
+    }
+
     public void initPasswordEncoder() {
         if (passwordEncoder == null) {
             passwordEncoder = ClearTextPasswordEncoder.getInstance();
@@ -776,6 +797,33 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public int getGroupMembershipCacheSize() {
+        return groupMembershipCacheSize;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheSize(int groupMembershipCacheSize) {
+        this.groupMembershipCacheSize = groupMembershipCacheSize;
+        return this;
+    }
+
+    public long getGroupMembershipCacheExpirationTime() {
+        return groupMembershipCacheExpirationTime;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheExpirationTime(long groupMembershipCacheExpirationTime) {
+        this.groupMembershipCacheExpirationTime = groupMembershipCacheExpirationTime;
+        return this;
+    }
+
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+        return this;
+    }
+
     public PasswordSalt getPasswordSalt() {
         return passwordSalt;
     }
@@ -13,6 +13,7 @@
 
 package org.flowable.idm.engine.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -23,6 +24,7 @@ import org.flowable.common.engine.impl.query.AbstractQuery;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.GroupQuery;
 import org.flowable.idm.api.GroupQueryProperty;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
 
@@ -150,9 +152,24 @@ public class GroupQueryImpl extends AbstractQuery<GroupQuery, Group> implements
 
     @Override
     public List<Group> executeList(CommandContext commandContext) {
+        GroupMembershipCache groupMembershipCache = CommandContextUtil.getIdmEngineConfiguration(commandContext).getGroupMembershipCache();
+        if (groupMembershipCache != null && isGroupMembershipQuery()) {
+            List<Group> groups = groupMembershipCache.get(userId,
+                    groupUserId -> CommandContextUtil.getGroupEntityManager(commandContext).findGroupByQueryCriteria(this));
+            return new ArrayList<>(groups);
+        }
+
         return CommandContextUtil.getGroupEntityManager(commandContext).findGroupByQueryCriteria(this);
     }
 
+    /**
+     * @return true if this query only fetches all groups of a single user, which is the query that can be answered from the {@link GroupMembershipCache}
+     */
+    protected boolean isGroupMembershipQuery() {
+        return userId != null && id == null && ids == null && name == null && nameLike == null && nameLikeIgnoreCase == null
+                && type == null && userIds == null && resultType == ResultType.LIST && orderByColumns == null && afterId == null;
+    }
+
     // getters ////////////////////////////////////////////////////////
 
     @Override
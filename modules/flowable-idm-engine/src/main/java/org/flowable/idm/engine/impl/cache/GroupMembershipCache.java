@@ -0,0 +1,284 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
+
+/**
+ * Cache for the groups a user belongs to. Groups of a user are fetched internally by the engines for example when
+ * querying the tasks of a candidate user, which means the same membership lookup is typically done many times.
+ * <p>
+ * The cache is bounded by size, evicting the least recently used entries, and cached entries expire after the configured expiration time.
+ * Membership changes done through the local engine invalidate the affected entries, changes done by other nodes or in an
+ * external identity store become visible after the expiration time at the latest.
+ * <p>
+ * The cache can be accessed concurrently. An optional {@link GroupMembershipCacheListener} is notified of cache events.
+ * Groups are copied when they are put in the cache and again when they are returned, so callers can never see or change
+ * group instances that are shared with other threads.
+ */
+public class GroupMembershipCache {
+
+    protected final Supplier<ClockReader> clockReader;
+    protected final Map<String, GroupMembershipCacheEntry> groupCache = new ConcurrentHashMap<>();
+    protected final Object evictionLock = new Object();
+
+    protected volatile int cacheSize;
+    protected volatile long expirationTime;
+
+    protected volatile GroupMembershipCacheListener cacheListener;
+
+    /**
+     * Incremented on every invalidation. Used to prevent that groups loaded before an invalidation are put in the cache afterwards.
+     */
+    protected final AtomicLong invalidationCounter = new AtomicLong();
+    protected final AtomicLong accessCounter = new AtomicLong();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+    protected final LongAdder expiredCount = new LongAdder();
+
+    public GroupMembershipCache(int cacheSize, long expirationTime, ClockReader clockReader) {
+        this(cacheSize, expirationTime, () -> clockReader);
+    }
+
+    public GroupMembershipCache(int cacheSize, long expirationTime, Supplier<ClockReader> clockReader) {
+        this.cacheSize = cacheSize;
+        this.expirationTime = expirationTime;
+        this.clockReader = clockReader;
+    }
+
+    /**
+     * @return copies of the cached groups of the given user, or null if the groups of the user are not cached or the cached entry has expired.
+     */
+    public List<Group> get(String userId) {
+        GroupMembershipCacheEntry cacheEntry = groupCache.get(userId);
+        if (cacheEntry != null) {
+            if (getCurrentTime() - cacheEntry.timestamp < expirationTime) {
+                cacheEntry.lastAccess = accessCounter.incrementAndGet();
+                hitCount.increment();
+
+                GroupMembershipCacheListener listener = cacheListener;
+                if (listener != null) {
+                    listener.cacheHit(userId);
+                }
+
+                return copyGroups(cacheEntry.groups);
+
+            } else if (groupCache.remove(userId, cacheEntry)) {
+                expiredCount.increment();
+                evictionCount.increment();
+
+                GroupMembershipCacheListener listener = cacheListener;
+                if (listener != null) {
+                    listener.cacheExpired(userId);
+                    listener.cacheEviction(userId);
+                }
+            }
+        }
+
+        missCount.increment();
+
+        GroupMembershipCacheListener listener = cacheListener;
+        if (listener != null) {
+            listener.cacheMiss(userId);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the cached groups of the given user, using the loader to fetch and cache them when they are not cached.
+     * When the cache is invalidated while the loader is running, the loaded groups are returned but not cached.
+     */
+    public List<Group> get(String userId, Function<String, List<Group>> loader) {
+        List<Group> groups = get(userId);
+        if (groups == null) {
+            long invalidationCount = invalidationCounter.get();
+            groups = loader.apply(userId);
+            add(userId, groups, invalidationCount);
+        }
+        return groups;
+    }
+
+    public void add(String userId, List<Group> groups) {
+        groupCache.put(userId, new GroupMembershipCacheEntry(getCurrentTime(), accessCounter.incrementAndGet(), copyGroups(groups)));
+        evictIfNeeded();
+    }
+
+    protected void add(String userId, List<Group> groups, long expectedInvalidationCount) {
+        GroupMembershipCacheEntry cacheEntry = new GroupMembershipCacheEntry(getCurrentTime(), accessCounter.incrementAndGet(), copyGroups(groups));
+        groupCache.put(userId, cacheEntry);
+
+        // An invalidation that happened after the groups were loaded could have been missed by the put above
+        if (invalidationCounter.get() != expectedInvalidationCount) {
+            groupCache.remove(userId, cacheEntry);
+            return;
+        }
+
+        evictIfNeeded();
+    }
+
+    /**
+     * Removes the cached groups of the given user, for example because a membership of the user has changed.
+     */
+    public void invalidate(String userId) {
+        invalidationCounter.incrementAndGet();
+        groupCache.remove(userId);
+    }
+
+    public void clear() {
+        invalidationCounter.incrementAndGet();
+        groupCache.clear();
+    }
+
+    protected void evictIfNeeded() {
+        if (groupCache.size() <= cacheSize) {
+            return;
+        }
+
+        synchronized (evictionLock) {
+            int overflow = groupCache.size() - cacheSize;
+            if (overflow <= 0) {
+                return;
+            }
+
+            // Finding the least recently used entries requires a scan, so evict a batch at once to not scan on every subsequent add
+            int evictionBatchSize = overflow + cacheSize / 16;
+            // The access sequence numbers are unique, and are snapshotted as concurrent hits keep updating them
+            TreeMap<Long, Map.Entry<String, GroupMembershipCacheEntry>> entriesByAccess = new TreeMap<>();
+            for (Map.Entry<String, GroupMembershipCacheEntry> entry : groupCache.entrySet()) {
+                entriesByAccess.put(entry.getValue().lastAccess, entry);
+            }
+
+            Iterator<Map.Entry<String, GroupMembershipCacheEntry>> entryIterator = entriesByAccess.values().iterator();
+            for (int i = 0; i < evictionBatchSize && entryIterator.hasNext(); i++) {
+                Map.Entry<String, GroupMembershipCacheEntry> entry = entryIterator.next();
+                if (groupCache.remove(entry.getKey(), entry.getValue())) {
+                    evictionCount.increment();
+
+                    GroupMembershipCacheListener listener = cacheListener;
+                    if (listener != null) {
+                        listener.cacheEviction(entry.getKey());
+                    }
+                }
+            }
+        }
+    }
+
+    protected List<Group> copyGroups(List<Group> groups) {
+        if (groups == null) {
+            return null;
+        }
+
+        List<Group> copies = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            copies.add(copyGroup(group));
+        }
+        return copies;
+    }
+
+    protected Group copyGroup(Group group) {
+        GroupEntityImpl copy = new GroupEntityImpl();
+        copy.setId(group.getId());
+        copy.setName(group.getName());
+        copy.setType(group.getType());
+        if (group instanceof GroupEntity) {
+            copy.setRevision(((GroupEntity) group).getRevision());
+        }
+        return copy;
+    }
+
+    protected long getCurrentTime() {
+        return clockReader.get().getCurrentTime().getTime();
+    }
+
+    public int size() {
+        return groupCache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        expiredCount.reset();
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    public GroupMembershipCacheListener getCacheListener() {
+        return cacheListener;
+    }
+
+    public void setCacheListener(GroupMembershipCacheListener cacheListener) {
+        this.cacheListener = cacheListener;
+    }
+
+    protected static class GroupMembershipCacheEntry {
+
+        protected final long timestamp;
+        protected final List<Group> groups;
+        protected volatile long lastAccess;
+
+        public GroupMembershipCacheEntry(long timestamp, long lastAccess, List<Group> groups) {
+            this.timestamp = timestamp;
+            this.lastAccess = lastAccess;
+            this.groups = groups;
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * Invalidates the {@link GroupMembershipCache} entries of the users whose memberships were changed in a command once more
+ * when the command context is closed. The entries are already invalidated when the change is made, but until the transaction
+ * is committed a concurrent command could still load and cache the previous memberships (or, on rollback, the command itself
+ * could have cached memberships that were never committed).
+ */
+public class GroupMembershipCacheCloseListener implements CommandContextCloseListener {
+
+    protected static final String ATTRIBUTE_NAME = GroupMembershipCacheCloseListener.class.getName();
+
+    protected GroupMembershipCache groupMembershipCache;
+    protected Set<String> userIds = new HashSet<>();
+    protected boolean clearAll;
+
+    public GroupMembershipCacheCloseListener(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+    }
+
+    /**
+     * Invalidates the cached groups of the given user, or all cached groups when the user id is null,
+     * both immediately and when the command context is closed.
+     */
+    public static void invalidate(CommandContext commandContext, GroupMembershipCache groupMembershipCache, String userId) {
+        if (userId != null) {
+            groupMembershipCache.invalidate(userId);
+        } else {
+            groupMembershipCache.clear();
+        }
+
+        if (commandContext == null) {
+            return;
+        }
+
+        GroupMembershipCacheCloseListener closeListener = (GroupMembershipCacheCloseListener) commandContext.getAttribute(ATTRIBUTE_NAME);
+        if (closeListener == null) {
+            closeListener = new GroupMembershipCacheCloseListener(groupMembershipCache);
+            commandContext.addAttribute(ATTRIBUTE_NAME, closeListener);
+            commandContext.addCloseListener(closeListener);
+        }
+
+        if (userId != null) {
+            closeListener.userIds.add(userId);
+        } else {
+            closeListener.clearAll = true;
+        }
+    }
+
+    protected void invalidateCache() {
+        if (clearAll) {
+            groupMembershipCache.clear();
+        } else {
+            for (String userId : userIds) {
+                groupMembershipCache.invalidate(userId);
+            }
+        }
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        invalidateCache();
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+        invalidateCache();
+    }
+
+    @Override
+    public Integer order() {
+        return 100;
+    }
+
+    @Override
+    public boolean multipleAllowed() {
+        return false;
+    }
+
+}
@@ -14,12 +14,15 @@ package org.flowable.idm.engine.impl.persistence.entity;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCacheCloseListener;
 
 /**
  * @author Joram Barrez
@@ -57,4 +60,14 @@ public abstract class AbstractIdmEngineEntityManager<EntityImpl extends Entity,
             return super.createEntityEvent(eventType, entity);
         }
     }
+
+    /**
+     * Invalidates the cached groups of the given user, or all cached groups when the user id is null.
+     */
+    protected void invalidateGroupMembershipCache(String userId) {
+        GroupMembershipCache groupMembershipCache = engineConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            GroupMembershipCacheCloseListener.invalidate(Context.getCommandContext(), groupMembershipCache, userId);
+        }
+    }
 }
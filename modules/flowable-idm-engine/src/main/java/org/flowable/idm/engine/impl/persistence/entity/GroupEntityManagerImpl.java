@@ -59,6 +59,13 @@ public class GroupEntityManagerImpl
         }
     }
 
+    @Override
+    public GroupEntity update(GroupEntity entity, boolean fireUpdateEvent) {
+        // The cached groups of the users would otherwise still contain the previous group data
+        invalidateGroupMembershipCache(null);
+        return super.update(entity, fireUpdateEvent);
+    }
+
     @Override
     public GroupQuery createNewGroupQuery() {
         return new GroupQueryImpl(getCommandExecutor());
@@ -36,6 +36,7 @@ public class MembershipEntityManagerImpl
         membershipEntity.setUserId(userId);
         membershipEntity.setGroupId(groupId);
         insert(membershipEntity, false);
+        invalidateGroupMembershipCache(userId);
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_CREATED, groupId, userId));
@@ -45,6 +46,7 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembership(String userId, String groupId) {
         dataManager.deleteMembership(userId, groupId);
+        invalidateGroupMembershipCache(userId);
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_DELETED, groupId, userId));
         }
@@ -53,11 +55,13 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembershipByGroupId(String groupId) {
         dataManager.deleteMembershipByGroupId(groupId);
+        invalidateGroupMembershipCache(null);
     }
 
     @Override
     public void deleteMembershipByUserId(String userId) {
         dataManager.deleteMembershipByUserId(userId);
+        invalidateGroupMembershipCache(userId);
     }
 
 }
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
+import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GroupMembershipCacheTest extends PluggableFlowableIdmTestCase {
+
+    protected GroupMembershipCache groupMembershipCache;
+
+    @BeforeEach
+    protected void setUp() {
+        groupMembershipCache = new GroupMembershipCache(2, 60000L, idmEngineConfiguration::getClock);
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+
+        createGroup("muppets", "Muppet show characters", "user");
+        createGroup("frogs", "Famous frogs", "user");
+
+        idmIdentityService.saveUser(idmIdentityService.newUser("kermit"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("fozzie"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("gonzo"));
+
+        idmIdentityService.createMembership("kermit", "muppets");
+        idmIdentityService.createMembership("fozzie", "muppets");
+        idmIdentityService.createMembership("gonzo", "muppets");
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        idmEngineConfiguration.setGroupMembershipCache(null);
+        idmEngineConfiguration.getClock().reset();
+        clearAllUsersAndGroups();
+    }
+
+    @Test
+    public void testGroupsOfUserAreCached() {
+        groupMembershipCache.resetStatistics();
+
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactly("muppets");
+        assertThat(groupMembershipCache.getMissCount()).isEqualTo(1);
+        assertThat(groupMembershipCache.getHitCount()).isZero();
+
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactly("muppets");
+        assertThat(groupMembershipCache.getMissCount()).isEqualTo(1);
+        assertThat(groupMembershipCache.getHitCount()).isEqualTo(1);
+
+        // Queries with other criteria are not answered from the cache
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").groupType("user").list()).hasSize(1);
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").listPage(0, 10)).hasSize(1);
+        assertThat(groupMembershipCache.getMissCount()).isEqualTo(1);
+        assertThat(groupMembershipCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCachedGroupsAreNotShared() {
+        Group muppets = idmIdentityService.createGroupQuery().groupMember("kermit").list().get(0);
+        muppets.setName("Changed by the caller");
+
+        Group cachedMuppets = idmIdentityService.createGroupQuery().groupMember("kermit").list().get(0);
+        assertThat(cachedMuppets).isNotSameAs(muppets);
+        assertThat(cachedMuppets.getName()).isEqualTo("Muppet show characters");
+
+        cachedMuppets.setName("Changed by another caller");
+        assertThat(groupMembershipCache.get("kermit"))
+                .extracting(Group::getName)
+                .containsExactly("Muppet show characters");
+    }
+
+    @Test
+    public void testMembershipChangesInvalidateCache() {
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactly("muppets");
+
+        idmIdentityService.createMembership("kermit", "frogs");
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactlyInAnyOrder("muppets", "frogs");
+
+        idmIdentityService.deleteMembership("kermit", "muppets");
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactly("frogs");
+
+        Group frogs = idmIdentityService.createGroupQuery().groupId("frogs").singleResult();
+        frogs.setName("Frogs");
+        idmIdentityService.saveGroup(frogs);
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getName)
+                .containsExactly("Frogs");
+
+        idmIdentityService.deleteGroup("frogs");
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).isEmpty();
+    }
+
+    @Test
+    public void testCacheIsBoundedAndEntriesExpire() {
+        idmEngineConfiguration.getClock().setCurrentTime(new Date());
+        groupMembershipCache.clear();
+        groupMembershipCache.resetStatistics();
+
+        idmIdentityService.createGroupQuery().groupMember("kermit").list();
+        idmIdentityService.createGroupQuery().groupMember("fozzie").list();
+        idmIdentityService.createGroupQuery().groupMember("kermit").list();
+        idmIdentityService.createGroupQuery().groupMember("gonzo").list();
+
+        // fozzie was the least recently used user
+        assertThat(groupMembershipCache.size()).isEqualTo(2);
+        assertThat(groupMembershipCache.getEvictionCount()).isEqualTo(1);
+        assertThat(groupMembershipCache.get("fozzie")).isNull();
+        assertThat(groupMembershipCache.get("kermit")).isNotNull();
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(idmEngineConfiguration.getClock().getCurrentTime().getTime() + 60000L));
+        assertThat(groupMembershipCache.get("kermit")).isNull();
+        assertThat(groupMembershipCache.getExpiredCount()).isEqualTo(1);
+    }
+
+}
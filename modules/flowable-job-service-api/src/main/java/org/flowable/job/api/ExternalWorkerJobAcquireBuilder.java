@@ -15,6 +15,7 @@ package org.flowable.job.api;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Filip Hrisafov
@@ -57,6 +58,14 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * Only return the variables with the given names for the acquired jobs.
+     * The variables of all acquired jobs are then fetched with a single query, instead of fetching all variables of every job.
+     * Passing an empty collection acquires the jobs without any variables.
+     * By default all variables are returned.
+     */
+    ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames);
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
@@ -80,4 +89,18 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries);
 
+    /**
+     * Acquire and lock the given number of jobs for the given worker id, waiting at most {@code maxWaitTime} for jobs to become available.
+     * When there are no jobs for the topic, no thread is held while waiting: the returned future is completed
+     * as soon as jobs created through this node could be acquired, or when the max wait time elapses,
+     * in which case the database is checked one last time (to pick up jobs created through other nodes).
+     * The future is completed with an empty list when no jobs could be acquired within the max wait time.
+     *
+     * @param numberOfTasks the number of jobs to acquire
+     * @param workerId the id of the worker acquiring the jobs
+     * @param numberOfRetries the number of retries if an optimistic lock exception occurs during acquiring
+     * @param maxWaitTime the maximum time to wait for jobs to become available
+     */
+    CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries, Duration maxWaitTime);
+
 }
@@ -13,6 +13,9 @@
 
 package org.flowable.job.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -26,12 +29,26 @@ public interface InternalJobManager {
     void registerScopedInternalJobManager(String scopeType, InternalJobManager internalJobManager);
 
     VariableScope resolveVariableScope(Job job);
+
+    /**
+     * Resolves the variables with the given names, as they are visible from the variable scope of each of the given jobs.
+     *
+     * @return the variables keyed by job id. Jobs without a variable scope are not present in the returned map.
+     */
+    Map<String, Map<String, Object>> resolveVariables(Collection<? extends Job> jobs, Collection<String> variableNames);
     
     boolean handleJobInsert(Job job);
     
     void handleJobDelete(Job job);
     
     void lockJobScope(Job job);
+
+    /**
+     * Moves the lock of a scope that is already locked by the lock owner of the given job to the lock expiration time of the job.
+     *
+     * @throws org.flowable.common.engine.api.FlowableOptimisticLockingException when the scope is no longer locked by the lock owner of the job
+     */
+    void extendJobScopeLock(Job job);
     
     void clearJobScopeLock(Job job);
     
@@ -23,6 +23,7 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -98,6 +99,9 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected HistoryJobEntityManager historyJobEntityManager;
     protected ExternalWorkerJobEntityManager externalWorkerJobEntityManager;
 
+    protected ExternalWorkerJobNotifier externalWorkerJobNotifier;
+    protected boolean shutdownExternalWorkerJobNotifierOnClose = true;
+
     protected CommandExecutor commandExecutor;
 
     protected ExpressionManager expressionManager;
@@ -145,6 +149,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initExternalWorkerJobNotifier();
     }
 
     @Override
@@ -219,6 +224,23 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         }
     }
 
+    public void initExternalWorkerJobNotifier() {
+        if (externalWorkerJobNotifier == null) {
+            externalWorkerJobNotifier = new ExternalWorkerJobNotifier();
+        }
+    }
+
+    /**
+     * Called when the engine owning this configuration is closed.
+     * A notifier that is shared with another engine is only shut down by the engine it was created by
+     * (see {@link #setShutdownExternalWorkerJobNotifierOnClose(boolean)}).
+     */
+    public void close() {
+        if (externalWorkerJobNotifier != null && shutdownExternalWorkerJobNotifierOnClose) {
+            externalWorkerJobNotifier.shutdown();
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -377,6 +399,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.commandExecutor = commandExecutor;
     }
 
+    public ExternalWorkerJobNotifier getExternalWorkerJobNotifier() {
+        return externalWorkerJobNotifier;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobNotifier(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        this.externalWorkerJobNotifier = externalWorkerJobNotifier;
+        return this;
+    }
+
+    public boolean isShutdownExternalWorkerJobNotifierOnClose() {
+        return shutdownExternalWorkerJobNotifierOnClose;
+    }
+
+    public JobServiceConfiguration setShutdownExternalWorkerJobNotifierOnClose(boolean shutdownExternalWorkerJobNotifierOnClose) {
+        this.shutdownExternalWorkerJobNotifierOnClose = shutdownExternalWorkerJobNotifierOnClose;
+        return this;
+    }
+
     public InternalJobManager getInternalJobManager() {
         return internalJobManager;
     }
@@ -12,7 +12,11 @@
  */
 package org.flowable.job.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -49,6 +53,46 @@ public abstract class ScopeAwareInternalJobManager implements InternalJobManager
 
     protected abstract VariableScope resolveVariableScopeInternal(Job job);
 
+    @Override
+    public final Map<String, Map<String, Object>> resolveVariables(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        List<Job> internalJobs = new ArrayList<>();
+        Map<InternalJobManager, List<Job>> jobsByInternalJobManager = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            InternalJobManager internalJobManager = findInternalJobManager(job);
+            if (internalJobManager == null) {
+                internalJobs.add(job);
+            } else {
+                jobsByInternalJobManager.computeIfAbsent(internalJobManager, key -> new ArrayList<>()).add(job);
+            }
+        }
+
+        Map<String, Map<String, Object>> variables = new HashMap<>();
+        if (!internalJobs.isEmpty()) {
+            variables.putAll(resolveVariablesInternal(internalJobs, variableNames));
+        }
+
+        for (Map.Entry<InternalJobManager, List<Job>> entry : jobsByInternalJobManager.entrySet()) {
+            variables.putAll(entry.getKey().resolveVariables(entry.getValue(), variableNames));
+        }
+
+        return variables;
+    }
+
+    /**
+     * Resolves the variables of the given jobs one variable scope at a time.
+     * Subclasses are encouraged to override this with a single query for all jobs.
+     */
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(List<Job> jobs, Collection<String> variableNames) {
+        Map<String, Map<String, Object>> variables = new HashMap<>();
+        for (Job job : jobs) {
+            VariableScope variableScope = resolveVariableScopeInternal(job);
+            if (variableScope != null) {
+                variables.put(job.getId(), variableScope.getVariables(variableNames, false));
+            }
+        }
+        return variables;
+    }
+
     @Override
     public final boolean handleJobInsert(Job job) {
         InternalJobManager internalJobManager = findInternalJobManager(job);
@@ -84,6 +128,18 @@ public abstract class ScopeAwareInternalJobManager implements InternalJobManager
 
     protected abstract void lockJobScopeInternal(Job job);
 
+    @Override
+    public final void extendJobScopeLock(Job job) {
+        InternalJobManager internalJobManager = findInternalJobManager(job);
+        if (internalJobManager == null) {
+            extendJobScopeLockInternal(job);
+        } else {
+            internalJobManager.extendJobScopeLock(job);
+        }
+    }
+
+    protected abstract void extendJobScopeLockInternal(Job job);
+
     @Override
     public final void clearJobScopeLock(Job job) {
         InternalJobManager internalJobManager = findInternalJobManager(job);
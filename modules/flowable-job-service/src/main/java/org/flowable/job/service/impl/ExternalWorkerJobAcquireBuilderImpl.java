@@ -16,6 +16,9 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -23,6 +26,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.AcquireExternalWorkerJobsCmd;
 
 /**
@@ -31,6 +35,7 @@ import org.flowable.job.service.impl.cmd.AcquireExternalWorkerJobsCmd;
 public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcquireBuilder {
 
     protected final CommandExecutor commandExecutor;
+    protected final JobServiceConfiguration jobServiceConfiguration;
 
     protected String topic;
     protected Duration lockDuration;
@@ -38,9 +43,15 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Collection<String> variableNames;
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor) {
+        this(commandExecutor, null);
+    }
+
+    public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
+        this.jobServiceConfiguration = jobServiceConfiguration;
     }
 
     @Override
@@ -106,6 +117,16 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("variableNames is null");
+        }
+
+        this.variableNames = variableNames;
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
@@ -120,6 +141,77 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return Collections.emptyList();
     }
 
+    @Override
+    public CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries,
+            Duration maxWaitTime) {
+
+        if (maxWaitTime == null) {
+            throw new FlowableIllegalArgumentException("maxWaitTime is null");
+        }
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquireAndLock(numberOfTasks, workerId, numberOfRetries);
+        ExternalWorkerJobNotifier notifier = jobServiceConfiguration != null ? jobServiceConfiguration.getExternalWorkerJobNotifier() : null;
+        if (!acquiredJobs.isEmpty() || notifier == null || notifier.isShutdown() || maxWaitTime.isZero() || maxWaitTime.isNegative()) {
+            return CompletableFuture.completedFuture(acquiredJobs);
+        }
+
+        CompletableFuture<List<AcquiredExternalWorkerJob>> result = new CompletableFuture<>();
+        waitAndAcquire(notifier, result, numberOfTasks, workerId, numberOfRetries, System.nanoTime() + maxWaitTime.toNanos());
+        return result;
+    }
+
+    protected void waitAndAcquire(ExternalWorkerJobNotifier notifier, CompletableFuture<List<AcquiredExternalWorkerJob>> result,
+            int numberOfTasks, String workerId, int numberOfRetries, long deadline) {
+
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+            result.complete(acquireAndLock(numberOfTasks, workerId, numberOfRetries));
+            return;
+        }
+
+        // The waiter is registered before checking the database again,
+        // otherwise a job committed in between the first check and the registration would be missed
+        CompletableFuture<Boolean> waiter = notifier.waitForJob(topic, Duration.ofNanos(remainingNanos));
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquireAndLock(numberOfTasks, workerId, numberOfRetries);
+        if (!acquiredJobs.isEmpty()) {
+            notifier.removeWaiter(topic, waiter);
+            waiter.cancel(false);
+            result.complete(acquiredJobs);
+            return;
+        }
+
+        try {
+            waiter.thenAcceptAsync(notified -> {
+                if (notifier.isShutdown()) {
+                    // The engine is closing, the worker should try again later
+                    result.complete(Collections.emptyList());
+
+                } else if (notified) {
+                    // Another worker might have acquired the job in the meantime, so keep waiting if nothing was acquired
+                    List<AcquiredExternalWorkerJob> jobs = acquireAndLock(numberOfTasks, workerId, numberOfRetries);
+                    if (jobs.isEmpty()) {
+                        waitAndAcquire(notifier, result, numberOfTasks, workerId, numberOfRetries, deadline);
+                    } else {
+                        result.complete(jobs);
+                    }
+
+                } else {
+                    // The max wait time elapsed. Check the database one last time for jobs that were created through other nodes
+                    result.complete(acquireAndLock(numberOfTasks, workerId, numberOfRetries));
+                }
+
+            }, notifier.getScheduledExecutorService()).whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            // The notifier was shut down after the waiter was completed
+            result.complete(Collections.emptyList());
+        }
+    }
+
     public String getTopic() {
         return topic;
     }
@@ -143,4 +235,8 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
 }
@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * Node-local notifier that wakes up parked long-poll acquisitions of external worker jobs
+ * when an external worker job for their topic has been committed through this node.
+ * Every created job wakes up a single waiter, the one that waits the longest, instead of all the waiters of the topic,
+ * so that a job doesn't make every parked worker go to the database at the same time.
+ * <p>
+ * The notification is only a hint: a woken up acquisition always goes back to the database,
+ * and a waiter that is not notified (e.g. because the job was created on another node) is completed
+ * when its maximum wait time elapses, after which the caller does a final database check.
+ * <p>
+ * The notifier is shut down when the engine owning it is closed. All parked waiters are then completed,
+ * so that long-poll acquisitions return without jobs instead of waiting for a closed engine.
+ */
+public class ExternalWorkerJobNotifier {
+
+    // The waiters of a topic are only modified within the atomic compute methods of the map, they are kept in registration order
+    protected final Map<String, Set<CompletableFuture<Boolean>>> waiters = new ConcurrentHashMap<>();
+
+    protected int schedulerPoolSize = 2;
+    protected String threadPoolNamingPattern = "flowable-external-worker-acquire-%d";
+    protected volatile ScheduledExecutorService scheduledExecutorService;
+    protected volatile boolean shutdown;
+
+    /**
+     * Registers a waiter for the given topic.
+     * The returned future is completed with {@code true} when a job for the topic was created
+     * and with {@code false} when the maximum wait time elapsed or the notifier was shut down.
+     */
+    public CompletableFuture<Boolean> waitForJob(String topic, Duration maxWaitTime) {
+        CompletableFuture<Boolean> waiter = new CompletableFuture<>();
+        waiters.compute(topic, (key, topicWaiters) -> {
+            Set<CompletableFuture<Boolean>> newTopicWaiters = topicWaiters != null ? topicWaiters : new LinkedHashSet<>();
+            newTopicWaiters.add(waiter);
+            return newTopicWaiters;
+        });
+
+        // The flag is checked after registering, so a waiter is either completed here or by the shutdown
+        if (shutdown) {
+            removeWaiter(topic, waiter);
+            waiter.complete(Boolean.FALSE);
+            return waiter;
+        }
+
+        try {
+            ScheduledFuture<?> timeout = getScheduledExecutorService().schedule(() -> {
+                removeWaiter(topic, waiter);
+                waiter.complete(Boolean.FALSE);
+            }, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+            waiter.whenComplete((notified, throwable) -> timeout.cancel(false));
+
+        } catch (RejectedExecutionException e) {
+            // Shut down in the meantime
+            removeWaiter(topic, waiter);
+            waiter.complete(Boolean.FALSE);
+        }
+
+        return waiter;
+    }
+
+    public void removeWaiter(String topic, CompletableFuture<Boolean> waiter) {
+        waiters.computeIfPresent(topic, (key, topicWaiters) -> {
+            topicWaiters.remove(waiter);
+            return topicWaiters.isEmpty() ? null : topicWaiters;
+        });
+    }
+
+    public boolean hasWaiters(String topic) {
+        return topic != null && waiters.containsKey(topic);
+    }
+
+    /**
+     * Wakes up the longest waiting waiter of the given topic, if any.
+     */
+    public void notifyJobCreated(String topic) {
+        if (topic == null) {
+            return;
+        }
+
+        CompletableFuture<Boolean> waiter = pollWaiter(topic);
+        // A waiter that timed out concurrently is already completed, the next one is woken up instead
+        while (waiter != null && !waiter.complete(Boolean.TRUE)) {
+            waiter = pollWaiter(topic);
+        }
+    }
+
+    protected CompletableFuture<Boolean> pollWaiter(String topic) {
+        AtomicReference<CompletableFuture<Boolean>> polledWaiter = new AtomicReference<>();
+        waiters.computeIfPresent(topic, (key, topicWaiters) -> {
+            Iterator<CompletableFuture<Boolean>> iterator = topicWaiters.iterator();
+            if (iterator.hasNext()) {
+                polledWaiter.set(iterator.next());
+                iterator.remove();
+            }
+            return topicWaiters.isEmpty() ? null : topicWaiters;
+        });
+        return polledWaiter.get();
+    }
+
+    /**
+     * The executor used for the timeouts and for the database acquisition of woken up waiters,
+     * so that neither the thread committing the job nor the thread of the original request is used for it.
+     */
+    public ScheduledExecutorService getScheduledExecutorService() {
+        if (scheduledExecutorService == null) {
+            synchronized (this) {
+                if (scheduledExecutorService == null) {
+                    BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                            .namingPattern(threadPoolNamingPattern)
+                            .daemon(true)
+                            .build();
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(schedulerPoolSize, threadFactory);
+                    executor.setRemoveOnCancelPolicy(true);
+                    executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+                    scheduledExecutorService = executor;
+                }
+            }
+        }
+        return scheduledExecutorService;
+    }
+
+    public void setScheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
+
+    /**
+     * Completes all parked waiters and stops the executor. The acquisitions woken up by this
+     * are still handed to the executor before it stops, they see that the notifier is shut down and return no jobs.
+     * Calling this more than once has no effect.
+     */
+    public synchronized void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+
+        for (String topic : waiters.keySet()) {
+            Set<CompletableFuture<Boolean>> topicWaiters = waiters.remove(topic);
+            if (topicWaiters != null) {
+                for (CompletableFuture<Boolean> waiter : topicWaiters) {
+                    waiter.complete(Boolean.FALSE);
+                }
+            }
+        }
+
+        if (scheduledExecutorService != null) {
+            scheduledExecutorService.shutdown();
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public int getSchedulerPoolSize() {
+        return schedulerPoolSize;
+    }
+
+    public void setSchedulerPoolSize(int schedulerPoolSize) {
+        this.schedulerPoolSize = schedulerPoolSize;
+    }
+
+    public String getThreadPoolNamingPattern() {
+        return threadPoolNamingPattern;
+    }
+
+    public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
+        this.threadPoolNamingPattern = threadPoolNamingPattern;
+    }
+}
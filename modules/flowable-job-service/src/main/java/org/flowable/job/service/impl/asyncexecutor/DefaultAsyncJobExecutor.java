@@ -24,7 +24,9 @@ import org.flowable.common.engine.impl.cfg.TransactionPropagation;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.InternalJobCompatibilityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,10 +115,24 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * If true, the exclusive jobs acquired by this executor are executed serially per process instance (or case instance) in memory,
+     * so that exclusive jobs of the same scope wait for each other on this node instead of racing for the scope lock
+     * and being unacquired when losing. Default false.
+     */
+    protected boolean nodeLocalExclusiveJobs;
+
+    protected NodeLocalExclusiveJobExecutor nodeLocalExclusiveJobExecutor;
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
         try {
-            executorService.execute(runnable);
+            String exclusiveScopeKey = getNodeLocalExclusiveScopeKey(job, runnable);
+            if (exclusiveScopeKey != null) {
+                nodeLocalExclusiveJobExecutor.execute(executorService, exclusiveScopeKey, (ExecuteAsyncRunnable) runnable);
+            } else {
+                executorService.execute(runnable);
+            }
             return true;
 
         } catch (RejectedExecutionException e) {
@@ -127,6 +143,19 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected String getNodeLocalExclusiveScopeKey(JobInfo job, Runnable runnable) {
+        if (!nodeLocalExclusiveJobs || !(job instanceof Job) || !(runnable instanceof ExecuteAsyncRunnable)) {
+            return null;
+        }
+
+        InternalJobCompatibilityManager internalJobCompatibilityManager = jobServiceConfiguration.getInternalJobCompatibilityManager();
+        if (internalJobCompatibilityManager != null && internalJobCompatibilityManager.isFlowable5Job((Job) job)) {
+            return null;
+        }
+
+        return NodeLocalExclusiveJobExecutor.getExclusiveScopeKey((Job) job);
+    }
+
     protected void unacquireJobAfterRejection(final JobInfo job) {
 
         // When a RejectedExecutionException is caught, this means that the
@@ -185,6 +214,10 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     }
 
     protected void initAsyncJobExecutionThreadPool() {
+        if (nodeLocalExclusiveJobs && nodeLocalExclusiveJobExecutor == null) {
+            nodeLocalExclusiveJobExecutor = new NodeLocalExclusiveJobExecutor();
+        }
+
         if (threadPoolQueue == null) {
             LOGGER.info("Creating thread pool queue of size {}", queueSize);
             threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
@@ -416,6 +449,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.executorService = executorService;
     }
 
+    public boolean isNodeLocalExclusiveJobs() {
+        return nodeLocalExclusiveJobs;
+    }
+
+    public void setNodeLocalExclusiveJobs(boolean nodeLocalExclusiveJobs) {
+        this.nodeLocalExclusiveJobs = nodeLocalExclusiveJobs;
+    }
+
+    public NodeLocalExclusiveJobExecutor getNodeLocalExclusiveJobExecutor() {
+        return nodeLocalExclusiveJobExecutor;
+    }
+
+    public void setNodeLocalExclusiveJobExecutor(NodeLocalExclusiveJobExecutor nodeLocalExclusiveJobExecutor) {
+        this.nodeLocalExclusiveJobExecutor = nodeLocalExclusiveJobExecutor;
+    }
+
     public String getThreadPoolNamingPattern() {
         return threadPoolNamingPattern;
     }
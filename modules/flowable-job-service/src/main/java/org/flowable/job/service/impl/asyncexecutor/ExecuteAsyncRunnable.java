@@ -27,6 +27,7 @@ import org.flowable.job.service.InternalJobCompatibilityManager;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.ExecuteAsyncJobCmd;
 import org.flowable.job.service.impl.cmd.LockExclusiveJobCmd;
+import org.flowable.job.service.impl.cmd.LockQueuedExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
@@ -48,6 +49,7 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobServiceConfiguration jobServiceConfiguration;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
+    protected boolean scopeLockedByQueue;
 
     public ExecuteAsyncRunnable(String jobId, JobServiceConfiguration jobServiceConfiguration,
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
@@ -124,20 +126,27 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void executeJob(final boolean unlock) {
-        try {
-            jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
-                @Override
-                public Void execute(CommandContext commandContext) {
-                    new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
-                    if (unlock) {
-                        // Part of the same transaction to avoid a race condition with the
-                        // potentially new jobs (wrt process instance locking) that are created 
-                        // during the execution of the original job 
-                        new UnlockExclusiveJobCmd((Job) job).execute(commandContext);
-                    }
-                    return null;
+        executeJob(new Command<Void>() {
+            @Override
+            public Void execute(CommandContext commandContext) {
+                new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
+                if (unlock) {
+                    // Part of the same transaction to avoid a race condition with the
+                    // potentially new jobs (wrt process instance locking) that are created 
+                    // during the execution of the original job 
+                    new UnlockExclusiveJobCmd((Job) job).execute(commandContext);
                 }
-            });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * @return the result of the command, or null when the job failed
+     */
+    protected <T> T executeJob(Command<T> command) {
+        try {
+            return jobServiceConfiguration.getCommandExecutor().execute(command);
 
         } catch (final FlowableOptimisticLockingException e) {
 
@@ -157,6 +166,72 @@ public class ExecuteAsyncRunnable implements Runnable {
         } catch (Throwable exception) {
             handleFailedJob(exception);
         }
+
+        return null;
+    }
+
+    /**
+     * Executes an exclusive job that was queued in memory behind the other exclusive jobs of its scope on this node,
+     * see {@link NodeLocalExclusiveJobExecutor}. The scope is locked by the first job taken from the queue and stays locked
+     * after the job, also when the job fails. The following jobs extend the scope lock in their own transaction.
+     * The queue unlocks the scope with {@link #unlockQueuedScope()} once it is drained.
+     *
+     * @param scopeLocked whether the scope was locked by a job queued before this one
+     */
+    protected void executeQueuedExclusiveJob(boolean scopeLocked) {
+        if (scopeLocked) {
+            scopeLockedByQueue = true;
+            if (!executeJobWithExtendedScopeLock()) {
+                // Another node locked the scope after the lock of this node expired
+                scopeLockedByQueue = false;
+                unacquireJob();
+            }
+
+        } else if (lockQueuedJob()) {
+            scopeLockedByQueue = true;
+            executeJob(false);
+        }
+    }
+
+    /**
+     * @return false when the scope is no longer locked by this node, in which case the job was not executed
+     */
+    protected boolean executeJobWithExtendedScopeLock() {
+        String lockOwner = job instanceof JobInfoEntity ? ((JobInfoEntity) job).getLockOwner() : null;
+        Boolean scopeLocked = executeJob(new Command<Boolean>() {
+            @Override
+            public Boolean execute(CommandContext commandContext) {
+                try {
+                    if (!new LockQueuedExclusiveJobCmd(jobId, lockOwner, true).execute(commandContext)) {
+                        // The job was reset or executed in the meantime, the scope lock is unchanged
+                        return true;
+                    }
+                } catch (FlowableOptimisticLockingException e) {
+                    LOGGER.debug("Scope of queued exclusive job {} is no longer locked by {}", jobId, lockOwner);
+                    return false;
+                }
+
+                new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
+                return true;
+            }
+        });
+
+        return !Boolean.FALSE.equals(scopeLocked);
+    }
+
+    /**
+     * @return whether the scope of this queued exclusive job is locked by this node after the job was executed
+     */
+    protected boolean isScopeLockedByQueue() {
+        return scopeLockedByQueue;
+    }
+
+    /**
+     * Unlocks the scope of the last job of a drained queue of exclusive jobs, see {@link #executeQueuedExclusiveJob(boolean)}.
+     */
+    protected void unlockQueuedScope() {
+        scopeLockedByQueue = false;
+        unlockJobIfNeeded();
     }
 
     protected void unlockJobIfNeeded() {
@@ -164,6 +239,11 @@ public class ExecuteAsyncRunnable implements Runnable {
             return;
             // no unlocking needed for history job
         }
+
+        if (scopeLockedByQueue) {
+            // The scope is unlocked once all the queued jobs of the scope are executed
+            return;
+        }
         
         Job job = (Job) this.job; // This method is only called for a regular Job
         try {
@@ -203,6 +283,22 @@ public class ExecuteAsyncRunnable implements Runnable {
         return true;
     }
 
+    protected boolean lockQueuedJob() {
+        String lockOwner = job instanceof JobInfoEntity ? ((JobInfoEntity) job).getLockOwner() : null;
+        try {
+            // The job isn't unacquired when it is no longer owned by this node, another node might be executing it already
+            return jobServiceConfiguration.getCommandExecutor().execute(new LockQueuedExclusiveJobCmd(jobId, lockOwner));
+
+        } catch (Throwable lockException) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Could not lock queued exclusive job. Unlocking job so it can be acquired again. Caught exception: {}", lockException.getMessage());
+            }
+
+            unacquireJob();
+            return false;
+        }
+    }
+
     protected void unacquireJob() {
         CommandContext commandContext = Context.getCommandContext();
         if (commandContext != null) {
@@ -218,6 +314,14 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    public String getJobId() {
+        return jobId;
+    }
+
+    public JobInfo getJob() {
+        return job;
+    }
+
     protected void handleFailedJob(final Throwable exception) {
         for (AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler : asyncRunnableExecutionExceptionHandlers) {
             if (asyncRunnableExecutionExceptionHandler.handleException(this.jobServiceConfiguration, this.job, exception)) {
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.api.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the exclusive jobs acquired by this node serially per process instance (or case instance),
+ * instead of letting them race for the scope lock in the database.
+ * <p>
+ * Exclusive jobs of a scope that are handed to this node while another job of the same scope is running are queued in memory
+ * and executed one after the other on the same thread. The first job taken from the queue locks the scope, renewing its own
+ * acquisition lock at the same time, and the scope stays locked until the queue is drained. Every following job renews its own lock
+ * and extends the scope lock in its own transaction, so neither the scope lock nor the job locks can expire while jobs are waiting in the queue,
+ * and no separate lock and unlock transactions are needed per job.
+ * A queued job that is no longer acquired by this node when it is taken from the queue is skipped.
+ * When the scope lock cannot be obtained or was taken over by another node, the job is unacquired,
+ * which is the same fallback as the regular exclusive job execution.
+ * <p>
+ * Jobs of a scope that are acquired by another node are not routed to the node holding the scope lock,
+ * they keep failing to lock the scope and are unacquired until the scope is unlocked.
+ */
+public class NodeLocalExclusiveJobExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeLocalExclusiveJobExecutor.class);
+
+    protected final Map<String, LinkedList<ExecuteAsyncRunnable>> queuedJobsByScope = new HashMap<>();
+
+    /**
+     * @return the key used to serialize the given job, or null if the job is not eligible for node local serial execution.
+     */
+    public static String getExclusiveScopeKey(Job job) {
+        if (!job.isExclusive()) {
+            return null;
+        }
+
+        if (job.getProcessInstanceId() != null) {
+            return job.getProcessInstanceId();
+
+        } else if (job.getScopeId() != null) {
+            return job.getScopeType() + ":" + job.getScopeId();
+        }
+
+        return null;
+    }
+
+    /**
+     * Queues the given runnable behind the running jobs of the same scope, or starts executing the jobs of the scope on the executor service.
+     *
+     * @throws RejectedExecutionException when the executor service cannot execute the jobs of a new scope
+     */
+    public void execute(ExecutorService executorService, String scopeKey, ExecuteAsyncRunnable runnable) {
+        synchronized (queuedJobsByScope) {
+            LinkedList<ExecuteAsyncRunnable> queuedJobs = queuedJobsByScope.get(scopeKey);
+            if (queuedJobs != null) {
+                queuedJobs.add(runnable);
+                return;
+            }
+
+            queuedJobs = new LinkedList<>();
+            queuedJobs.add(runnable);
+            queuedJobsByScope.put(scopeKey, queuedJobs);
+        }
+
+        try {
+            executorService.execute(() -> executeQueuedJobs(scopeKey));
+
+        } catch (RejectedExecutionException e) {
+            LinkedList<ExecuteAsyncRunnable> queuedJobs;
+            synchronized (queuedJobsByScope) {
+                queuedJobs = queuedJobsByScope.remove(scopeKey);
+            }
+
+            // Jobs of the same scope that were queued in the meantime are released as well, the caller handles the rejected job
+            for (ExecuteAsyncRunnable queuedJob : queuedJobs) {
+                if (queuedJob != runnable) {
+                    queuedJob.unacquireJob();
+                }
+            }
+            throw e;
+        }
+    }
+
+    protected void executeQueuedJobs(String scopeKey) {
+        // The last executed job that left the scope locked, used to unlock the scope when the queue is drained
+        ExecuteAsyncRunnable scopeLockingRunnable = null;
+        while (true) {
+            ExecuteAsyncRunnable runnable;
+            synchronized (queuedJobsByScope) {
+                LinkedList<ExecuteAsyncRunnable> queuedJobs = queuedJobsByScope.get(scopeKey);
+                runnable = queuedJobs.poll();
+                if (runnable == null && scopeLockingRunnable == null) {
+                    queuedJobsByScope.remove(scopeKey);
+                    return;
+                }
+            }
+
+            if (runnable == null) {
+                // The queue stays registered while unlocking, jobs handed over in the meantime are executed by this thread and lock the scope again
+                try {
+                    scopeLockingRunnable.unlockQueuedScope();
+                } catch (Throwable t) {
+                    LOGGER.error("Exception while unlocking scope {}", scopeKey, t);
+                }
+                scopeLockingRunnable = null;
+                continue;
+            }
+
+            try {
+                runnable.executeQueuedExclusiveJob(scopeLockingRunnable != null);
+            } catch (Throwable t) {
+                LOGGER.error("Exception while executing exclusive job {} of scope {}", runnable.getJobId(), scopeKey, t);
+            }
+            scopeLockingRunnable = runnable.isScopeLockedByQueue() ? runnable : null;
+        }
+    }
+
+    public int getNumberOfQueuedScopes() {
+        synchronized (queuedJobsByScope) {
+            return queuedJobsByScope.size();
+        }
+    }
+
+}
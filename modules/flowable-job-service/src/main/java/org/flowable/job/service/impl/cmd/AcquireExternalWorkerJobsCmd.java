@@ -14,6 +14,8 @@ package org.flowable.job.service.impl.cmd;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
@@ -72,13 +74,25 @@ public class AcquireExternalWorkerJobsCmd implements Command<List<AcquiredExtern
         int lockTimeInMillis = (int) builder.getLockDuration().abs().toMillis();
         List<AcquiredExternalWorkerJob> acquiredJobs = new ArrayList<>(jobs.size());
 
+        Collection<String> variableNames = builder.getVariableNames();
+        Map<String, Map<String, Object>> variablesByJobId = Collections.emptyMap();
+        if (internalJobManager != null && variableNames != null && !variableNames.isEmpty() && !jobs.isEmpty()) {
+            // Fetch only the requested variables, for all jobs at once
+            variablesByJobId = internalJobManager.resolveVariables(jobs, variableNames);
+        }
+
         for (ExternalWorkerJobEntity job : jobs) {
             lockJob(commandContext, job, lockTimeInMillis);
             Map<String, Object> variables = null;
             if (internalJobManager != null) {
-                VariableScope variableScope = internalJobManager.resolveVariableScope(job);
-                if (variableScope != null) {
-                    variables = variableScope.getVariables();
+                if (variableNames == null) {
+                    VariableScope variableScope = internalJobManager.resolveVariableScope(job);
+                    if (variableScope != null) {
+                        variables = variableScope.getVariables();
+                    }
+
+                } else {
+                    variables = variablesByJobId.getOrDefault(job.getId(), Collections.emptyMap());
                 }
 
                 if (job.isExclusive()) {
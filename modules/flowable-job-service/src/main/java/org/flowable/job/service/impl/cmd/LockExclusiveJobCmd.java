@@ -50,7 +50,9 @@ public class LockExclusiveJobCmd implements Command<Object>, Serializable {
         }
 
         if (job.isExclusive()) {
-            if (job.getExecutionId() != null || job.getScopeId() != null) {
+            // Jobs that are only linked to the process instance (e.g. the parallel multi instance completion jobs) lock the process instance too,
+            // in the same way as they are unlocked by the UnlockExclusiveJobCmd
+            if (job.getExecutionId() != null || job.getProcessInstanceId() != null || job.getScopeId() != null) {
                 InternalJobManager internalJobManager = CommandContextUtil.getJobServiceConfiguration().getInternalJobManager();
                 if (internalJobManager != null) {
                     internalJobManager.lockJobScope(job);
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Locks the scope of an exclusive job that was queued in memory after its acquisition.
+ * <p>
+ * The acquisition lock of the job could have expired while the job was queued, so the job is only locked
+ * when it is still owned by the given lock owner. Its lock expiration time is then renewed and used for the scope lock.
+ * When the scope is already locked by the lock owner (because a job queued before this one locked it), the scope lock is extended instead
+ * and a {@link org.flowable.common.engine.api.FlowableOptimisticLockingException} is thrown when the scope is no longer locked by the lock owner.
+ * Returns false when the job was executed, deleted or reset in the meantime.
+ */
+public class LockQueuedExclusiveJobCmd implements Command<Boolean>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LockQueuedExclusiveJobCmd.class);
+
+    protected String jobId;
+    protected String lockOwner;
+    protected boolean scopeLocked;
+
+    public LockQueuedExclusiveJobCmd(String jobId, String lockOwner) {
+        this(jobId, lockOwner, false);
+    }
+
+    public LockQueuedExclusiveJobCmd(String jobId, String lockOwner, boolean scopeLocked) {
+        this.jobId = jobId;
+        this.lockOwner = lockOwner;
+        this.scopeLocked = scopeLocked;
+    }
+
+    @Override
+    public Boolean execute(CommandContext commandContext) {
+        if (jobId == null) {
+            throw new FlowableIllegalArgumentException("jobId is null");
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        JobEntity job = jobServiceConfiguration.getJobEntityManager().findById(jobId);
+        if (job == null || job.getLockOwner() == null || !Objects.equals(lockOwner, job.getLockOwner())) {
+            LOGGER.debug("Queued exclusive job {} is no longer acquired by {}", jobId, lockOwner);
+            return false;
+        }
+
+        AsyncExecutor asyncExecutor = jobServiceConfiguration.getAsyncExecutor();
+        GregorianCalendar gregorianCalendar = new GregorianCalendar();
+        gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
+        gregorianCalendar.add(Calendar.MILLISECOND, asyncExecutor.getAsyncJobLockTimeInMillis());
+        job.setLockExpirationTime(gregorianCalendar.getTime());
+
+        if (job.getExecutionId() != null || job.getProcessInstanceId() != null || job.getScopeId() != null) {
+            InternalJobManager internalJobManager = jobServiceConfiguration.getInternalJobManager();
+            if (internalJobManager != null) {
+                if (scopeLocked) {
+                    internalJobManager.extendJobScopeLock(job);
+                } else {
+                    internalJobManager.lockJobScope(job);
+                }
+            }
+        }
+
+        return true;
+    }
+}
@@ -15,9 +15,15 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
@@ -55,9 +61,58 @@ public class ExternalWorkerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        notifyExternalWorkerJobCreated(jobEntity);
         return true;
     }
 
+    protected void notifyExternalWorkerJobCreated(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobNotifier notifier = serviceConfiguration.getExternalWorkerJobNotifier();
+        String topic = jobEntity.getJobHandlerConfiguration();
+        if (notifier == null || topic == null) {
+            return;
+        }
+
+        // Waiting workers should only be woken up once the job is visible to them.
+        // The waiters are only looked up after the commit, a worker that starts waiting before the commit is woken up as well
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> notifier.notifyJobCreated(topic));
+        } else {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null) {
+                commandContext.addCloseListener(new CommandContextCloseListener() {
+
+                    @Override
+                    public void closing(CommandContext commandContext) {
+                    }
+
+                    @Override
+                    public void afterSessionsFlush(CommandContext commandContext) {
+                    }
+
+                    @Override
+                    public void closed(CommandContext commandContext) {
+                        notifier.notifyJobCreated(topic);
+                    }
+
+                    @Override
+                    public void closeFailure(CommandContext commandContext) {
+                    }
+
+                    @Override
+                    public Integer order() {
+                        return 10;
+                    }
+
+                    @Override
+                    public boolean multipleAllowed() {
+                        return true;
+                    }
+                });
+            }
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
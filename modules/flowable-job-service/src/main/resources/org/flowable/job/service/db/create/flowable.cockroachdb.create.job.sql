@@ -258,6 +258,6 @@ alter table ACT_RU_EXTERNAL_JOB
     foreign key (CUSTOM_VALUES_ID_)
     references ACT_GE_BYTEARRAY (ID_);
 
-insert into ACT_GE_PROPERTY values ('job.schema.version', '6.5.1.5', 1);
+insert into ACT_GE_PROPERTY values ('job.schema.version', '6.5.1.6', 1);
 
 -- force-commit
\ No newline at end of file
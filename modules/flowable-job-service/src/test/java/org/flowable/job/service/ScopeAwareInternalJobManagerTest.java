@@ -41,6 +41,7 @@ class ScopeAwareInternalJobManagerTest {
         Job insertJob = mock(Job.class, "insertJob");
         Job deleteJob = mock(Job.class, "deleteJob");
         Job lockJob = mock(Job.class, "lockJob");
+        Job extendLockJob = mock(Job.class, "extendLockJob");
         Job clearLockJob = mock(Job.class, "clearLockJob");
         JobEntity timerDeleteJob = mock(JobEntity.class, "timerDeleteJob");
         TimerJobEntity repeatedTimerSchedule = mock(TimerJobEntity.class, "repeatedTimerSchedule");
@@ -58,6 +59,7 @@ class ScopeAwareInternalJobManagerTest {
         assertThat(underTest.handleJobInsert(insertJob)).isTrue();
         underTest.handleJobDelete(deleteJob);
         underTest.lockJobScope(lockJob);
+        underTest.extendJobScopeLock(extendLockJob);
         underTest.clearJobScopeLock(clearLockJob);
         underTest.preTimerJobDelete(timerDeleteJob, timerDeleteJobScope);
         underTest.preRepeatedTimerSchedule(repeatedTimerSchedule, repeatedTimerScheduleScope);
@@ -68,6 +70,7 @@ class ScopeAwareInternalJobManagerTest {
                         "handleJobInsertInternal",
                         "handleJobDeleteInternal",
                         "lockJobScopeInternal",
+                        "extendJobScopeLockInternal",
                         "clearJobScopeLockInternal",
                         "preTimerJobDeleteInternal",
                         "preRepeatedTimerScheduleInternal"
@@ -75,6 +78,7 @@ class ScopeAwareInternalJobManagerTest {
 
         assertThat(manager.jobDeleteInternal).isEqualTo(deleteJob);
         assertThat(manager.lockJobScopeInternal).isEqualTo(lockJob);
+        assertThat(manager.extendJobScopeLockInternal).isEqualTo(extendLockJob);
         assertThat(manager.clearJobScopeInternal).isEqualTo(clearLockJob);
         assertThat(manager.timerJobDeleteInternal).isEqualTo(timerDeleteJob);
         assertThat(manager.timerJobDeleteInternalVariableScope).isEqualTo(timerDeleteJobScope);
@@ -91,6 +95,7 @@ class ScopeAwareInternalJobManagerTest {
         Job insertJob = mockBpmnJob(Job.class, "insertJob");
         Job deleteJob = mockBpmnJob(Job.class, "deleteJob");
         Job lockJob = mockBpmnJob(Job.class, "lockJob");
+        Job extendLockJob = mockBpmnJob(Job.class, "extendLockJob");
         Job clearLockJob = mockBpmnJob(Job.class, "clearLockJob");
         JobEntity timerDeleteJob = mockBpmnJob(JobEntity.class, "timerDeleteJob");
         TimerJobEntity repeatedTimerSchedule = mockBpmnJob(TimerJobEntity.class, "repeatedTimerSchedule");
@@ -110,6 +115,7 @@ class ScopeAwareInternalJobManagerTest {
         assertThat(underTest.handleJobInsert(insertJob)).isTrue();
         underTest.handleJobDelete(deleteJob);
         underTest.lockJobScope(lockJob);
+        underTest.extendJobScopeLock(extendLockJob);
         underTest.clearJobScopeLock(clearLockJob);
         underTest.preTimerJobDelete(timerDeleteJob, timerDeleteJobScope);
         underTest.preRepeatedTimerSchedule(repeatedTimerSchedule, repeatedTimerScheduleScope);
@@ -120,6 +126,7 @@ class ScopeAwareInternalJobManagerTest {
                         "handleJobInsertInternal",
                         "handleJobDeleteInternal",
                         "lockJobScopeInternal",
+                        "extendJobScopeLockInternal",
                         "clearJobScopeLockInternal",
                         "preTimerJobDeleteInternal",
                         "preRepeatedTimerScheduleInternal"
@@ -127,6 +134,7 @@ class ScopeAwareInternalJobManagerTest {
 
         assertThat(bpmnManager.jobDeleteInternal).isEqualTo(deleteJob);
         assertThat(bpmnManager.lockJobScopeInternal).isEqualTo(lockJob);
+        assertThat(bpmnManager.extendJobScopeLockInternal).isEqualTo(extendLockJob);
         assertThat(bpmnManager.clearJobScopeInternal).isEqualTo(clearLockJob);
         assertThat(bpmnManager.timerJobDeleteInternal).isEqualTo(timerDeleteJob);
         assertThat(bpmnManager.timerJobDeleteInternalVariableScope).isEqualTo(timerDeleteJobScope);
@@ -145,6 +153,7 @@ class ScopeAwareInternalJobManagerTest {
         Job insertJob = mockCmmnJob(Job.class, "insertJob");
         Job deleteJob = mockCmmnJob(Job.class, "deleteJob");
         Job lockJob = mockCmmnJob(Job.class, "lockJob");
+        Job extendLockJob = mockCmmnJob(Job.class, "extendLockJob");
         Job clearLockJob = mockCmmnJob(Job.class, "clearLockJob");
         JobEntity timerDeleteJob = mockCmmnJob(JobEntity.class, "timerDeleteJob");
         TimerJobEntity repeatedTimerSchedule = mockCmmnJob(TimerJobEntity.class, "repeatedTimerSchedule");
@@ -164,6 +173,7 @@ class ScopeAwareInternalJobManagerTest {
         assertThat(underTest.handleJobInsert(insertJob)).isTrue();
         underTest.handleJobDelete(deleteJob);
         underTest.lockJobScope(lockJob);
+        underTest.extendJobScopeLock(extendLockJob);
         underTest.clearJobScopeLock(clearLockJob);
         underTest.preTimerJobDelete(timerDeleteJob, timerDeleteJobScope);
         underTest.preRepeatedTimerSchedule(repeatedTimerSchedule, repeatedTimerScheduleScope);
@@ -174,6 +184,7 @@ class ScopeAwareInternalJobManagerTest {
                         "handleJobInsertInternal",
                         "handleJobDeleteInternal",
                         "lockJobScopeInternal",
+                        "extendJobScopeLockInternal",
                         "clearJobScopeLockInternal",
                         "preTimerJobDeleteInternal",
                         "preRepeatedTimerScheduleInternal"
@@ -181,6 +192,7 @@ class ScopeAwareInternalJobManagerTest {
 
         assertThat(cmmnManager.jobDeleteInternal).isEqualTo(deleteJob);
         assertThat(cmmnManager.lockJobScopeInternal).isEqualTo(lockJob);
+        assertThat(cmmnManager.extendJobScopeLockInternal).isEqualTo(extendLockJob);
         assertThat(cmmnManager.clearJobScopeInternal).isEqualTo(clearLockJob);
         assertThat(cmmnManager.timerJobDeleteInternal).isEqualTo(timerDeleteJob);
         assertThat(cmmnManager.timerJobDeleteInternalVariableScope).isEqualTo(timerDeleteJobScope);
@@ -208,6 +220,7 @@ class ScopeAwareInternalJobManagerTest {
         protected Map<Job, Boolean> insertJobInternalByJob = new HashMap<>();
         protected Job jobDeleteInternal;
         protected Job lockJobScopeInternal;
+        protected Job extendJobScopeLockInternal;
         protected Job clearJobScopeInternal;
         protected Job timerJobDeleteInternal;
         protected VariableScope timerJobDeleteInternalVariableScope;
@@ -239,6 +252,12 @@ class ScopeAwareInternalJobManagerTest {
             lockJobScopeInternal = job;
         }
 
+        @Override
+        protected void extendJobScopeLockInternal(Job job) {
+            invokedMethods.add("extendJobScopeLockInternal");
+            extendJobScopeLockInternal = job;
+        }
+
         @Override
         protected void clearJobScopeLockInternal(Job job) {
             invokedMethods.add("clearJobScopeLockInternal");
@@ -0,0 +1,262 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.junit.jupiter.api.Test;
+
+class NodeLocalExclusiveJobExecutorTest {
+
+    protected static final JobServiceConfiguration JOB_SERVICE_CONFIGURATION = new JobServiceConfiguration("test");
+    protected List<String> executions = new ArrayList<>();
+
+    @Test
+    void exclusiveJobsOfSameProcessInstanceAreExecutedSerially() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        NodeLocalExclusiveJobExecutor executor = new NodeLocalExclusiveJobExecutor();
+
+        executor.execute(executorService, "pi1", new RecordingRunnable("job1", true));
+        executor.execute(executorService, "pi1", new RecordingRunnable("job2", true));
+        executor.execute(executorService, "pi2", new RecordingRunnable("job3", true));
+        executor.execute(executorService, "pi1", new RecordingRunnable("job4", true));
+
+        assertThat(executorService.submitted).hasSize(2);
+        assertThat(executor.getNumberOfQueuedScopes()).isEqualTo(2);
+
+        executorService.runAll();
+
+        // The first job locks the scope, the following jobs extend the lock and the scope is unlocked once the queue is drained
+        assertThat(executions).containsExactly(
+                "job1 locked", "job1 executed unlock=false",
+                "job2 executed with extended scope lock",
+                "job4 executed with extended scope lock",
+                "job4 unlocked scope",
+                "job3 locked", "job3 executed unlock=false",
+                "job3 unlocked scope");
+        assertThat(executor.getNumberOfQueuedScopes()).isZero();
+    }
+
+    @Test
+    void jobIsSkippedWhenItCannotBeLocked() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        NodeLocalExclusiveJobExecutor executor = new NodeLocalExclusiveJobExecutor();
+
+        executor.execute(executorService, "pi1", new RecordingRunnable("job1", false));
+        executor.execute(executorService, "pi1", new RecordingRunnable("job2", true));
+        executorService.runAll();
+
+        assertThat(executions).containsExactly(
+                "job1 not locked",
+                "job2 locked", "job2 executed unlock=false",
+                "job2 unlocked scope");
+    }
+
+    @Test
+    void scopeIsLockedAgainWhenLockWasTakenOver() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        NodeLocalExclusiveJobExecutor executor = new NodeLocalExclusiveJobExecutor();
+
+        executor.execute(executorService, "pi1", new RecordingRunnable("job1", true));
+        executor.execute(executorService, "pi1", new RecordingRunnable("job2", true, false));
+        executor.execute(executorService, "pi1", new RecordingRunnable("job3", true));
+        executorService.runAll();
+
+        assertThat(executions).containsExactly(
+                "job1 locked", "job1 executed unlock=false",
+                "job2 lost scope lock", "job2 unacquired",
+                "job3 locked", "job3 executed unlock=false",
+                "job3 unlocked scope");
+    }
+
+    @Test
+    void jobHandedOverWhileUnlockingLocksScopeAgain() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        NodeLocalExclusiveJobExecutor executor = new NodeLocalExclusiveJobExecutor();
+
+        executor.execute(executorService, "pi1", new RecordingRunnable("job1", true) {
+
+            @Override
+            protected void unlockQueuedScope() {
+                super.unlockQueuedScope();
+                executor.execute(executorService, "pi1", new RecordingRunnable("job2", true));
+            }
+        });
+        executorService.runAll();
+
+        assertThat(executorService.submitted).hasSize(1);
+        assertThat(executions).containsExactly(
+                "job1 locked", "job1 executed unlock=false",
+                "job1 unlocked scope",
+                "job2 locked", "job2 executed unlock=false",
+                "job2 unlocked scope");
+        assertThat(executor.getNumberOfQueuedScopes()).isZero();
+    }
+
+    @Test
+    void failingJobDoesNotStopQueue() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        NodeLocalExclusiveJobExecutor executor = new NodeLocalExclusiveJobExecutor();
+
+        executor.execute(executorService, "pi1", new RecordingRunnable("job1", true) {
+
+            @Override
+            protected void executeJob(boolean unlock) {
+                throw new IllegalStateException("job failure");
+            }
+        });
+        executor.execute(executorService, "pi1", new RecordingRunnable("job2", true));
+        executorService.runAll();
+
+        // The scope stays locked after the failing job
+        assertThat(executions).containsExactly(
+                "job1 locked",
+                "job2 executed with extended scope lock",
+                "job2 unlocked scope");
+        assertThat(executor.getNumberOfQueuedScopes()).isZero();
+    }
+
+    @Test
+    void queuedJobsAreUnacquiredOnRejection() {
+        NodeLocalExclusiveJobExecutor executor = new NodeLocalExclusiveJobExecutor();
+        ManualExecutorService executorService = new ManualExecutorService() {
+
+            @Override
+            public void execute(Runnable command) {
+                // Another job of the same scope is handed over before the rejection
+                executor.execute(this, "pi1", new RecordingRunnable("job2", true));
+                throw new RejectedExecutionException("queue full");
+            }
+        };
+
+        assertThatThrownBy(() -> executor.execute(executorService, "pi1", new RecordingRunnable("job1", true)))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        assertThat(executions).containsExactly("job2 unacquired");
+        assertThat(executor.getNumberOfQueuedScopes()).isZero();
+    }
+
+    @Test
+    void exclusiveScopeKey() {
+        Job processJob = mock(Job.class);
+        when(processJob.isExclusive()).thenReturn(true);
+        when(processJob.getProcessInstanceId()).thenReturn("pi1");
+        assertThat(NodeLocalExclusiveJobExecutor.getExclusiveScopeKey(processJob)).isEqualTo("pi1");
+
+        Job caseJob = mock(Job.class);
+        when(caseJob.isExclusive()).thenReturn(true);
+        when(caseJob.getScopeId()).thenReturn("ci1");
+        when(caseJob.getScopeType()).thenReturn("cmmn");
+        assertThat(NodeLocalExclusiveJobExecutor.getExclusiveScopeKey(caseJob)).isEqualTo("cmmn:ci1");
+
+        Job nonExclusiveJob = mock(Job.class);
+        when(nonExclusiveJob.getProcessInstanceId()).thenReturn("pi1");
+        assertThat(NodeLocalExclusiveJobExecutor.getExclusiveScopeKey(nonExclusiveJob)).isNull();
+    }
+
+    protected class RecordingRunnable extends ExecuteAsyncRunnable {
+
+        protected final boolean lockSucceeds;
+        protected final boolean extendLockSucceeds;
+
+        public RecordingRunnable(String jobId, boolean lockSucceeds) {
+            this(jobId, lockSucceeds, true);
+        }
+
+        public RecordingRunnable(String jobId, boolean lockSucceeds, boolean extendLockSucceeds) {
+            super(jobId, JOB_SERVICE_CONFIGURATION, null, null);
+            this.lockSucceeds = lockSucceeds;
+            this.extendLockSucceeds = extendLockSucceeds;
+        }
+
+        @Override
+        protected boolean lockQueuedJob() {
+            executions.add(jobId + (lockSucceeds ? " locked" : " not locked"));
+            return lockSucceeds;
+        }
+
+        @Override
+        protected void executeJob(boolean unlock) {
+            executions.add(jobId + " executed unlock=" + unlock);
+        }
+
+        @Override
+        protected boolean executeJobWithExtendedScopeLock() {
+            executions.add(jobId + (extendLockSucceeds ? " executed with extended scope lock" : " lost scope lock"));
+            return extendLockSucceeds;
+        }
+
+        @Override
+        protected void unlockQueuedScope() {
+            scopeLockedByQueue = false;
+            executions.add(jobId + " unlocked scope");
+        }
+
+        @Override
+        protected void unacquireJob() {
+            executions.add(jobId + " unacquired");
+        }
+    }
+
+    protected static class ManualExecutorService extends AbstractExecutorService {
+
+        protected final List<Runnable> submitted = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            submitted.add(command);
+        }
+
+        public void runAll() {
+            for (Runnable runnable : submitted) {
+                runnable.run();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+}
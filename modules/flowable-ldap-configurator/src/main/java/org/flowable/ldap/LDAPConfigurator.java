@@ -59,8 +59,11 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
         
         super.configure(engineConfiguration);
         
-        getIdmEngineConfiguration(engineConfiguration)
-                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache));
+        IdmEngineConfiguration ldapIdmEngineConfiguration = getIdmEngineConfiguration(engineConfiguration);
+        ldapIdmEngineConfiguration.setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache));
+        if (ldapGroupCache != null) {
+            ldapIdmEngineConfiguration.setGroupMembershipCache(ldapGroupCache);
+        }
     }
 
     // Getters and Setters //////////////////////////////////////////////////
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.ldap;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.util.EngineServiceUtil;
+import org.flowable.idm.api.Group;
+import org.flowable.ldap.LDAPConfiguration;
+import org.flowable.ldap.LDAPContextPool;
+import org.flowable.ldap.LDAPIdentityServiceImpl;
+import org.flowable.ldap.LDAPTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration("classpath:flowable-context-ldap-pool.xml")
+public class LdapConnectionPoolTest extends LDAPTestCase {
+
+    @Test
+    public void testConnectionsAreReused() {
+        LDAPContextPool contextPool = getContextPool();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+            assertTrue(identityService.checkPassword("kermit", "pass"));
+        }
+
+        assertEquals(0, contextPool.getNumActive());
+        assertEquals(1, contextPool.getNumIdle());
+    }
+
+    @Test
+    public void testValidContextIsReusedAfterFailure() {
+        LDAPContextPool contextPool = getContextPool();
+        assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        assertEquals(1, contextPool.getNumIdle());
+
+        LDAPTemplate ldapTemplate = new LDAPTemplate(getLdapConfiguration());
+        try {
+            ldapTemplate.execute(initialDirContext -> {
+                throw new FlowableException("failure");
+            });
+            fail();
+        } catch (FlowableException e) {
+            // expected
+        }
+
+        // The context is still valid, so it is returned to the pool
+        assertEquals(0, contextPool.getNumActive());
+        assertEquals(1, contextPool.getNumIdle());
+    }
+
+    @Test
+    public void testGroupsAreFetchedInPages() {
+        // The page size is 2, so all 3 groups need two pages
+        List<String> groupIds = getGroupIds(identityService.createGroupQuery().list());
+        assertEquals(3, groupIds.size());
+        assertTrue(groupIds.containsAll(Arrays.asList("user", "admin", "sales")));
+    }
+
+    @Test
+    public void testGroupsOfMultipleUsers() {
+        List<String> userIds = Arrays.asList("kermit", "pepe", "bunsen");
+
+        Set<String> expectedGroupIds = new HashSet<>();
+        for (String userId : userIds) {
+            expectedGroupIds.addAll(getGroupIds(identityService.createGroupQuery().groupMember(userId).list()));
+        }
+        assertTrue(expectedGroupIds.containsAll(Arrays.asList("user", "sales")));
+
+        // The groups of all users are fetched with one search
+        List<String> groupIds = getGroupIds(identityService.createGroupQuery().groupMembers(userIds).list());
+        assertEquals(expectedGroupIds.size(), groupIds.size());
+        assertTrue(groupIds.containsAll(expectedGroupIds));
+
+        assertEquals(0, getContextPool().getNumActive());
+    }
+
+    protected LDAPContextPool getContextPool() {
+        return getLdapConfiguration().getContextPool();
+    }
+
+    protected LDAPConfiguration getLdapConfiguration() {
+        return ((LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration)).getLdapConfigurator();
+    }
+
+    protected List<String> getGroupIds(List<Group> groups) {
+        return groups.stream().map(Group::getId).collect(Collectors.toList());
+    }
+
+}
@@ -12,10 +12,14 @@
  */
 package org.flowable.test.ldap;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.flowable.engine.impl.util.EngineServiceUtil;
 import org.flowable.engine.test.Deployment;
+import org.flowable.idm.api.Group;
 import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPGroupCache.LDAPGroupCacheListener;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
@@ -96,6 +100,24 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         assertEquals("fozzie", cacheListener.getLastCacheMiss());
     }
 
+    @Test
+    public void testGroupsOfMultipleUsersAreCachedPerUser() {
+        // The groups of both users are fetched with one search and cached per user
+        assertEquals(Arrays.asList("sales", "user"), getGroupIds(identityService.createGroupQuery().groupMembers(Arrays.asList("pepe", "bunsen")).list()));
+        assertEquals("bunsen", cacheListener.getLastCacheMiss());
+
+        assertEquals(Arrays.asList("sales", "user"), getGroupIds(identityService.createGroupQuery().groupMember("pepe").list()));
+        assertEquals("pepe", cacheListener.getLastCacheHit());
+
+        assertEquals(Arrays.asList("sales", "user"), getGroupIds(identityService.createGroupQuery().groupMember("bunsen").list()));
+        assertEquals("bunsen", cacheListener.getLastCacheHit());
+        assertEquals("bunsen", cacheListener.getLastCacheMiss());
+    }
+
+    protected List<String> getGroupIds(List<Group> groups) {
+        return groups.stream().map(Group::getId).sorted().collect(Collectors.toList());
+    }
+
     // Test cache listener
     static class TestLDAPGroupCacheListener implements LDAPGroupCacheListener {
 
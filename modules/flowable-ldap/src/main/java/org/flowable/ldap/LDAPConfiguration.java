@@ -47,11 +47,20 @@ public class LDAPConfiguration {
     // For parameters like connection pooling settings, etc.
     protected Map<String, String> customConnectionParameters = new HashMap<>();
 
+    // Connection pooling
+    protected boolean connectionPoolEnabled;
+    protected int connectionPoolMaxSize = 8;
+    protected long connectionPoolMaxWait = 10000L;
+    protected long connectionPoolMaxIdleTime = 300000L;
+    protected long connectionPoolValidationInterval = 30000L;
+    protected volatile LDAPContextPool contextPool;
+
     // Query configuration
     protected String baseDn;
     protected String userBaseDn;
     protected String groupBaseDn;
     protected int searchTimeLimit = 0; // Default '0' == wait forever
+    protected int searchPageSize = 0; // Default '0' == no paged results
 
     protected String queryUserByUserId;
     protected String queryGroupsForUser;
@@ -69,6 +78,7 @@ public class LDAPConfiguration {
     protected String groupIdAttribute;
     protected String groupNameAttribute;
     protected String groupTypeAttribute;
+    protected String groupMemberAttribute;
 
     // Pluggable query helper bean
     protected LDAPQueryBuilder ldapQueryBuilder = new LDAPQueryBuilder();
@@ -401,6 +411,20 @@ public class LDAPConfiguration {
         this.groupTypeAttribute = groupTypeAttribute;
     }
 
+    public String getGroupMemberAttribute() {
+        return groupMemberAttribute;
+    }
+
+    /**
+     * Name of the attribute of a group that contains the dns of its members, e.g. 'member' or 'uniqueMember'.
+     * <p>
+     * When set together with the {@link #setUserIdAttribute(String)} and the group cache, the groups of multiple users are fetched with a single search
+     * and cached per user. Without it, the groups of multiple users are fetched with a single search only when no group cache is used.
+     */
+    public void setGroupMemberAttribute(String groupMemberAttribute) {
+        this.groupMemberAttribute = groupMemberAttribute;
+    }
+
     /**
      * Set a custom {@link LDAPQueryBuilder} if the default implementation is not suitable. The {@link LDAPQueryBuilder} instance is used when the {@link LDAPUserManager} or {@link LDAPGroupManager}
      * does an actual query against the LDAP system.
@@ -454,4 +478,92 @@ public class LDAPConfiguration {
         this.groupCacheListener = groupCacheListener;
     }
 
+    public int getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    /**
+     * The page size used when searching groups. When set to a value larger than zero, the search results are retrieved using the paged results control,
+     * which avoids hitting the size limit of the LDAP server for large group searches. By default set to 0, which means no paging is used.
+     */
+    public void setSearchPageSize(int searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    public boolean isConnectionPoolEnabled() {
+        return connectionPoolEnabled;
+    }
+
+    /**
+     * Enables the {@link LDAPContextPool}, which reuses the directory contexts that are bound with the configured {@link #setUser(String) user} instead of creating a new connection for each
+     * operation. Contexts used to check the password of a user are never pooled. By default set to false.
+     */
+    public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+        this.connectionPoolEnabled = connectionPoolEnabled;
+    }
+
+    public int getConnectionPoolMaxSize() {
+        return connectionPoolMaxSize;
+    }
+
+    /**
+     * The maximum number of connections that are in use or idle in the pool at the same time. By default set to 8.
+     */
+    public void setConnectionPoolMaxSize(int connectionPoolMaxSize) {
+        this.connectionPoolMaxSize = connectionPoolMaxSize;
+    }
+
+    public long getConnectionPoolMaxWait() {
+        return connectionPoolMaxWait;
+    }
+
+    /**
+     * The time in milliseconds to wait for a connection when all connections of the pool are in use. An exception is thrown when no connection became available in time.
+     * By default set to 10 seconds.
+     */
+    public void setConnectionPoolMaxWait(long connectionPoolMaxWait) {
+        this.connectionPoolMaxWait = connectionPoolMaxWait;
+    }
+
+    public long getConnectionPoolMaxIdleTime() {
+        return connectionPoolMaxIdleTime;
+    }
+
+    /**
+     * The time in milliseconds after which an idle connection is closed. By default set to 5 minutes.
+     */
+    public void setConnectionPoolMaxIdleTime(long connectionPoolMaxIdleTime) {
+        this.connectionPoolMaxIdleTime = connectionPoolMaxIdleTime;
+    }
+
+    public long getConnectionPoolValidationInterval() {
+        return connectionPoolValidationInterval;
+    }
+
+    /**
+     * Idle connections that have not been used for longer than this time in milliseconds are validated with a lookup of the root DSE before they are handed out.
+     * Set to 0 to validate every connection before it is used. By default set to 30 seconds.
+     */
+    public void setConnectionPoolValidationInterval(long connectionPoolValidationInterval) {
+        this.connectionPoolValidationInterval = connectionPoolValidationInterval;
+    }
+
+    /**
+     * Returns the {@link LDAPContextPool} when the connection pool is enabled, creating it on first use.
+     */
+    public LDAPContextPool getContextPool() {
+        if (contextPool == null && connectionPoolEnabled) {
+            synchronized (this) {
+                if (contextPool == null) {
+                    contextPool = new LDAPContextPool(this);
+                }
+            }
+        }
+        return contextPool;
+    }
+
+    public void setContextPool(LDAPContextPool contextPool) {
+        this.contextPool = contextPool;
+    }
+
 }
@@ -12,11 +12,22 @@
  */
 package org.flowable.ldap;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 import javax.naming.Context;
+import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.Control;
+import javax.naming.ldap.InitialLdapContext;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.slf4j.Logger;
@@ -51,7 +62,8 @@ public class LDAPConnectionUtil {
 
         InitialDirContext context;
         try {
-            context = new InitialDirContext(properties);
+            // An ldap context is created so that request controls, such as the paged results control, can be used
+            context = new InitialLdapContext(properties, null);
         } catch (NamingException e) {
             LOGGER.warn("Could not create InitialDirContext for LDAP connection: {}", e.getMessage());
             throw new FlowableException("Could not create InitialDirContext for LDAP connection: " + e.getMessage(), e);
@@ -59,6 +71,57 @@ public class LDAPConnectionUtil {
         return context;
     }
 
+    /**
+     * Executes the search and returns all results. When the page size is larger than zero, the results are fetched in pages using the paged results control.
+     * The request controls of the context are reset afterwards, as the context can be reused when it is pooled.
+     */
+    public static List<SearchResult> search(InitialDirContext initialDirContext, String baseDn, String searchExpression, SearchControls searchControls, int pageSize)
+            throws NamingException {
+
+        List<SearchResult> results = new ArrayList<>();
+        if (pageSize <= 0 || !(initialDirContext instanceof LdapContext)) {
+            collectSearchResults(initialDirContext.search(baseDn, searchExpression, searchControls), results);
+            return results;
+        }
+
+        LdapContext ldapContext = (LdapContext) initialDirContext;
+        try {
+            byte[] cookie = null;
+            do {
+                ldapContext.setRequestControls(new Control[] { new PagedResultsControl(pageSize, cookie, Control.NONCRITICAL) });
+                collectSearchResults(ldapContext.search(baseDn, searchExpression, searchControls), results);
+
+                cookie = null;
+                Control[] responseControls = ldapContext.getResponseControls();
+                if (responseControls != null) {
+                    for (Control responseControl : responseControls) {
+                        if (responseControl instanceof PagedResultsResponseControl) {
+                            cookie = ((PagedResultsResponseControl) responseControl).getCookie();
+                        }
+                    }
+                }
+            } while (cookie != null && cookie.length > 0);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not create paged results control: " + e.getMessage(), e);
+
+        } finally {
+            ldapContext.setRequestControls(null);
+        }
+
+        return results;
+    }
+
+    protected static void collectSearchResults(NamingEnumeration<SearchResult> namingEnum, List<SearchResult> results) throws NamingException {
+        try {
+            while (namingEnum.hasMore()) {
+                results.add(namingEnum.next());
+            }
+        } finally {
+            namingEnum.close();
+        }
+    }
+
     public static void closeDirectoryContext(InitialDirContext initialDirContext) {
         try {
             initialDirContext.close();
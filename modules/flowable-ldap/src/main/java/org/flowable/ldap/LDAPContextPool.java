@@ -0,0 +1,195 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.NamingException;
+import javax.naming.directory.InitialDirContext;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of directory contexts bound with the user configured in the {@link LDAPConfiguration}, used by the {@link LDAPTemplate} when
+ * {@link LDAPConfiguration#setConnectionPoolEnabled(boolean)} is set.
+ * <p>
+ * The number of contexts that are in use or idle is bounded by {@link LDAPConfiguration#getConnectionPoolMaxSize()}, which also bounds the number of
+ * concurrent requests against the LDAP system. Idle contexts are reused most recently used first, closed after {@link LDAPConfiguration#getConnectionPoolMaxIdleTime()}
+ * and validated before being reused when they have been idle for longer than {@link LDAPConfiguration#getConnectionPoolValidationInterval()}.
+ * A context that was used by a failing call, see {@link #markForValidation(InitialDirContext)}, is validated when it is returned.
+ */
+public class LDAPContextPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPContextPool.class);
+
+    protected static final String[] VALIDATION_ATTRIBUTES = new String[] { "objectClass" };
+
+    protected LDAPConfiguration ldapConfiguration;
+    protected final LinkedBlockingDeque<PooledContext> idleContexts = new LinkedBlockingDeque<>();
+    protected final Set<InitialDirContext> contextsToValidate = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    protected final int maxSize;
+    protected final Semaphore permits;
+    protected volatile boolean closed;
+
+    public LDAPContextPool(LDAPConfiguration ldapConfiguration) {
+        this.ldapConfiguration = ldapConfiguration;
+        this.maxSize = ldapConfiguration.getConnectionPoolMaxSize();
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Returns an idle context of the pool or creates a new one. The context must be handed back with {@link #returnContext(InitialDirContext)}
+     * or, when it can no longer be used, {@link #invalidateContext(InitialDirContext)}.
+     */
+    public InitialDirContext borrowContext() {
+        if (closed) {
+            throw new FlowableException("LDAP context pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(ldapConfiguration.getConnectionPoolMaxWait(), TimeUnit.MILLISECONDS)) {
+                throw new FlowableException("Timeout waiting for an LDAP connection, all " + maxSize + " connections are in use");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for an LDAP connection", e);
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            PooledContext pooledContext;
+            while ((pooledContext = idleContexts.pollFirst()) != null) {
+                long idleTime = now - pooledContext.lastUsed;
+                if (idleTime >= ldapConfiguration.getConnectionPoolMaxIdleTime()) {
+                    LDAPConnectionUtil.closeDirectoryContext(pooledContext.context);
+
+                } else if (idleTime >= ldapConfiguration.getConnectionPoolValidationInterval() && !isValid(pooledContext.context)) {
+                    LOGGER.debug("Discarding LDAP connection that failed validation");
+                    LDAPConnectionUtil.closeDirectoryContext(pooledContext.context);
+
+                } else {
+                    return pooledContext.context;
+                }
+            }
+
+            return LDAPConnectionUtil.creatDirectoryContext(ldapConfiguration);
+
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Hands a borrowed context back to the pool. The context is closed instead when the pool is closed,
+     * or when it was marked for validation and the validation fails.
+     */
+    public void returnContext(InitialDirContext context) {
+        try {
+            if (closed) {
+                LDAPConnectionUtil.closeDirectoryContext(context);
+
+            } else if (contextsToValidate.remove(context) && !isValid(context)) {
+                LOGGER.debug("Discarding LDAP connection that failed validation after an error");
+                LDAPConnectionUtil.closeDirectoryContext(context);
+
+            } else {
+                idleContexts.offerFirst(new PooledContext(context, System.currentTimeMillis()));
+                evictIdleContexts();
+            }
+
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void invalidateContext(InitialDirContext context) {
+        try {
+            contextsToValidate.remove(context);
+            LDAPConnectionUtil.closeDirectoryContext(context);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Marks a borrowed context as possibly broken, e.g. because a call using it failed with a {@link NamingException}.
+     * The context is validated when it is returned and only reused when the validation succeeds.
+     */
+    public void markForValidation(InitialDirContext context) {
+        if (context != null) {
+            contextsToValidate.add(context);
+        }
+    }
+
+    /**
+     * Closes the contexts that have been idle for longer than the maximum idle time. As the idle contexts are kept most recently used first, only the tail needs to be checked.
+     */
+    protected void evictIdleContexts() {
+        long now = System.currentTimeMillis();
+        PooledContext pooledContext;
+        while ((pooledContext = idleContexts.peekLast()) != null && now - pooledContext.lastUsed >= ldapConfiguration.getConnectionPoolMaxIdleTime()) {
+            if (idleContexts.removeLastOccurrence(pooledContext)) {
+                LDAPConnectionUtil.closeDirectoryContext(pooledContext.context);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the context can still be used by reading the root DSE.
+     */
+    protected boolean isValid(InitialDirContext context) {
+        try {
+            context.getAttributes("", VALIDATION_ATTRIBUTES);
+            return true;
+        } catch (NamingException e) {
+            LOGGER.debug("LDAP connection validation failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public void close() {
+        closed = true;
+        PooledContext pooledContext;
+        while ((pooledContext = idleContexts.pollFirst()) != null) {
+            LDAPConnectionUtil.closeDirectoryContext(pooledContext.context);
+        }
+    }
+
+    public int getNumIdle() {
+        return idleContexts.size();
+    }
+
+    public int getNumActive() {
+        return maxSize - permits.availablePermits();
+    }
+
+    protected static class PooledContext {
+
+        protected final InitialDirContext context;
+        protected final long lastUsed;
+
+        public PooledContext(InitialDirContext context, long lastUsed) {
+            this.context = context;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+}
@@ -169,6 +169,7 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
 
                     } catch (NamingException ne) {
                         LOGGER.info("Could not authenticate user {} : {}", userId, ne.getMessage(), ne);
+                        ldapTemplate.markForValidation(initialDirContext);
                         return false;
                     }
 
@@ -205,6 +206,14 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
         return searchControls;
     }
 
+    public LDAPConfiguration getLdapConfigurator() {
+        return ldapConfigurator;
+    }
+
+    public void setLdapConfigurator(LDAPConfiguration ldapConfigurator) {
+        this.ldapConfigurator = ldapConfigurator;
+    }
+
     public LDAPGroupCache getLdapGroupCache() {
         return ldapGroupCache;
     }
@@ -13,14 +13,21 @@
 package org.flowable.ldap;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
 import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
 import javax.naming.ldap.Rdn;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +74,7 @@ public class LDAPQueryBuilder {
                         namingEnum.close();
                     } catch (NamingException e) {
                         LOGGER.debug("Could not find user dn : {}", e.getMessage(), e);
+                        ldapTemplate.markForValidation(initialDirContext);
                     }
                     return null;
                 }
@@ -81,6 +89,90 @@ public class LDAPQueryBuilder {
         return searchExpression;
     }
 
+    /**
+     * Builds one search expression that matches the groups of all given users, so that the groups of multiple users can be fetched with a single search.
+     * The dns of the users are fetched with a single search as well.
+     *
+     * @return the search expression, or null if no {@link LDAPConfiguration#getQueryGroupsForUser()} is configured or none of the users was found.
+     */
+    public String buildQueryGroupsForUsers(final LDAPConfiguration ldapConfigurator, final Collection<String> userIds) {
+        if (ldapConfigurator.getQueryGroupsForUser() == null) {
+            return null;
+        }
+
+        List<String> userDns = new ArrayList<>();
+        for (SearchResult result : searchUsers(ldapConfigurator, userIds)) {
+            userDns.add(result.getNameInNamespace());
+        }
+        return buildQueryGroupsForUserDns(ldapConfigurator, userDns);
+    }
+
+    /**
+     * Fetches the dns of the given users with a single search. Requires the {@link LDAPConfiguration#getUserIdAttribute()} to map the results back to the users.
+     *
+     * @return the dns of the users that were found, keyed by the user id as passed in.
+     */
+    public Map<String, String> findUserDns(final LDAPConfiguration ldapConfigurator, final Collection<String> userIds) {
+        Map<String, String> userDns = new LinkedHashMap<>();
+        try {
+            for (SearchResult result : searchUsers(ldapConfigurator, userIds)) {
+                Attribute userIdAttribute = result.getAttributes().get(ldapConfigurator.getUserIdAttribute());
+                if (userIdAttribute != null) {
+                    String foundUserId = userIdAttribute.get().toString();
+                    for (String userId : userIds) {
+                        // user ids are usually matched case insensitive by the LDAP system
+                        if (userId.equalsIgnoreCase(foundUserId)) {
+                            userDns.put(userId, result.getNameInNamespace());
+                        }
+                    }
+                }
+            }
+        } catch (NamingException e) {
+            throw new FlowableException("Could not read the user ids of users " + userIds, e);
+        }
+        return userDns;
+    }
+
+    /**
+     * @return the search expression matching the groups of any of the given user dns, or null if there are none.
+     */
+    public String buildQueryGroupsForUserDns(LDAPConfiguration ldapConfigurator, Collection<String> userDns) {
+        if (userDns.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder searchExpression = new StringBuilder("(|");
+        for (String userDn : userDns) {
+            searchExpression.append(MessageFormat.format(ldapConfigurator.getQueryGroupsForUser(), Rdn.escapeValue(userDn)));
+        }
+        searchExpression.append(")");
+        return searchExpression.toString();
+    }
+
+    protected List<SearchResult> searchUsers(final LDAPConfiguration ldapConfigurator, final Collection<String> userIds) {
+        LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
+        return ldapTemplate.execute(new LDAPCallBack<List<SearchResult>>() {
+
+            @Override
+            public List<SearchResult> executeInContext(InitialDirContext initialDirContext) {
+                StringBuilder userDnSearch = new StringBuilder("(|");
+                for (String userId : userIds) {
+                    userDnSearch.append(buildQueryByUserId(ldapConfigurator, userId));
+                }
+                userDnSearch.append(")");
+
+                try {
+                    String baseDn = ldapConfigurator.getUserBaseDn() != null ? ldapConfigurator.getUserBaseDn() : ldapConfigurator.getBaseDn();
+                    return LDAPConnectionUtil.search(initialDirContext, baseDn, userDnSearch.toString(),
+                            createSearchControls(ldapConfigurator), ldapConfigurator.getSearchPageSize());
+                } catch (NamingException e) {
+                    throw new FlowableException("Could not find user dns " + userDnSearch, e);
+                }
+            }
+
+        });
+    }
+
     public String buildQueryByFullNameLike(final LDAPConfiguration ldapConfigurator, String searchText) {
         String searchExpression = null;
         if (ldapConfigurator.getQueryUserByFullNameLike() != null) {
@@ -33,6 +33,11 @@ public class LDAPTemplate {
     }
 
     public <T> T execute(LDAPCallBack<T> ldapCallBack) {
+        LDAPContextPool contextPool = ldapConfigurator.getContextPool();
+        if (contextPool != null) {
+            return execute(contextPool, ldapCallBack);
+        }
+
         InitialDirContext initialDirContext = null;
         try {
             initialDirContext = LDAPConnectionUtil.creatDirectoryContext(ldapConfigurator);
@@ -44,6 +49,32 @@ public class LDAPTemplate {
         return result;
     }
 
+    protected <T> T execute(LDAPContextPool contextPool, LDAPCallBack<T> ldapCallBack) {
+        InitialDirContext initialDirContext = contextPool.borrowContext();
+        try {
+            return ldapCallBack.executeInContext(initialDirContext);
+
+        } catch (RuntimeException | Error e) {
+            // The failure could have been caused by a broken connection, so the context is only reused when it is still valid
+            contextPool.markForValidation(initialDirContext);
+            throw e;
+
+        } finally {
+            contextPool.returnContext(initialDirContext);
+        }
+    }
+
+    /**
+     * To be called by callbacks that handle a {@link javax.naming.NamingException} themselves instead of throwing it,
+     * so that a pooled context is validated before it is reused. Has no effect when no connection pool is used.
+     */
+    public void markForValidation(InitialDirContext initialDirContext) {
+        LDAPContextPool contextPool = ldapConfigurator.getContextPool();
+        if (contextPool != null) {
+            contextPool.markForValidation(initialDirContext);
+        }
+    }
+
     public LDAPConfiguration getLdapConfigurator() {
         return ldapConfigurator;
     }
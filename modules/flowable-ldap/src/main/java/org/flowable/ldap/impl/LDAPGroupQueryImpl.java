@@ -13,13 +13,20 @@
 package org.flowable.ldap.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import javax.naming.InvalidNameException;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
 import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapName;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -29,13 +36,19 @@ import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
 import org.flowable.ldap.LDAPConfiguration;
+import org.flowable.ldap.LDAPConnectionUtil;
 import org.flowable.ldap.LDAPGroupCache;
+import org.flowable.ldap.LDAPQueryBuilder;
 import org.flowable.ldap.LDAPTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPGroupQueryImpl.class);
+
     protected LDAPConfiguration ldapConfigurator;
     protected LDAPGroupCache ldapGroupCache;
 
@@ -57,6 +70,8 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
     protected List<Group> executeQuery() {
         if (getUserId() != null) {
             return findGroupsByUser(getUserId());
+        } else if (getUserIds() != null) {
+            return findGroupsByUsers(getUserIds());
         } else if (getId() != null) {
             return findGroupsById(getId());
         } else {
@@ -85,6 +100,92 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
         return groups;
     }
 
+    /**
+     * Returns the groups of any of the given users. The groups of the users that are not cached are fetched with a single search,
+     * unless they need to be cached and can't be attributed to the users, see {@link LDAPConfiguration#setGroupMemberAttribute(String)}.
+     */
+    protected List<Group> findGroupsByUsers(List<String> userIds) {
+        Map<String, Group> groups = new LinkedHashMap<>();
+        List<String> uncachedUserIds = new ArrayList<>();
+        for (String userId : userIds) {
+            List<Group> cachedGroups = ldapGroupCache != null ? ldapGroupCache.get(userId) : null;
+            if (cachedGroups != null) {
+                addGroups(groups, cachedGroups);
+            } else {
+                uncachedUserIds.add(userId);
+            }
+        }
+
+        if (uncachedUserIds.size() == 1) {
+            addGroups(groups, findGroupsByUser(uncachedUserIds.get(0)));
+
+        } else if (!uncachedUserIds.isEmpty() && ldapGroupCache != null) {
+            if (ldapConfigurator.getGroupMemberAttribute() != null && ldapConfigurator.getUserIdAttribute() != null
+                    && ldapConfigurator.getQueryGroupsForUser() != null) {
+                addGroups(groups, findAndCacheGroupsByUsers(uncachedUserIds));
+            } else {
+                for (String userId : uncachedUserIds) {
+                    addGroups(groups, findGroupsByUser(userId));
+                }
+            }
+
+        } else if (!uncachedUserIds.isEmpty()) {
+            String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUsers(ldapConfigurator, uncachedUserIds);
+            if (searchExpression != null) {
+                addGroups(groups, executeGroupQuery(searchExpression));
+            } else if (ldapConfigurator.getQueryGroupsForUser() == null) {
+                for (String userId : uncachedUserIds) {
+                    addGroups(groups, findGroupsByUser(userId));
+                }
+            }
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * Fetches the groups of the given users with a single search and caches them per user,
+     * using the member attribute of the groups to determine which groups belong to which user.
+     */
+    protected List<Group> findAndCacheGroupsByUsers(List<String> userIds) {
+        LDAPQueryBuilder ldapQueryBuilder = ldapConfigurator.getLdapQueryBuilder();
+        Map<String, String> userDns = ldapQueryBuilder.findUserDns(ldapConfigurator, userIds);
+        if (userDns.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<LdapName, List<Group>> groupsByMember = new HashMap<>();
+        Map<String, LdapName> memberNames = new HashMap<>();
+        for (Map.Entry<String, String> userDn : userDns.entrySet()) {
+            LdapName memberName = toLdapName(userDn.getValue());
+            if (memberName != null) {
+                memberNames.put(userDn.getKey(), memberName);
+                groupsByMember.put(memberName, new ArrayList<>());
+            }
+        }
+
+        List<Group> groups = executeGroupQuery(ldapQueryBuilder.buildQueryGroupsForUserDns(ldapConfigurator, userDns.values()), groupsByMember);
+        for (Map.Entry<String, LdapName> memberName : memberNames.entrySet()) {
+            ldapGroupCache.add(memberName.getKey(), groupsByMember.get(memberName.getValue()));
+        }
+        return groups;
+    }
+
+    protected LdapName toLdapName(String dn) {
+        try {
+            return new LdapName(dn);
+        } catch (InvalidNameException e) {
+            LOGGER.debug("Ignoring invalid dn {}", dn, e);
+            return null;
+        }
+    }
+
+    protected void addGroups(Map<String, Group> groups, List<Group> groupsToAdd) {
+        for (Group group : groupsToAdd) {
+            groups.putIfAbsent(group.getId(), group);
+        }
+    }
+
     protected List<Group> findGroupsById(String id) {
         String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsById(ldapConfigurator, id);
         return executeGroupQuery(searchExpression);
@@ -97,6 +198,13 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
     }
 
     protected List<Group> executeGroupQuery(final String searchExpression) {
+        return executeGroupQuery(searchExpression, null);
+    }
+
+    /**
+     * @param groupsByMember when not null, every group is also added to the groups of each of its members that is a key of this map
+     */
+    protected List<Group> executeGroupQuery(final String searchExpression, final Map<LdapName, List<Group>> groupsByMember) {
         LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
         return ldapTemplate.execute(new LDAPCallBack<List<Group>>() {
 
@@ -106,9 +214,8 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
                 List<Group> groups = new ArrayList<>();
                 try {
                     String baseDn = ldapConfigurator.getGroupBaseDn() != null ? ldapConfigurator.getGroupBaseDn() : ldapConfigurator.getBaseDn();
-                    NamingEnumeration<?> namingEnum = initialDirContext.search(baseDn, searchExpression, createSearchControls());
-                    while (namingEnum.hasMore()) { // Should be only one
-                        SearchResult result = (SearchResult) namingEnum.next();
+                    for (SearchResult result : LDAPConnectionUtil.search(initialDirContext, baseDn, searchExpression, createSearchControls(),
+                            ldapConfigurator.getSearchPageSize())) {
 
                         GroupEntity group = new GroupEntityImpl();
                         if (ldapConfigurator.getGroupIdAttribute() != null) {
@@ -121,9 +228,11 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
                             group.setType(result.getAttributes().get(ldapConfigurator.getGroupTypeAttribute()).get().toString());
                         }
                         groups.add(group);
-                    }
 
-                    namingEnum.close();
+                        if (groupsByMember != null) {
+                            addGroupToMembers(group, result.getAttributes().get(ldapConfigurator.getGroupMemberAttribute()), groupsByMember);
+                        }
+                    }
 
                     return groups;
 
@@ -135,6 +244,21 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
         });
     }
 
+    protected void addGroupToMembers(Group group, Attribute memberAttribute, Map<LdapName, List<Group>> groupsByMember) throws NamingException {
+        if (memberAttribute == null) {
+            return;
+        }
+
+        NamingEnumeration<?> members = memberAttribute.getAll();
+        while (members.hasMore()) {
+            LdapName memberName = toLdapName(members.next().toString());
+            List<Group> memberGroups = memberName != null ? groupsByMember.get(memberName) : null;
+            if (memberGroups != null) {
+                memberGroups.add(group);
+            }
+        }
+    }
+
     protected SearchControls createSearchControls() {
         SearchControls searchControls = new SearchControls();
         searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
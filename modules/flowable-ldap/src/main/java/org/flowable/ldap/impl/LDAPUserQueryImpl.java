@@ -110,6 +110,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
 
                 } catch (NamingException ne) {
                     LOGGER.error("Could not find user {} : {}", userId, ne.getMessage(), ne);
+                    ldapTemplate.markForValidation(initialDirContext);
                     return null;
                 }
             }
@@ -140,6 +141,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
 
                 } catch (NamingException ne) {
                     LOGGER.debug("Could not execute LDAP query: {}", ne.getMessage(), ne);
+                    ldapTemplate.markForValidation(initialDirContext);
                     return null;
                 }
                 return result;
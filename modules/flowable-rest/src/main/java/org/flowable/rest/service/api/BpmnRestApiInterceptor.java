@@ -62,6 +62,7 @@ import org.flowable.rest.service.api.runtime.process.ProcessInstanceCreateReques
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceQueryRequest;
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceUpdateRequest;
 import org.flowable.rest.service.api.runtime.process.SignalEventReceivedRequest;
+import org.flowable.rest.service.api.runtime.task.BulkTaskActionRequest;
 import org.flowable.rest.service.api.runtime.task.TaskActionRequest;
 import org.flowable.rest.service.api.runtime.task.TaskQueryRequest;
 import org.flowable.rest.service.api.runtime.task.TaskRequest;
@@ -86,6 +87,13 @@ public interface BpmnRestApiInterceptor {
     void deleteTask(Task task);
     
     void executeTaskAction(Task task, TaskActionRequest actionRequest);
+
+    /**
+     * Called once for a bulk action on tasks, before every task of the action is passed to {@link #executeTaskAction(Task, TaskActionRequest)}
+     * (or to {@link #updateTask(Task, TaskRequest)} when assigning the tasks).
+     */
+    default void executeBulkTaskAction(BulkTaskActionRequest actionRequest) {
+    }
     
     void accessExecutionInfoById(Execution execution);
 
@@ -191,6 +191,11 @@ public final class RestUrls {
      */
     public static final String[] URL_TASK_COLLECTION = { SEGMENT_RUNTIME_RESOURCES, SEGMENT_TASK_RESOURCE };
 
+    /**
+     * URL template for executing an action on multiple tasks: <i>runtime/tasks/bulk</i>
+     */
+    public static final String[] URL_TASK_BULK = { SEGMENT_RUNTIME_RESOURCES, SEGMENT_TASK_RESOURCE, "bulk" };
+
     /**
      * URL template for task query: <i>query/tasks</i>
      */
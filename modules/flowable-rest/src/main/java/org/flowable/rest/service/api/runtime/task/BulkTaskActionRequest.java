@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.task;
+
+import java.util.List;
+
+import org.flowable.rest.service.api.RestActionRequest;
+import org.flowable.rest.service.api.engine.variable.RestVariable;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class BulkTaskActionRequest extends RestActionRequest {
+
+    public static final String ACTION_COMPLETE = "complete";
+    public static final String ACTION_CLAIM = "claim";
+    public static final String ACTION_ASSIGN = "assign";
+
+    protected List<String> taskIds;
+    protected Integer chunkSize;
+    protected String assignee;
+    protected List<RestVariable> variables;
+    protected List<RestVariable> transientVariables;
+
+    @ApiModelProperty(value = "The ids of the tasks to execute the action on, at most 1000 by default", required = true)
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<String> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    @ApiModelProperty(value = "The number of tasks that are processed in one transaction, defaults to 100", example = "100")
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @ApiModelProperty(value = "If action is claim or assign, the user the tasks are claimed by or assigned to", example = "userWhoClaims/userToAssignTo")
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+    }
+
+    @ApiModelProperty(value = "If action is complete, you can use this parameter to set variables on every task")
+    @JsonTypeInfo(use = Id.CLASS, defaultImpl = RestVariable.class)
+    public List<RestVariable> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(List<RestVariable> variables) {
+        this.variables = variables;
+    }
+
+    @ApiModelProperty(value = "If action is complete, you can use this parameter to set transient variables on every task")
+    public List<RestVariable> getTransientVariables() {
+        return transientVariables;
+    }
+
+    @JsonTypeInfo(use = Id.CLASS, defaultImpl = RestVariable.class)
+    public void setTransientVariables(List<RestVariable> transientVariables) {
+        this.transientVariables = transientVariables;
+    }
+
+    @Override
+    @ApiModelProperty(value = "Action to perform: Either complete, claim or assign", example = "complete", required = true)
+    public String getAction() {
+        return super.getAction();
+    }
+
+}
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class BulkTaskActionResponse {
+
+    protected List<String> successfulTaskIds = new ArrayList<>();
+    protected Map<String, String> failedTasks = new LinkedHashMap<>();
+
+    @ApiModelProperty(value = "The ids of the tasks the action was executed on")
+    public List<String> getSuccessfulTaskIds() {
+        return successfulTaskIds;
+    }
+
+    public void setSuccessfulTaskIds(List<String> successfulTaskIds) {
+        this.successfulTaskIds = successfulTaskIds;
+    }
+
+    @ApiModelProperty(value = "The error message of every task the action could not be executed on, by task id")
+    public Map<String, String> getFailedTasks() {
+        return failedTasks;
+    }
+
+    public void setFailedTasks(Map<String, String> failedTasks) {
+        this.failedTasks = failedTasks;
+    }
+
+}
@@ -16,14 +16,21 @@ package org.flowable.rest.service.api.runtime.task;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.rest.api.DataResponse;
 import org.flowable.common.rest.api.RequestUtil;
+import org.flowable.engine.impl.BulkTaskOperationBuilderImpl;
+import org.flowable.engine.task.BulkTaskOperationBuilder;
+import org.flowable.engine.task.BulkTaskOperationResult;
+import org.flowable.rest.service.api.engine.variable.RestVariable;
 import org.flowable.task.api.Task;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.springframework.http.HttpStatus;
@@ -49,6 +56,11 @@ import io.swagger.annotations.Authorization;
 @Api(tags = { "Tasks" }, description = "Manage Tasks", authorizations = { @Authorization(value = "basicAuth") })
 public class TaskCollectionResource extends TaskBaseResource {
 
+    /**
+     * The maximum number of task ids a bulk task action request can contain.
+     */
+    protected int maxBulkTaskIds = 1000;
+
     @ApiOperation(value = "List of tasks", nickname="listTasks", tags = { "Tasks" })
     @ApiImplicitParams({
             @ApiImplicitParam(name = "name", dataType = "string", value = "Only return models with the given version.", paramType = "query"),
@@ -338,4 +350,143 @@ public class TaskCollectionResource extends TaskBaseResource {
         response.setStatus(HttpStatus.CREATED.value());
         return restResponseFactory.createTaskResponse(task);
     }
+
+    @ApiOperation(value = "Execute an action on multiple tasks", tags = { "Tasks" },
+            notes = "The tasks are processed in chunks, each chunk in its own transaction. Tasks on which the action fails are reported in the response and do not abort the other tasks.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the action was executed and the failed tasks, if any, are returned."),
+            @ApiResponse(code = 400, message = "When the body contains an invalid value, more task ids than allowed or when the assignee is missing when the action requires it.")
+    })
+    @PostMapping(value = "/runtime/tasks/bulk", produces = "application/json")
+    public BulkTaskActionResponse executeBulkTaskAction(@RequestBody BulkTaskActionRequest actionRequest) {
+        if (actionRequest == null) {
+            throw new FlowableIllegalArgumentException("A request body was expected when executing a bulk task action.");
+        }
+        if (actionRequest.getTaskIds() == null || actionRequest.getTaskIds().isEmpty()) {
+            throw new FlowableIllegalArgumentException("At least one task id is required.");
+        }
+        if (actionRequest.getTaskIds().size() > maxBulkTaskIds) {
+            throw new FlowableIllegalArgumentException("At most " + maxBulkTaskIds + " task ids are allowed.");
+        }
+
+        String action = actionRequest.getAction();
+        if (!BulkTaskActionRequest.ACTION_COMPLETE.equals(action) && !BulkTaskActionRequest.ACTION_CLAIM.equals(action)
+                && !BulkTaskActionRequest.ACTION_ASSIGN.equals(action)) {
+            throw new FlowableIllegalArgumentException("Invalid action: '" + action + "'.");
+        }
+        if (BulkTaskActionRequest.ACTION_ASSIGN.equals(action) && actionRequest.getAssignee() == null) {
+            throw new FlowableIllegalArgumentException("An assignee is required when assigning tasks.");
+        }
+
+        BulkTaskActionResponse response = new BulkTaskActionResponse();
+        List<String> taskIds = actionRequest.getTaskIds();
+        if (restApiInterceptor != null) {
+            restApiInterceptor.executeBulkTaskAction(actionRequest);
+            taskIds = accessBulkTasks(actionRequest, response);
+            if (taskIds.isEmpty()) {
+                return response;
+            }
+        }
+
+        BulkTaskOperationBuilder bulkOperationBuilder = taskService.createBulkTaskOperationBuilder().taskIds(taskIds);
+        if (actionRequest.getChunkSize() != null) {
+            bulkOperationBuilder.chunkSize(actionRequest.getChunkSize());
+        }
+
+        BulkTaskOperationResult result;
+        if (BulkTaskActionRequest.ACTION_COMPLETE.equals(action)) {
+            result = bulkOperationBuilder
+                    .variables(getVariablesToSet(actionRequest.getVariables()))
+                    .transientVariables(getVariablesToSet(actionRequest.getTransientVariables()))
+                    .complete();
+
+        } else if (BulkTaskActionRequest.ACTION_CLAIM.equals(action)) {
+            result = bulkOperationBuilder.claim(actionRequest.getAssignee());
+
+        } else {
+            result = bulkOperationBuilder.assign(actionRequest.getAssignee());
+        }
+
+        response.getSuccessfulTaskIds().addAll(result.getSuccessfulTaskIds());
+        for (Map.Entry<String, Exception> failure : result.getFailures().entrySet()) {
+            response.getFailedTasks().put(failure.getKey(), failure.getValue().getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * Loads the tasks of the bulk action, one query per chunk of task ids, and passes every task to the same interceptor hooks
+     * as the action on a single task. A task that is not found or that is rejected by the interceptor is reported as failed.
+     *
+     * @return the ids of the tasks the action can be executed on
+     */
+    protected List<String> accessBulkTasks(BulkTaskActionRequest actionRequest, BulkTaskActionResponse response) {
+        List<String> requestedTaskIds = actionRequest.getTaskIds();
+        List<String> accessibleTaskIds = new ArrayList<>(requestedTaskIds.size());
+        for (int start = 0; start < requestedTaskIds.size(); start += BulkTaskOperationBuilderImpl.DEFAULT_CHUNK_SIZE) {
+            List<String> chunk = requestedTaskIds.subList(start, Math.min(start + BulkTaskOperationBuilderImpl.DEFAULT_CHUNK_SIZE, requestedTaskIds.size()));
+            Map<String, Task> tasksById = new HashMap<>();
+            for (Task task : taskService.createTaskQuery().taskIds(chunk).list()) {
+                tasksById.put(task.getId(), task);
+            }
+
+            for (String taskId : chunk) {
+                Task task = tasksById.get(taskId);
+                if (task == null) {
+                    response.getFailedTasks().put(taskId, "Could not find a task with id '" + taskId + "'.");
+                } else if (accessBulkTask(task, actionRequest, response)) {
+                    accessibleTaskIds.add(taskId);
+                }
+            }
+        }
+        return accessibleTaskIds;
+    }
+
+    protected boolean accessBulkTask(Task task, BulkTaskActionRequest actionRequest, BulkTaskActionResponse response) {
+        try {
+            restApiInterceptor.accessTaskInfoById(task);
+            if (BulkTaskActionRequest.ACTION_ASSIGN.equals(actionRequest.getAction())) {
+                // Assigning a single task is an update of the task
+                TaskRequest taskRequest = new TaskRequest();
+                taskRequest.setAssignee(actionRequest.getAssignee());
+                restApiInterceptor.updateTask(task, taskRequest);
+
+            } else {
+                TaskActionRequest taskActionRequest = new TaskActionRequest();
+                taskActionRequest.setAction(actionRequest.getAction());
+                taskActionRequest.setAssignee(actionRequest.getAssignee());
+                taskActionRequest.setVariables(actionRequest.getVariables());
+                taskActionRequest.setTransientVariables(actionRequest.getTransientVariables());
+                restApiInterceptor.executeTaskAction(task, taskActionRequest);
+            }
+            return true;
+
+        } catch (FlowableException e) {
+            response.getFailedTasks().put(task.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    protected Map<String, Object> getVariablesToSet(List<RestVariable> restVariables) {
+        if (restVariables == null) {
+            return null;
+        }
+
+        Map<String, Object> variablesToSet = new HashMap<>();
+        for (RestVariable var : restVariables) {
+            if (var.getName() == null) {
+                throw new FlowableIllegalArgumentException("Variable name is required");
+            }
+            variablesToSet.put(var.getName(), restResponseFactory.getVariableValue(var));
+        }
+        return variablesToSet;
+    }
+
+    public int getMaxBulkTaskIds() {
+        return maxBulkTaskIds;
+    }
+
+    public void setMaxBulkTaskIds(int maxBulkTaskIds) {
+        this.maxBulkTaskIds = maxBulkTaskIds;
+    }
 }
@@ -16,6 +16,7 @@ package org.flowable.rest.service.api.runtime;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -35,9 +36,11 @@ import org.flowable.rest.service.BaseSpringRestTestCase;
 import org.flowable.rest.service.api.RestUrls;
 import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
 import org.junit.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import net.javacrumbs.jsonunit.core.Option;
@@ -437,4 +440,74 @@ public class TaskCollectionResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test executing an action on multiple tasks. POST runtime/tasks/bulk
+     */
+    @Test
+    public void testBulkTaskAction() throws Exception {
+        try {
+            List<String> taskIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Task task = taskService.newTask();
+                taskService.saveTask(task);
+                taskIds.add(task.getId());
+            }
+            taskService.claim(taskIds.get(1), "otherUser");
+
+            ObjectNode requestNode = objectMapper.createObjectNode();
+            requestNode.put("action", "claim");
+            requestNode.put("assignee", "kermit");
+            requestNode.put("chunkSize", 2);
+            ArrayNode taskIdsNode = requestNode.putArray("taskIds");
+            for (String taskId : taskIds) {
+                taskIdsNode.add(taskId);
+            }
+
+            HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_BULK));
+            httpPost.setEntity(new StringEntity(requestNode.toString()));
+            CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+            JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+            closeResponse(response);
+
+            assertThatJson(responseNode)
+                    .when(Option.IGNORING_EXTRA_FIELDS)
+                    .isEqualTo("{"
+                            + "  successfulTaskIds: ['" + taskIds.get(0) + "', '" + taskIds.get(2) + "']"
+                            + "}");
+            assertThat(responseNode.get("failedTasks").has(taskIds.get(1))).isTrue();
+            assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isEqualTo(2);
+
+            requestNode = objectMapper.createObjectNode();
+            requestNode.put("action", "complete");
+            requestNode.putArray("taskIds").add(taskIds.get(0)).add(taskIds.get(2));
+            httpPost.setEntity(new StringEntity(requestNode.toString()));
+            closeResponse(executeRequest(httpPost, HttpStatus.SC_OK));
+            assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isZero();
+
+            // Unknown action
+            requestNode.put("action", "unknown");
+            httpPost.setEntity(new StringEntity(requestNode.toString()));
+            closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+
+            // More task ids than allowed
+            requestNode.put("action", "complete");
+            taskIdsNode = requestNode.putArray("taskIds");
+            for (int i = 0; i < 1001; i++) {
+                taskIdsNode.add("task" + i);
+            }
+            httpPost.setEntity(new StringEntity(requestNode.toString()));
+            closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+
+        } finally {
+            // Clean adhoc-tasks even if test fails
+            List<Task> tasks = taskService.createTaskQuery().list();
+            for (Task task : tasks) {
+                taskService.deleteTask(task.getId(), true);
+            }
+            for (HistoricTaskInstance historicTask : historyService.createHistoricTaskInstanceQuery().list()) {
+                historyService.deleteHistoricTaskInstance(historicTask.getId());
+            }
+        }
+    }
 }
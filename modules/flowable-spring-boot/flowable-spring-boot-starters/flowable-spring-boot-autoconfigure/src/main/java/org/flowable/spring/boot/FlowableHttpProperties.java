@@ -49,6 +49,18 @@ public class FlowableHttpProperties {
      * Whether to disable certificate validation for the http client
      */
     protected boolean disableCertVerify = false;
+    /**
+     * The maximum number of pooled connections of the shared http client
+     */
+    protected int maxConnections = 100;
+    /**
+     * The maximum number of pooled connections per host of the shared http client
+     */
+    protected int maxConnectionsPerRoute = 20;
+    /**
+     * The time after which idle pooled connections of the shared http client are evicted
+     */
+    protected Duration connectionIdleTimeout = Duration.ofMillis(60000);
 
     public boolean isUseSystemProperties() {
         return useSystemProperties;
@@ -97,4 +109,28 @@ public class FlowableHttpProperties {
     public void setDisableCertVerify(boolean disableCertVerify) {
         this.disableCertVerify = disableCertVerify;
     }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Duration getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    public void setConnectionIdleTimeout(Duration connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
 }
@@ -214,6 +214,9 @@ public class ProcessEngineAutoConfiguration extends AbstractSpringEngineAutoConf
         conf.getHttpClientConfig().setDisableCertVerify(httpProperties.isDisableCertVerify());
         conf.getHttpClientConfig().setRequestRetryLimit(httpProperties.getRequestRetryLimit());
         conf.getHttpClientConfig().setSocketTimeout(httpProperties.getSocketTimeout());
+        conf.getHttpClientConfig().setMaxConnections(httpProperties.getMaxConnections());
+        conf.getHttpClientConfig().setMaxConnectionsPerRoute(httpProperties.getMaxConnectionsPerRoute());
+        conf.getHttpClientConfig().setConnectionIdleTimeout(httpProperties.getConnectionIdleTimeout());
 
         conf.setEnableProcessDefinitionHistoryLevel(processProperties.isEnableProcessDefinitionHistoryLevel());
         conf.setProcessDefinitionCacheLimit(processProperties.getDefinitionCacheLimit());
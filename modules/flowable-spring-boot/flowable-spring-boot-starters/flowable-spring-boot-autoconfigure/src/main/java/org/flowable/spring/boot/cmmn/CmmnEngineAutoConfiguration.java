@@ -171,6 +171,9 @@ public class CmmnEngineAutoConfiguration extends AbstractSpringEngineAutoConfigu
         configuration.getHttpClientConfig().setDisableCertVerify(httpProperties.isDisableCertVerify());
         configuration.getHttpClientConfig().setRequestRetryLimit(httpProperties.getRequestRetryLimit());
         configuration.getHttpClientConfig().setSocketTimeout(httpProperties.getSocketTimeout());
+        configuration.getHttpClientConfig().setMaxConnections(httpProperties.getMaxConnections());
+        configuration.getHttpClientConfig().setMaxConnectionsPerRoute(httpProperties.getMaxConnectionsPerRoute());
+        configuration.getHttpClientConfig().setConnectionIdleTimeout(httpProperties.getConnectionIdleTimeout());
 
         //TODO Can it have different then the Process engine?
         configuration.setHistoryLevel(flowableProperties.getHistoryLevel());
@@ -77,6 +77,7 @@ public class ContentEngineAutoConfiguration extends AbstractEngineAutoConfigurat
         FlowableContentProperties.Storage storage = contentProperties.getStorage();
         configuration.setContentRootFolder(storage.getRootFolder());
         configuration.setCreateContentRootFolder(storage.getCreateRoot());
+        configuration.setShardedContentStorage(storage.isSharded());
 
         return configuration;
     }
@@ -72,6 +72,11 @@ public class FlowableContentProperties {
          */
         private boolean createRoot = true;
 
+        /**
+         * Whether the content files should be spread over hashed subfolders, with deduplication of identical content.
+         */
+        private boolean sharded = false;
+
         public String getRootFolder() {
             return rootFolder;
         }
@@ -87,5 +92,13 @@ public class FlowableContentProperties {
         public void setCreateRoot(Boolean createRoot) {
             this.createRoot = createRoot;
         }
+
+        public boolean isSharded() {
+            return sharded;
+        }
+
+        public void setSharded(boolean sharded) {
+            this.sharded = sharded;
+        }
     }
 }
@@ -84,8 +84,13 @@ public class FlowableLdapAutoConfiguration {
 
     @Bean
     public EngineConfigurationConfigurer<SpringIdmEngineConfiguration> ldapIdmEngineConfigurer(LDAPConfiguration ldapConfiguration) {
-        return idmEngineConfiguration -> idmEngineConfiguration
-            .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, createCache(idmEngineConfiguration, ldapConfiguration)));
+        return idmEngineConfiguration -> {
+            LDAPGroupCache ldapGroupCache = createCache(idmEngineConfiguration, ldapConfiguration);
+            idmEngineConfiguration.setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache));
+            if (ldapGroupCache != null) {
+                idmEngineConfiguration.setGroupMembershipCache(ldapGroupCache);
+            }
+        };
     }
 
     // We need a custom AuthenticationProvider for the LDAP Support
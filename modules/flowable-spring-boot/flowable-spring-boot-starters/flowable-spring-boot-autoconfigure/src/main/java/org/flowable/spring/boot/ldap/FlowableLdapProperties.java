@@ -92,6 +92,12 @@ public class FlowableLdapProperties {
      */
     private int searchTimeLimit = 0;
 
+    /**
+     * The page size that is used when searching groups. When larger than '0', the results are fetched in pages using the paged results control.
+     * By default set to '0', which means no paging is used.
+     */
+    private int searchPageSize = 0;
+
     /**
      * Configuration for the queries performed by the IDM Service.
      */
@@ -110,6 +116,12 @@ public class FlowableLdapProperties {
     @NestedConfigurationProperty
     private final Cache cache = new Cache();
 
+    /**
+     * Configuration for the LDAP connection pool.
+     */
+    @NestedConfigurationProperty
+    private final Pool pool = new Pool();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -206,6 +218,14 @@ public class FlowableLdapProperties {
         this.searchTimeLimit = searchTimeLimit;
     }
 
+    public int getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    public void setSearchPageSize(int searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
     public Query getQuery() {
         return query;
     }
@@ -218,6 +238,10 @@ public class FlowableLdapProperties {
         return cache;
     }
 
+    public Pool getPool() {
+        return pool;
+    }
+
     public void customize(LDAPConfiguration configuration) {
         configuration.setServer(getServer());
         configuration.setPort(getPort());
@@ -230,9 +254,11 @@ public class FlowableLdapProperties {
         configuration.setUserBaseDn(getUserBaseDn());
         configuration.setGroupBaseDn(getGroupBaseDn());
         configuration.setSearchTimeLimit(getSearchTimeLimit());
+        configuration.setSearchPageSize(getSearchPageSize());
         query.customize(configuration);
         attribute.customize(configuration);
         cache.customize(configuration);
+        pool.customize(configuration);
     }
 
     public static class Query {
@@ -418,6 +444,13 @@ public class FlowableLdapProperties {
          */
         private String groupType;
 
+        /**
+         * Name of the attribute of a group that contains the dns of its members, e.g. 'member' or 'uniqueMember'.
+         * <p>
+         * When set, the groups of multiple users are fetched with a single search and cached per user.
+         */
+        private String groupMember;
+
         public String getUserId() {
             return userId;
         }
@@ -474,6 +507,14 @@ public class FlowableLdapProperties {
             this.groupType = groupType;
         }
 
+        public String getGroupMember() {
+            return groupMember;
+        }
+
+        public void setGroupMember(String groupMember) {
+            this.groupMember = groupMember;
+        }
+
         public void customize(LDAPConfiguration configuration) {
             configuration.setUserIdAttribute(getUserId());
             configuration.setUserFirstNameAttribute(getFirstName());
@@ -482,6 +523,7 @@ public class FlowableLdapProperties {
             configuration.setGroupIdAttribute(getGroupId());
             configuration.setGroupNameAttribute(getGroupName());
             configuration.setGroupTypeAttribute(getGroupType());
+            configuration.setGroupMemberAttribute(getGroupMember());
         }
     }
 
@@ -530,4 +572,80 @@ public class FlowableLdapProperties {
             configuration.setGroupCacheExpirationTime(getGroupExpiration());
         }
     }
+
+    public static class Pool {
+
+        /**
+         * Whether the connections bound with the configured user are pooled instead of opening a new connection for each LDAP operation.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of connections that are in use or idle at the same time.
+         */
+        private int maxSize = 8;
+
+        /**
+         * The time (in milliseconds) to wait for a connection when all connections are in use.
+         */
+        private long maxWait = Duration.of(10, ChronoUnit.SECONDS).toMillis();
+
+        /**
+         * The time (in milliseconds) after which an idle connection is closed.
+         */
+        private long maxIdleTime = Duration.of(5, ChronoUnit.MINUTES).toMillis();
+
+        /**
+         * Connections that have been idle for longer than this time (in milliseconds) are validated before they are used.
+         */
+        private long validationInterval = Duration.of(30, ChronoUnit.SECONDS).toMillis();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(long maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public long getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public long getValidationInterval() {
+            return validationInterval;
+        }
+
+        public void setValidationInterval(long validationInterval) {
+            this.validationInterval = validationInterval;
+        }
+
+        public void customize(LDAPConfiguration configuration) {
+            configuration.setConnectionPoolEnabled(isEnabled());
+            configuration.setConnectionPoolMaxSize(getMaxSize());
+            configuration.setConnectionPoolMaxWait(getMaxWait());
+            configuration.setConnectionPoolMaxIdleTime(getMaxIdleTime());
+            configuration.setConnectionPoolValidationInterval(getValidationInterval());
+        }
+    }
 }
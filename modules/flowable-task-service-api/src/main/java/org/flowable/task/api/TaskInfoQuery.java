@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Date;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPaginatedQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
@@ -26,7 +27,7 @@ import org.flowable.task.api.history.HistoricTaskInstanceQuery;
  * 
  * @author Joram Barrez
  */
-public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo> extends Query<T, V> {
+public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo> extends Query<T, V>, KeysetPaginatedQuery<T> {
 
     /**
      * Only select tasks with the given task id (in practice, there will be maximum one of this kind)
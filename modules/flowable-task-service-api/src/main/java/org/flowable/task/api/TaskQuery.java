@@ -13,6 +13,9 @@
 package org.flowable.task.api;
 
 import java.util.Collection;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.query.ProjectionQuery;
 
 /**
  * Allows programmatic querying of {@link Task}s;
@@ -21,7 +24,10 @@ import java.util.Collection;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
+public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task>, ProjectionQuery {
+
+    /** Only select tasks with one of the given ids. */
+    TaskQuery taskIds(Collection<String> taskIds);
 
     /** Only select tasks which don't have an assignee. */
     TaskQuery taskUnassigned();
@@ -48,4 +54,11 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
      * Only selects tasks which are active (ie. not suspended)
      */
     TaskQuery active();
+
+    /**
+     * Executes the query and returns the tasks as a stream, ordered by id, that fetches them in batches while it is consumed.
+     * Each batch is fetched in its own transaction, so that large results can be processed without holding them in memory.
+     * No other order than the id order can be used.
+     */
+    Stream<Task> stream();
 }
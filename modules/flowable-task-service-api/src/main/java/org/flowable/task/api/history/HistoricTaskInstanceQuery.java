@@ -14,6 +14,7 @@
 package org.flowable.task.api.history;
 
 import java.util.Date;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.query.DeleteQuery;
 import org.flowable.task.api.TaskInfoQuery;
@@ -104,4 +105,10 @@ public interface HistoricTaskInstanceQuery extends TaskInfoQuery<HistoricTaskIns
      */
     HistoricTaskInstanceQuery orderByDeleteReason();
 
+    /**
+     * Executes the query and returns the historic task instances as a stream, ordered by id, that fetches them in batches while it is consumed.
+     * Each batch is fetched in its own transaction, so that large results can be processed without holding them in memory.
+     * No other order than the id order can be used.
+     */
+    Stream<HistoricTaskInstance> stream();
 }
@@ -67,6 +67,12 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+
+    /**
+     * Whether candidate user and candidate group restrictions of task queries are resolved through the ACT_RU_TASK_CANDIDATE index table.
+     * Requires the index to be maintained by the identity link service (see IdentityLinkServiceConfiguration#setEnableTaskCandidateIndex).
+     */
+    protected boolean enableTaskCandidateIndex;
     
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -240,6 +246,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    public TaskServiceConfiguration setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+        return this;
+    }
+
     public boolean isEnableLocalization() {
         return enableLocalization;
     }
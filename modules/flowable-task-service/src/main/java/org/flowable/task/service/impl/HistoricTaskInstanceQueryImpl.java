@@ -16,8 +16,11 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -153,6 +156,19 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         this.databaseType = databaseType;
     }
 
+    @Override
+    protected Map<String, Class<?>> getKeysetSortColumnTypes() {
+        Map<String, Class<?>> keysetSortColumnTypes = new HashMap<>();
+        keysetSortColumnTypes.put(HistoricTaskInstanceQueryProperty.START.getName(), Date.class);
+        keysetSortColumnTypes.put(HistoricTaskInstanceQueryProperty.TASK_PRIORITY.getName(), Integer.class);
+        return keysetSortColumnTypes;
+    }
+
+    @Override
+    public Stream<HistoricTaskInstance> stream() {
+        return streamOrderedById(HistoricTaskInstance::getId);
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -13,14 +13,24 @@
 package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
+import org.flowable.common.engine.api.query.QueryProjection;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -36,6 +46,7 @@ import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.util.CommandContextUtil;
 import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -51,6 +62,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     private static final long serialVersionUID = 1L;
 
     protected String taskId;
+    protected Collection<String> taskIds;
     protected String name;
     protected String nameLike;
     protected String nameLikeIgnoreCase;
@@ -171,6 +183,28 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery taskIds(Collection<String> taskIds) {
+        if (taskIds == null) {
+            throw new FlowableIllegalArgumentException("Task id list is null");
+        }
+        if (taskIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Task id list is empty");
+        }
+        for (String taskId : taskIds) {
+            if (taskId == null) {
+                throw new FlowableIllegalArgumentException("None of the given task ids can be null");
+            }
+        }
+
+        if (orActive) {
+            currentOrQueryObject.taskIds = taskIds;
+        } else {
+            this.taskIds = taskIds;
+        }
+        return this;
+    }
+
     @Override
     public TaskQueryImpl taskName(String name) {
         if (name == null) {
@@ -1534,13 +1568,21 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
         } else if (userIdForCandidateAndAssignee != null) {
             if (cachedCandidateGroups == null) {
-                return getGroupsForCandidateUser(userIdForCandidateAndAssignee);
+                cachedCandidateGroups = getGroupsForCandidateUser(userIdForCandidateAndAssignee);
             }
             return cachedCandidateGroups;
         }
         return null;
     }
 
+    /**
+     * @return true if the candidate restrictions of this query are resolved through the task candidate index table
+     */
+    public boolean isUseTaskCandidateIndex() {
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration();
+        return taskServiceConfiguration != null && taskServiceConfiguration.isEnableTaskCandidateIndex();
+    }
+
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
         Collection<String> groupIds = new ArrayList<>();
         IdmEngineConfigurationApi idmEngineConfiguration = CommandContextUtil.getIdmEngineConfiguration();
@@ -1761,6 +1803,118 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         }
     }
 
+    @Override
+    protected Map<String, Class<?>> getKeysetSortColumnTypes() {
+        Map<String, Class<?>> keysetSortColumnTypes = new HashMap<>();
+        keysetSortColumnTypes.put(TaskQueryProperty.CREATE_TIME.getName(), Date.class);
+        keysetSortColumnTypes.put(TaskQueryProperty.PRIORITY.getName(), Integer.class);
+        return keysetSortColumnTypes;
+    }
+
+    @Override
+    public Stream<Task> stream() {
+        return streamOrderedById(Task::getId);
+    }
+
+    @Override
+    protected Map<String, String> getProjectionFieldColumns() {
+        Map<String, String> fieldColumns = new LinkedHashMap<>();
+        fieldColumns.put("id", "RES.ID_");
+        fieldColumns.put("name", "RES.NAME_");
+        fieldColumns.put("description", "RES.DESCRIPTION_");
+        fieldColumns.put("assignee", "RES.ASSIGNEE_");
+        fieldColumns.put("owner", "RES.OWNER_");
+        fieldColumns.put("priority", "RES.PRIORITY_");
+        fieldColumns.put("createTime", "RES.CREATE_TIME_");
+        fieldColumns.put("dueDate", "RES.DUE_DATE_");
+        fieldColumns.put("claimTime", "RES.CLAIM_TIME_");
+        fieldColumns.put("category", "RES.CATEGORY_");
+        fieldColumns.put("formKey", "RES.FORM_KEY_");
+        fieldColumns.put("taskDefinitionKey", "RES.TASK_DEF_KEY_");
+        fieldColumns.put("parentTaskId", "RES.PARENT_TASK_ID_");
+        fieldColumns.put("executionId", "RES.EXECUTION_ID_");
+        fieldColumns.put("processInstanceId", "RES.PROC_INST_ID_");
+        fieldColumns.put("processDefinitionId", "RES.PROC_DEF_ID_");
+        fieldColumns.put("scopeId", "RES.SCOPE_ID_");
+        fieldColumns.put("scopeType", "RES.SCOPE_TYPE_");
+        fieldColumns.put("scopeDefinitionId", "RES.SCOPE_DEFINITION_ID_");
+        fieldColumns.put("tenantId", "RES.TENANT_ID_");
+        return fieldColumns;
+    }
+
+    @Override
+    protected Set<String> getProjectionRequiredColumns(QueryProjection projection) {
+        if (projection.getVariableNames().isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new LinkedHashSet<>(Arrays.asList("RES.PROC_INST_ID_", "RES.SCOPE_ID_", "RES.SCOPE_TYPE_"));
+    }
+
+    @Override
+    protected List<Map<String, Object>> executeProjectionList(CommandContext commandContext) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("A projection cannot include related entities, select the variables in the projection instead");
+        }
+
+        ensureVariablesInitialized();
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
+        }
+
+        return CommandContextUtil.getTaskEntityManager(commandContext).findTaskProjectionsByQueryCriteria(this);
+    }
+
+    /**
+     * The projected variables of a task are the variables of its process instance or, for tasks of other scopes (e.g. CMMN tasks),
+     * the variables of its scope (e.g. the case instance).
+     */
+    @Override
+    protected Map<String, Map<String, Object>> findProjectionVariables(CommandContext commandContext, List<Map<String, Object>> projectionRows,
+            Set<String> variableNames) {
+
+        Set<String> processInstanceIds = new HashSet<>();
+        Map<String, Set<String>> scopeIdsByScopeType = new HashMap<>();
+        for (Map<String, Object> projectionRow : projectionRows) {
+            String processInstanceId = (String) projectionRow.get("PROC_INST_ID_");
+            String scopeId = (String) projectionRow.get("SCOPE_ID_");
+            String scopeType = (String) projectionRow.get("SCOPE_TYPE_");
+            if (processInstanceId != null) {
+                processInstanceIds.add(processInstanceId);
+            } else if (scopeId != null && scopeType != null) {
+                scopeIdsByScopeType.computeIfAbsent(scopeType, key -> new HashSet<>()).add(scopeId);
+            }
+        }
+
+        VariableService variableService = CommandContextUtil.getVariableServiceConfiguration(commandContext).getVariableService();
+        Map<String, Map<String, Object>> processInstanceVariables = Collections.emptyMap();
+        if (!processInstanceIds.isEmpty()) {
+            processInstanceVariables = variableService.findVariableValuesByExecutionIds(processInstanceIds, variableNames);
+        }
+
+        Map<String, Map<String, Map<String, Object>>> scopeVariablesByScopeType = new HashMap<>();
+        for (Map.Entry<String, Set<String>> scopeIds : scopeIdsByScopeType.entrySet()) {
+            scopeVariablesByScopeType.put(scopeIds.getKey(), variableService.findVariableValuesByScopeIds(scopeIds.getValue(), scopeIds.getKey(), variableNames));
+        }
+
+        Map<String, Map<String, Object>> taskVariables = new HashMap<>();
+        for (Map<String, Object> projectionRow : projectionRows) {
+            Map<String, Object> variables;
+            String processInstanceId = (String) projectionRow.get("PROC_INST_ID_");
+            if (processInstanceId != null) {
+                variables = processInstanceVariables.get(processInstanceId);
+            } else {
+                Map<String, Map<String, Object>> scopeVariables = scopeVariablesByScopeType.get((String) projectionRow.get("SCOPE_TYPE_"));
+                variables = scopeVariables != null ? scopeVariables.get((String) projectionRow.get("SCOPE_ID_")) : null;
+            }
+
+            if (variables != null) {
+                taskVariables.put((String) projectionRow.get("ID_"), variables);
+            }
+        }
+        return taskVariables;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -1859,6 +2013,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return taskId;
     }
 
+    public Collection<String> getTaskIds() {
+        return taskIds;
+    }
+
     @Override
     public String getId() {
         return taskId;
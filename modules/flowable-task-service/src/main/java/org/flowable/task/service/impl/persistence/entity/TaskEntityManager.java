@@ -47,6 +47,8 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
 
     List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery);
 
+    List<Map<String, Object>> findTaskProjectionsByQueryCriteria(TaskQueryImpl taskQuery);
+
     long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
 
     List<Task> findTasksByNativeQuery(Map<String, Object> parameterMap);
@@ -179,6 +179,11 @@ public class TaskEntityManagerImpl
         return dataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
     }
 
+    @Override
+    public List<Map<String, Object>> findTaskProjectionsByQueryCriteria(TaskQueryImpl taskQuery) {
+        return dataManager.findTaskProjectionsByQueryCriteria(taskQuery);
+    }
+
     @Override
     public long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery) {
         return dataManager.findTaskCountByQueryCriteria(taskQuery);
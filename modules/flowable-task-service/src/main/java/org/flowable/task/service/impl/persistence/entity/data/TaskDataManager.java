@@ -37,6 +37,8 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
     List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery);
 
+    List<Map<String, Object>> findTaskProjectionsByQueryCriteria(TaskQueryImpl taskQuery);
+
     long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
 
     List<Task> findTasksByNativeQuery(Map<String, Object> parameterMap);
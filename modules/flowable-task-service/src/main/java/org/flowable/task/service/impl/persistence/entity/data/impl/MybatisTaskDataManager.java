@@ -138,6 +138,13 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> findTaskProjectionsByQueryCriteria(TaskQueryImpl taskQuery) {
+        // The projected rows are no entities, so they are not put in the entity cache
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectTaskProjectionByQueryCriteria", taskQuery);
+    }
+
     @Override
     public long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery) {
         return (Long) getDbSqlSession().selectOne("selectTaskCountByQueryCriteria", taskQuery);
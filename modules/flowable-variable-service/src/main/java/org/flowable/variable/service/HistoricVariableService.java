@@ -12,8 +12,10 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
@@ -33,6 +35,12 @@ public interface HistoricVariableService {
     HistoricVariableInstanceEntity createHistoricVariableInstance();
     
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl query);
+
+    /**
+     * Returns the values of the given historic variables of the given executions, mapped by execution id and variable name.
+     * Task local variables are not included. The values are selected without creating (and caching) historic variable instance entities.
+     */
+    Map<String, Map<String, Object>> findHistoricVariableValuesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames);
     
     void insertHistoricVariableInstance(HistoricVariableInstanceEntity variable);
     
@@ -63,6 +63,11 @@ public interface InternalVariableInstanceQuery {
      */
     InternalVariableInstanceQuery scopeId(String scopeId);
 
+    /**
+     * Query variables with the given scope ids.
+     */
+    InternalVariableInstanceQuery scopeIds(Collection<String> scopeIds);
+
     /**
      * Query variables with the given sub scope id.
      * Cannot be used together with {@link #withoutSubScopeId()}
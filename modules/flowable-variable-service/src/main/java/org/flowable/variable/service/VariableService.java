@@ -12,7 +12,9 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -39,6 +41,18 @@ public interface VariableService {
         return createInternalVariableInstanceQuery().subScopeId(subScopeId).scopeType(scopeType).list();
     }
 
+    /**
+     * Returns the values of the given variables of the given executions, mapped by execution id and variable name.
+     * Task local variables are not included. The values are selected without creating (and caching) variable instance entities.
+     */
+    Map<String, Map<String, Object>> findVariableValuesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames);
+
+    /**
+     * Returns the values of the given variables of the given scopes (e.g. case instances), mapped by scope id and variable name.
+     * Sub scope local variables are not included. The values are selected without creating (and caching) variable instance entities.
+     */
+    Map<String, Map<String, Object>> findVariableValuesByScopeIds(Collection<String> scopeIds, String scopeType, Collection<String> variableNames);
+
     VariableInstanceEntity createVariableInstance(String name, VariableType type, Object value);
 
     /**
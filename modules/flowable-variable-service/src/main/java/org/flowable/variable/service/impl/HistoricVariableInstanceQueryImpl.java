@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -44,6 +45,7 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
     protected String processInstanceId;
     protected String activityInstanceId;
     protected String variableName;
+    protected Collection<String> variableNames;
     protected String variableNameLike;
     protected boolean excludeTaskRelated;
     protected boolean excludeVariableInitialization;
@@ -158,6 +160,14 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         return this;
     }
 
+    public HistoricVariableInstanceQueryImpl variableNames(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.variableNames = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricVariableInstanceQuery variableValueEquals(String variableName, Object variableValue) {
         if (variableName == null) {
@@ -312,6 +322,10 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         return variableName;
     }
 
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
+
     public String getVariableNameLike() {
         return variableNameLike;
     }
@@ -12,8 +12,10 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
@@ -45,6 +47,11 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
         return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByQueryCriteria(query);
     }
     
+    @Override
+    public Map<String, Map<String, Object>> findHistoricVariableValuesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableValuesByExecutionIds(executionIds, variableNames);
+    }
+
     @Override
     public HistoricVariableInstanceEntity createHistoricVariableInstance() {
         return getHistoricVariableInstanceEntityManager().create();
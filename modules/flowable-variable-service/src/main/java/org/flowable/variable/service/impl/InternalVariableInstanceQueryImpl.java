@@ -44,6 +44,7 @@ public class InternalVariableInstanceQueryImpl
     protected Collection<String> executionIds;
     protected boolean withoutTaskId;
     protected String scopeId;
+    protected Collection<String> scopeIds;
     protected String subScopeId;
     protected boolean withoutSubScopeId;
     protected String scopeType;
@@ -132,6 +133,15 @@ public class InternalVariableInstanceQueryImpl
         return this;
     }
 
+    @Override
+    public InternalVariableInstanceQuery scopeIds(Collection<String> scopeIds) {
+        if (scopeIds == null || scopeIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("scopeIds is null or empty");
+        }
+        this.scopeIds = scopeIds;
+        return this;
+    }
+
     @Override
     public InternalVariableInstanceQuery subScopeId(String subScopeId) {
         if (StringUtils.isEmpty(subScopeId)) {
@@ -227,6 +237,10 @@ public class InternalVariableInstanceQueryImpl
         return scopeId;
     }
 
+    public Collection<String> getScopeIds() {
+        return scopeIds;
+    }
+
     public String getSubScopeId() {
         return subScopeId;
     }
@@ -318,6 +332,10 @@ public class InternalVariableInstanceQueryImpl
             return false;
         }
 
+        if (param.scopeIds != null && !param.scopeIds.contains(entity.getScopeId())) {
+            return false;
+        }
+
         if (param.name != null && !param.name.equals(entity.getName())) {
             return false;
         }
@@ -12,6 +12,9 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.InternalVariableInstanceQuery;
@@ -35,6 +38,16 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().createInternalVariableInstanceQuery();
     }
 
+    @Override
+    public Map<String, Map<String, Object>> findVariableValuesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames) {
+        return getVariableInstanceEntityManager().findVariableValues(executionIds, null, variableNames);
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> findVariableValuesByScopeIds(Collection<String> scopeIds, String scopeType, Collection<String> variableNames) {
+        return getVariableInstanceEntityManager().findVariableValues(scopeIds, scopeType, variableNames);
+    }
+
     @Override
     public VariableInstanceEntity createVariableInstance(String name, VariableType type, Object value) {
         return getVariableInstanceEntityManager().create(name, type, value);
@@ -17,6 +17,7 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Objects;
 
 import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeHandler;
@@ -70,4 +71,24 @@ public class IbatisVariableTypeHandler implements TypeHandler<VariableType> {
         }
         return type;
     }
+
+    /**
+     * Handlers are equal when they resolve the variable types through the same {@link VariableTypes},
+     * which is required for engines sharing a MyBatis configuration.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(variableTypes, ((IbatisVariableTypeHandler) o).variableTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(variableTypes);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,12 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
 
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
+    /**
+     * Returns the values of the historic variables with the given names of the given executions (without task local variables),
+     * mapped by execution id and variable name. No historic variable instance entities are created for this.
+     */
+    Map<String, Map<String, Object>> findHistoricVariableValuesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames);
+
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByProcessInstanceId(String processInstanceId);
@@ -13,7 +13,11 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -104,6 +108,26 @@ public class HistoricVariableInstanceEntityManagerImpl
         return dataManager.findHistoricVariableInstancesByQueryCriteria(historicProcessVariableQuery);
     }
 
+    @Override
+    public Map<String, Map<String, Object>> findHistoricVariableValuesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames) {
+        Map<String, Map<String, Object>> variableValues = new HashMap<>();
+        List<String> executionIdList = new ArrayList<>(executionIds);
+        for (int fromIndex = 0; fromIndex < executionIdList.size(); fromIndex += VariableInstanceEntityManagerImpl.MAX_IDS_PER_QUERY) {
+            List<String> chunk = executionIdList.subList(fromIndex, Math.min(fromIndex + VariableInstanceEntityManagerImpl.MAX_IDS_PER_QUERY, executionIdList.size()));
+            HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl()
+                    .executionIds(new HashSet<>(chunk))
+                    .variableNames(variableNames);
+            query.excludeTaskVariables();
+
+            for (Map<String, Object> row : dataManager.findHistoricVariableValuesByQueryCriteria(query)) {
+                VariableValueRow variableValueRow = new VariableValueRow(row);
+                variableValues.computeIfAbsent(variableValueRow.getExecutionId(), key -> new HashMap<>())
+                        .put(variableValueRow.getName(), variableValueRow.getValue(serviceConfiguration.getVariableTypes()));
+            }
+        }
+        return variableValues;
+    }
+
     @Override
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return dataManager.findHistoricVariableInstanceByVariableInstanceId(variableInstanceId);
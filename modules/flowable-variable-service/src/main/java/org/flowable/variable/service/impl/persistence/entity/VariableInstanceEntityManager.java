@@ -13,6 +13,7 @@
 package org.flowable.variable.service.impl.persistence.entity;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.variable.api.types.VariableType;
@@ -38,6 +39,13 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     InternalVariableInstanceQuery createInternalVariableInstanceQuery();
 
+    /**
+     * Returns the values of the variables with the given names of the given executions (without task local variables)
+     * or, when a scope type is given, of the given scopes (without sub scope local variables).
+     * The values are mapped by execution or scope id and variable name. No variable instance entities are created for this.
+     */
+    Map<String, Map<String, Object>> findVariableValues(Collection<String> ids, String scopeType, Collection<String> variableNames);
+
     void deleteVariablesByTaskId(String taskId);
 
     void deleteVariablesByExecutionId(String executionId);
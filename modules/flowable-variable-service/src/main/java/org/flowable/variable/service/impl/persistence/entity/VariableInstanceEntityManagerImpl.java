@@ -13,7 +13,11 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
@@ -32,6 +36,11 @@ public class VariableInstanceEntityManagerImpl
     extends AbstractServiceEngineEntityManager<VariableServiceConfiguration, VariableInstanceEntity, VariableInstanceDataManager>
     implements VariableInstanceEntityManager {
 
+    /**
+     * The maximum number of ids in the in clause of a single query, some databases (e.g. Oracle) do not support more than 1000.
+     */
+    public static final int MAX_IDS_PER_QUERY = 500;
+
     public VariableInstanceEntityManagerImpl(VariableServiceConfiguration variableServiceConfiguration, VariableInstanceDataManager variableInstanceDataManager) {
         super(variableServiceConfiguration, variableInstanceDataManager);
     }
@@ -57,6 +66,30 @@ public class VariableInstanceEntityManagerImpl
         return new InternalVariableInstanceQueryImpl(dataManager);
     }
 
+    @Override
+    public Map<String, Map<String, Object>> findVariableValues(Collection<String> ids, String scopeType, Collection<String> variableNames) {
+        Map<String, Map<String, Object>> variableValues = new HashMap<>();
+        List<String> idList = new ArrayList<>(ids);
+        for (int fromIndex = 0; fromIndex < idList.size(); fromIndex += MAX_IDS_PER_QUERY) {
+            List<String> chunk = idList.subList(fromIndex, Math.min(fromIndex + MAX_IDS_PER_QUERY, idList.size()));
+            InternalVariableInstanceQueryImpl query = new InternalVariableInstanceQueryImpl(dataManager);
+            if (scopeType != null) {
+                query.scopeIds(chunk).scopeType(scopeType).withoutSubScopeId();
+            } else {
+                query.executionIds(chunk).withoutTaskId();
+            }
+            query.names(variableNames);
+
+            for (Map<String, Object> row : dataManager.findVariableValuesByQuery(query)) {
+                VariableValueRow variableValueRow = new VariableValueRow(row);
+                String id = scopeType != null ? variableValueRow.getScopeId() : variableValueRow.getExecutionId();
+                variableValues.computeIfAbsent(id, key -> new HashMap<>())
+                        .put(variableValueRow.getName(), variableValueRow.getValue(serviceConfiguration.getVariableTypes()));
+            }
+        }
+        return variableValues;
+    }
+
     @Override
     public void delete(VariableInstanceEntity entity, boolean fireDeleteEvent) {
         super.delete(entity, false);
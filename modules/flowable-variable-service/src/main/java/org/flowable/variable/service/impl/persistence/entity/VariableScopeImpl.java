@@ -25,6 +25,7 @@ import java.util.Set;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.el.VariableChangeTrackingUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.logging.LoggingSessionConstants;
@@ -823,6 +824,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     protected void deleteVariableInstanceForExplicitUserCall(VariableInstanceEntity variableInstance) {
         CommandContextUtil.getVariableInstanceEntityManager().delete(variableInstance);
+        VariableChangeTrackingUtil.recordVariableChange(variableInstance.getName());
         
         VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
         if (variableServiceConfiguration.isLoggingSessionEnabled()) {
@@ -855,6 +857,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         
         Object oldVariableValue = variableInstance.getValue();
         String oldVariableType = variableInstance.getTypeName();
+        VariableChangeTrackingUtil.recordVariableChange(variableInstance.getName());
 
         if (newType != null && !newType.equals(variableInstance.getType())) {
             variableInstance.setValue(null);
@@ -906,6 +909,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         // Set the value after initializing the back pointer
         variableInstance.setValue(value);
         variableInstanceEntityManager.insert(variableInstance);
+        VariableChangeTrackingUtil.recordVariableChange(variableName);
 
         if (variableInstances != null) {
             variableInstances.put(variableName, variableInstance);
@@ -952,6 +956,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             transientVariables = new HashMap<>();
         }
         transientVariables.put(variableName, new TransientVariableInstance(variableName, variableValue));
+        VariableChangeTrackingUtil.recordVariableChange(variableName);
     }
 
     @Override
@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.persistence.entity;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableTypes;
+
+/**
+ * The {@link ValueFields} of a (historic) variable that was selected into a plain map, used to get the value of the variable
+ * from its type without creating a variable instance entity (see {@link VariableInstanceEntityManager#findVariableValues}).
+ * The value fields are read only.
+ */
+public class VariableValueRow implements ValueFields {
+
+    protected final Map<String, Object> row;
+    protected ByteArrayRef byteArrayRef;
+    protected Object cachedValue;
+
+    public VariableValueRow(Map<String, Object> row) {
+        // The case of the column labels depends on the database
+        this.row = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        this.row.putAll(row);
+    }
+
+    public Object getValue(VariableTypes variableTypes) {
+        return variableTypes.getVariableType(getTypeName()).getValue(this);
+    }
+
+    public String getTypeName() {
+        return (String) row.get("TYPE_");
+    }
+
+    @Override
+    public String getName() {
+        return (String) row.get("NAME_");
+    }
+
+    @Override
+    public String getProcessInstanceId() {
+        return (String) row.get("PROC_INST_ID_");
+    }
+
+    @Override
+    public String getExecutionId() {
+        return (String) row.get("EXECUTION_ID_");
+    }
+
+    @Override
+    public String getScopeId() {
+        return (String) row.get("SCOPE_ID_");
+    }
+
+    @Override
+    public String getSubScopeId() {
+        return (String) row.get("SUB_SCOPE_ID_");
+    }
+
+    @Override
+    public String getScopeType() {
+        return (String) row.get("SCOPE_TYPE_");
+    }
+
+    @Override
+    public String getTaskId() {
+        return (String) row.get("TASK_ID_");
+    }
+
+    @Override
+    public String getTextValue() {
+        return (String) row.get("TEXT_");
+    }
+
+    @Override
+    public void setTextValue(String textValue) {
+        throw new UnsupportedOperationException("The value of a selected variable value cannot be changed");
+    }
+
+    @Override
+    public String getTextValue2() {
+        return (String) row.get("TEXT2_");
+    }
+
+    @Override
+    public void setTextValue2(String textValue2) {
+        throw new UnsupportedOperationException("The value of a selected variable value cannot be changed");
+    }
+
+    @Override
+    public Long getLongValue() {
+        // The JDBC type of numeric columns depends on the database
+        Number longValue = (Number) row.get("LONG_");
+        return longValue != null ? longValue.longValue() : null;
+    }
+
+    @Override
+    public void setLongValue(Long longValue) {
+        throw new UnsupportedOperationException("The value of a selected variable value cannot be changed");
+    }
+
+    @Override
+    public Double getDoubleValue() {
+        Number doubleValue = (Number) row.get("DOUBLE_");
+        return doubleValue != null ? doubleValue.doubleValue() : null;
+    }
+
+    @Override
+    public void setDoubleValue(Double doubleValue) {
+        throw new UnsupportedOperationException("The value of a selected variable value cannot be changed");
+    }
+
+    @Override
+    public byte[] getBytes() {
+        String byteArrayId = (String) row.get("BYTEARRAY_ID_");
+        if (byteArrayId == null) {
+            return null;
+        }
+        if (byteArrayRef == null) {
+            // The byte array is fetched through the current command context
+            byteArrayRef = new ByteArrayRef(byteArrayId, null);
+        }
+        return byteArrayRef.getBytes();
+    }
+
+    @Override
+    public void setBytes(byte[] bytes) {
+        throw new UnsupportedOperationException("The value of a selected variable value cannot be changed");
+    }
+
+    @Override
+    public Object getCachedValue() {
+        return cachedValue;
+    }
+
+    @Override
+    public void setCachedValue(Object cachedValue) {
+        this.cachedValue = cachedValue;
+    }
+
+}
@@ -33,6 +33,8 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
 
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
+    List<Map<String, Object>> findHistoricVariableValuesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
+
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String scopeId, String scopeType);
@@ -14,6 +14,7 @@ package org.flowable.variable.service.impl.persistence.entity.data;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.variable.service.impl.InternalVariableInstanceQueryImpl;
@@ -28,6 +29,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     VariableInstanceEntity findVariablesInstanceByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery);
 
+    List<Map<String, Object>> findVariableValuesByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery);
+
     void deleteVariablesByTaskId(String taskId);
     
     void deleteVariablesByExecutionId(String executionId);
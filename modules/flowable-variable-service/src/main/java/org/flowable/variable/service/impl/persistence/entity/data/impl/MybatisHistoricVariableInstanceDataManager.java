@@ -81,6 +81,13 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return getDbSqlSession().selectList("selectHistoricVariableInstanceByQueryCriteria", historicProcessVariableQuery);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> findHistoricVariableValuesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery) {
+        // The values are selected into plain maps, which are not put in the entity cache
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectHistoricVariableValuesByQueryCriteria", historicProcessVariableQuery);
+    }
+
     @Override
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return (HistoricVariableInstanceEntity) getDbSqlSession().selectOne("selectHistoricVariableInstanceByVariableInstanceId", variableInstanceId);
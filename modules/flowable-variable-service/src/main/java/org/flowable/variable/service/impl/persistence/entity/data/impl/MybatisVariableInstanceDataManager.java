@@ -72,6 +72,13 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getEntity("selectVariablesByQuery", internalVariableInstanceQuery, internalVariableInstanceQuery, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> findVariableValuesByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery) {
+        // The values are selected into plain maps, which are not put in the entity cache
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectVariableValuesByQuery", internalVariableInstanceQuery);
+    }
+
     @Override
     public void deleteVariablesByTaskId(String taskId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -25,4 +25,4 @@ alter table ACT_RU_VARIABLE
     foreign key (BYTEARRAY_ID_)
     references ACT_GE_BYTEARRAY;
 
-insert into ACT_GE_PROPERTY values ('variable.schema.version', '6.5.1.5', 1);
\ No newline at end of file
+insert into ACT_GE_PROPERTY values ('variable.schema.version', '6.5.1.6', 1);
\ No newline at end of file